@@ -11,14 +11,74 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV = "MESH_CACHE_GRAPHQL_SCHEMA_SIZE";
+
+	public static final String MESH_CACHE_GRAPHQL_QUERY_SIZE_ENV = "MESH_CACHE_GRAPHQL_QUERY_SIZE";
+
+	public static final String MESH_CACHE_PERMISSION_SIZE_ENV = "MESH_CACHE_PERMISSION_SIZE";
+
+	public static final String MESH_CACHE_PERMISSION_USER_SIZE_ENV = "MESH_CACHE_PERMISSION_USER_SIZE";
+
+	public static final String MESH_CACHE_RESPONSE_SIZE_ENV = "MESH_CACHE_RESPONSE_SIZE";
+
+	public static final String MESH_CACHE_RESPONSE_TTL_ENV = "MESH_CACHE_RESPONSE_TTL";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE = 100;
+
+	private static final long DEFAULT_GRAPHQL_QUERY_CACHE_SIZE = 1_000;
+
+	private static final long DEFAULT_PERMISSION_CACHE_SIZE = 100_000;
+
+	private static final long DEFAULT_PERMISSION_USER_CACHE_SIZE = 10_000;
+
+	private static final long DEFAULT_RESPONSE_CACHE_SIZE = 0;
+
+	private static final long DEFAULT_RESPONSE_CACHE_TTL = 1_800;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of GraphQL schemas which will be cached. A schema is cached per project, branch and set of schema versions. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV, description = "Override the GraphQL schema cache size.")
+	private long graphQLSchemaCacheSize = DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of parsed and validated GraphQL queries and of persisted queries which will be cached. A value of 0 will disable the cache and the persisted query support. Default: "
+		+ DEFAULT_GRAPHQL_QUERY_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_QUERY_SIZE_ENV, description = "Override the GraphQL query cache size.")
+	private long graphQLQueryCacheSize = DEFAULT_GRAPHQL_QUERY_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of elements for which the granted and denied permissions will be cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_PERMISSION_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_PERMISSION_SIZE_ENV, description = "Override the permission cache size.")
+	private long permissionCacheSize = DEFAULT_PERMISSION_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of users for which the assigned roles will be cached by the permission cache. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_PERMISSION_USER_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_PERMISSION_USER_SIZE_ENV, description = "Override the permission user cache size.")
+	private long permissionUserCacheSize = DEFAULT_PERMISSION_USER_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of rendered node and webroot responses which will be cached. Responses are cached per node, branch, request parameters and set of roles. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_RESPONSE_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_RESPONSE_SIZE_ENV, description = "Override the response cache size.")
+	private long responseCacheSize = DEFAULT_RESPONSE_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the time in seconds after which cached responses will be evicted. A value of 0 will keep the responses until they are evicted due to changes or the size limit. Default: "
+		+ DEFAULT_RESPONSE_CACHE_TTL)
+	@EnvironmentVariable(name = MESH_CACHE_RESPONSE_TTL_ENV, description = "Override the time to live of cached responses in seconds.")
+	private long responseCacheTtl = DEFAULT_RESPONSE_CACHE_TTL;
+
 	public CacheConfig() {
 
 	}
@@ -32,8 +92,65 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getGraphQLSchemaCacheSize() {
+		return graphQLSchemaCacheSize;
+	}
+
+	public CacheConfig setGraphQLSchemaCacheSize(long graphQLSchemaCacheSize) {
+		this.graphQLSchemaCacheSize = graphQLSchemaCacheSize;
+		return this;
+	}
+
+	public long getGraphQLQueryCacheSize() {
+		return graphQLQueryCacheSize;
+	}
+
+	public CacheConfig setGraphQLQueryCacheSize(long graphQLQueryCacheSize) {
+		this.graphQLQueryCacheSize = graphQLQueryCacheSize;
+		return this;
+	}
+
+	public long getPermissionCacheSize() {
+		return permissionCacheSize;
+	}
+
+	public CacheConfig setPermissionCacheSize(long permissionCacheSize) {
+		this.permissionCacheSize = permissionCacheSize;
+		return this;
+	}
+
+	public long getPermissionUserCacheSize() {
+		return permissionUserCacheSize;
+	}
+
+	public CacheConfig setPermissionUserCacheSize(long permissionUserCacheSize) {
+		this.permissionUserCacheSize = permissionUserCacheSize;
+		return this;
+	}
+
+	public long getResponseCacheSize() {
+		return responseCacheSize;
+	}
+
+	public CacheConfig setResponseCacheSize(long responseCacheSize) {
+		this.responseCacheSize = responseCacheSize;
+		return this;
+	}
+
+	public long getResponseCacheTtl() {
+		return responseCacheTtl;
+	}
+
+	public CacheConfig setResponseCacheTtl(long responseCacheTtl) {
+		this.responseCacheTtl = responseCacheTtl;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
+		if (getResponseCacheTtl() < 0) {
+			throw new IllegalArgumentException("The response cache ttl must not be negative.");
+		}
 	}
 
 }
@@ -11,14 +11,34 @@ public class ContentConfig implements Option {
 
 	public static final String MESH_CONTENT_AUTO_PURGE_ENV = "MESH_CONTENT_AUTO_PURGE";
 
+	public static final String MESH_CONTENT_MIGRATION_BATCH_SIZE_ENV = "MESH_CONTENT_MIGRATION_BATCH_SIZE";
+
+	public static final String MESH_CONTENT_MIGRATION_WORKERS_ENV = "MESH_CONTENT_MIGRATION_WORKERS";
+
 	private static final boolean DEFAULT_AUTO_PURGE = true;
 
+	public static final int DEFAULT_MIGRATION_BATCH_SIZE = 50;
+
+	public static final int DEFAULT_MIGRATION_WORKERS = 1;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Flag which controls the global setting for the auto purge mechanism. The setting can be overriden by the schema 'autoPurge' flag. Default: "
 		+ DEFAULT_AUTO_PURGE)
 	@EnvironmentVariable(name = MESH_CONTENT_AUTO_PURGE_ENV, description = "Override the content versioning flag")
 	private boolean autoPurge = DEFAULT_AUTO_PURGE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of contents which will be migrated within a single transaction during schema and microschema migrations. Default: "
+		+ DEFAULT_MIGRATION_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_CONTENT_MIGRATION_BATCH_SIZE_ENV, description = "Override the migration batch size.")
+	private int migrationBatchSize = DEFAULT_MIGRATION_BATCH_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of workers which concurrently migrate the contents during schema and microschema migrations. The contents of a node are always migrated by the same worker. Conflicting transactions of the workers are retried. Default: "
+		+ DEFAULT_MIGRATION_WORKERS)
+	@EnvironmentVariable(name = MESH_CONTENT_MIGRATION_WORKERS_ENV, description = "Override the amount of migration workers.")
+	private int migrationWorkers = DEFAULT_MIGRATION_WORKERS;
+
 	public ContentConfig() {
 
 	}
@@ -31,7 +51,29 @@ public class ContentConfig implements Option {
 		this.autoPurge = autoPurge;
 	}
 
+	public int getMigrationBatchSize() {
+		return migrationBatchSize;
+	}
+
+	public void setMigrationBatchSize(int migrationBatchSize) {
+		this.migrationBatchSize = migrationBatchSize;
+	}
+
+	public int getMigrationWorkers() {
+		return migrationWorkers;
+	}
+
+	public void setMigrationWorkers(int migrationWorkers) {
+		this.migrationWorkers = migrationWorkers;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
+		if (getMigrationBatchSize() < 1) {
+			throw new IllegalArgumentException("The migration batch size must be at least 1.");
+		}
+		if (getMigrationWorkers() < 1) {
+			throw new IllegalArgumentException("The amount of migration workers must be at least 1.");
+		}
 	}
 }
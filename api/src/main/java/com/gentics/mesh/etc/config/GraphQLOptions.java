@@ -0,0 +1,85 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+@GenerateDocumentation
+public class GraphQLOptions implements Option {
+
+	public static final String MESH_GRAPHQL_WORKER_POOL_SIZE_ENV = "MESH_GRAPHQL_WORKER_POOL_SIZE";
+
+	public static final String MESH_GRAPHQL_MAX_QUERY_DEPTH_ENV = "MESH_GRAPHQL_MAX_QUERY_DEPTH";
+
+	public static final String MESH_GRAPHQL_MAX_QUERY_COMPLEXITY_ENV = "MESH_GRAPHQL_MAX_QUERY_COMPLEXITY";
+
+	private static final int DEFAULT_WORKER_POOL_SIZE = 20;
+
+	private static final int DEFAULT_MAX_QUERY_DEPTH = 0;
+
+	private static final int DEFAULT_MAX_QUERY_COMPLEXITY = 0;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the amount of worker threads which execute GraphQL queries. Default: " + DEFAULT_WORKER_POOL_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_WORKER_POOL_SIZE_ENV, description = "Override the GraphQL worker pool size.")
+	private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum nesting depth of the fields of a GraphQL query. Queries which exceed the depth will be rejected before execution. A value of 0 will disable the check. Default: "
+		+ DEFAULT_MAX_QUERY_DEPTH)
+	@EnvironmentVariable(name = MESH_GRAPHQL_MAX_QUERY_DEPTH_ENV, description = "Override the maximum GraphQL query depth.")
+	private int maxQueryDepth = DEFAULT_MAX_QUERY_DEPTH;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum complexity of a GraphQL query. The complexity is the amount of selected fields including the fields of used fragments. Queries which exceed the complexity will be rejected before execution. A value of 0 will disable the check. Default: "
+		+ DEFAULT_MAX_QUERY_COMPLEXITY)
+	@EnvironmentVariable(name = MESH_GRAPHQL_MAX_QUERY_COMPLEXITY_ENV, description = "Override the maximum GraphQL query complexity.")
+	private int maxQueryComplexity = DEFAULT_MAX_QUERY_COMPLEXITY;
+
+	public GraphQLOptions() {
+
+	}
+
+	public int getWorkerPoolSize() {
+		return workerPoolSize;
+	}
+
+	public GraphQLOptions setWorkerPoolSize(int workerPoolSize) {
+		this.workerPoolSize = workerPoolSize;
+		return this;
+	}
+
+	public int getMaxQueryDepth() {
+		return maxQueryDepth;
+	}
+
+	public GraphQLOptions setMaxQueryDepth(int maxQueryDepth) {
+		this.maxQueryDepth = maxQueryDepth;
+		return this;
+	}
+
+	public int getMaxQueryComplexity() {
+		return maxQueryComplexity;
+	}
+
+	public GraphQLOptions setMaxQueryComplexity(int maxQueryComplexity) {
+		this.maxQueryComplexity = maxQueryComplexity;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions options) {
+		if (workerPoolSize < 1) {
+			throw new IllegalArgumentException("The GraphQL worker pool size must be at least 1.");
+		}
+		if (maxQueryDepth < 0) {
+			throw new IllegalArgumentException("The maximum GraphQL query depth must not be negative.");
+		}
+		if (maxQueryComplexity < 0) {
+			throw new IllegalArgumentException("The maximum GraphQL query complexity must not be negative.");
+		}
+	}
+
+}
@@ -21,12 +21,24 @@ public class GraphStorageOptions implements Option {
 	public static final String DEFAULT_EXPORT_DIRECTORY = "data" + File.separator + "export";
 	public static final boolean DEFAULT_START_SERVER = false;
 	public static final boolean DEFAULT_SYNC_WRITES = false;
+	public static final WriteLockGranularity DEFAULT_SYNC_WRITES_GRANULARITY = WriteLockGranularity.GLOBAL;
+	public static final long DEFAULT_SYNC_WRITES_TIMEOUT = 60_000;
+	public static final int DEFAULT_SYNC_WRITES_STRIPES = 64;
+	public static final int DEFAULT_TX_RETRY_LIMIT = 10;
+	public static final long DEFAULT_TX_RETRY_DELAY = 10;
+	public static final long DEFAULT_TX_RETRY_MAX_DELAY = 1000;
 
 	public static final String MESH_GRAPH_DB_DIRECTORY_ENV = "MESH_GRAPH_DB_DIRECTORY";
 	public static final String MESH_GRAPH_BACKUP_DIRECTORY_ENV = "MESH_GRAPH_BACKUP_DIRECTORY";
 	public static final String MESH_GRAPH_EXPORT_DIRECTORY_ENV = "MESH_GRAPH_EXPORT_DIRECTORY";
 	public static final String MESH_GRAPH_STARTSERVER_ENV = "MESH_GRAPH_STARTSERVER";
 	public static final String MESH_GRAPH_SYNC_WRITES_ENV = "MESH_GRAPH_SYNC_WRITES";
+	public static final String MESH_GRAPH_SYNC_WRITES_GRANULARITY_ENV = "MESH_GRAPH_SYNC_WRITES_GRANULARITY";
+	public static final String MESH_GRAPH_SYNC_WRITES_TIMEOUT_ENV = "MESH_GRAPH_SYNC_WRITES_TIMEOUT";
+	public static final String MESH_GRAPH_SYNC_WRITES_STRIPES_ENV = "MESH_GRAPH_SYNC_WRITES_STRIPES";
+	public static final String MESH_GRAPH_TX_RETRY_LIMIT_ENV = "MESH_GRAPH_TX_RETRY_LIMIT";
+	public static final String MESH_GRAPH_TX_RETRY_DELAY_ENV = "MESH_GRAPH_TX_RETRY_DELAY";
+	public static final String MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV = "MESH_GRAPH_TX_RETRY_MAX_DELAY";
 
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Path to the graph database data directory.")
@@ -53,6 +65,41 @@ public class GraphStorageOptions implements Option {
 	@EnvironmentVariable(name = MESH_GRAPH_SYNC_WRITES_ENV, description = "Override the graph database sync writes flag.")
 	private boolean synchronizeWrites = DEFAULT_SYNC_WRITES;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Granularity of the lock which is used to synchronize writes. GLOBAL serializes all writes, PROJECT serializes the writes per project and ELEMENT serializes the writes per modified element. Default: "
+		+ DEFAULT_SYNC_WRITES_GRANULARITY)
+	@EnvironmentVariable(name = MESH_GRAPH_SYNC_WRITES_GRANULARITY_ENV, description = "Override the graph database sync writes granularity.")
+	private WriteLockGranularity synchronizeWritesGranularity = DEFAULT_SYNC_WRITES_GRANULARITY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Time in milliseconds to wait for the write lock. The write will fail if the lock can't be acquired in time. Default: "
+		+ DEFAULT_SYNC_WRITES_TIMEOUT)
+	@EnvironmentVariable(name = MESH_GRAPH_SYNC_WRITES_TIMEOUT_ENV, description = "Override the graph database sync writes timeout.")
+	private long synchronizeWritesTimeout = DEFAULT_SYNC_WRITES_TIMEOUT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of locks which are used for the PROJECT and ELEMENT granularity. Unrelated writes may share a lock. Default: "
+		+ DEFAULT_SYNC_WRITES_STRIPES)
+	@EnvironmentVariable(name = MESH_GRAPH_SYNC_WRITES_STRIPES_ENV, description = "Override the graph database sync writes lock stripes.")
+	private int synchronizeWritesStripes = DEFAULT_SYNC_WRITES_STRIPES;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of attempts for transactions which fail due to conflicts with other transactions. Default: "
+		+ DEFAULT_TX_RETRY_LIMIT)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_LIMIT_ENV, description = "Override the graph database transaction retry limit.")
+	private int txRetryLimit = DEFAULT_TX_RETRY_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Delay in milliseconds before the first retry of a conflicting transaction. The delay is doubled for each further retry and a random jitter is applied. Default: "
+		+ DEFAULT_TX_RETRY_DELAY)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_DELAY_ENV, description = "Override the graph database transaction retry delay.")
+	private long txRetryDelay = DEFAULT_TX_RETRY_DELAY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum delay in milliseconds before the retry of a conflicting transaction. Default: " + DEFAULT_TX_RETRY_MAX_DELAY)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV, description = "Override the graph database transaction retry max delay.")
+	private long txRetryMaxDelay = DEFAULT_TX_RETRY_MAX_DELAY;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Additional set of graph database parameters.")
 	private Map<String, String> parameters = new HashMap<>();
@@ -170,10 +217,73 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public WriteLockGranularity getSynchronizeWritesGranularity() {
+		return synchronizeWritesGranularity;
+	}
+
+	public GraphStorageOptions setSynchronizeWritesGranularity(WriteLockGranularity synchronizeWritesGranularity) {
+		this.synchronizeWritesGranularity = synchronizeWritesGranularity;
+		return this;
+	}
+
+	public long getSynchronizeWritesTimeout() {
+		return synchronizeWritesTimeout;
+	}
+
+	public GraphStorageOptions setSynchronizeWritesTimeout(long synchronizeWritesTimeout) {
+		this.synchronizeWritesTimeout = synchronizeWritesTimeout;
+		return this;
+	}
+
+	public int getSynchronizeWritesStripes() {
+		return synchronizeWritesStripes;
+	}
+
+	public GraphStorageOptions setSynchronizeWritesStripes(int synchronizeWritesStripes) {
+		this.synchronizeWritesStripes = synchronizeWritesStripes;
+		return this;
+	}
+
+	public int getTxRetryLimit() {
+		return txRetryLimit;
+	}
+
+	public GraphStorageOptions setTxRetryLimit(int txRetryLimit) {
+		this.txRetryLimit = txRetryLimit;
+		return this;
+	}
+
+	public long getTxRetryDelay() {
+		return txRetryDelay;
+	}
+
+	public GraphStorageOptions setTxRetryDelay(long txRetryDelay) {
+		this.txRetryDelay = txRetryDelay;
+		return this;
+	}
+
+	public long getTxRetryMaxDelay() {
+		return txRetryMaxDelay;
+	}
+
+	public GraphStorageOptions setTxRetryMaxDelay(long txRetryMaxDelay) {
+		this.txRetryMaxDelay = txRetryMaxDelay;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
 		if (getStartServer() && getDirectory() == null) {
 			throw new NullPointerException(
 				"You have not specified a data directory and enabled the graph server. It is not possible to run Gentics Mesh in memory mode and start the graph server.");
 		}
+		if (getSynchronizeWritesStripes() < 1) {
+			throw new IllegalArgumentException("The amount of write lock stripes must be at least 1.");
+		}
+		if (getTxRetryLimit() < 1) {
+			throw new IllegalArgumentException("The transaction retry limit must be at least 1.");
+		}
+		if (getTxRetryDelay() < 0 || getTxRetryMaxDelay() < 0) {
+			throw new IllegalArgumentException("The transaction retry delays must not be negative.");
+		}
 	}
 }
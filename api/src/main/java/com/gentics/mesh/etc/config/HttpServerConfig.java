@@ -26,6 +26,9 @@ public class HttpServerConfig implements Option {
 	public static final String DEFAULT_CERT_PATH = "config/cert.pem";
 	public static final String DEFAULT_KEY_PATH = "config/key.pem";
 
+	public static final boolean DEFAULT_COMPRESSION_ENABLED = false;
+	public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
 	public static final String MESH_HTTP_PORT_ENV = "MESH_HTTP_PORT";
 	public static final String MESH_HTTP_HOST_ENV = "MESH_HTTP_HOST";
 	public static final String MESH_HTTP_CORS_ORIGIN_PATTERN_ENV = "MESH_HTTP_CORS_ORIGIN_PATTERN";
@@ -36,6 +39,9 @@ public class HttpServerConfig implements Option {
 	public static final String MESH_HTTP_SSL_KEY_PATH_ENV = "MESH_HTTP_SSL_KEY_PATH";
 	public static final String MESH_HTTP_CORS_ALLOW_CREDENTIALS_ENV = "MESH_HTTP_CORS_ALLOW_CREDENTIALS";
 
+	public static final String MESH_HTTP_COMPRESSION_ENABLE_ENV = "MESH_HTTP_COMPRESSION_ENABLE";
+	public static final String MESH_HTTP_COMPRESSION_LEVEL_ENV = "MESH_HTTP_COMPRESSION_LEVEL";
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the Gentics Mesh HTTP server port. Default is: " + DEFAULT_HTTP_PORT)
 	@EnvironmentVariable(name = MESH_HTTP_PORT_ENV, description = "Override the configured server http port.")
@@ -76,6 +82,18 @@ public class HttpServerConfig implements Option {
 	@EnvironmentVariable(name = MESH_HTTP_SSL_KEY_PATH_ENV, description = "Override the configured SSL enable flag.")
 	private String keyPath = DEFAULT_KEY_PATH;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether responses should be compressed using gzip or deflate if supported by the client. Default: "
+		+ DEFAULT_COMPRESSION_ENABLED)
+	@EnvironmentVariable(name = MESH_HTTP_COMPRESSION_ENABLE_ENV, description = "Override the configured compression enable flag.")
+	private boolean enableCompression = DEFAULT_COMPRESSION_ENABLED;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Compression level which is used for compressed responses. Lower levels are faster, higher levels produce smaller responses (1-9). Default: "
+		+ DEFAULT_COMPRESSION_LEVEL)
+	@EnvironmentVariable(name = MESH_HTTP_COMPRESSION_LEVEL_ENV, description = "Override the configured compression level.")
+	private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+
 	public HttpServerConfig() {
 	}
 
@@ -219,7 +237,50 @@ public class HttpServerConfig implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the flag which indicates whether response compression is enabled.
+	 * 
+	 * @return
+	 */
+	public boolean getEnableCompression() {
+		return enableCompression;
+	}
+
+	/**
+	 * Set the flag which enables gzip/deflate compression of responses.
+	 * 
+	 * @param enableCompression
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setEnableCompression(boolean enableCompression) {
+		this.enableCompression = enableCompression;
+		return this;
+	}
+
+	/**
+	 * Return the compression level of responses.
+	 * 
+	 * @return
+	 */
+	public int getCompressionLevel() {
+		return compressionLevel;
+	}
+
+	/**
+	 * Set the compression level of responses (1-9).
+	 * 
+	 * @param compressionLevel
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setCompressionLevel(int compressionLevel) {
+		this.compressionLevel = compressionLevel;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
+		if (getCompressionLevel() < 1 || getCompressionLevel() > 9) {
+			throw new IllegalArgumentException("The compression level must be between 1 and 9.");
+		}
 	}
 
 }
@@ -1,6 +1,8 @@
 package com.gentics.mesh.etc.config;
 
 import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -18,11 +20,21 @@ public class ImageManipulatorOptions implements Option {
 	public static final String MESH_IMAGE_MAX_HEIGHT_ENV = "MESH_IMAGE_MAX_HEIGHT";
 	public static final String MESH_IMAGE_JPEG_QUALITY_ENV = "MESH_IMAGE_JPEG_QUALITY";
 	public static final String MESH_IMAGE_RESAMPLE_FILTER_ENV = "MESH_IMAGE_RESAMPLE_FILTER";
+	public static final String MESH_IMAGE_RESIZE_WORKERS_ENV = "MESH_IMAGE_RESIZE_WORKERS";
+	public static final String MESH_IMAGE_RESIZE_QUEUE_LIMIT_ENV = "MESH_IMAGE_RESIZE_QUEUE_LIMIT";
+	public static final String MESH_IMAGE_CACHE_MAX_SIZE_ENV = "MESH_IMAGE_CACHE_MAX_SIZE";
+	public static final String MESH_IMAGE_CACHE_MEMORY_SIZE_ENV = "MESH_IMAGE_CACHE_MEMORY_SIZE";
+	public static final String MESH_IMAGE_DECODE_MEMORY_LIMIT_ENV = "MESH_IMAGE_DECODE_MEMORY_LIMIT";
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
 	public static final float DEFAULT_JPEG_QUALITY = 0.95f;
 	// This is the default filter in ImageMagick
 	public static final ResampleFilter DEFAULT_RESAMPLE_FILTER = ResampleFilter.LANCZOS;
+	public static final int DEFAULT_RESIZE_WORKERS = 5;
+	public static final int DEFAULT_RESIZE_QUEUE_LIMIT = 100;
+	public static final long DEFAULT_IMAGE_CACHE_MAX_SIZE = 0;
+	public static final long DEFAULT_IMAGE_CACHE_MEMORY_SIZE = 1024 * 1024 * 32;
+	public static final long DEFAULT_DECODE_MEMORY_LIMIT = 0;
 
 	private String imageCacheDirectory = "data" + File.separator + "binaryImageCache";
 
@@ -49,6 +61,39 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_RESAMPLE_FILTER_ENV, description = "Override the sample filter for image resize operations.")
 	private ResampleFilter resampleFilter = DEFAULT_RESAMPLE_FILTER;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the amount of threads which are used to resize images. Default: " + DEFAULT_RESIZE_WORKERS)
+	@EnvironmentVariable(name = MESH_IMAGE_RESIZE_WORKERS_ENV, description = "Override the amount of image resize threads.")
+	private int resizeWorkers = DEFAULT_RESIZE_WORKERS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the amount of image resize operations which may wait for a resize thread. Further resize requests will be rejected until the queue has been processed. Default: "
+		+ DEFAULT_RESIZE_QUEUE_LIMIT)
+	@EnvironmentVariable(name = MESH_IMAGE_RESIZE_QUEUE_LIMIT_ENV, description = "Override the image resize queue limit.")
+	private int resizeQueueLimit = DEFAULT_RESIZE_QUEUE_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum total size in bytes of the resized images in the image cache directory. The least recently used images will be removed once the size is exceeded. A value of 0 disables the limit. Default: "
+		+ DEFAULT_IMAGE_CACHE_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MAX_SIZE_ENV, description = "Override the maximum size of the image cache.")
+	private long imageCacheMaxSize = DEFAULT_IMAGE_CACHE_MAX_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the amount of off-heap memory in bytes which is used to hold frequently requested small resized images. A value of 0 disables the memory cache. Default: "
+		+ DEFAULT_IMAGE_CACHE_MEMORY_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MEMORY_SIZE_ENV, description = "Override the memory size of the image cache.")
+	private long imageCacheMemorySize = DEFAULT_IMAGE_CACHE_MEMORY_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum amount of memory in bytes which may be used to decode a source image for a single resize operation. Larger images are decoded with a reduced resolution when the requested size allows it. Otherwise the request will be rejected. A value of 0 disables the limit. Default: "
+		+ DEFAULT_DECODE_MEMORY_LIMIT)
+	@EnvironmentVariable(name = MESH_IMAGE_DECODE_MEMORY_LIMIT_ENV, description = "Override the image decode memory limit.")
+	private long decodeMemoryLimit = DEFAULT_DECODE_MEMORY_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set of image renditions which will be generated in the background after an image has been uploaded. The key is the name of the rendition and the value contains the image manipulation query parameters (e.g.: w=200&h=200&crop=fp).")
+	private Map<String, String> renditions = new HashMap<>();
+
 	/**
 	 * Return the binary image cache directory.
 	 * 
@@ -109,9 +154,150 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
-	public void validate(MeshOptions meshOptions) {
-		// TODO Auto-generated method stub
+	/**
+	 * Return the amount of image resize threads.
+	 * 
+	 * @return
+	 */
+	public int getResizeWorkers() {
+		return resizeWorkers;
+	}
+
+	/**
+	 * Set the amount of image resize threads.
+	 * 
+	 * @param resizeWorkers
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setResizeWorkers(int resizeWorkers) {
+		this.resizeWorkers = resizeWorkers;
+		return this;
+	}
+
+	/**
+	 * Return the amount of image resize operations which may wait for a resize thread.
+	 * 
+	 * @return
+	 */
+	public int getResizeQueueLimit() {
+		return resizeQueueLimit;
+	}
+
+	/**
+	 * Set the amount of image resize operations which may wait for a resize thread.
+	 * 
+	 * @param resizeQueueLimit
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setResizeQueueLimit(int resizeQueueLimit) {
+		this.resizeQueueLimit = resizeQueueLimit;
+		return this;
+	}
+
+	/**
+	 * Return the maximum total size of the image cache in bytes.
+	 * 
+	 * @return
+	 */
+	public long getImageCacheMaxSize() {
+		return imageCacheMaxSize;
+	}
+
+	/**
+	 * Set the maximum total size of the image cache in bytes. A value of 0 disables the limit.
+	 * 
+	 * @param imageCacheMaxSize
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setImageCacheMaxSize(long imageCacheMaxSize) {
+		this.imageCacheMaxSize = imageCacheMaxSize;
+		return this;
+	}
+
+	/**
+	 * Return the amount of off-heap memory in bytes which is used to hold frequently requested images.
+	 * 
+	 * @return
+	 */
+	public long getImageCacheMemorySize() {
+		return imageCacheMemorySize;
+	}
 
+	/**
+	 * Set the amount of off-heap memory in bytes which is used to hold frequently requested images. A value of 0 disables the memory cache.
+	 * 
+	 * @param imageCacheMemorySize
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setImageCacheMemorySize(long imageCacheMemorySize) {
+		this.imageCacheMemorySize = imageCacheMemorySize;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of memory in bytes which may be used to decode a source image.
+	 * 
+	 * @return
+	 */
+	public long getDecodeMemoryLimit() {
+		return decodeMemoryLimit;
+	}
+
+	/**
+	 * Set the maximum amount of memory in bytes which may be used to decode a source image. A value of 0 disables the limit.
+	 * 
+	 * @param decodeMemoryLimit
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setDecodeMemoryLimit(long decodeMemoryLimit) {
+		this.decodeMemoryLimit = decodeMemoryLimit;
+		return this;
+	}
+
+	/**
+	 * Return the image renditions which will be generated after an image has been uploaded.
+	 * 
+	 * @return Image manipulation query parameters by rendition name
+	 */
+	public Map<String, String> getRenditions() {
+		return renditions;
+	}
+
+	/**
+	 * Add an image rendition which will be generated after an image has been uploaded.
+	 * 
+	 * @param name
+	 *            Name of the rendition
+	 * @param parameters
+	 *            Image manipulation query parameters (e.g.: w=200&amp;h=200&amp;crop=fp)
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setRendition(String name, String parameters) {
+		this.renditions.put(name, parameters);
+		return this;
+	}
+
+	public void validate(MeshOptions meshOptions) {
+		if (getResizeWorkers() < 1) {
+			throw new IllegalArgumentException("The amount of image resize workers must be at least 1.");
+		}
+		if (getResizeQueueLimit() < 0) {
+			throw new IllegalArgumentException("The image resize queue limit must not be negative.");
+		}
+		if (getImageCacheMaxSize() < 0) {
+			throw new IllegalArgumentException("The image cache max size must not be negative.");
+		}
+		if (getImageCacheMemorySize() < 0) {
+			throw new IllegalArgumentException("The image cache memory size must not be negative.");
+		}
+		if (getDecodeMemoryLimit() < 0) {
+			throw new IllegalArgumentException("The image decode memory limit must not be negative.");
+		}
+		for (Map.Entry<String, String> rendition : getRenditions().entrySet()) {
+			if (rendition.getKey().contains(",") || rendition.getValue() == null || rendition.getValue().isEmpty()) {
+				throw new IllegalArgumentException("The image rendition {" + rendition.getKey() + "} is invalid. The name must not contain commas and the parameters must not be empty.");
+			}
+		}
 	}
 
 	public float getJpegQuality() {
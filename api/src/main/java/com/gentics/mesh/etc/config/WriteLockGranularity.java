@@ -0,0 +1,23 @@
+package com.gentics.mesh.etc.config;
+
+/**
+ * Granularity of the lock which is used to synchronize writes to the graph database.
+ */
+public enum WriteLockGranularity {
+
+	/**
+	 * All writes of the instance share a single lock.
+	 */
+	GLOBAL,
+
+	/**
+	 * Writes are synchronized per project. Writes to elements which don't belong to a project share a single lock.
+	 */
+	PROJECT,
+
+	/**
+	 * Writes are synchronized per modified element. Writes which create new elements are synchronized per project.
+	 */
+	ELEMENT;
+
+}
@@ -34,6 +34,8 @@ public class OptionUtils {
 			return (T) Float.valueOf(value);
 		} else if (clazz.equals(double.class) || clazz.equals(Double.class)) {
 			return (T) Double.valueOf(value);
+		} else if (clazz.isEnum()) {
+			return (T) Enum.valueOf(clazz.asSubclass(Enum.class), value);
 		} else if (clazz.equals(JsonObject.class)) {
 			JsonObject obj;
 			try {
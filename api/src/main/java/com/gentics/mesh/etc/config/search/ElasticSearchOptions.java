@@ -38,6 +38,12 @@ public class ElasticSearchOptions implements Option {
 
 	public static final boolean DEFAULT_HOSTNAME_VERIFICATION = true;
 
+	public static final int DEFAULT_SYNC_CONCURRENCY = 4;
+
+	public static final int DEFAULT_BULK_CONCURRENCY = 2;
+	public static final int DEFAULT_BULK_TARGET_LATENCY = 1000;
+	public static final int DEFAULT_EVENT_COALESCE_TIME = 100;
+
 	public static final String MESH_ELASTICSEARCH_URL_ENV = "MESH_ELASTICSEARCH_URL";
 	public static final String MESH_ELASTICSEARCH_USERNAME_ENV = "MESH_ELASTICSEARCH_USERNAME";
 	public static final String MESH_ELASTICSEARCH_PASSWORD_ENV = "MESH_ELASTICSEARCH_PASSWORD";
@@ -58,6 +64,10 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_WAIT_FOR_IDLE_ENV = "MESH_ELASTICSEARCH_WAIT_FOR_IDLE";
 	public static final String MESH_ELASTICSEARCH_HOSTNAME_VERIFICATION_ENV = "MESH_ELASTICSEARCH_HOSTNAME_VERIFICATION";
 	public static final String MESH_ELASTICSEARCH_INCLUDE_BINARY_FIELDS_ENV = "MESH_ELASTICSEARCH_INCLUDE_BINARY_FIELDS";
+	public static final String MESH_ELASTICSEARCH_SYNC_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_SYNC_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_BULK_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_BULK_TARGET_LATENCY_ENV = "MESH_ELASTICSEARCH_BULK_TARGET_LATENCY";
+	public static final String MESH_ELASTICSEARCH_EVENT_COALESCE_TIME_ENV = "MESH_ELASTICSEARCH_EVENT_COALESCE_TIME";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Elasticsearch connection url to be used. Set this setting to null will disable the Elasticsearch support.")
@@ -167,6 +177,30 @@ public class ElasticSearchOptions implements Option {
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_INCLUDE_BINARY_FIELDS_ENV, description = "Override the search include binary fields flag.")
 	private boolean includeBinaryFields = DEFAULT_INCLUDE_BINARY_FIELDS;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the amount of indices which are synchronized concurrently during an index sync. Default: "
+		+ DEFAULT_SYNC_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SYNC_CONCURRENCY_ENV, description = "Override the index sync concurrency.")
+	private int syncConcurrency = DEFAULT_SYNC_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the amount of bulk requests which are sent to Elasticsearch concurrently. Requests which affect the same document are never sent concurrently. Default: "
+		+ DEFAULT_BULK_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV, description = "Override the bulk concurrency.")
+	private int bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Bulk latency in milliseconds which should not be exceeded. The size of bulk requests will be reduced if Elasticsearch takes longer to process them or rejects them and will grow back up to the bulk limit otherwise. Default: "
+		+ DEFAULT_BULK_TARGET_LATENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_BULK_TARGET_LATENCY_ENV, description = "Override the bulk target latency.")
+	private int bulkTargetLatency = DEFAULT_BULK_TARGET_LATENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The amount of time in milliseconds in which events are collected before they are processed. Redundant events for the same document within this time are dropped. Setting this to 0 disables the coalescing. Default: "
+		+ DEFAULT_EVENT_COALESCE_TIME)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_EVENT_COALESCE_TIME_ENV, description = "Override the event coalesce time.")
+	private int eventCoalesceTime = DEFAULT_EVENT_COALESCE_TIME;
+
 	public ElasticSearchOptions() {
 
 	}
@@ -376,7 +410,18 @@ public class ElasticSearchOptions implements Option {
 	}
 
 	public void validate(MeshOptions meshOptions) {
-
+		if (getSyncConcurrency() < 1) {
+			throw new IllegalArgumentException("The index sync concurrency must be at least 1.");
+		}
+		if (getBulkConcurrency() < 1) {
+			throw new IllegalArgumentException("The bulk concurrency must be at least 1.");
+		}
+		if (getBulkTargetLatency() < 1) {
+			throw new IllegalArgumentException("The bulk target latency must be at least 1ms.");
+		}
+		if (getEventCoalesceTime() < 0) {
+			throw new IllegalArgumentException("The event coalesce time must not be negative.");
+		}
 	}
 
 	public int getRetryLimit() {
@@ -387,4 +432,40 @@ public class ElasticSearchOptions implements Option {
 		this.retryLimit = retryLimit;
 		return this;
 	}
+
+	public int getSyncConcurrency() {
+		return syncConcurrency;
+	}
+
+	public ElasticSearchOptions setSyncConcurrency(int syncConcurrency) {
+		this.syncConcurrency = syncConcurrency;
+		return this;
+	}
+
+	public int getBulkConcurrency() {
+		return bulkConcurrency;
+	}
+
+	public ElasticSearchOptions setBulkConcurrency(int bulkConcurrency) {
+		this.bulkConcurrency = bulkConcurrency;
+		return this;
+	}
+
+	public int getBulkTargetLatency() {
+		return bulkTargetLatency;
+	}
+
+	public ElasticSearchOptions setBulkTargetLatency(int bulkTargetLatency) {
+		this.bulkTargetLatency = bulkTargetLatency;
+		return this;
+	}
+
+	public int getEventCoalesceTime() {
+		return eventCoalesceTime;
+	}
+
+	public ElasticSearchOptions setEventCoalesceTime(int eventCoalesceTime) {
+		this.eventCoalesceTime = eventCoalesceTime;
+		return this;
+	}
 }
@@ -30,6 +30,16 @@ public class DummyEventQueueBatch implements EventQueueBatch {
 		return null;
 	}
 
+	@Override
+	public List<Runnable> getDispatchActions() {
+		return null;
+	}
+
+	@Override
+	public EventQueueBatch onDispatch(Runnable action) {
+		return this;
+	}
+
 	@Override
 	public EventCauseInfoImpl getCause() {
 		return null;
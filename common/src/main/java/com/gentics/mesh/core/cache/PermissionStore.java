@@ -1,76 +1,256 @@
 package com.gentics.mesh.core.cache;
 
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE_ELEMENT;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE_ROLE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE_USER;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.metric.Metrics.PERMISSION_CACHE_EVICTION;
+import static com.gentics.mesh.metric.Metrics.PERMISSION_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.PERMISSION_CACHE_MISS;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import com.codahale.metrics.Meter;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.event.MeshEventConsumer;
+import com.gentics.mesh.metric.MetricsService;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ *
+ * The permissions are cached per element and {@link RoleSet}. Users with the same roles thus share the cached permissions. For each element and role
+ * set the granted and the denied permissions are stored as bits of a single integer. The role set of each user is cached separately.
+ *
+ * Permission changes only invalidate the affected entries. Changing the permissions on an element removes the cached permissions of the element and
+ * changing the role assignments of users removes the cached role sets of those users. The invalidation is distributed to the other instances of the
+ * cluster via targeted events.
  */
 public final class PermissionStore {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionStore.class);
 
-	public static final Cache<String, Boolean> PERM_CACHE = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(30, TimeUnit.MINUTES).build();
+	/**
+	 * Offset of the denied permission bits.
+	 */
+	private static final int DENIED_OFFSET = 16;
+
+	/**
+	 * Events which change the roles of users.
+	 */
+	private static final List<MeshEvent> ROLE_ASSIGNMENT_EVENTS = Arrays.asList(GROUP_USER_ASSIGNED,
+		GROUP_USER_UNASSIGNED,
+		GROUP_ROLE_ASSIGNED,
+		GROUP_ROLE_UNASSIGNED,
+		GROUP_DELETED,
+		ROLE_DELETED,
+		USER_DELETED);
+
+	private static Cache<String, ConcurrentMap<RoleSet, Integer>> permCache;
+
+	private static Cache<String, RoleSet> roleSetCache;
+
+	private static MetricsService metrics;
+
+	private static Meter hitMeter;
+
+	private static Meter missMeter;
+
+	private static Meter evictionMeter;
+
+	static {
+		init(new CacheConfig(), null);
+	}
+
+	private PermissionStore() {
+	}
+
+	/**
+	 * Create the caches using the given settings. Previously cached permissions will be discarded.
+	 *
+	 * @param config
+	 *            Cache settings
+	 * @param metricsService
+	 *            Service which is used to record the hit, miss and eviction metrics or null if no metrics should be recorded
+	 */
+	public static synchronized void init(CacheConfig config, MetricsService metricsService) {
+		metrics = metricsService;
+		if (metricsService != null) {
+			hitMeter = metricsService.meter(PERMISSION_CACHE_HIT);
+			missMeter = metricsService.meter(PERMISSION_CACHE_MISS);
+			evictionMeter = metricsService.meter(PERMISSION_CACHE_EVICTION);
+		}
+		permCache = Caffeine.newBuilder()
+			.maximumSize(config.getPermissionCacheSize())
+			.expireAfterWrite(30, TimeUnit.MINUTES)
+			.<String, ConcurrentMap<RoleSet, Integer>>removalListener((key, value, cause) -> {
+				if (cause.wasEvicted() && isMetricsEnabled()) {
+					evictionMeter.mark();
+				}
+			})
+			.build();
+		roleSetCache = Caffeine.newBuilder()
+			.maximumSize(config.getPermissionUserCacheSize())
+			.expireAfterWrite(30, TimeUnit.MINUTES)
+			.build();
+	}
+
+	private static boolean isMetricsEnabled() {
+		return metrics != null && metrics.isEnabled();
+	}
 
 	/**
-	 * Check whether the granting user permission was stored in the cache.
-	 * 
+	 * Return the role set of the user. The role set will be loaded using the given supplier if it has not yet been cached.
+	 *
 	 * @param userId
 	 *            Vertex id of the user
+	 * @param roleIds
+	 *            Supplier which loads the vertex ids of the roles which are assigned to the user
+	 * @return
+	 */
+	public static RoleSet getRoleSet(Object userId, Supplier<Collection<Object>> roleIds) {
+		return roleSetCache.get(String.valueOf(userId), k -> RoleSet.of(roleIds.get()));
+	}
+
+	/**
+	 * Return the cached permission state.
+	 *
+	 * @param roles
+	 *            Role set of the user
 	 * @param permission
 	 *            Permission to check against
 	 * @param elementId
 	 *            Vertex id of the element to which permissions should be checked
-	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
+	 * @return true if a granting permission was cached, false if a denied permission was cached or null if the permission is unknown
 	 */
-	public static boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
-		Boolean cachedPerm = PERM_CACHE.getIfPresent(key);
-		return cachedPerm != null && cachedPerm;
+	public static Boolean getCachedPermission(RoleSet roles, GraphPermission permission, Object elementId) {
+		Boolean result = null;
+		ConcurrentMap<RoleSet, Integer> permissions = permCache.getIfPresent(String.valueOf(elementId));
+		if (permissions != null) {
+			Integer bits = permissions.get(roles);
+			if (bits != null) {
+				if ((bits & grantedBit(permission)) != 0) {
+					result = true;
+				} else if ((bits & deniedBit(permission)) != 0) {
+					result = false;
+				}
+			}
+		}
+		if (isMetricsEnabled()) {
+			if (result == null) {
+				missMeter.mark();
+			} else {
+				hitMeter.mark();
+			}
+		}
+		return result;
 	}
 
 	/**
-	 * Register the event handler which can be used to invalidate the LRU cache.
+	 * Store the permission in the cache.
+	 *
+	 * @param roles
+	 *            Role set of the user
+	 * @param permission
+	 *            Permission which was checked
+	 * @param elementId
+	 *            Id of the element to which the permission was checked
+	 * @param granted
+	 *            Whether the permission is granted or denied
+	 */
+	public static void store(RoleSet roles, GraphPermission permission, Object elementId, boolean granted) {
+		int bit = granted ? grantedBit(permission) : deniedBit(permission);
+		permCache.get(String.valueOf(elementId), k -> new ConcurrentHashMap<>()).merge(roles, bit, (a, b) -> a | b);
+	}
+
+	private static int grantedBit(GraphPermission permission) {
+		return 1 << permission.ordinal();
+	}
+
+	private static int deniedBit(GraphPermission permission) {
+		return 1 << (permission.ordinal() + DENIED_OFFSET);
+	}
+
+	/**
+	 * Register the event handlers which can be used to invalidate the LRU cache.
 	 */
 	public static void registerEventHandler() {
-		Mesh.vertx().eventBus().consumer(CLEAR_PERMISSION_STORE.address, e -> {
+		Vertx vertx = Mesh.vertx();
+		vertx.eventBus().consumer(CLEAR_PERMISSION_STORE.address, e -> {
 			if (log.isDebugEnabled()) {
 				log.debug("Clearing permission store due to received event from {" + e.address() + "}");
 			}
-			PERM_CACHE.invalidateAll();
+			invalidateLocally();
+		});
+		vertx.eventBus().consumer(CLEAR_PERMISSION_STORE_ELEMENT.address, e -> {
+			Object elementId = e.body();
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing permissions of element {" + elementId + "} due to received event from {" + e.address() + "}");
+			}
+			if (elementId != null) {
+				permCache.invalidate(String.valueOf(elementId));
+			}
+		});
+		vertx.eventBus().consumer(CLEAR_PERMISSION_STORE_USER.address, e -> {
+			Object userIds = e.body();
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing role sets of users {" + userIds + "} due to received event from {" + e.address() + "}");
+			}
+			if (userIds instanceof JsonArray) {
+				for (Object userId : (JsonArray) userIds) {
+					roleSetCache.invalidate(String.valueOf(userId));
+				}
+			}
+		});
+		vertx.eventBus().consumer(CLEAR_PERMISSION_STORE_ROLE.address, e -> {
+			Object roleId = e.body();
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing role sets which contain role {" + roleId + "} due to received event from {" + e.address() + "}");
+			}
+			if (roleId != null) {
+				invalidateRoleLocally(roleId);
+			}
+		});
+		// The role assignments are changed within a transaction and the role sets are already invalidated at that time. Concurrent requests may however
+		// cache the previous role sets again until the transaction has been committed. The role sets and the permissions which were cached for them are
+		// thus cleared once more when the events of the transaction get dispatched.
+		MeshEventConsumer.consumer(vertx.eventBus(), ROLE_ASSIGNMENT_EVENTS, (event, model) -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing role sets and permissions due to received event {" + event + "}");
+			}
+			invalidateLocally();
 		});
-	}
-
-	/**
-	 * Create the cache key.
-	 * 
-	 * @param userId
-	 * @param permission
-	 * @param elementId
-	 * @return
-	 */
-	private static String createCacheKey(Object userId, GraphPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
 	}
 
 	/**
 	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
-	 * 
+	 *
 	 * @param notify
 	 */
 	public static void invalidate(boolean notify) {
-		// Invalidate locally
-		PERM_CACHE.invalidateAll();
+		invalidateLocally();
 		if (notify) {
 			// Send the event to inform other to purge the stored permissions
 			Vertx vertx = Mesh.vertx();
@@ -89,17 +269,73 @@ public final class PermissionStore {
 		invalidate(true);
 	}
 
+	private static void invalidateLocally() {
+		permCache.invalidateAll();
+		roleSetCache.invalidateAll();
+	}
+
 	/**
-	 * Store a granting permission in the cache.
-	 * 
-	 * @param userId
-	 *            User which currently has roles which grant him the permission on the element
-	 * @param permission
-	 *            Permission which is granted
+	 * Remove the cached permissions of the element. This needs to be done whenever permissions on the element are granted or revoked. Other instances of the
+	 * cluster will be notified as well. Since concurrent checks may cache the previous permissions again until the change has been committed, the
+	 * invalidation should be repeated after the commit (see {@link com.gentics.mesh.event.EventQueueBatch#onDispatch(Runnable)}).
+	 *
 	 * @param elementId
-	 *            Id of the element to which a permission is granted
+	 *            Id of the element
 	 */
-	public static void store(Object userId, GraphPermission permission, Object elementId) {
-		PERM_CACHE.put(createCacheKey(userId, permission, elementId), true);
+	public static void invalidateElement(Object elementId) {
+		String key = String.valueOf(elementId);
+		permCache.invalidate(key);
+		publishClustered(CLEAR_PERMISSION_STORE_ELEMENT.address, key);
+	}
+
+	/**
+	 * Remove the cached role sets of the users. This needs to be done whenever the roles which are assigned to the users change. Other instances of the
+	 * cluster will be notified as well.
+	 *
+	 * @param userIds
+	 *            Ids of the users
+	 */
+	public static void invalidateUsers(Collection<?> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		JsonArray ids = new JsonArray();
+		for (Object userId : userIds) {
+			String key = String.valueOf(userId);
+			roleSetCache.invalidate(key);
+			ids.add(key);
+		}
+		publishClustered(CLEAR_PERMISSION_STORE_USER.address, ids);
+	}
+
+	/**
+	 * Remove the cached role sets which contain the role. This needs to be done when a role gets deleted. Other instances of the cluster will be notified as
+	 * well.
+	 *
+	 * @param roleId
+	 *            Id of the role
+	 */
+	public static void invalidateRole(Object roleId) {
+		String key = String.valueOf(roleId);
+		invalidateRoleLocally(key);
+		publishClustered(CLEAR_PERMISSION_STORE_ROLE.address, key);
+	}
+
+	private static void invalidateRoleLocally(Object roleId) {
+		roleSetCache.asMap().values().removeIf(roles -> roles.contains(roleId));
+	}
+
+	/**
+	 * Publish the invalidation event to the other instances of the cluster. The local store has already been updated and thus no event needs to be send
+	 * when clustering is not enabled.
+	 *
+	 * @param address
+	 * @param body
+	 */
+	private static void publishClustered(String address, Object body) {
+		Vertx vertx = Mesh.vertx();
+		if (vertx != null && vertx.isClustered()) {
+			vertx.eventBus().publish(address, body);
+		}
 	}
 }
@@ -0,0 +1,95 @@
+package com.gentics.mesh.core.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Immutable set of role ids which is used as part of the {@link PermissionStore} keys. Users which are assigned to the same roles share the same role
+ * set and thus also the cached permissions.
+ */
+public final class RoleSet {
+
+	private final String[] roleIds;
+
+	private final List<Object> ids;
+
+	private final int hashCode;
+
+	private RoleSet(String[] roleIds, List<Object> ids) {
+		this.roleIds = roleIds;
+		this.ids = ids;
+		this.hashCode = Arrays.hashCode(roleIds);
+	}
+
+	/**
+	 * Create the role set for the given role ids.
+	 *
+	 * @param roleIds
+	 *            Vertex ids of the roles
+	 * @return
+	 */
+	public static RoleSet of(Collection<?> roleIds) {
+		String[] ids = roleIds.stream()
+			.map(String::valueOf)
+			.distinct()
+			.sorted()
+			.toArray(String[]::new);
+		return new RoleSet(ids, Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(roleIds))));
+	}
+
+	/**
+	 * Return the vertex ids from which the set was created. Permissions which are cached for the set must be determined using these ids, since the roles
+	 * which are currently assigned to the user may already differ from the set.
+	 *
+	 * @return
+	 */
+	public List<Object> getRoleIds() {
+		return ids;
+	}
+
+	/**
+	 * Check whether the set contains the role.
+	 *
+	 * @param roleId
+	 *            Vertex id of the role
+	 * @return
+	 */
+	public boolean contains(Object roleId) {
+		return Arrays.binarySearch(roleIds, String.valueOf(roleId)) >= 0;
+	}
+
+	/**
+	 * Check whether the set contains no roles.
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return roleIds.length == 0;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof RoleSet)) {
+			return false;
+		}
+		RoleSet other = (RoleSet) obj;
+		return hashCode == other.hashCode && Arrays.equals(roleIds, other.roleIds);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(roleIds);
+	}
+}
@@ -23,6 +23,7 @@ import com.gentics.mesh.core.rest.error.Errors;
 import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.version.VersionInfo;
+import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.path.Path;
 import com.gentics.mesh.util.Tuple;
@@ -176,8 +177,23 @@ public interface NodeGraphFieldContainer extends GraphFieldContainer, EditorTrac
 	 *            branch Uuid
 	 * @param conflictI18n
 	 *            key of the message in case of conflicts
+	 * @param batch
+	 *            Batch which will clear the path stores once it gets dispatched, if added url field values may shadow cached paths. The path stores will
+	 *            be cleared right away if no batch is given.
 	 */
-	void updateWebrootPathInfo(InternalActionContext ac, String branchUuid, String conflictI18n);
+	void updateWebrootPathInfo(InternalActionContext ac, String branchUuid, String conflictI18n, EventQueueBatch batch);
+
+	/**
+	 * Update the property webroot path info. This will also check for uniqueness conflicts of the webroot path and will throw a
+	 * {@link Errors#conflict(String, String, String, String...)} if one found.
+	 * 
+	 * @param branchUuid
+	 * @param conflictI18n
+	 * @param batch
+	 */
+	default void updateWebrootPathInfo(String branchUuid, String conflictI18n, EventQueueBatch batch) {
+		updateWebrootPathInfo(null, branchUuid, conflictI18n, batch);
+	}
 
 	/**
 	 * Update the property webroot path info. This will also check for uniqueness conflicts of the webroot path and will throw a
@@ -187,9 +203,19 @@ public interface NodeGraphFieldContainer extends GraphFieldContainer, EditorTrac
 	 * @param conflictI18n
 	 */
 	default void updateWebrootPathInfo(String branchUuid, String conflictI18n) {
-		updateWebrootPathInfo(null, branchUuid, conflictI18n);
+		updateWebrootPathInfo(null, branchUuid, conflictI18n, null);
 	}
 
+	/**
+	 * Use the given map of rest fields to set the data from the map to this container and update the webroot path info.
+	 * 
+	 * @param ac
+	 * @param restFields
+	 * @param batch
+	 *            Batch which will clear the path stores once it gets dispatched, if added url field values may shadow cached paths
+	 */
+	void updateFieldsFromRest(InternalActionContext ac, FieldMap restFields, EventQueueBatch batch);
+
 	/**
 	 * Get the Version Number or null if no version set.
 	 * 
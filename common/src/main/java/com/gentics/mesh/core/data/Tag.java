@@ -76,6 +76,12 @@ public interface Tag extends MeshCoreVertex<TagResponse, Tag>, ReferenceableElem
 	 */
 	TraversalResult<? extends Node> getNodes(Branch branch);
 
+	/**
+	 * Update the content stamps of all nodes which are tagged by this tag. This needs to be done whenever the tag gets renamed or deleted since the tag is
+	 * part of the node response.
+	 */
+	void updateTaggedNodeContentStamps();
+
 	/**
 	 * Return a page of nodes that are visible to the user and which are tagged by this tag. Use the paging and language information provided.
 	 * 
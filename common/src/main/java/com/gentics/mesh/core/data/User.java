@@ -3,6 +3,8 @@ package com.gentics.mesh.core.data;
 import com.gentics.mesh.ElementType;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.TypeInfo;
+import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.cache.RoleSet;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -12,10 +14,21 @@ import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.util.DateUtils;
+import com.gentics.mesh.util.StreamUtil;
+import com.tinkerpop.blueprints.Vertex;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
@@ -47,6 +60,11 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	String API_TOKEN_ISSUE_TIMESTAMP = "APITokenTimestamp";
 
+	/**
+	 * Amount of elements for which the permissions are checked at once when filtering streams {@value #PERMISSION_BATCH_SIZE}
+	 */
+	int PERMISSION_BATCH_SIZE = 50;
+
 	TypeInfo TYPE_INFO = new TypeInfo(ElementType.USER, USER_CREATED, USER_UPDATED, USER_DELETED);
 
 	@Override
@@ -339,6 +357,80 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	boolean hasPermissionForId(Object elementId, GraphPermission permission);
 
+	/**
+	 * Return the set of roles which are assigned to the user. The role set is cached by the {@link PermissionStore}.
+	 *
+	 * @return
+	 */
+	RoleSet getRoleSet();
+
+	/**
+	 * Check the given permission for multiple elements at once. The roles of the user are only resolved once and the permissions of all elements which are
+	 * not yet cached are loaded using grouped index lookups. Granted and denied permissions will be cached.
+	 *
+	 * @param elementIds
+	 *            Ids of the elements to check
+	 * @param permission
+	 * @return Ids of the elements on which the user has the given permission
+	 */
+	Set<Object> filterReadable(Collection<Object> elementIds, GraphPermission permission);
+
+	/**
+	 * Filter the stream and only keep the vertices on which the user has the given permission. The permissions are checked in batches via
+	 * {@link #filterReadable(Collection, GraphPermission)}.
+	 *
+	 * @param vertices
+	 * @param permission
+	 * @return
+	 */
+	default Stream<Vertex> filterReadable(Stream<Vertex> vertices, GraphPermission permission) {
+		return StreamUtil.batch(vertices, PERMISSION_BATCH_SIZE).flatMap(batch -> {
+			List<Object> ids = batch.stream().map(Vertex::getId).collect(Collectors.toList());
+			Set<Object> readable = filterReadable(ids, permission);
+			return batch.stream().filter(vertex -> readable.contains(vertex.getId()));
+		});
+	}
+
+	/**
+	 * Check the read permissions of multiple nodes at once. A node is readable if the user has read permission on it or if the node is published and the
+	 * user has read published permission on it.
+	 *
+	 * @param nodeIds
+	 *            Ids of the nodes to check
+	 * @param isPublished
+	 *            Predicate which checks whether the node with the given id is published
+	 * @return Ids of the readable nodes
+	 */
+	default Set<Object> filterReadableNodes(Collection<Object> nodeIds, Predicate<Object> isPublished) {
+		Set<Object> readable = new HashSet<>(filterReadable(nodeIds, READ_PERM));
+		// Check the read publish perm for the nodes which are published
+		List<Object> publishedIds = nodeIds.stream()
+			.filter(id -> !readable.contains(id))
+			.filter(isPublished)
+			.collect(Collectors.toList());
+		readable.addAll(filterReadable(publishedIds, READ_PUBLISHED_PERM));
+		return readable;
+	}
+
+	/**
+	 * Filter the stream and only keep the nodes which are readable by the user. The permissions are checked in batches via
+	 * {@link #filterReadableNodes(Collection, Predicate)}.
+	 *
+	 * @param nodes
+	 * @param idFunction
+	 *            Function which returns the element id of a node
+	 * @param isPublished
+	 *            Predicate which checks whether the node with the given id is published
+	 * @return
+	 */
+	default <T> Stream<T> filterReadableNodes(Stream<T> nodes, Function<T, Object> idFunction, Predicate<Object> isPublished) {
+		return StreamUtil.batch(nodes, PERMISSION_BATCH_SIZE).flatMap(batch -> {
+			List<Object> ids = batch.stream().map(idFunction).collect(Collectors.toList());
+			Set<Object> readable = filterReadableNodes(ids, isPublished);
+			return batch.stream().filter(node -> readable.contains(idFunction.apply(node)));
+		});
+	}
+
 	/**
 	 * Check the read permission on the given container and fail if the needed permission to read the container is not set. This method will not fail if the
 	 * user has READ permission or READ_PUBLISH permission on a published node.
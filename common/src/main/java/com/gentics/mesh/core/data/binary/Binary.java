@@ -1,6 +1,9 @@
 package com.gentics.mesh.core.data.binary;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
@@ -24,6 +27,8 @@ public interface Binary extends MeshVertex {
 
 	String BINARY_IMAGE_HEIGHT_PROPERTY_KEY = "binaryImageHeight";
 
+	String BINARY_RENDITIONS_PROPERTY_KEY = "binaryRenditions";
+
 	/**
 	 * Return the binary data stream.
 	 * 
@@ -141,6 +146,30 @@ public interface Binary extends MeshVertex {
 		}
 	}
 
+	/**
+	 * Return the names of the image renditions which have been generated for the binary.
+	 * 
+	 * @return
+	 */
+	default List<String> getRenditions() {
+		String names = property(BINARY_RENDITIONS_PROPERTY_KEY);
+		if (names == null || names.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return new ArrayList<>(Arrays.asList(names.split(",")));
+	}
+
+	/**
+	 * Set the names of the image renditions which have been generated for the binary.
+	 * 
+	 * @param names
+	 * @return Fluent API
+	 */
+	default Binary setRenditions(List<String> names) {
+		property(BINARY_RENDITIONS_PROPERTY_KEY, String.join(",", names));
+		return this;
+	}
+
 	/**
 	 * Find all binary fields which make use of this binary.
 	 * 
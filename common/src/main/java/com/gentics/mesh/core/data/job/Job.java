@@ -37,6 +37,12 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 
 	String WARNING_PROPERTY_KEY = "warnings";
 
+	String TOTAL_COUNT_PROPERTY_KEY = "totalCount";
+
+	String THROUGHPUT_PROPERTY_KEY = "throughput";
+
+	String ETA_TIMESTAMP_PROPERTY_KEY = "eta";
+
 	/**
 	 * The max length before detail error messages will be truncated
 	 */
@@ -262,6 +268,62 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 	 */
 	void setCompletionCount(long count);
 
+	/**
+	 * Return the total amount of elements which need to be processed.
+	 * 
+	 * @return Total count or null if the total count is not known
+	 */
+	Long getTotalCount();
+
+	/**
+	 * Set the total amount of elements which need to be processed.
+	 * 
+	 * @param count
+	 */
+	void setTotalCount(Long count);
+
+	/**
+	 * Return the current throughput of the job.
+	 * 
+	 * @return Processed elements per second or null if no throughput has been recorded
+	 */
+	Double getThroughput();
+
+	/**
+	 * Set the current throughput of the job.
+	 * 
+	 * @param throughput
+	 *            Processed elements per second
+	 */
+	void setThroughput(Double throughput);
+
+	/**
+	 * Return the estimated completion date of the job.
+	 * 
+	 * @return
+	 */
+	default String getEtaDate() {
+		Long timestamp = getEtaTimestamp();
+		if (timestamp == null) {
+			return null;
+		}
+		return DateUtils.toISO8601(timestamp);
+	}
+
+	/**
+	 * Return the estimated completion timestamp of the job.
+	 * 
+	 * @return
+	 */
+	Long getEtaTimestamp();
+
+	/**
+	 * Set the estimated completion timestamp of the job.
+	 * 
+	 * @param timestamp
+	 */
+	void setEtaTimestamp(Long timestamp);
+
 	/**
 	 * Get migration status.
 	 * 
@@ -315,6 +315,20 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	void setParentNode(String branchUuid, Node parentNode);
 
+	/**
+	 * Return the content stamp of the node. The stamp is used to compute the ETag of the node and changes whenever the children, tags, language variants or
+	 * publish state of the node change.
+	 * 
+	 * @return Stamp or null if the node has not been changed since the stamp was introduced
+	 */
+	String getContentStamp();
+
+	/**
+	 * Assign a new content stamp to the node. This needs to be done whenever a change affects the rendered node but is not reflected by the ETag of the
+	 * requested field container.
+	 */
+	void updateContentStamp();
+
 	/**
 	 * Create a child node in this node in the latest branch of the project.
 	 * 
@@ -504,8 +518,10 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 * @param ac
 	 * @param container
 	 * @param branchUuid
+	 * @param batch
+	 *            Batch which is used to clear the path stores after the commit
 	 */
-	void setPublished(InternalActionContext ac, NodeGraphFieldContainer container, String branchUuid);
+	void setPublished(InternalActionContext ac, NodeGraphFieldContainer container, String branchUuid, EventQueueBatch batch);
 
 	/**
 	 * Take a language of the node offline.
@@ -649,7 +665,26 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 *            user
 	 * @return published field container
 	 */
-	NodeGraphFieldContainer publish(InternalActionContext ac, String languageTag, Branch branch, User user);
+	default NodeGraphFieldContainer publish(InternalActionContext ac, String languageTag, Branch branch, User user) {
+		return publish(ac, languageTag, branch, user, null);
+	}
+
+	/**
+	 * Create a new published version of the given language in the branch.
+	 * 
+	 * @param ac
+	 *            Action Context
+	 * @param languageTag
+	 *            language
+	 * @param branch
+	 *            branch
+	 * @param user
+	 *            user
+	 * @param batch
+	 *            Batch which is used to clear the path stores after the commit
+	 * @return published field container
+	 */
+	NodeGraphFieldContainer publish(InternalActionContext ac, String languageTag, Branch branch, User user, EventQueueBatch batch);
 
 	/**
 	 * Publish the node for the specified branch.
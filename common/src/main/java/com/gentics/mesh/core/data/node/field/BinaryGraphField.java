@@ -4,6 +4,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import com.gentics.mesh.core.data.MeshEdge;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.rest.node.field.BinaryField;
 import com.gentics.mesh.core.rest.node.field.binary.BinaryMetadata;
@@ -177,6 +178,13 @@ public interface BinaryGraphField extends BasicGraphField<BinaryField>, MeshEdge
 	 */
 	Binary getBinary();
 
+	/**
+	 * Return the container which contains the field.
+	 * 
+	 * @return
+	 */
+	NodeGraphFieldContainer getParentContainer();
+
 	/**
 	 * Set the metadata property.
 	 * 
@@ -19,7 +19,8 @@ public interface Page<T> extends Iterable<T> {
 	Long getPerPage();
 
 	/**
-	 * Return the total amount of pages which the resources that provided this page could return.
+	 * Return the total amount of pages which the resources that provided this page could return. The amount is -1 if the page was selected using a
+	 * cursor.
 	 * 
 	 * @return
 	 */
@@ -33,7 +34,7 @@ public interface Page<T> extends Iterable<T> {
 	long getNumber();
 
 	/**
-	 * Return the total item count which the resource that provided this page could return.
+	 * Return the total item count which the resource that provided this page could return. The count is -1 if the page was selected using a cursor.
 	 * 
 	 * @return
 	 */
@@ -60,6 +61,7 @@ public interface Page<T> extends Iterable<T> {
 		info.setPageCount(getPageCount());
 		info.setPerPage(getPerPage());
 		info.setTotalCount(getTotalElements());
+		info.setNextCursor(getNextCursor());
 	}
 
 	/**
@@ -85,6 +87,15 @@ public interface Page<T> extends Iterable<T> {
 	 */
 	boolean hasNextPage();
 
+	/**
+	 * Return the cursor which can be used to load the next page. Pages which don't support cursor based paging will always return null.
+	 * 
+	 * @return Cursor or null if no next page exists
+	 */
+	default String getNextCursor() {
+		return null;
+	}
+
 	/**
 	 * Check whether there would be a previous page.
 	 */
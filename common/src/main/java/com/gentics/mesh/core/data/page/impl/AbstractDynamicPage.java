@@ -1,17 +1,31 @@
 package com.gentics.mesh.core.data.page.impl;
 
+import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.parameter.PagingParameters;
 
+/**
+ * Abstract implementation for pages which are lazily populated by iterating over a stream of elements. The page can either be selected by the page
+ * number or by a cursor which references the last element of the previous page. When a cursor is used the elements before the cursor are skipped
+ * without being checked or framed and the total count will not be determined.
+ *
+ * @param <T>
+ */
 public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected long pageNumber;
@@ -37,7 +51,29 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected Iterator<? extends T> visibleItems;
 
+	/**
+	 * String representation of the id of the element after which the page starts or null if the page number is used.
+	 */
+	protected String afterId;
+
+	/**
+	 * Function which returns the id of an element of the page. The id is used to create the cursor of the next page. Cursor based paging is not
+	 * supported if no function was set.
+	 */
+	protected Function<? super T, Object> idFunction;
+
 	public AbstractDynamicPage(PagingParameters pagingInfo) {
+		this(pagingInfo, false);
+	}
+
+	/**
+	 * Create a new page.
+	 *
+	 * @param pagingInfo
+	 * @param supportsCursor
+	 *            Whether the page implementation supports cursor based paging. The cursor parameter will be ignored otherwise.
+	 */
+	public AbstractDynamicPage(PagingParameters pagingInfo, boolean supportsCursor) {
 		if (pagingInfo.getPage() < 1) {
 			throw new GenericRestException(BAD_REQUEST, "error_page_parameter_must_be_positive", String.valueOf(pagingInfo.getPage()));
 		}
@@ -47,9 +83,15 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		this.pageNumber = pagingInfo.getPage();
 		this.perPage = pagingInfo.getPerPage();
 
+		String after = pagingInfo.getAfter();
+		if (supportsCursor && after != null) {
+			this.afterId = PageCursor.decode(after);
+			this.pageNumber = 1;
+		}
+
 		if (perPage == null) {
 			this.lowerBound = null;
-		} else if (perPage == 0) {
+		} else if (perPage == 0 || afterId != null) {
 			this.lowerBound = 0L;
 		} else {
 			this.lowerBound = (pageNumber - 1) * perPage;
@@ -57,6 +99,81 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	}
 
+	/**
+	 * Skip all elements of the stream up to and including the element which is referenced by the cursor. The stream will not be modified if no cursor was
+	 * specified.
+	 *
+	 * The elements are not returned in an order which would allow to seek to the position of a missing element. Cursors which don't reference an
+	 * existing element (e.g. because it has been deleted) are thus rejected before the stream is consumed. A request error will also be thrown once the
+	 * stream has been exhausted without finding the element of the cursor (e.g. because the element is not part of the listed elements).
+	 *
+	 * @param stream
+	 * @param id
+	 *            Function which returns the id of the stream element
+	 * @return
+	 */
+	protected <E> Stream<E> skipToCursor(Stream<E> stream, Function<? super E, Object> id) {
+		if (afterId == null) {
+			return stream;
+		}
+		if (!cursorElementExists()) {
+			throw error(BAD_REQUEST, "error_paging_cursor_not_found", PageCursor.encode(afterId));
+		}
+		AtomicBoolean found = new AtomicBoolean(false);
+		Iterator<E> it = stream.filter(element -> {
+			if (found.get()) {
+				return true;
+			}
+			if (afterId.equals(String.valueOf(id.apply(element)))) {
+				found.set(true);
+			}
+			return false;
+		}).iterator();
+		Iterator<E> checked = new Iterator<E>() {
+			@Override
+			public boolean hasNext() {
+				boolean hasNext = it.hasNext();
+				if (!hasNext && !found.get()) {
+					throw error(BAD_REQUEST, "error_paging_cursor_not_found", PageCursor.encode(afterId));
+				}
+				return hasNext;
+			}
+
+			@Override
+			public E next() {
+				return it.next();
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(checked, Spliterator.ORDERED), false).onClose(stream::close);
+	}
+
+	/**
+	 * Check whether the element which is referenced by the cursor exists. Malformed ids will not be found.
+	 *
+	 * @return
+	 */
+	private boolean cursorElementExists() {
+		Tx tx = Tx.get();
+		if (tx == null) {
+			// The element can't be looked up. The stream will be checked instead.
+			return true;
+		}
+		try {
+			return tx.getGraph().getVertex(afterId) != null;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Check whether the page was selected using a cursor.
+	 *
+	 * @return
+	 */
+	public boolean isCursorBased() {
+		return afterId != null;
+	}
+
 	@Override
 	public Long getPerPage() {
 		return perPage;
@@ -64,6 +181,10 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getPageCount() {
+		// The count of pages is unknown since the elements before the cursor were not counted
+		if (isCursorBased()) {
+			return -1;
+		}
 		if (totalPages == null) {
 			// The totalPages of the list response must be zero if the perPage parameter is also zero.
 			totalPages = 0L;
@@ -83,6 +204,10 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getTotalElements() {
+		// The total count is unknown since the elements before the cursor were not counted
+		if (isCursorBased()) {
+			return -1;
+		}
 		// Iterate over all elements to determine the total count
 		while (visibleItems.hasNext()) {
 			visibleItems.next();
@@ -108,4 +233,18 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		return hasNextPage.get();
 	}
 
+	@Override
+	public boolean hasPreviousPage() {
+		return isCursorBased() || Page.super.hasPreviousPage();
+	}
+
+	@Override
+	public String getNextCursor() {
+		if (idFunction == null || !hasNextPage() || elementsOfPage.isEmpty()) {
+			return null;
+		}
+		T last = elementsOfPage.get(elementsOfPage.size() - 1);
+		return PageCursor.encode(idFunction.apply(last));
+	}
+
 }
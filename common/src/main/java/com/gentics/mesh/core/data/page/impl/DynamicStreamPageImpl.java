@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.page.impl;
 import com.gentics.mesh.parameter.PagingParameters;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -28,6 +29,25 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 		init(stream.filter(filter));
 	}
 
+	/**
+	 * Creates a new page which supports cursor based paging. Elements before the cursor will be skipped before the filter is applied.
+	 *
+	 * @param stream
+	 *            a stream of elements to be paged
+	 * @param pagingInfo
+	 *            paging info the user requested
+	 * @param filter
+	 *            the filter to be applied to the stream or null if the elements should not be filtered
+	 * @param idFunction
+	 *            function which returns the graph element id of an element
+	 */
+	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter, Function<? super T, Object> idFunction) {
+		super(pagingInfo, true);
+		this.idFunction = idFunction;
+		Stream<? extends T> skipped = skipToCursor(stream, idFunction);
+		init(filter == null ? skipped : skipped.filter(filter));
+	}
+
 	private void init(Stream<? extends T> stream) {
 		AtomicLong pageCounter = new AtomicLong();
 		stream = stream
@@ -39,10 +39,11 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 	private boolean frameExplicitly;
 
 	private DynamicTransformablePageImpl(User requestUser, PagingParameters pagingInfo, Predicate<T> extraFilter, boolean frameExplicitly) {
-		super(pagingInfo);
+		super(pagingInfo, true);
 		this.extraFilter = extraFilter;
 		this.requestUser = requestUser;
 		this.frameExplicitly = frameExplicitly;
+		this.idFunction = element -> element.id();
 	}
 
 	/**
@@ -149,9 +150,12 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		AtomicLong pageCounter = new AtomicLong();
 		FramedGraph graph = Tx.getActive().getGraph();
 
+		// Skip the elements of the previous pages without checking permissions or framing them
+		stream = skipToCursor(stream, Vertex::getId);
+
 		// Only handle elements which are visible to the user
 		if (perm != null) {
-			stream = stream.filter(item -> requestUser.hasPermissionForId(item.getId(), perm));
+			stream = requestUser.filterReadable(stream, perm);
 		}
 
 		Stream<T> framedStream;
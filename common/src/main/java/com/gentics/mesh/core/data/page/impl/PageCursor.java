@@ -0,0 +1,42 @@
+package com.gentics.mesh.core.data.page.impl;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utility for the opaque cursors which are used for cursor based paging. A cursor references the last element of a page by its graph element id. The
+ * id is only encoded to make it clear to clients that the value must not be interpreted.
+ */
+public final class PageCursor {
+
+	private PageCursor() {
+	}
+
+	/**
+	 * Encode the element id to a cursor.
+	 *
+	 * @param id
+	 *            Graph element id
+	 * @return
+	 */
+	public static String encode(Object id) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decode the cursor to the string representation of the referenced element id.
+	 *
+	 * @param cursor
+	 * @return
+	 */
+	public static String decode(String cursor) {
+		try {
+			return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw error(BAD_REQUEST, "error_invalid_paging_cursor", cursor);
+		}
+	}
+}
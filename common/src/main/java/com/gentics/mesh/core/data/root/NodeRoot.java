@@ -1,12 +1,17 @@
 package com.gentics.mesh.core.data.root;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.error.InvalidArgumentException;
 import com.gentics.mesh.parameter.PagingParameters;
@@ -31,6 +36,28 @@ public interface NodeRoot extends RootVertex<Node> {
 	 */
 	Page<? extends Node> findAll(MeshAuthUser requestUser, List<String> languageTags, PagingParameters pagingInfo) throws InvalidArgumentException;
 
+	/**
+	 * Find all nodes of this root which use the given schema. In contrast to {@link #findAllStream(InternalActionContext, GraphPermission)} only the
+	 * nodes of the schema will be loaded. The same branch and permission checks will be applied.
+	 * 
+	 * @param ac
+	 * @param permission
+	 * @param schema
+	 * @return
+	 */
+	Stream<? extends Node> findAllBySchemaStream(InternalActionContext ac, GraphPermission permission, SchemaContainer schema);
+
+	/**
+	 * Find all nodes of this root with the given uuids. The nodes will be loaded via the uuid index. The same branch and permission checks as in
+	 * {@link #findAllStream(InternalActionContext, GraphPermission)} will be applied. Unknown uuids will be ignored.
+	 * 
+	 * @param ac
+	 * @param permission
+	 * @param uuids
+	 * @return
+	 */
+	Stream<? extends Node> findAllByUuidsStream(InternalActionContext ac, GraphPermission permission, Collection<String> uuids);
+
 	/**
 	 * Create a new node.
 	 * 
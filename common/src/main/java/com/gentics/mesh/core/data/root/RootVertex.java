@@ -67,9 +67,9 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 
 		String idx = "e." + getRootLabel().toLowerCase() + "_out";
 		Spliterator<Edge> itemEdges = graph.getEdges(idx.toLowerCase(), id()).spliterator();
-		return StreamSupport.stream(itemEdges, false)
-			.map(edge -> edge.getVertex(Direction.IN))
-			.filter(vertex -> user.hasPermissionForId(vertex.getId(), permission))
+		Stream<Vertex> vertices = StreamSupport.stream(itemEdges, false)
+			.map(edge -> edge.getVertex(Direction.IN));
+		return user.filterReadable(vertices, permission)
 			.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
 	}
 
@@ -2,7 +2,6 @@ package com.gentics.mesh.core.image.spi;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
-import static org.apache.commons.io.FilenameUtils.removeExtension;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
@@ -13,10 +12,12 @@ import java.util.stream.Collectors;
 import javax.imageio.ImageIO;
 
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 
 import io.reactivex.Maybe;
 import io.reactivex.Single;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.reactivex.core.Vertx;
@@ -33,9 +34,13 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 
 	protected Vertx vertx;
 
-	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
+	protected final ImageVariantCache cache;
+
+	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
 		this.vertx = vertx;
 		this.options = options;
+		this.cache = new ImageVariantCache(vertx, options, metrics);
+		this.cache.rebuildIndex();
 	}
 
 	@Override
@@ -50,8 +55,21 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 		}
 
 		String baseFolder = Paths.get(options.getImageCacheDirectory(), buffer.toString()).toString();
-		String baseName = "image-" + parameters.getCacheKey();
+		String baseName = ImageVariantCache.VARIANT_PREFIX + parameters.getCacheKey();
+
+		if (cache.isIndexed()) {
+			String basePath = Paths.get(baseFolder, baseName).toString();
+			String cachedPath = cache.get(basePath);
+			if (cachedPath != null) {
+				return Single.just(new CacheFileInfo(cachedPath, true));
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("No cache file found for base path {" + basePath + "}");
+			}
+			return fs.rxMkdirs(baseFolder).andThen(Single.just(new CacheFileInfo(basePath, false)));
+		}
 
+		// Fall back to the filesystem until the cache directory has been indexed
 		return fs.rxMkdirs(baseFolder)
 		// Vert.x uses Files.createDirectories internally, which will not fail when the folder already exists.
 		// See https://github.com/eclipse-vertx/vert.x/issues/3029
@@ -87,6 +105,16 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 		});
 	}
 
+	@Override
+	public Buffer getVariantData(String path) {
+		return cache.getData(path);
+	}
+
+	@Override
+	public void releaseVariant(String path) {
+		cache.release(path);
+	}
+
 	@Override
 	public Single<ImageInfo> readImageInfo(String path) {
 		Maybe<ImageInfo> result = vertx.rxExecuteBlocking(bh -> {
@@ -21,15 +21,34 @@ import io.vertx.ext.web.RoutingContext;
 public interface ImageManipulator {
 
 	/**
-	 * Resize the given binary data and return the path to the resized file.
+	 * Resize the given binary data and return the path to the resized file. The file must be released via {@link #releaseVariant(String)} once it
+	 * has been read, since it will not be deleted by the eviction of the image cache until then.
 	 * @param binary
 	 * @param parameters
 	 * @return The path to the resized file.
 	 */
 	Single<String> handleResize(Binary binary, ImageManipulationParameters parameters);
 
+	/**
+	 * Release the resized file which was returned by {@link #handleResize(Binary, ImageManipulationParameters)}.
+	 *
+	 * @param path
+	 *            Path of the resized file
+	 */
+	void releaseVariant(String path);
+
 	Single<CacheFileInfo> getCacheFilePath(String sha512sum, ImageManipulationParameters parameters);
 
+	/**
+	 * Return the data of the resized image if it is held in memory. The returned buffer is a view of the data which must only be used for a single
+	 * response.
+	 *
+	 * @param path
+	 *            Path of the resized file
+	 * @return Data or null if the image has to be read from the file
+	 */
+	Buffer getVariantData(String path);
+
 	/**
 	 * Read the image information from image file.
 	 *
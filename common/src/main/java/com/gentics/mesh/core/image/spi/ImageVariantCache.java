@@ -0,0 +1,437 @@
+package com.gentics.mesh.core.image.spi;
+
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_EVICTION;
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_MEMORY_HIT;
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_MISS;
+import static com.gentics.mesh.metric.Metrics.IMAGE_CACHE_SIZE;
+import static org.apache.commons.io.FilenameUtils.removeExtension;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+
+/**
+ * Index of the image variants which are stored in the image cache directory.
+ *
+ * <p>The index is used to look up variants without accessing the filesystem. Variants are evicted in least recently used order once the total
+ * size of the variants exceeds the configured limit. Small variants which are requested repeatedly are additionally held off-heap so that they
+ * can be sent without reading the file.</p>
+ *
+ * <p>Variants which are returned by {@link #get(String)} or {@link #retain(String)} are in use until they are passed to {@link #release(String)}.
+ * The files of evicted variants are only deleted once they are no longer in use.</p>
+ *
+ * <p>The index is rebuilt by scanning the cache directory when the cache is created. Lookups must fall back to the filesystem until
+ * {@link #isIndexed()} returns true.</p>
+ */
+public class ImageVariantCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantCache.class);
+
+	/**
+	 * Prefix of the cached image variant files.
+	 */
+	public static final String VARIANT_PREFIX = "image-";
+
+	/**
+	 * Amount of hits after which a small variant will be held in memory.
+	 */
+	private static final int MEMORY_HIT_THRESHOLD = 2;
+
+	/**
+	 * Only variants up to this fraction of the memory size will be held in memory.
+	 */
+	private static final int MEMORY_ENTRY_FRACTION = 64;
+
+	private final Vertx vertx;
+
+	private final String cacheDirectory;
+
+	private final long maxSize;
+
+	private final long memorySize;
+
+	/**
+	 * Variants by their path without extension. The iteration order is the access order. Guarded by this.
+	 */
+	private final LinkedHashMap<String, Variant> variants = new LinkedHashMap<>(256, 0.75f, true);
+
+	/**
+	 * Off-heap data of the hottest variants by their path. The iteration order is the access order. Guarded by this.
+	 */
+	private final LinkedHashMap<String, Buffer> memory = new LinkedHashMap<>(64, 0.75f, true);
+
+	/**
+	 * Evicted variants by their path which are still in use. Guarded by this.
+	 */
+	private final Map<String, Variant> evictedInUse = new HashMap<>();
+
+	private long totalSize = 0;
+
+	private long memoryUsed = 0;
+
+	private volatile boolean indexed = false;
+
+	private final Meter hits;
+
+	private final Meter misses;
+
+	private final Meter memoryHits;
+
+	private final Meter evictions;
+
+	private final Counter size;
+
+	public ImageVariantCache(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
+		this.vertx = vertx;
+		this.cacheDirectory = options.getImageCacheDirectory();
+		this.maxSize = options.getImageCacheMaxSize();
+		this.memorySize = options.getImageCacheMemorySize();
+		this.hits = metrics.meter(IMAGE_CACHE_HIT);
+		this.misses = metrics.meter(IMAGE_CACHE_MISS);
+		this.memoryHits = metrics.meter(IMAGE_CACHE_MEMORY_HIT);
+		this.evictions = metrics.meter(IMAGE_CACHE_EVICTION);
+		this.size = metrics.counter(IMAGE_CACHE_SIZE);
+	}
+
+	/**
+	 * Rebuild the index in the background by scanning the cache directory.
+	 */
+	public void rebuildIndex() {
+		vertx.<Void>executeBlocking(bh -> {
+			try {
+				scan();
+				bh.complete();
+			} catch (Exception e) {
+				bh.fail(e);
+			}
+		}, false, rh -> {
+			if (rh.failed()) {
+				log.error("Could not index the image cache directory {" + cacheDirectory + "}. The filesystem will be used for lookups.", rh.cause());
+			}
+		});
+	}
+
+	/**
+	 * Scan the cache directory and add all found variants to the index. The variants are added in the order of their modification time so that
+	 * the oldest variants will be evicted first.
+	 *
+	 * @throws IOException
+	 */
+	void scan() throws IOException {
+		Path root = Paths.get(cacheDirectory);
+		List<Variant> found = new ArrayList<>();
+		if (Files.isDirectory(root)) {
+			try (Stream<Path> files = Files.walk(root)) {
+				for (Path file : files.filter(Files::isRegularFile)
+					.filter(p -> p.getFileName().toString().startsWith(VARIANT_PREFIX))
+					.collect(Collectors.toList())) {
+					found.add(new Variant(file.toString(), Files.size(file), Files.getLastModifiedTime(file).toMillis()));
+				}
+			}
+		}
+		found.sort(Comparator.comparingLong(v -> v.lastModified));
+		List<String> evicted;
+		synchronized (this) {
+			for (Variant variant : found) {
+				String key = removeExtension(variant.path);
+				// Variants which have been created during the scan are already known
+				if (!variants.containsKey(key)) {
+					variants.put(key, variant);
+					totalSize += variant.size;
+					size.inc(variant.size);
+				}
+			}
+			evicted = evict(null);
+			indexed = true;
+		}
+		delete(evicted);
+		log.info("Indexed {" + found.size() + "} image variants with a total size of {" + totalSize + "} bytes");
+	}
+
+	/**
+	 * Check whether the index has been built. Until then the index will not contain all variants.
+	 *
+	 * @return
+	 */
+	public boolean isIndexed() {
+		return indexed;
+	}
+
+	/**
+	 * Return the path of the variant. The variant is in use until it is released via {@link #release(String)}.
+	 *
+	 * @param basePath
+	 *            Path of the variant without the extension
+	 * @return Path of the variant file or null if the variant is not cached
+	 */
+	public String get(String basePath) {
+		Variant variant;
+		boolean load;
+		synchronized (this) {
+			variant = variants.get(basePath);
+			if (variant == null) {
+				misses.mark();
+				return null;
+			}
+			variant.hits++;
+			variant.readers++;
+			load = memorySize > 0
+				&& !variant.loading
+				&& variant.hits >= MEMORY_HIT_THRESHOLD
+				&& variant.size <= memorySize / MEMORY_ENTRY_FRACTION
+				&& !memory.containsKey(variant.path);
+			if (load) {
+				variant.loading = true;
+			}
+		}
+		hits.mark();
+		if (load) {
+			loadIntoMemory(variant);
+		}
+		return variant.path;
+	}
+
+	/**
+	 * Mark the variant file as in use. The variant is in use until it is released via {@link #release(String)}.
+	 *
+	 * @param path
+	 *            Path of the variant file
+	 * @return false if the variant has already been evicted and the file may have been deleted
+	 */
+	public synchronized boolean retain(String path) {
+		Variant variant = evictedInUse.get(path);
+		if (variant == null) {
+			variant = variants.get(removeExtension(path));
+		}
+		if (variant != null && variant.path.equals(path)) {
+			variant.readers++;
+			return true;
+		}
+		// Until the cache directory has been indexed, unknown variants will not be evicted
+		return !indexed;
+	}
+
+	/**
+	 * Release the variant file which is no longer in use. The file will be deleted if the variant has been evicted in the meantime.
+	 *
+	 * @param path
+	 *            Path of the variant file
+	 */
+	public void release(String path) {
+		synchronized (this) {
+			Variant variant = evictedInUse.get(path);
+			if (variant == null) {
+				variant = variants.get(removeExtension(path));
+				if (variant != null && variant.path.equals(path) && variant.readers > 0) {
+					variant.readers--;
+				}
+				return;
+			}
+			variant.readers--;
+			if (variant.readers > 0) {
+				return;
+			}
+			evictedInUse.remove(path);
+		}
+		delete(Collections.singletonList(path));
+	}
+
+	/**
+	 * Return the data of the variant if it is held in memory. Each call returns a retained view of the data with its own reader index, which can be
+	 * written to a response and released by it without affecting other responses.
+	 *
+	 * @param path
+	 *            Path of the variant file
+	 * @return Data or null if the variant is not held in memory
+	 */
+	public Buffer getData(String path) {
+		Buffer data;
+		synchronized (this) {
+			data = memory.get(path);
+		}
+		if (data == null) {
+			return null;
+		}
+		memoryHits.mark();
+		return Buffer.buffer(data.getByteBuf().retainedDuplicate());
+	}
+
+	/**
+	 * Add the variant which has been written to the cache directory to the index. Least recently used variants will be evicted if the size limit
+	 * is exceeded. The added variant itself is never evicted by this call, even if it exceeds the size limit on its own.
+	 *
+	 * @param basePath
+	 *            Path of the variant without the extension
+	 * @param path
+	 *            Path of the variant file
+	 * @param fileSize
+	 *            Size of the variant file
+	 */
+	public void put(String basePath, String path, long fileSize) {
+		List<String> evicted;
+		synchronized (this) {
+			Variant variant = new Variant(path, fileSize, System.currentTimeMillis());
+			Variant previous = variants.put(basePath, variant);
+			if (previous != null) {
+				totalSize -= previous.size;
+				size.dec(previous.size);
+				removeFromMemory(previous.path);
+				if (previous.path.equals(path)) {
+					variant.readers = previous.readers;
+				}
+			}
+			// The file of an evicted variant has been written again and must not be deleted when it is released
+			Variant overwritten = evictedInUse.remove(path);
+			if (overwritten != null) {
+				variant.readers += overwritten.readers;
+			}
+			totalSize += fileSize;
+			size.inc(fileSize);
+			evicted = evict(variant);
+		}
+		delete(evicted);
+	}
+
+	/**
+	 * Remove the least recently used variants from the index until the size limit is no longer exceeded. Variants which are in use are removed
+	 * from the index, but their files are kept until they are released.
+	 *
+	 * @param keep
+	 *            Variant which must not be evicted or null
+	 * @return Paths of the removed variants whose files can be deleted
+	 */
+	private List<String> evict(Variant keep) {
+		List<String> evicted = new ArrayList<>();
+		if (maxSize <= 0) {
+			return evicted;
+		}
+		Iterator<Variant> it = variants.values().iterator();
+		while (totalSize > maxSize && it.hasNext()) {
+			Variant variant = it.next();
+			if (variant == keep) {
+				continue;
+			}
+			it.remove();
+			totalSize -= variant.size;
+			size.dec(variant.size);
+			removeFromMemory(variant.path);
+			evictions.mark();
+			if (variant.readers > 0) {
+				evictedInUse.put(variant.path, variant);
+			} else {
+				evicted.add(variant.path);
+			}
+		}
+		return evicted;
+	}
+
+	private void delete(List<String> paths) {
+		for (String path : paths) {
+			if (log.isDebugEnabled()) {
+				log.debug("Evicting image variant {" + path + "}");
+			}
+			vertx.getDelegate().fileSystem().delete(path, rh -> {
+				if (rh.failed()) {
+					log.warn("Could not delete evicted image variant {" + path + "}", rh.cause());
+				}
+			});
+		}
+	}
+
+	/**
+	 * Read the variant file and hold the data off-heap.
+	 *
+	 * @param variant
+	 */
+	private void loadIntoMemory(Variant variant) {
+		vertx.getDelegate().fileSystem().readFile(variant.path, rh -> {
+			if (rh.failed()) {
+				log.warn("Could not load image variant {" + variant.path + "} into memory", rh.cause());
+				synchronized (this) {
+					variant.loading = false;
+				}
+				return;
+			}
+			Buffer heapData = rh.result();
+			ByteBuffer direct = ByteBuffer.allocateDirect(heapData.length());
+			direct.put(heapData.getBytes());
+			direct.flip();
+			Buffer data = Buffer.buffer(Unpooled.wrappedBuffer(direct));
+			synchronized (this) {
+				variant.loading = false;
+				// The variant may have been evicted in the meantime
+				if (variants.get(removeExtension(variant.path)) != variant || memory.containsKey(variant.path)) {
+					return;
+				}
+				memory.put(variant.path, data);
+				memoryUsed += data.length();
+				Iterator<Map.Entry<String, Buffer>> it = memory.entrySet().iterator();
+				while (memoryUsed > memorySize && it.hasNext()) {
+					memoryUsed -= it.next().getValue().length();
+					it.remove();
+				}
+			}
+		});
+	}
+
+	private void removeFromMemory(String path) {
+		Buffer data = memory.remove(path);
+		if (data != null) {
+			memoryUsed -= data.length();
+		}
+	}
+
+	/**
+	 * Return the total size of the indexed variants.
+	 *
+	 * @return
+	 */
+	public synchronized long getTotalSize() {
+		return totalSize;
+	}
+
+	private static class Variant {
+
+		private final String path;
+
+		private final long size;
+
+		private final long lastModified;
+
+		private int hits = 0;
+
+		private int readers = 0;
+
+		private boolean loading = false;
+
+		Variant(String path, long size, long lastModified) {
+			this.path = path;
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+	}
+}
@@ -9,7 +9,11 @@ import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
-import java.util.concurrent.Semaphore;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -28,7 +32,6 @@ import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
-import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
@@ -49,17 +52,15 @@ public class HandlerUtilities {
 
 	private static final Logger log = LoggerFactory.getLogger(HandlerUtilities.class);
 
-	private static Semaphore writeLock = new Semaphore(1);
-
 	private final Database database;
 	private final MetricsService metrics;
-	private final boolean syncWrites;
+	private final WriteLockManager writeLocks;
 
 	@Inject
-	public HandlerUtilities(Database database, MeshOptions meshOptions, MetricsService metrics) {
+	public HandlerUtilities(Database database, MetricsService metrics, WriteLockManager writeLocks) {
 		this.database = database;
 		this.metrics = metrics;
-		this.syncWrites = meshOptions.getStorageOptions() != null && meshOptions.getStorageOptions().isSynchronizeWrites();
+		this.writeLocks = writeLocks;
 	}
 
 	/**
@@ -83,22 +84,25 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void deleteElement(InternalActionContext ac, TxAction1<RootVertex<T>> handler,
 		String uuid) {
-		lock();
-		syncTx(ac, () -> {
-			try {
-				RootVertex<T> root = handler.handle();
-				T element = root.loadObjectByUuid(ac, uuid, DELETE_PERM);
-
-				// Load the name and uuid of the element. We need this info after deletion.
-				String elementUuid = element.getUuid();
-				bulkableAction(bac -> {
-					bac.setRootCause(element.getTypeInfo().getType(), elementUuid, DELETE);
-					element.delete(bac);
-				});
-				log.info("Deleted element {" + elementUuid + "} for type {" + root.getClass().getSimpleName() + "}");
-			} finally {
-				unlock();
-			}
+		WriteLock lock;
+		try {
+			// The edge to the root element will be removed as well
+			lock = lock(ac, () -> Arrays.asList(uuid, handler.handle().getUuid()));
+		} catch (Throwable t) {
+			ac.fail(t);
+			return;
+		}
+		syncTx(ac, lock, () -> {
+			RootVertex<T> root = handler.handle();
+			T element = root.loadObjectByUuid(ac, uuid, DELETE_PERM);
+
+			// Load the name and uuid of the element. We need this info after deletion.
+			String elementUuid = element.getUuid();
+			bulkableAction(bac -> {
+				bac.setRootCause(element.getTypeInfo().getType(), elementUuid, DELETE);
+				element.delete(bac);
+			});
+			log.info("Deleted element {" + elementUuid + "} for type {" + root.getClass().getSimpleName() + "}");
 		}, () -> ac.send(NO_CONTENT));
 
 	}
@@ -129,43 +133,68 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void createOrUpdateElement(InternalActionContext ac, String uuid,
 		TxAction1<RootVertex<T>> handler) {
-		lock();
+		createOrUpdateElement(ac, uuid, handler, Collections::emptyList);
+	}
+
+	/**
+	 * Either create or update an element with the given uuid.
+	 * 
+	 * @param ac
+	 * @param uuid
+	 *            Uuid of the element to create or update. If null, an element will be created with random Uuid
+	 * @param handler
+	 *            Handler which provides the root vertex which should be used when loading the element
+	 * @param modifiedElements
+	 *            Handler which provides the uuids of further elements which will be modified by the create or update (e.g. the parent of a created
+	 *            element). The elements will be locked in addition to the element and the root vertex.
+	 */
+	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void createOrUpdateElement(InternalActionContext ac, String uuid,
+		TxAction1<RootVertex<T>> handler, TxAction1<Collection<String>> modifiedElements) {
+		WriteLock lock;
+		try {
+			// A created element will be added to the root vertex
+			lock = lock(ac, () -> {
+				List<String> uuids = new ArrayList<>(modifiedElements.handle());
+				uuids.add(uuid);
+				uuids.add(handler.handle().getUuid());
+				return uuids;
+			});
+		} catch (Throwable t) {
+			ac.fail(t);
+			return;
+		}
 		AtomicBoolean created = new AtomicBoolean(false);
-		syncTx(ac, tx -> {
-			try {
-				RootVertex<T> root = handler.handle();
-
-				// 1. Load the element from the root element using the given uuid (if not null)
-				T element = null;
-				if (uuid != null) {
-					if (!UUIDUtil.isUUID(uuid)) {
-						throw error(BAD_REQUEST, "error_illegal_uuid", uuid);
-					}
-					element = root.loadObjectByUuid(ac, uuid, UPDATE_PERM, false);
-				}
+		syncTx(ac, lock, tx -> {
+			RootVertex<T> root = handler.handle();
 
-				// Check whether we need to update a found element or whether we need to create a new one.
-				if (element != null) {
-					final T updateElement = element;
-					eventAction(batch -> {
-						return updateElement.update(ac, batch);
-					});
-					return updateElement.transformToRestSync(ac, 0);
-				} else {
-					T createdElement = eventAction(batch -> {
-						created.set(true);
-						return root.create(ac, batch, uuid);
-					});
-					RM model = createdElement.transformToRestSync(ac, 0);
-					String path = createdElement.getAPIPath(ac);
-					ResultInfo info = new ResultInfo(model);
-					info.setProperty("path", path);
-					createdElement.onCreated();
-					ac.setLocation(path);
-					return model;
+			// 1. Load the element from the root element using the given uuid (if not null)
+			T element = null;
+			if (uuid != null) {
+				if (!UUIDUtil.isUUID(uuid)) {
+					throw error(BAD_REQUEST, "error_illegal_uuid", uuid);
 				}
-			} finally {
-				unlock();
+				element = root.loadObjectByUuid(ac, uuid, UPDATE_PERM, false);
+			}
+
+			// Check whether we need to update a found element or whether we need to create a new one.
+			if (element != null) {
+				final T updateElement = element;
+				eventAction(batch -> {
+					return updateElement.update(ac, batch);
+				});
+				return updateElement.transformToRestSync(ac, 0);
+			} else {
+				T createdElement = eventAction(batch -> {
+					created.set(true);
+					return root.create(ac, batch, uuid);
+				});
+				RM model = createdElement.transformToRestSync(ac, 0);
+				String path = createdElement.getAPIPath(ac);
+				ResultInfo info = new ResultInfo(model);
+				info.setProperty("path", path);
+				createdElement.onCreated();
+				ac.setLocation(path);
+				return model;
 			}
 		}, model -> ac.send(model, created.get() ? CREATED : OK));
 	}
@@ -228,34 +257,102 @@ public class HandlerUtilities {
 		}, m -> ac.send(m, OK));
 	}
 
+	/**
+	 * Invoke the handler in a tx and pass the result to the action. The tx is executed in the worker pool and conflicting transactions are retried without
+	 * blocking the worker thread.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 *            Action which is invoked with the result of the handler once the tx has been committed
+	 */
 	public <RM> void syncTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
-		try {
-			RM model = database.tx(handler);
-			action.accept(model);
-		} catch (Throwable t) {
-			ac.fail(t);
-		}
+		syncTx(ac, WriteLock.NONE, handler, action);
 	}
 
+	/**
+	 * Invoke the handler in a tx while holding the write lock and pass the result to the action. The lock is held across all attempts of the tx and will
+	 * be released once the tx has been committed or has failed.
+	 * 
+	 * @param ac
+	 * @param lock
+	 *            Acquired write lock
+	 * @param handler
+	 * @param action
+	 *            Action which is invoked with the result of the handler once the tx has been committed
+	 */
+	public <RM> void syncTx(InternalActionContext ac, WriteLock lock, TxAction<RM> handler, Consumer<RM> action) {
+		database.maybeTx(handler).doFinally(lock::unlock).subscribe(model -> {
+			complete(ac, () -> action.accept(model));
+		}, ac::fail, () -> {
+			complete(ac, () -> action.accept(null));
+		});
+	}
+
+	/**
+	 * Invoke the handler in a tx and pass the result of the returned single to the action. The single is subscribed once the tx has been committed.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 */
 	public <RM extends RestModel> void rxSyncTx(InternalActionContext ac, TxAction<Single<RM>> handler, Consumer<RM> action) {
-		try {
-			Single<RM> model = database.tx(handler);
-			model.subscribe(action::accept, ac::fail);
-		} catch (Throwable t) {
-			ac.fail(t);
-		}
+		rxSyncTx(ac, WriteLock.NONE, handler, action);
+	}
+
+	/**
+	 * Invoke the handler in a tx while holding the write lock and pass the result of the returned single to the action. The lock is held across all
+	 * attempts of the tx and will be released once the tx has been committed or has failed.
+	 * 
+	 * @param ac
+	 * @param lock
+	 *            Acquired write lock
+	 * @param handler
+	 * @param action
+	 */
+	public <RM extends RestModel> void rxSyncTx(InternalActionContext ac, WriteLock lock, TxAction<Single<RM>> handler, Consumer<RM> action) {
+		database.maybeTx(handler).doFinally(lock::unlock).toSingle().flatMap(model -> model).subscribe(model -> {
+			complete(ac, () -> action.accept(model));
+		}, ac::fail);
 	}
 
 	/**
-	 * Invoke sync action in a tx.
+	 * Invoke sync action in a tx. The tx is executed in the worker pool and conflicting transactions are retried without blocking the worker thread.
 	 * 
 	 * @param ac
 	 * @param handler
 	 * @param action
+	 *            Action which is invoked once the tx has been committed
 	 */
 	public <RM extends RestModel> void syncTx(InternalActionContext ac, TxAction0 handler, Runnable action) {
+		syncTx(ac, WriteLock.NONE, handler, action);
+	}
+
+	/**
+	 * Invoke sync action in a tx while holding the write lock. The lock is held across all attempts of the tx and will be released once the tx has been
+	 * committed or has failed.
+	 * 
+	 * @param ac
+	 * @param lock
+	 *            Acquired write lock
+	 * @param handler
+	 * @param action
+	 *            Action which is invoked once the tx has been committed
+	 */
+	public void syncTx(InternalActionContext ac, WriteLock lock, TxAction0 handler, Runnable action) {
+		database.asyncTx(handler).doFinally(lock::unlock).subscribe(() -> {
+			complete(ac, action);
+		}, ac::fail);
+	}
+
+	/**
+	 * Run the action and fail the request if the action fails.
+	 * 
+	 * @param ac
+	 * @param action
+	 */
+	private void complete(InternalActionContext ac, Runnable action) {
 		try {
-			database.tx(handler);
 			action.run();
 		} catch (Throwable t) {
 			ac.fail(t);
@@ -323,25 +420,33 @@ public class HandlerUtilities {
 	}
 
 	/**
-	 * Locks writes. Use this to prevent concurrent write transactions.
+	 * Locks writes. Use this to prevent concurrent write transactions. The returned lock must be released once the write has been completed.
+	 * 
+	 * @param ac
+	 * @param elementUuids
+	 *            Uuids of the elements which will be modified
+	 * @return Acquired lock
+	 * @see WriteLockManager#lock(InternalActionContext, String...)
 	 */
-	public void lock() {
-		if (syncWrites) {
-			try {
-				writeLock.acquire();
-			} catch (InterruptedException e) {
-				throw new RuntimeException(e);
-			}
-		}
+	public WriteLock lock(InternalActionContext ac, String... elementUuids) {
+		return writeLocks.lock(ac, elementUuids);
 	}
 
 	/**
-	 * Releases the lock that was acquired in {@link #lock()}.
+	 * Locks writes to the elements which are provided by the handler. The handler is only invoked in a read tx if the locks are striped by element.
+	 * 
+	 * @param ac
+	 * @param elementUuids
+	 *            Handler which provides the uuids of the elements which will be modified. Null values are ignored.
+	 * @return Acquired lock
+	 * @see WriteLockManager#lock(InternalActionContext, String...)
 	 */
-	public void unlock() {
-		if (syncWrites) {
-			writeLock.release();
+	public WriteLock lock(InternalActionContext ac, TxAction1<Collection<String>> elementUuids) {
+		if (!writeLocks.isStripedByElement()) {
+			return writeLocks.lock(ac);
 		}
+		Collection<String> uuids = database.tx(elementUuids);
+		return writeLocks.lock(ac, uuids.toArray(new String[uuids.size()]));
 	}
 
 }
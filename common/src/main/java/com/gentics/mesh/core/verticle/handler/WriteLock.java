@@ -0,0 +1,50 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write lock which was acquired via the {@link WriteLockManager}. The lock is not bound to the acquiring thread and can thus be released by the thread which
+ * completes the write. Releasing the lock multiple times has no effect. This way the lock can safely be released within transaction handlers which may be
+ * invoked again when the transaction is retried.
+ */
+public class WriteLock implements AutoCloseable {
+
+	/**
+	 * Lock which is used when writes are not synchronized.
+	 */
+	public static final WriteLock NONE = new WriteLock(Collections.emptyList());
+
+	private final List<Semaphore> locks;
+
+	private final AtomicBoolean released = new AtomicBoolean(false);
+
+	/**
+	 * Create a new lock for the already acquired semaphores.
+	 * 
+	 * @param locks
+	 *            Acquired semaphores in the order of acquisition
+	 */
+	WriteLock(List<Semaphore> locks) {
+		this.locks = locks;
+	}
+
+	/**
+	 * Release the lock.
+	 */
+	public void unlock() {
+		if (released.compareAndSet(false, true)) {
+			for (int i = locks.size() - 1; i >= 0; i--) {
+				locks.get(i).release();
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		unlock();
+	}
+
+}
@@ -0,0 +1,179 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.Metrics.WRITE_LOCK_CONTENTION;
+import static com.gentics.mesh.metric.Metrics.WRITE_LOCK_TIMEOUT;
+import static com.gentics.mesh.metric.Metrics.WRITE_LOCK_WAITING_TIME;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.etc.config.GraphStorageOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.WriteLockGranularity;
+import com.gentics.mesh.metric.MetricsService;
+import com.google.common.util.concurrent.Striped;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Manager for the locks which are used to synchronize writes when {@link GraphStorageOptions#isSynchronizeWrites()} is enabled.
+ *
+ * Depending on the configured {@link WriteLockGranularity} all writes share a single lock or the locks are striped by project or by the modified elements.
+ * Writes which need multiple locks acquire them in the order of the stripes to prevent deadlocks.
+ *
+ * The locks only synchronize the writes of this instance. Each instance of a cluster derives the lock from the same keys but concurrent writes on
+ * different instances are still handled by the conflict detection of the graph database.
+ */
+@Singleton
+public class WriteLockManager {
+
+	private static final Logger log = LoggerFactory.getLogger(WriteLockManager.class);
+
+	private static final String GLOBAL_KEY = "global";
+
+	private final boolean enabled;
+
+	private final WriteLockGranularity granularity;
+
+	private final long timeout;
+
+	private final Striped<Semaphore> locks;
+
+	private final MetricsService metrics;
+
+	private final Timer waitTimer;
+
+	private final Meter contentionMeter;
+
+	private final Meter timeoutMeter;
+
+	@Inject
+	public WriteLockManager(MeshOptions options, MetricsService metrics) {
+		GraphStorageOptions storageOptions = options.getStorageOptions();
+		this.enabled = storageOptions != null && storageOptions.isSynchronizeWrites();
+		this.granularity = storageOptions == null ? GraphStorageOptions.DEFAULT_SYNC_WRITES_GRANULARITY : storageOptions.getSynchronizeWritesGranularity();
+		this.timeout = storageOptions == null ? GraphStorageOptions.DEFAULT_SYNC_WRITES_TIMEOUT : storageOptions.getSynchronizeWritesTimeout();
+		int stripes = granularity == WriteLockGranularity.GLOBAL || storageOptions == null ? 1 : storageOptions.getSynchronizeWritesStripes();
+		this.locks = Striped.semaphore(stripes, 1);
+		this.metrics = metrics;
+		this.waitTimer = metrics.timer(WRITE_LOCK_WAITING_TIME);
+		this.contentionMeter = metrics.meter(WRITE_LOCK_CONTENTION);
+		this.timeoutMeter = metrics.meter(WRITE_LOCK_TIMEOUT);
+	}
+
+	/**
+	 * Check whether the locks are striped by the modified elements. The uuids of the modified elements only need to be determined in this case.
+	 * 
+	 * @return
+	 */
+	public boolean isStripedByElement() {
+		return enabled && granularity == WriteLockGranularity.ELEMENT;
+	}
+
+	/**
+	 * Acquire the write lock for the given request. The lock must be released via {@link WriteLock#unlock()} once the write has been completed.
+	 * 
+	 * @param ac
+	 * @param elementUuids
+	 *            Uuids of all elements which will be modified, including the parent and root elements to which edges are added or from which edges are
+	 *            removed. The uuids are only used for the {@link WriteLockGranularity#ELEMENT} granularity. The lock of the project will be used if no uuids
+	 *            are given. The locks are always acquired in the order of their stripes, regardless of the order of the uuids.
+	 * @return Acquired lock
+	 */
+	public WriteLock lock(InternalActionContext ac, String... elementUuids) {
+		if (!enabled) {
+			return WriteLock.NONE;
+		}
+		List<Semaphore> acquired = new ArrayList<>();
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		try {
+			for (Semaphore lock : getLocks(ac, elementUuids)) {
+				if (!lock.tryAcquire()) {
+					awaitLock(lock, deadline);
+				}
+				acquired.add(lock);
+			}
+		} catch (RuntimeException e) {
+			new WriteLock(acquired).unlock();
+			throw e;
+		}
+		return new WriteLock(acquired);
+	}
+
+	private void awaitLock(Semaphore lock, long deadline) {
+		if (metrics.isEnabled()) {
+			contentionMeter.mark();
+		}
+		long start = System.nanoTime();
+		boolean locked;
+		try {
+			locked = lock.tryAcquire(deadline - start, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+		if (metrics.isEnabled()) {
+			waitTimer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+		if (!locked) {
+			if (metrics.isEnabled()) {
+				timeoutMeter.mark();
+			}
+			log.warn("Could not acquire the write lock within {" + timeout + "} ms");
+			throw error(SERVICE_UNAVAILABLE, "error_write_lock_timeout", String.valueOf(timeout));
+		}
+	}
+
+	/**
+	 * Return the distinct locks for the request in the order in which they need to be acquired.
+	 * 
+	 * @param ac
+	 * @param elementUuids
+	 * @return
+	 */
+	private Set<Semaphore> getLocks(InternalActionContext ac, String... elementUuids) {
+		List<String> keys = new ArrayList<>();
+		switch (granularity) {
+		case ELEMENT:
+			for (String uuid : elementUuids) {
+				if (uuid != null) {
+					keys.add(uuid);
+				}
+			}
+			if (keys.isEmpty()) {
+				keys.add(getProjectKey(ac));
+			}
+			break;
+		case PROJECT:
+			keys.add(getProjectKey(ac));
+			break;
+		default:
+			keys.add(GLOBAL_KEY);
+		}
+		// Different keys may share the same stripe
+		return new LinkedHashSet<>(locks.bulkGet(keys));
+	}
+
+	private String getProjectKey(InternalActionContext ac) {
+		Project project = ac.getProject();
+		if (project == null) {
+			return GLOBAL_KEY;
+		}
+		return String.valueOf(project.id());
+	}
+
+}
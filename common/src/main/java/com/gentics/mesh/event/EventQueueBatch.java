@@ -72,6 +72,28 @@ public interface EventQueueBatch {
 
 	default void addAll(EventQueueBatch containerBatch) {
 		getEntries().addAll(containerBatch.getEntries());
+		getDispatchActions().addAll(containerBatch.getDispatchActions());
+	}
+
+	/**
+	 * Return the actions which will be invoked when the batch gets dispatched.
+	 *
+	 * @return
+	 */
+	List<Runnable> getDispatchActions();
+
+	/**
+	 * Register an action which will be invoked when the batch gets dispatched. Batches are dispatched once the transaction which created the entries has
+	 * been committed. The action will thus not run before the changes are visible to other transactions. The actions are invoked before the events get
+	 * published.
+	 *
+	 * @param action
+	 * @return Fluent API
+	 */
+	default EventQueueBatch onDispatch(Runnable action) {
+		Objects.requireNonNull(action);
+		getDispatchActions().add(action);
+		return this;
 	}
 
 	/**
@@ -0,0 +1,84 @@
+package com.gentics.mesh.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Envelope which delivers all events of a dispatched {@link EventQueueBatch} within a single eventbus message. The envelope is published to
+ * {@link #ADDRESS} and encoded via the {@link MeshEventBatchCodec}.
+ *
+ * The events of the batch are still published separately to their own addresses for all other listeners (e.g. plugins or the eventbus bridge).
+ * These messages carry the {@link #BATCHED_HEADER} and are ignored by the {@link MeshEventConsumer}, which unpacks the matching events of the batches.
+ */
+public class MeshEventBatch {
+
+	/**
+	 * Address to which the batches are published.
+	 */
+	public static final String ADDRESS = "mesh.event.batch";
+
+	/**
+	 * Header of event messages which have also been delivered within a batch.
+	 */
+	public static final String BATCHED_HEADER = "mesh-batched";
+
+	private final List<MeshEventModel> events;
+
+	public MeshEventBatch(List<MeshEventModel> events) {
+		this.events = events;
+	}
+
+	/**
+	 * Return all events of the batch in the order in which they have been added.
+	 *
+	 * @return
+	 */
+	public List<MeshEventModel> getEvents() {
+		return events;
+	}
+
+	/**
+	 * Return the events of the batch which match one of the given events.
+	 *
+	 * @param filter
+	 * @return
+	 */
+	public Stream<MeshEventModel> events(Collection<MeshEvent> filter) {
+		return events.stream().filter(event -> filter.contains(event.getEvent()));
+	}
+
+	/**
+	 * Check whether the message has also been delivered within a batch.
+	 *
+	 * @param message
+	 * @return
+	 */
+	public static boolean isBatched(Message<?> message) {
+		return message.headers() != null && message.headers().contains(BATCHED_HEADER);
+	}
+
+	/**
+	 * Convert the event into the JSON object which is used for the eventbus message of a single event. No intermediate JSON string will be rendered.
+	 *
+	 * @param event
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static JsonObject toJson(MeshEventModel event) {
+		return new JsonObject(JsonUtil.getMapper().convertValue(event, Map.class));
+	}
+
+	@Override
+	public String toString() {
+		return "Batch of " + events.size() + " events";
+	}
+}
@@ -0,0 +1,95 @@
+package com.gentics.mesh.event;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Eventbus codec for {@link MeshEventBatch}. Local deliveries pass the batch without any serialization. Remote deliveries encode the amount of
+ * events followed by the length prefixed address and compact JSON of every event.
+ */
+public class MeshEventBatchCodec implements MessageCodec<MeshEventBatch, MeshEventBatch> {
+
+	private static final Logger log = LoggerFactory.getLogger(MeshEventBatchCodec.class);
+
+	public static final String NAME = "mesh-event-batch";
+
+	@Override
+	public void encodeToWire(Buffer buffer, MeshEventBatch batch) {
+		List<MeshEventModel> events = batch.getEvents();
+		buffer.appendInt(events.size());
+		for (MeshEventModel event : events) {
+			byte[] address = event.getEvent().getAddress().getBytes(UTF_8);
+			byte[] body;
+			try {
+				body = JsonUtil.getMapper().writeValueAsBytes(event);
+			} catch (JsonProcessingException e) {
+				throw new RuntimeException("Could not encode event {" + event.getEvent() + "}", e);
+			}
+			buffer.appendInt(address.length);
+			buffer.appendBytes(address);
+			buffer.appendInt(body.length);
+			buffer.appendBytes(body);
+		}
+	}
+
+	@Override
+	public MeshEventBatch decodeFromWire(int pos, Buffer buffer) {
+		int size = buffer.getInt(pos);
+		pos += 4;
+		List<MeshEventModel> events = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			int addressLength = buffer.getInt(pos);
+			pos += 4;
+			String address = new String(buffer.getBytes(pos, pos + addressLength), UTF_8);
+			pos += addressLength;
+			int bodyLength = buffer.getInt(pos);
+			pos += 4;
+			byte[] body = buffer.getBytes(pos, pos + bodyLength);
+			pos += bodyLength;
+
+			Optional<MeshEvent> event = MeshEvent.fromAddress(address);
+			if (!event.isPresent() || event.get().getBodyModel() == null) {
+				log.warn("Skipping event with unknown address {" + address + "} in batch");
+				continue;
+			}
+			try {
+				MeshEventModel model = JsonUtil.getMapper().readValue(body, event.get().getBodyModel());
+				// The event is not part of the JSON representation
+				model.setEvent(event.get());
+				events.add(model);
+			} catch (IOException e) {
+				throw new RuntimeException("Could not decode event {" + address + "}", e);
+			}
+		}
+		return new MeshEventBatch(events);
+	}
+
+	@Override
+	public MeshEventBatch transform(MeshEventBatch batch) {
+		return batch;
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public byte systemCodecID() {
+		return -1;
+	}
+}
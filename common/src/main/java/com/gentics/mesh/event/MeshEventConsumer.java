@@ -0,0 +1,116 @@
+package com.gentics.mesh.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Consumer for mesh events. The events of an {@link EventQueueBatch} are published within a {@link MeshEventBatch} and additionally to their own
+ * address. Other events (e.g. job or cluster events) are only published to their own address. The consumer thus listens to the batches and to the
+ * addresses of the events and invokes the handler once for every matching event. Separately published events which have also been delivered within
+ * a batch are ignored.
+ */
+public class MeshEventConsumer {
+
+	private static final Logger log = LoggerFactory.getLogger(MeshEventConsumer.class);
+
+	private final List<MessageConsumer<?>> consumers = new ArrayList<>();
+
+	private MeshEventConsumer() {
+	}
+
+	/**
+	 * Register the handler for the given events. The handler is invoked with the event and the event model. The model is null for events which have been
+	 * published without a body.
+	 *
+	 * @param eventBus
+	 * @param events
+	 *            Events to listen to
+	 * @param handler
+	 * @return Consumer which can be used to unregister the handler
+	 */
+	public static MeshEventConsumer consumer(EventBus eventBus, Collection<MeshEvent> events, BiConsumer<MeshEvent, MeshEventModel> handler) {
+		MeshEventConsumer consumer = new MeshEventConsumer();
+		Set<MeshEvent> filter = new HashSet<>(events);
+		for (MeshEvent event : filter) {
+			consumer.consumers.add(eventBus.consumer(event.address, message -> {
+				if (!MeshEventBatch.isBatched(message)) {
+					handler.accept(event, toModel(event, message.body()));
+				}
+			}));
+		}
+		consumer.consumers.add(eventBus.<MeshEventBatch>consumer(MeshEventBatch.ADDRESS, message -> {
+			message.body().events(filter).forEach(model -> handler.accept(model.getEvent(), model));
+		}));
+		return consumer;
+	}
+
+	/**
+	 * Set the handler which will be invoked once the handlers have been registered in the cluster.
+	 *
+	 * @param completionHandler
+	 * @return Fluent API
+	 */
+	public MeshEventConsumer completionHandler(Handler<AsyncResult<Void>> completionHandler) {
+		List<Future> registrations = consumers.stream().map(consumer -> {
+			Future<Void> future = Future.future();
+			consumer.completionHandler(future);
+			return future;
+		}).collect(Collectors.toList());
+		CompositeFuture.all(registrations).setHandler(result -> {
+			if (result.succeeded()) {
+				completionHandler.handle(Future.succeededFuture());
+			} else {
+				completionHandler.handle(Future.failedFuture(result.cause()));
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Unregister all handlers.
+	 */
+	public void unregister() {
+		consumers.forEach(MessageConsumer::unregister);
+	}
+
+	/**
+	 * Convert the body of a directly published event to the event model.
+	 *
+	 * @param event
+	 * @param body
+	 * @return Model or null if the body does not contain a model
+	 */
+	private static MeshEventModel toModel(MeshEvent event, Object body) {
+		if (!(body instanceof JsonObject) || event.getBodyModel() == null) {
+			return null;
+		}
+		try {
+			MeshEventModel model = JsonUtil.readValue(((JsonObject) body).encode(), event.getBodyModel());
+			model.setEvent(event);
+			return model;
+		} catch (Exception e) {
+			log.warn("Could not read body of event {" + event + "}", e);
+			return null;
+		}
+	}
+
+}
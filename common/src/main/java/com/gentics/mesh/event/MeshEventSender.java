@@ -4,7 +4,8 @@ import com.gentics.mesh.core.rest.MeshEvent;
 import io.reactivex.Completable;
 import io.reactivex.Single;
 import io.vertx.reactivex.core.Vertx;
-import io.vertx.reactivex.core.eventbus.MessageConsumer;
+
+import java.util.Collections;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -57,7 +58,7 @@ public final class MeshEventSender {
 	 */
 	public Completable waitForEvent(MeshEvent event) {
 		return Completable.create(sub -> {
-			MessageConsumer<Object> consumer = vertx.eventBus().consumer(event.address, result -> {
+			MeshEventConsumer consumer = MeshEventConsumer.consumer(vertx.eventBus().getDelegate(), Collections.singleton(event), (ev, model) -> {
 				if (!sub.isDisposed()) {
 					sub.onComplete();
 				}
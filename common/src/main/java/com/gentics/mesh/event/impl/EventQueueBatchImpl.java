@@ -8,7 +8,8 @@ import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.event.EventCauseInfoImpl;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
 import com.gentics.mesh.event.EventQueueBatch;
-import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.event.MeshEventBatch;
+import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -28,6 +29,8 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 
 	private List<MeshEventModel> bulkEntries = new ArrayList<>();
 
+	private List<Runnable> dispatchActions = new ArrayList<>();
+
 	private EventCauseInfo cause;
 
 	public EventQueueBatchImpl() {
@@ -39,6 +42,11 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 		return bulkEntries;
 	}
 
+	@Override
+	public List<Runnable> getDispatchActions() {
+		return dispatchActions;
+	}
+
 	// @Override
 	// public EventQueueBatch createIndex(String indexName, Class<?> elementClass) {
 	// CreateIndexEntry entry = new CreateIndexEntryImpl(registry.getForClass(elementClass), indexName);
@@ -261,21 +269,35 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 
 	@Override
 	public void dispatch() {
+		if (!dispatchActions.isEmpty()) {
+			List<Runnable> actions = new ArrayList<>(dispatchActions);
+			dispatchActions.clear();
+			actions.forEach(Runnable::run);
+		}
+		List<MeshEventModel> entries = getEntries();
+		if (entries.isEmpty()) {
+			return;
+		}
 		EventBus eventbus = Mesh.vertx().eventBus();
-		// TODO buffer event dispatching?
-		getEntries().forEach(entry -> {
+		for (MeshEventModel entry : entries) {
 			entry.setCause(getCause());
+		}
+		// Handlers which process the whole batch receive it before the separate events
+		eventbus.publish(MeshEventBatch.ADDRESS, new MeshEventBatch(new ArrayList<>(entries)));
+
+		DeliveryOptions batched = new DeliveryOptions().addHeader(MeshEventBatch.BATCHED_HEADER, "true");
+		for (MeshEventModel entry : entries) {
 			MeshEvent event = entry.getEvent();
 			if (log.isDebugEnabled()) {
 				log.debug("Created event sent {}", event);
 			}
-			String json = JsonUtil.toJson(entry);
+			JsonObject json = MeshEventBatch.toJson(entry);
 			if (log.isTraceEnabled()) {
-				log.trace("Dispatching event '{}' with payload:\n{}", event, json);
+				log.trace("Dispatching event '{}' with payload:\n{}", event, json.encodePrettily());
 			}
-			eventbus.publish(event.getAddress(), new JsonObject(json));
-		});
-		getEntries().clear();
+			eventbus.publish(event.getAddress(), json, batched);
+		}
+		entries.clear();
 	}
 
 }
@@ -7,6 +7,7 @@ import org.apache.commons.io.FileUtils;
 
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.changelog.Change;
+import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.util.ETag;
 
@@ -23,6 +24,7 @@ public abstract class AbstractDatabase implements Database {
 	protected MeshOptions options;
 	protected String meshVersion;
 	protected String[] basePaths;
+	protected TxRetryPolicy retryPolicy = TxRetryPolicy.of(new GraphStorageOptions());
 
 	@Override
 	public void clear() {
@@ -44,6 +46,14 @@ public abstract class AbstractDatabase implements Database {
 		this.options = options;
 		this.meshVersion = meshVersion;
 		this.basePaths = basePaths;
+		if (options.getStorageOptions() != null) {
+			this.retryPolicy = TxRetryPolicy.of(options.getStorageOptions());
+		}
+	}
+
+	@Override
+	public TxRetryPolicy getRetryPolicy() {
+		return retryPolicy;
 	}
 
 	@Override
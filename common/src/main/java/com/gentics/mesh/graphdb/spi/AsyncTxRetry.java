@@ -0,0 +1,159 @@
+package com.gentics.mesh.graphdb.spi;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.gentics.madl.tx.TxAction;
+import com.gentics.mesh.Mesh;
+
+import io.reactivex.Maybe;
+import io.reactivex.MaybeEmitter;
+import io.reactivex.Single;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Executor for transactions which handles the retries of conflicting transactions according to the {@link TxRetryPolicy} of the database.
+ *
+ * Asynchronous transactions execute each attempt in the worker pool. Conflicting attempts are rescheduled via a timer instead of blocking the worker
+ * thread until the next attempt. Synchronous transactions need to return the result in the calling thread and thus wait for the next attempt in the
+ * calling thread.
+ */
+final class AsyncTxRetry {
+
+	private static final Logger log = LoggerFactory.getLogger(AsyncTxRetry.class);
+
+	/**
+	 * Time in seconds to wait for the result of a handler which returns a {@link Single}.
+	 */
+	private static final int RESULT_TIMEOUT = 40;
+
+	private AsyncTxRetry() {
+	}
+
+	/**
+	 * Asynchronously execute the handler within a transaction.
+	 *
+	 * @param db
+	 * @param txHandler
+	 * @param caller
+	 *            Exception which was created by the caller. The stack is used to track conflicts per call site.
+	 * @return Result of the handler. The maybe will be empty if the handler returned null.
+	 */
+	static <T> Maybe<T> execute(Database db, TxAction<T> txHandler, Exception caller) {
+		return Maybe.create(sub -> attempt(db, txHandler, caller, 0, sub));
+	}
+
+	/**
+	 * Execute the handler within a transaction and return the result in the calling thread.
+	 *
+	 * @param db
+	 * @param txHandler
+	 * @return Result of the handler
+	 */
+	static <T> T executeSync(Database db, TxAction<T> txHandler) {
+		for (int retry = 0;; retry++) {
+			try {
+				return db.txAttempt(txHandler);
+			} catch (TxConflictException e) {
+				long delay = nextDelay(db, retry, e, Thread.currentThread().getStackTrace());
+				try {
+					// Give the other transaction a chance to finish
+					Thread.sleep(delay);
+				} catch (InterruptedException e1) {
+					Thread.currentThread().interrupt();
+					throw new RuntimeException("Interrupted while waiting for transaction retry", e1);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Wait for the result of a handler which was returned within the transaction.
+	 *
+	 * @param result
+	 * @param caller
+	 *            Exception which was created by the caller. It will be used as the error in case of a timeout.
+	 * @return Result or null if no single was returned
+	 * @throws Exception
+	 */
+	static <T> T await(Single<T> result, Exception caller) throws Exception {
+		if (result == null) {
+			return null;
+		}
+		try {
+			return result.timeout(RESULT_TIMEOUT, TimeUnit.SECONDS).blockingGet();
+		} catch (Exception e) {
+			if (e instanceof TimeoutException || e.getCause() instanceof TimeoutException) {
+				log.error("Timeout while processing result of transaction handler.", e);
+				log.error("Calling transaction stacktrace.", caller);
+				throw caller;
+			}
+			throw e;
+		}
+	}
+
+	private static <T> void attempt(Database db, TxAction<T> txHandler, Exception caller, int retry, MaybeEmitter<T> sub) {
+		Vertx vertx = Mesh.vertx();
+		vertx.<T>executeBlocking(bc -> {
+			try {
+				bc.complete(db.txAttempt(txHandler));
+			} catch (Exception e) {
+				if (log.isTraceEnabled()) {
+					log.trace("Error while handling transaction.", e);
+				}
+				bc.fail(e);
+			}
+		}, false, done -> {
+			if (done.succeeded()) {
+				T result = done.result();
+				if (result == null) {
+					sub.onComplete();
+				} else {
+					sub.onSuccess(result);
+				}
+				return;
+			}
+			Throwable cause = done.cause();
+			if (!(cause instanceof TxConflictException)) {
+				sub.onError(cause);
+				return;
+			}
+			long delay;
+			try {
+				delay = nextDelay(db, retry, (TxConflictException) cause, caller.getStackTrace());
+			} catch (RuntimeException e) {
+				sub.onError(e);
+				return;
+			}
+			vertx.setTimer(delay, id -> attempt(db, txHandler, caller, retry + 1, sub));
+		});
+	}
+
+	/**
+	 * Record the retry of the conflicting transaction and return the delay before the next attempt.
+	 *
+	 * @param db
+	 * @param retry
+	 *            Number of the failed retry
+	 * @param conflict
+	 * @param callerStack
+	 * @return Delay in milliseconds
+	 * @throws RuntimeException
+	 *             if the retry limit has been exceeded
+	 */
+	private static long nextDelay(Database db, int retry, TxConflictException conflict, StackTraceElement[] callerStack) {
+		TxRetryPolicy policy = db.getRetryPolicy();
+		if (!policy.shouldRetry(retry)) {
+			throw new RuntimeException("Retry limit {" + policy.getMaxRetry() + "} for trx exceeded", conflict);
+		}
+		db.recordTxRetry(TxCallSite.of(callerStack));
+		long delay = Math.max(1, policy.getDelay(retry));
+		if (log.isDebugEnabled()) {
+			log.debug("Retrying transaction {" + retry + "} in {" + delay + "} ms");
+		}
+		return delay;
+	}
+
+}
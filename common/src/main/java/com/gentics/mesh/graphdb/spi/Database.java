@@ -3,9 +3,6 @@ package com.gentics.mesh.graphdb.spi;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
@@ -14,7 +11,6 @@ import com.gentics.madl.tx.TxAction0;
 import com.gentics.madl.tx.TxAction1;
 import com.gentics.madl.tx.TxFactory;
 import com.gentics.madl.type.TypeHandler;
-import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -26,10 +22,10 @@ import com.tinkerpop.blueprints.TransactionalGraph;
 import com.tinkerpop.blueprints.Vertex;
 
 import io.reactivex.Completable;
+import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.functions.BiFunction;
 import io.reactivex.functions.Function;
-import io.vertx.core.AsyncResult;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -70,142 +66,99 @@ public interface Database extends TxFactory {
 	void clear();
 
 	/**
-	 * Asynchronously execute the given handler within a transaction and return the completable.
+	 * Return the policy which is used to retry conflicting transactions.
+	 * 
+	 * @return
+	 */
+	TxRetryPolicy getRetryPolicy();
+
+	/**
+	 * Execute the handler within a single transaction. Conflicts with other transactions are not retried but reported via a {@link TxConflictException}.
+	 * 
+	 * @param txHandler
+	 * @return Result of the handler
+	 */
+	default <T> T txAttempt(TxAction<T> txHandler) {
+		return tx(txHandler);
+	}
+
+	/**
+	 * Record the retry of a conflicting transaction.
+	 * 
+	 * @param callSite
+	 *            Code which invoked the transaction
+	 */
+	default void recordTxRetry(String callSite) {
+	}
+
+	/**
+	 * Execute the handler within a transaction. Conflicting transactions are retried according to the {@link #getRetryPolicy()}. The calling thread will
+	 * wait for the next attempt. Use the asynchronous variants to avoid blocking the thread in between the attempts.
+	 * 
+	 * @param txHandler
+	 * @return Result of the handler
+	 */
+	@Override
+	default <T> T tx(TxAction<T> txHandler) {
+		return AsyncTxRetry.executeSync(this, txHandler);
+	}
+
+	/**
+	 * Asynchronously execute the given handler within a transaction and return the completable. Conflicting transactions are retried via a timer instead of
+	 * blocking the worker thread.
 	 * 
 	 * @param txHandler
 	 * @return
 	 */
 	default Completable asyncTx(TxAction0 txHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
-		return Completable.create(sub -> {
+		// Create an exception which we can use to determine the caller in case of transaction conflicts
+		return AsyncTxRetry.execute(this, tx -> {
+			txHandler.handle();
+			return null;
+		}, new Exception("Transaction caller")).ignoreElement();
+	}
 
-			Mesh.vertx().executeBlocking(bc -> {
-				try {
-					tx(txHandler);
-					bc.complete();
-				} catch (Exception e) {
-					if (log.isTraceEnabled()) {
-						log.trace("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
-				}
-			}, false, done -> {
-				if (done.failed()) {
-					sub.onError(done.cause());
-				} else {
-					sub.onComplete();
-				}
-			});
-		});
+	/**
+	 * Asynchronously execute the given handler within a transaction and return the result. Conflicting transactions are retried via a timer instead of
+	 * blocking the worker thread.
+	 * 
+	 * @param txHandler
+	 * @return Result of the handler. The maybe will be empty if the handler returned null.
+	 */
+	default <T> Maybe<T> maybeTx(TxAction<T> txHandler) {
+		// Create an exception which we can use to determine the caller in case of transaction conflicts
+		return AsyncTxRetry.execute(this, txHandler, new Exception("Transaction caller"));
 	}
 
 	/**
-	 * Executes the given action in a worker pool thread and returns a single which can be subscribed to get the result.
+	 * Executes the given action in a worker pool thread and returns a single which can be subscribed to get the result. Conflicting transactions are retried
+	 * via a timer instead of blocking the worker thread.
 	 * 
 	 * @param trxHandler
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction1<Single<T>> trxHandler) {
 		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
-		return Single.create(sub -> {
-			Mesh.vertx().executeBlocking(bc -> {
-				try (Tx tx = tx()) {
-					Single<T> result = trxHandler.handle();
-					if (result == null) {
-						bc.complete();
-					} else {
-						try {
-							T ele = result.timeout(40, TimeUnit.SECONDS).blockingGet();
-							bc.complete(ele);
-						} catch (Exception e2) {
-							if (e2 instanceof TimeoutException) {
-								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
-							} else {
-								throw e2;
-							}
-						}
-					}
-				} catch (Exception e) {
-					if (log.isTraceEnabled()) {
-						log.trace("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
-				}
-			}, false, (AsyncResult<T> done) -> {
-				if (done.failed()) {
-					sub.onError(done.cause());
-				} else {
-					sub.onSuccess(done.result());
-				}
-			});
-		});
+		Exception caller = new Exception("Transaction timeout exception");
+		return AsyncTxRetry.execute(this, tx -> AsyncTxRetry.await(trxHandler.handle(), caller), caller).toSingle();
 	}
 
 	/**
-	 * Asynchronously execute the trxHandler within the scope of a non transaction.
+	 * Asynchronously execute the trxHandler within the scope of a transaction. Conflicting transactions are retried via a timer instead of blocking the
+	 * worker thread.
 	 * 
 	 * @param trxHandler
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction<Single<T>> trxHandler) {
 		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
-		return Single.create(sub -> {
-			Mesh.vertx().executeBlocking(bc -> {
-				try (Tx tx = tx()) {
-					Single<T> result = trxHandler.handle(tx);
-					if (result == null) {
-						bc.complete();
-					} else {
-						try {
-							T ele = result.timeout(40, TimeUnit.SECONDS).blockingGet();
-							bc.complete(ele);
-						} catch (Exception e2) {
-							if (e2 instanceof TimeoutException) {
-								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
-							} else {
-								throw e2;
-							}
-						}
-					}
-				} catch (Exception e) {
-					if (!(e instanceof GenericRestException)) {
-						log.error("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
-				}
-			}, false, (AsyncResult<T> done) -> {
-				if (done.failed()) {
-					sub.onError(done.cause());
-				} else {
-					sub.onSuccess(done.result());
+		Exception caller = new Exception("Transaction timeout exception");
+		return AsyncTxRetry.execute(this, tx -> AsyncTxRetry.await(trxHandler.handle(tx), caller), caller).toSingle()
+			.doOnError(e -> {
+				if (!(e instanceof GenericRestException)) {
+					log.error("Error while handling no-transaction.", e);
 				}
 			});
-		});
 	}
 
 	/**
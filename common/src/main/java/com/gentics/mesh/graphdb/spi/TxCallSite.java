@@ -0,0 +1,73 @@
+package com.gentics.mesh.graphdb.spi;
+
+/**
+ * Utility which determines the code which invoked a transaction. The call site is used to track transaction conflicts per calling handler.
+ */
+public final class TxCallSite {
+
+	private static final String UNKNOWN = "unknown";
+
+	/**
+	 * Classes which only delegate the transaction handler and thus don't identify the caller.
+	 */
+	private static final String[] SKIPPED_PREFIXES = {
+		"com.gentics.mesh.graphdb.",
+		"com.gentics.madl.",
+		"com.gentics.mesh.core.verticle.handler.HandlerUtilities",
+		"java.",
+		"sun.",
+		"io.reactivex.",
+		"io.vertx."
+	};
+
+	private TxCallSite() {
+	}
+
+	/**
+	 * Return the call site of the transaction. Only the first frame which is not part of the transaction handling will be used.
+	 * 
+	 * @param stack
+	 *            Stack of the thread which invoked the transaction
+	 * @return Call site in the form <code>SimpleClassName.method</code>
+	 */
+	public static String of(StackTraceElement[] stack) {
+		for (StackTraceElement element : stack) {
+			if (!isSkipped(element.getClassName())) {
+				return simpleName(element.getClassName()) + "." + methodName(element.getMethodName());
+			}
+		}
+		return UNKNOWN;
+	}
+
+	private static boolean isSkipped(String className) {
+		for (String prefix : SKIPPED_PREFIXES) {
+			if (className.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String simpleName(String className) {
+		String name = className.substring(className.lastIndexOf('.') + 1);
+		int idx = name.indexOf('$');
+		return idx > 0 ? name.substring(0, idx) : name;
+	}
+
+	/**
+	 * Strip the synthetic parts of lambda method names (e.g. <code>lambda$handleMove$3</code>).
+	 * 
+	 * @param methodName
+	 * @return
+	 */
+	private static String methodName(String methodName) {
+		if (methodName.startsWith("lambda$")) {
+			String[] parts = methodName.split("\\$");
+			if (parts.length > 1) {
+				return parts[1];
+			}
+		}
+		return methodName;
+	}
+
+}
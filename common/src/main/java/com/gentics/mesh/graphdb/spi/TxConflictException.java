@@ -0,0 +1,14 @@
+package com.gentics.mesh.graphdb.spi;
+
+/**
+ * Exception which indicates that a transaction failed due to a conflict with another transaction and can be retried.
+ */
+public class TxConflictException extends RuntimeException {
+
+	private static final long serialVersionUID = 2446135431052458791L;
+
+	public TxConflictException(Throwable cause) {
+		super("Transaction conflict", cause);
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.gentics.mesh.graphdb.spi;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.gentics.mesh.etc.config.GraphStorageOptions;
+
+/**
+ * Policy which determines how often and after which delay conflicting transactions are retried. The delay grows exponentially with each retry and is
+ * capped by the maximum delay. A random jitter of up to half of the delay is applied so that conflicting transactions don't retry in lockstep.
+ */
+public class TxRetryPolicy {
+
+	/**
+	 * Maximum exponent which is used to compute the delay. Larger values would not change the result since the delay will always be capped.
+	 */
+	private static final int MAX_EXPONENT = 20;
+
+	private final int maxRetry;
+
+	private final long baseDelay;
+
+	private final long maxDelay;
+
+	/**
+	 * Create a new policy.
+	 * 
+	 * @param maxRetry
+	 *            Maximum amount of attempts for a transaction
+	 * @param baseDelay
+	 *            Delay in milliseconds before the first retry
+	 * @param maxDelay
+	 *            Maximum delay in milliseconds before a retry
+	 */
+	public TxRetryPolicy(int maxRetry, long baseDelay, long maxDelay) {
+		this.maxRetry = maxRetry;
+		this.baseDelay = baseDelay;
+		this.maxDelay = maxDelay;
+	}
+
+	/**
+	 * Create the policy using the given storage options.
+	 * 
+	 * @param options
+	 * @return
+	 */
+	public static TxRetryPolicy of(GraphStorageOptions options) {
+		return new TxRetryPolicy(options.getTxRetryLimit(), options.getTxRetryDelay(), options.getTxRetryMaxDelay());
+	}
+
+	/**
+	 * Return the maximum amount of attempts for a transaction.
+	 * 
+	 * @return
+	 */
+	public int getMaxRetry() {
+		return maxRetry;
+	}
+
+	/**
+	 * Check whether the transaction should be retried after the given failed attempt.
+	 * 
+	 * @param retry
+	 *            Zero based index of the failed attempt
+	 * @return
+	 */
+	public boolean shouldRetry(int retry) {
+		return retry + 1 < maxRetry;
+	}
+
+	/**
+	 * Return the delay before the next attempt.
+	 * 
+	 * @param retry
+	 *            Zero based index of the failed attempt
+	 * @return Delay in milliseconds
+	 */
+	public long getDelay(int retry) {
+		long delay = Math.min(maxDelay, baseDelay << Math.min(retry, MAX_EXPONENT));
+		if (delay <= 0) {
+			return 0;
+		}
+		long half = delay / 2;
+		return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+	}
+
+}
@@ -13,9 +13,75 @@ public enum Metrics {
 
 	TX_RETRY("tx.retry", "Amount of transaction retries which happen if a conflict has been encountered."),
 
+	TX_CONFLICT("tx.conflict", "Amount of transaction conflicts per calling handler. The name of the handler is appended to the metric name."),
+
 	GRAPH_ELEMENT_RELOAD("graph.element.reload", "Meter which tracks the reload operations on used vertices."),
 
-	NODE_MIGRATION_PENDING("node_migration.pending", "Pending contents which need to be processed by the node migration.");
+	NODE_MIGRATION_PENDING("node_migration.pending", "Pending contents which need to be processed by the node migration."),
+
+	GRAPHQL_SCHEMA_CACHE_HIT("graphql.schema_cache.hit", "Meter which measures the rate of GraphQL schema cache hits."),
+
+	GRAPHQL_SCHEMA_CACHE_MISS("graphql.schema_cache.miss", "Meter which measures the rate of GraphQL schema cache misses."),
+
+	GRAPHQL_DOCUMENT_CACHE_HIT("graphql.document_cache.hit", "Meter which measures the rate of parsed GraphQL query document cache hits."),
+
+	GRAPHQL_DOCUMENT_CACHE_MISS("graphql.document_cache.miss", "Meter which measures the rate of parsed GraphQL query document cache misses."),
+
+	GRAPHQL_QUERY_TIME("graphql.query.time", "Timer which tracks the execution time of GraphQL queries."),
+
+	GRAPHQL_QUERY_DEPTH("graphql.query.depth", "Histogram of the field nesting depth of executed GraphQL queries."),
+
+	GRAPHQL_QUERY_COMPLEXITY("graphql.query.complexity", "Histogram of the complexity of executed GraphQL queries."),
+
+	GRAPHQL_QUERY_REJECTED("graphql.query.rejected", "Meter which measures the rate of GraphQL queries which were rejected due to the configured cost limits."),
+
+	PERMISSION_CACHE_HIT("permission_cache.hit", "Meter which measures the rate of permission cache hits."),
+
+	PERMISSION_CACHE_MISS("permission_cache.miss", "Meter which measures the rate of permission cache misses."),
+
+	PERMISSION_CACHE_EVICTION("permission_cache.eviction", "Meter which measures the rate of elements which were evicted from the permission cache."),
+
+	RESPONSE_CACHE_HIT("response_cache.hit", "Meter which measures the rate of rendered response cache hits."),
+
+	RESPONSE_CACHE_MISS("response_cache.miss", "Meter which measures the rate of rendered response cache misses."),
+
+	WRITE_LOCK_WAITING_TIME("write_lock.waiting_time", "Timer which tracks the time spent waiting for the write lock."),
+
+	WRITE_LOCK_CONTENTION("write_lock.contention", "Meter which measures the rate of writes which had to wait for the write lock."),
+
+	WRITE_LOCK_TIMEOUT("write_lock.timeout", "Meter which measures the rate of writes which failed since the write lock could not be acquired in time."),
+
+	SEARCH_EVENT_QUEUE("search.event.queue", "Amount of events which are waiting to be transformed into Elasticsearch requests."),
+
+	SEARCH_EVENT_COALESCED("search.event.coalesced", "Meter which measures the rate of events which were dropped since a later event affects the same document."),
+
+	SEARCH_BULK_IN_FLIGHT("search.bulk.in_flight", "Amount of requests which have been sent to Elasticsearch and are not yet completed."),
+
+	SEARCH_BULK_TIME("search.bulk.time", "Timer which tracks the duration of requests which are sent to Elasticsearch."),
+
+	SEARCH_BULK_SIZE("search.bulk.size", "Histogram of the amount of documents per bulk request which is sent to Elasticsearch."),
+
+	SEARCH_BULK_REJECTED("search.bulk.rejected", "Meter which measures the rate of bulk requests which were rejected by an overloaded Elasticsearch."),
+
+	SEARCH_BULK_SLOW("search.bulk.slow", "Meter which measures the rate of bulk requests which took longer than the bulk target latency."),
+
+	IMAGE_RESIZE_TIME("image.resize.time", "Timer which tracks the duration of image resize operations."),
+
+	IMAGE_RESIZE_PENDING("image.resize.pending", "Amount of image resize operations which are running or waiting for a resize thread."),
+
+	IMAGE_RESIZE_COALESCED("image.resize.coalesced", "Meter which measures the rate of image resize requests which were served by an already running resize of the same image variant."),
+
+	IMAGE_RESIZE_REJECTED("image.resize.rejected", "Meter which measures the rate of image resize requests which were rejected since the resize queue was full."),
+
+	IMAGE_CACHE_HIT("image.cache.hit", "Meter which measures the rate of image requests which were served from the image cache."),
+
+	IMAGE_CACHE_MISS("image.cache.miss", "Meter which measures the rate of image requests which were not found in the image cache."),
+
+	IMAGE_CACHE_MEMORY_HIT("image.cache.memory_hit", "Meter which measures the rate of image requests which were served from memory."),
+
+	IMAGE_CACHE_EVICTION("image.cache.eviction", "Meter which measures the rate of images which were removed from the image cache since the size limit was exceeded."),
+
+	IMAGE_CACHE_SIZE("image.cache.size", "Total size in bytes of the images in the image cache.");
 
 	private String key;
 
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.Set;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
@@ -43,6 +44,10 @@ public interface MetricsService {
 		return getMetricRegistry().timer(metric.key());
 	}
 
+	default Histogram histogram(Metrics metric) {
+		return getMetricRegistry().histogram(metric.key());
+	}
+
 	default Counter counter(Metrics metric) {
 		return getMetricRegistry().counter(metric.key());
 	}
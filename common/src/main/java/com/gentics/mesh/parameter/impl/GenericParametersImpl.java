@@ -47,6 +47,12 @@ public class GenericParametersImpl extends AbstractParameters implements Generic
 		etagParam.setDefaultValue("true");
 		parameters.put(FIELDS_PARAM_KEY, etagParam);
 
+		QueryParameter prettyParam = new QueryParameter();
+		prettyParam.setDescription("Parameter which can be used to pretty print the JSON response. Responses are compact by default.");
+		prettyParam.setType(ParamType.BOOLEAN);
+		prettyParam.setDefaultValue("false");
+		parameters.put(PRETTY_PARAM_KEY, prettyParam);
+
 		return parameters;
 	}
 
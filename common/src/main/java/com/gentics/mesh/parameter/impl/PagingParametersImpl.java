@@ -98,6 +98,15 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		perPageParameter.setRequired(false);
 		perPageParameter.setType(ParamType.NUMBER);
 		parameters.put(PER_PAGE_PARAMETER_KEY, perPageParameter);
+
+		// after
+		QueryParameter afterParameter = new QueryParameter();
+		afterParameter.setDescription(
+			"Cursor of the element after which the page should start. The cursor is returned as nextCursor in the paging information of the previous page. The page parameter will be ignored when a cursor is specified. The totalCount and pageCount of the page will be -1 since the elements before the cursor are not counted.");
+		afterParameter.setExample("IzE2OjQy");
+		afterParameter.setRequired(false);
+		afterParameter.setType(ParamType.STRING);
+		parameters.put(AFTER_PARAMETER_KEY, afterParameter);
 		return parameters;
 	}
 
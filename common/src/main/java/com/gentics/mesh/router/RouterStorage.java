@@ -5,6 +5,7 @@ import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -16,14 +17,14 @@ import com.gentics.mesh.Mesh;
 import com.gentics.mesh.auth.MeshAuthChain;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.rest.event.MeshElementEventModel;
+import com.gentics.mesh.event.MeshEventConsumer;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.handler.VersionHandler;
 
 import dagger.Lazy;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
-import io.vertx.core.eventbus.Message;
-import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.handler.BodyHandler;
@@ -119,31 +120,31 @@ public class RouterStorage {
 	private void registerEventbusHandlers() {
 		ProjectsRouter projectsRouter = rootRouter.apiRouter().projectsRouter();
 		EventBus eb = Mesh.vertx().eventBus();
-		eb.consumer(PROJECT_CREATED.address, (Message<JsonObject> rh) -> {
-			JsonObject json = rh.body();
+		MeshEventConsumer.consumer(eb, Collections.singleton(PROJECT_CREATED), (event, model) -> {
+			if (!(model instanceof MeshElementEventModel)) {
+				return;
+			}
+			MeshElementEventModel project = (MeshElementEventModel) model;
 
 			// Check whether this is a local message. We only need to react on foreign messages.
 			// Local updates for project creation / deletion is already handled locally
-			String origin = json.getString("origin");
+			String origin = project.getOrigin();
 			String nodeName = Mesh.mesh().getOptions().getNodeName();
 			if (nodeName.equals(origin)) {
-				rh.reply(true);
 				return;
 			}
-			String name = json.getString("name");
+			String name = project.getName();
 			try {
 				addProject(name);
-				rh.reply(true);
 				if (log.isInfoEnabled()) {
 					log.info("Registered project {" + name + "}");
 				}
 			} catch (InvalidNameException e) {
-				rh.fail(400, e.getMessage());
 				throw error(BAD_REQUEST, "Error while adding project to router storage", e);
 			}
 		});
 
-		eb.consumer(PROJECT_UPDATED.address, (Message<JsonObject> rh) -> {
+		MeshEventConsumer.consumer(eb, Collections.singleton(PROJECT_UPDATED), (event, model) -> {
 			Database database = db.get();
 
 			try (Tx tx = database.tx()) {
@@ -157,7 +158,6 @@ public class RouterStorage {
 				}
 			} catch (InvalidNameException e) {
 				log.error("Could not update project routers", e);
-				rh.fail(400, "Invalid project name found");
 			}
 
 		});
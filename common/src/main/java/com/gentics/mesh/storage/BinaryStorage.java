@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.util.RxUtil;
 import com.gentics.mesh.util.UUIDUtil;
 
 import io.reactivex.Completable;
@@ -74,6 +75,21 @@ public interface BinaryStorage {
 	 */
 	Flowable<Buffer> read(String uuid);
 
+	/**
+	 * Read the given byte range of the binary data which is identified by the given binary uuid. Storages which can read a range directly should
+	 * override this method. The default implementation reads the data from the beginning and skips the bytes before the range.
+	 *
+	 * @param uuid
+	 * @param start
+	 *            Offset of the first byte of the range
+	 * @param end
+	 *            Offset of the last byte of the range (inclusive)
+	 * @return
+	 */
+	default Flowable<Buffer> read(String uuid, long start, long end) {
+		return RxUtil.slice(read(uuid), start, end);
+	}
+
 	/**
 	 * Opens a blocking {@link InputStream} to the binary file. This should only be used for some other blocking APIs (i.e. ImageIO)
 	 *
@@ -59,6 +59,31 @@ public final class RxUtil {
 			.doOnCancel(file::close);
 	}
 
+	/**
+	 * Return the given byte range of the stream. The source will be cancelled as soon as the end of the range has been reached.
+	 * 
+	 * @param stream
+	 * @param start
+	 *            Offset of the first byte of the range
+	 * @param end
+	 *            Offset of the last byte of the range (inclusive)
+	 * @return
+	 */
+	public static Flowable<Buffer> slice(Flowable<Buffer> stream, long start, long end) {
+		return Flowable.defer(() -> {
+			long[] position = { 0 };
+			return stream.map(buffer -> {
+				long bufferStart = position[0];
+				position[0] += buffer.length();
+				int from = (int) Math.min(buffer.length(), Math.max(0, start - bufferStart));
+				int to = (int) Math.max(from, Math.min(buffer.length(), end + 1 - bufferStart));
+				return buffer.slice(from, to);
+			})
+				.takeUntil(buffer -> position[0] > end)
+				.filter(buffer -> buffer.length() > 0);
+		});
+	}
+
 	/**
 	 * Flips a completable. Emits an error when the source has completed, and completes when the source emits an error.
 	 * 
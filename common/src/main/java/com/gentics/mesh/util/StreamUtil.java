@@ -3,6 +3,7 @@ package com.gentics.mesh.util;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -13,6 +14,8 @@ import java.util.stream.Collector;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import com.google.common.collect.Iterators;
+
 public final class StreamUtil {
 	private StreamUtil() {
 
@@ -63,6 +66,18 @@ public final class StreamUtil {
 		});
 	}
 
+	/**
+	 * Group the elements of the stream into lists of the given size. The last list may contain fewer elements. The stream is consumed lazily.
+	 *
+	 * @param stream
+	 * @param size
+	 * @param <T>
+	 * @return
+	 */
+	public static <T> Stream<List<T>> batch(Stream<T> stream, int size) {
+		return toStream(Iterators.partition(stream.iterator(), size));
+	}
+
 	public static <T> Supplier<T> lazy(Supplier<T> supplier) {
 		return new Supplier<T>() {
 			T value;
@@ -0,0 +1,157 @@
+package com.gentics.mesh.util.rx;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableSubscriber;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Blocking {@link InputStream} which reads the buffers of a {@link Flowable}. At most the given amount of buffers is requested ahead of the
+ * reader, so a slow reader will slow down the stream instead of buffering the whole content in memory.
+ *
+ * Closing the input stream before the end of the data has been reached will cancel the subscription. The stream must only be read from a
+ * thread which may block.
+ */
+public class BufferFlowableInputStream extends InputStream implements FlowableSubscriber<Buffer> {
+
+	private static final Object COMPLETE = new Object();
+
+	private final BlockingQueue<Object> queue;
+
+	private final int prefetch;
+
+	private volatile Subscription subscription;
+
+	private volatile boolean closed = false;
+
+	private Buffer current;
+
+	private int pos;
+
+	private boolean done = false;
+
+	/**
+	 * Create a new input stream and subscribe it to the given stream.
+	 *
+	 * @param stream
+	 * @param prefetch
+	 *            Amount of buffers which are requested ahead of the reader
+	 */
+	public BufferFlowableInputStream(Flowable<Buffer> stream, int prefetch) {
+		this.prefetch = prefetch;
+		// One additional slot for the terminal signal
+		this.queue = new ArrayBlockingQueue<>(prefetch + 1);
+		stream.subscribe(this);
+	}
+
+	@Override
+	public void onSubscribe(Subscription s) {
+		subscription = s;
+		if (closed) {
+			s.cancel();
+		} else {
+			s.request(prefetch);
+		}
+	}
+
+	@Override
+	public void onNext(Buffer buffer) {
+		if (!closed) {
+			queue.offer(buffer);
+		}
+	}
+
+	@Override
+	public void onError(Throwable t) {
+		queue.offer(t);
+	}
+
+	@Override
+	public void onComplete() {
+		queue.offer(COMPLETE);
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!nextBuffer()) {
+			return -1;
+		}
+		return current.getByte(pos++) & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!nextBuffer()) {
+			return -1;
+		}
+		int n = Math.min(len, current.length() - pos);
+		current.getBytes(pos, pos + n, b, off);
+		pos += n;
+		return n;
+	}
+
+	@Override
+	public int available() {
+		return current == null ? 0 : current.length() - pos;
+	}
+
+	/**
+	 * Make sure that the current buffer contains unread data.
+	 *
+	 * @return false if the end of the stream has been reached
+	 * @throws IOException
+	 */
+	private boolean nextBuffer() throws IOException {
+		while (current == null || pos >= current.length()) {
+			if (done || closed) {
+				return false;
+			}
+			Object next;
+			try {
+				next = queue.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for data");
+			}
+			if (next == COMPLETE) {
+				done = true;
+				current = null;
+				return false;
+			}
+			if (next instanceof Throwable) {
+				done = true;
+				current = null;
+				throw new IOException("Error while reading the stream", (Throwable) next);
+			}
+			current = (Buffer) next;
+			pos = 0;
+			subscription.request(1);
+		}
+		return true;
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		Subscription s = subscription;
+		if (!done && s != null) {
+			s.cancel();
+		}
+		queue.clear();
+		current = null;
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.gentics.mesh.util.rx;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableSubscriber;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * Subscriber which writes the buffers of a {@link Flowable} to a {@link WriteStream}. The next buffer is only requested once the write queue of
+ * the stream is no longer full, so a slow consumer will slow down the source instead of buffering the whole content in memory.
+ *
+ * The write stream will be ended when the source completes. Errors of the source and of the write stream are passed to the error handler.
+ */
+public class WriteStreamSubscriber implements FlowableSubscriber<Buffer> {
+
+	private final WriteStream<Buffer> stream;
+
+	private final Handler<Throwable> errorHandler;
+
+	private final AtomicBoolean done = new AtomicBoolean();
+
+	private volatile Subscription subscription;
+
+	private volatile boolean cancelled = false;
+
+	/**
+	 * Create a new subscriber for the given stream.
+	 *
+	 * @param stream
+	 * @param errorHandler
+	 *            Handler which will be invoked when reading from the source or writing to the stream failed
+	 */
+	public WriteStreamSubscriber(WriteStream<Buffer> stream, Handler<Throwable> errorHandler) {
+		this.stream = stream;
+		this.errorHandler = errorHandler;
+	}
+
+	@Override
+	public void onSubscribe(Subscription s) {
+		subscription = s;
+		if (cancelled) {
+			s.cancel();
+			return;
+		}
+		stream.exceptionHandler(e -> {
+			cancel();
+			fail(e);
+		});
+		s.request(1);
+	}
+
+	@Override
+	public void onNext(Buffer buffer) {
+		if (cancelled) {
+			return;
+		}
+		stream.write(buffer);
+		if (!stream.writeQueueFull()) {
+			subscription.request(1);
+			return;
+		}
+		// The drain handler may be invoked concurrently to the second check, so make sure that the next buffer is requested only once.
+		AtomicBoolean requested = new AtomicBoolean();
+		stream.drainHandler(v -> {
+			if (requested.compareAndSet(false, true)) {
+				subscription.request(1);
+			}
+		});
+		if (!stream.writeQueueFull() && requested.compareAndSet(false, true)) {
+			subscription.request(1);
+		}
+	}
+
+	@Override
+	public void onError(Throwable t) {
+		fail(t);
+	}
+
+	@Override
+	public void onComplete() {
+		if (!cancelled && done.compareAndSet(false, true)) {
+			stream.end();
+		}
+	}
+
+	/**
+	 * Cancel the subscription to the source. This should be called when the consumer of the write stream has gone away.
+	 */
+	public void cancel() {
+		cancelled = true;
+		Subscription s = subscription;
+		if (s != null) {
+			s.cancel();
+		}
+	}
+
+	private void fail(Throwable t) {
+		if (done.compareAndSet(false, true)) {
+			errorHandler.handle(t);
+		}
+	}
+
+}
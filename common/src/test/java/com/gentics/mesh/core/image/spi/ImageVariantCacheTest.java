@@ -0,0 +1,204 @@
+package com.gentics.mesh.core.image.spi;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.Metrics;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.netty.util.ReferenceCountUtil;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.reactivex.core.Vertx;
+
+public class ImageVariantCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Vertx vertx;
+
+	private MetricsService metrics;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		metrics = mock(MetricsService.class);
+		when(metrics.meter(any(Metrics.class))).thenReturn(new Meter());
+		when(metrics.counter(any(Metrics.class))).thenReturn(new Counter());
+	}
+
+	@After
+	public void tearDown() {
+		vertx.close();
+	}
+
+	@Test
+	public void testScan() throws IOException {
+		File variant = createVariant("image-rw100.jpg", 10, 1000);
+		createVariant("other.bin", 10, 1000);
+
+		ImageVariantCache cache = new ImageVariantCache(vertx, options(0), metrics);
+		assertFalse(cache.isIndexed());
+		cache.scan();
+		assertTrue(cache.isIndexed());
+		assertEquals(10, cache.getTotalSize());
+		assertEquals(variant.getPath(), cache.get(new File(folder.getRoot(), "ab/image-rw100").getPath()));
+		assertNull(cache.get(new File(folder.getRoot(), "ab/image-rw200").getPath()));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() throws IOException {
+		createVariant("image-a.jpg", 10, 1000);
+		createVariant("image-b.jpg", 10, 2000);
+
+		ImageVariantCache cache = new ImageVariantCache(vertx, options(25), metrics);
+		cache.scan();
+		String basePath = new File(folder.getRoot(), "ab").getPath() + File.separator;
+		// Access the oldest variant so that the other one becomes the least recently used
+		cache.get(basePath + "image-a");
+		cache.put(basePath + "image-c", basePath + "image-c.jpg", 10);
+
+		assertEquals(20, cache.getTotalSize());
+		assertEquals(basePath + "image-a.jpg", cache.get(basePath + "image-a"));
+		assertNull(cache.get(basePath + "image-b"));
+		assertEquals(basePath + "image-c.jpg", cache.get(basePath + "image-c"));
+	}
+
+	@Test
+	public void testAddedVariantIsNotEvicted() throws IOException {
+		ImageVariantCache cache = new ImageVariantCache(vertx, options(5), metrics);
+		cache.scan();
+		File variant = createVariant("image-big.jpg", 10, 1000);
+		String basePath = new File(folder.getRoot(), "ab").getPath() + File.separator;
+		cache.put(basePath + "image-big", variant.getPath(), 10);
+
+		assertEquals("The variant exceeds the limit on its own but must be kept", 10, cache.getTotalSize());
+		assertEquals(variant.getPath(), cache.get(basePath + "image-big"));
+		assertTrue(variant.exists());
+
+		// The next variant evicts the previous one
+		File next = createVariant("image-next.jpg", 2, 2000);
+		cache.put(basePath + "image-next", next.getPath(), 2);
+		assertEquals(2, cache.getTotalSize());
+		assertNull(cache.get(basePath + "image-big"));
+		assertEquals(next.getPath(), cache.get(basePath + "image-next"));
+	}
+
+	@Test
+	public void testEvictedVariantIsDeletedAfterRelease() throws Exception {
+		File a = createVariant("image-a.jpg", 10, 1000);
+		File b = createVariant("image-b.jpg", 10, 2000);
+
+		ImageVariantCache cache = new ImageVariantCache(vertx, options(15), metrics);
+		cache.scan();
+		String basePath = new File(folder.getRoot(), "ab").getPath() + File.separator;
+		assertEquals("The oldest variant should have been evicted by the scan", 10, cache.getTotalSize());
+		awaitDeletion(a);
+
+		// The variant is in use while the next variant evicts it
+		String path = cache.get(basePath + "image-b");
+		assertEquals(b.getPath(), path);
+		File c = createVariant("image-c.jpg", 10, 3000);
+		cache.put(basePath + "image-c", c.getPath(), 10);
+		assertNull(cache.get(basePath + "image-b"));
+		Thread.sleep(200);
+		assertTrue("The file of the variant must be kept while it is in use", b.exists());
+
+		cache.release(path);
+		awaitDeletion(b);
+		assertTrue(c.exists());
+	}
+
+	@Test
+	public void testRetainEvictedVariant() throws IOException {
+		ImageVariantCache cache = new ImageVariantCache(vertx, options(15), metrics);
+		cache.scan();
+		String basePath = new File(folder.getRoot(), "ab").getPath() + File.separator;
+		File a = createVariant("image-a.jpg", 10, 1000);
+		cache.put(basePath + "image-a", a.getPath(), 10);
+		assertTrue(cache.retain(a.getPath()));
+		cache.release(a.getPath());
+
+		File b = createVariant("image-b.jpg", 10, 2000);
+		cache.put(basePath + "image-b", b.getPath(), 10);
+		assertFalse("The evicted variant can no longer be used", cache.retain(a.getPath()));
+		assertTrue(cache.retain(b.getPath()));
+	}
+
+	@Test
+	public void testMemoryDataIsNotShared() throws Exception {
+		ImageVariantCache cache = new ImageVariantCache(vertx, options(0).setImageCacheMemorySize(64 * 100), metrics);
+		cache.scan();
+		String basePath = new File(folder.getRoot(), "ab").getPath() + File.separator;
+		byte[] content = new byte[100];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+		File a = createVariant("image-a.jpg", 0, 1000);
+		Files.write(a.toPath(), content);
+		cache.put(basePath + "image-a", a.getPath(), content.length);
+
+		// Frequent hits load the variant into memory
+		cache.release(cache.get(basePath + "image-a"));
+		cache.release(cache.get(basePath + "image-a"));
+		Buffer loaded = null;
+		for (int i = 0; i < 50 && loaded == null; i++) {
+			Thread.sleep(20);
+			loaded = cache.getData(a.getPath());
+		}
+		assertNotNull("The variant should have been loaded into memory", loaded);
+		ReferenceCountUtil.release(loaded.getByteBuf());
+
+		Buffer first = cache.getData(a.getPath());
+		Buffer second = cache.getData(a.getPath());
+		// Sending a response consumes and releases the buffer
+		assertArrayEquals(content, first.getBytes());
+		ReferenceCountUtil.release(first.getByteBuf());
+		assertArrayEquals(content, second.getBytes());
+		ReferenceCountUtil.release(second.getByteBuf());
+		assertArrayEquals("The data must still be available for later hits", content, cache.getData(a.getPath()).getBytes());
+	}
+
+	private void awaitDeletion(File file) throws InterruptedException {
+		for (int i = 0; i < 50 && file.exists(); i++) {
+			Thread.sleep(20);
+		}
+		assertFalse("The file {" + file + "} should have been deleted", file.exists());
+	}
+
+	private ImageManipulatorOptions options(long maxSize) {
+		return new ImageManipulatorOptions()
+			.setImageCacheDirectory(folder.getRoot().getPath())
+			.setImageCacheMaxSize(maxSize)
+			.setImageCacheMemorySize(0);
+	}
+
+	private File createVariant(String name, int size, long lastModified) throws IOException {
+		File dir = new File(folder.getRoot(), "ab");
+		dir.mkdirs();
+		File file = new File(dir, name);
+		Files.write(file.toPath(), new byte[size]);
+		file.setLastModified(lastModified);
+		return file;
+	}
+}
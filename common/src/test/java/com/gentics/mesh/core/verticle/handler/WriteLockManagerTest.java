@@ -0,0 +1,100 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.WriteLockGranularity;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+
+public class WriteLockManagerTest {
+
+	private final InternalActionContext ac = Mockito.mock(InternalActionContext.class);
+
+	@Test
+	public void testDisabled() {
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions().setSynchronizeWrites(false);
+		WriteLockManager manager = new WriteLockManager(options, Mockito.mock(MetricsService.class));
+		assertSame(WriteLock.NONE, manager.lock(ac, "a"));
+		assertSame(WriteLock.NONE, manager.lock(ac, "a"));
+	}
+
+	@Test
+	public void testGlobalLock() {
+		WriteLockManager manager = createManager(WriteLockGranularity.GLOBAL);
+		WriteLock lock = manager.lock(ac, "a");
+		assertTimeout(() -> manager.lock(ac, "b"));
+		lock.unlock();
+		manager.lock(ac, "b").unlock();
+	}
+
+	@Test
+	public void testElementLock() {
+		WriteLockManager manager = createManager(WriteLockGranularity.ELEMENT);
+		WriteLock lock = manager.lock(ac, "a", "b");
+		assertTimeout(() -> manager.lock(ac, "b"));
+		lock.unlock();
+		manager.lock(ac, "b", "a").unlock();
+	}
+
+	@Test
+	public void testStripedByElement() {
+		assertTrue(createManager(WriteLockGranularity.ELEMENT).isStripedByElement());
+		assertFalse(createManager(WriteLockGranularity.PROJECT).isStripedByElement());
+		assertFalse(createManager(WriteLockGranularity.GLOBAL).isStripedByElement());
+	}
+
+	@Test
+	public void testUnlockByOtherThread() throws InterruptedException {
+		// Retried transactions complete in another thread than the one which acquired the lock
+		WriteLockManager manager = createManager(WriteLockGranularity.ELEMENT);
+		WriteLock lock = manager.lock(ac, "a");
+		Thread thread = new Thread(lock::unlock);
+		thread.start();
+		thread.join();
+		manager.lock(ac, "a").unlock();
+	}
+
+	@Test
+	public void testRepeatedUnlock() {
+		WriteLockManager manager = createManager(WriteLockGranularity.GLOBAL);
+		WriteLock lock = manager.lock(ac);
+		lock.unlock();
+		lock.unlock();
+
+		// The second unlock must not allow two concurrent writes
+		WriteLock lock2 = manager.lock(ac);
+		assertTimeout(() -> manager.lock(ac));
+		lock2.unlock();
+	}
+
+	private WriteLockManager createManager(WriteLockGranularity granularity) {
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions()
+			.setSynchronizeWrites(true)
+			.setSynchronizeWritesGranularity(granularity)
+			.setSynchronizeWritesTimeout(50);
+		return new WriteLockManager(options, Mockito.mock(MetricsService.class));
+	}
+
+	private void assertTimeout(Runnable action) {
+		try {
+			action.run();
+			fail("The lock should not have been acquired.");
+		} catch (GenericRestException e) {
+			assertEquals(HttpResponseStatus.SERVICE_UNAVAILABLE, e.getStatus());
+			assertEquals("error_write_lock_timeout", e.getI18nKey());
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.gentics.mesh.event;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class EventQueueBatchTest {
+
+	@Test
+	public void testDispatchActions() {
+		AtomicInteger invocations = new AtomicInteger();
+		EventQueueBatch batch = EventQueueBatch.create();
+		batch.onDispatch(invocations::incrementAndGet);
+		assertEquals("The action must not be invoked before the batch gets dispatched", 0, invocations.get());
+
+		batch.dispatch();
+		assertEquals(1, invocations.get());
+
+		batch.dispatch();
+		assertEquals("The action must only be invoked once", 1, invocations.get());
+	}
+
+	@Test
+	public void testAddAllDispatchActions() {
+		AtomicInteger invocations = new AtomicInteger();
+		EventQueueBatch containerBatch = EventQueueBatch.create();
+		containerBatch.onDispatch(invocations::incrementAndGet);
+
+		EventQueueBatch batch = EventQueueBatch.create();
+		batch.addAll(containerBatch);
+		batch.dispatch();
+		assertEquals(1, invocations.get());
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.gentics.mesh.event;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_CREATED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.core.rest.project.ProjectReference;
+
+import io.vertx.core.buffer.Buffer;
+
+public class MeshEventBatchCodecTest {
+
+	private final MeshEventBatchCodec codec = new MeshEventBatchCodec();
+
+	@Test
+	public void testWireRoundtrip() {
+		NodeMeshEventModel node = new NodeMeshEventModel();
+		node.setEvent(NODE_UPDATED);
+		node.setUuid("nodeUuid");
+		node.setProject(new ProjectReference().setUuid("projectUuid").setName("dummy"));
+		node.setBranchUuid("branchUuid");
+		node.setLanguageTag("en");
+		node.setType(ContainerType.DRAFT);
+
+		MeshElementEventModelImpl project = new MeshElementEventModelImpl();
+		project.setEvent(PROJECT_CREATED);
+		project.setUuid("projectUuid");
+		project.setName("dummy");
+
+		Buffer buffer = Buffer.buffer();
+		// Simulate a preceding header in the message buffer
+		buffer.appendInt(42);
+		codec.encodeToWire(buffer, new MeshEventBatch(Arrays.asList(node, project)));
+		MeshEventBatch decoded = codec.decodeFromWire(4, buffer);
+
+		assertEquals(2, decoded.getEvents().size());
+		assertTrue(decoded.getEvents().get(0) instanceof NodeMeshEventModel);
+		NodeMeshEventModel decodedNode = (NodeMeshEventModel) decoded.getEvents().get(0);
+		assertEquals(NODE_UPDATED, decodedNode.getEvent());
+		assertEquals("nodeUuid", decodedNode.getUuid());
+		assertEquals("projectUuid", decodedNode.getProject().getUuid());
+		assertEquals("branchUuid", decodedNode.getBranchUuid());
+		assertEquals("en", decodedNode.getLanguageTag());
+		assertEquals(ContainerType.DRAFT, decodedNode.getType());
+
+		assertEquals(PROJECT_CREATED, decoded.getEvents().get(1).getEvent());
+		assertEquals("projectUuid", ((MeshElementEventModelImpl) decoded.getEvents().get(1)).getUuid());
+	}
+
+	@Test
+	public void testLocalDeliveryIsNotCopied() {
+		MeshEventBatch batch = new MeshEventBatch(Arrays.asList());
+		assertSame(batch, codec.transform(batch));
+	}
+}
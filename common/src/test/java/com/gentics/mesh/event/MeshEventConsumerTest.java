@@ -0,0 +1,104 @@
+package com.gentics.mesh.event;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_CREATED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.json.JsonObject;
+
+public class MeshEventConsumerTest {
+
+	private Vertx vertx;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		vertx.eventBus().registerDefaultCodec(MeshEventBatch.class, new MeshEventBatchCodec());
+	}
+
+	@After
+	public void tearDown() {
+		vertx.close();
+	}
+
+	@Test
+	public void testUnpackBatch() throws Exception {
+		BlockingQueue<MeshEventModel> received = new LinkedBlockingQueue<>();
+		MeshEventConsumer consumer = register(Collections.singleton(NODE_UPDATED), received);
+
+		NodeMeshEventModel node = new NodeMeshEventModel();
+		node.setEvent(NODE_UPDATED);
+		node.setUuid("nodeUuid");
+		MeshElementEventModelImpl project = new MeshElementEventModelImpl();
+		project.setEvent(PROJECT_CREATED);
+		project.setUuid("projectUuid");
+		vertx.eventBus().publish(MeshEventBatch.ADDRESS, new MeshEventBatch(Arrays.asList(project, node)));
+
+		MeshEventModel model = received.poll(5, TimeUnit.SECONDS);
+		assertTrue(model instanceof NodeMeshEventModel);
+		assertEquals("nodeUuid", ((NodeMeshEventModel) model).getUuid());
+		assertNull("Only the events of the consumer must be handled", received.poll(200, TimeUnit.MILLISECONDS));
+		consumer.unregister();
+	}
+
+	@Test
+	public void testDirectlyPublishedEvent() throws Exception {
+		BlockingQueue<MeshEventModel> received = new LinkedBlockingQueue<>();
+		MeshEventConsumer consumer = register(Collections.singleton(PROJECT_CREATED), received);
+
+		vertx.eventBus().publish(PROJECT_CREATED.address, new JsonObject().put("uuid", "projectUuid").put("name", "dummy"));
+
+		MeshEventModel model = received.poll(5, TimeUnit.SECONDS);
+		assertEquals(PROJECT_CREATED, model.getEvent());
+		assertEquals("projectUuid", ((MeshElementEventModelImpl) model).getUuid());
+		consumer.unregister();
+	}
+
+	@Test
+	public void testBatchedEventIsHandledOnce() throws Exception {
+		BlockingQueue<MeshEventModel> received = new LinkedBlockingQueue<>();
+		MeshEventConsumer consumer = register(Collections.singleton(NODE_UPDATED), received);
+
+		NodeMeshEventModel node = new NodeMeshEventModel();
+		node.setEvent(NODE_UPDATED);
+		node.setUuid("nodeUuid");
+		vertx.eventBus().publish(MeshEventBatch.ADDRESS, new MeshEventBatch(Arrays.asList(node)));
+		vertx.eventBus().publish(NODE_UPDATED.address, MeshEventBatch.toJson(node),
+			new DeliveryOptions().addHeader(MeshEventBatch.BATCHED_HEADER, "true"));
+
+		MeshEventModel model = received.poll(5, TimeUnit.SECONDS);
+		assertEquals("nodeUuid", ((NodeMeshEventModel) model).getUuid());
+		assertNull("The separately published event must be ignored", received.poll(200, TimeUnit.MILLISECONDS));
+		consumer.unregister();
+	}
+
+	private MeshEventConsumer register(Collection<MeshEvent> events, BlockingQueue<MeshEventModel> received) throws Exception {
+		CompletableFuture<Void> registered = new CompletableFuture<>();
+		MeshEventConsumer consumer = MeshEventConsumer.consumer(vertx.eventBus(), events, (event, model) -> received.add(model));
+		consumer.completionHandler(res -> registered.complete(null));
+		registered.get(5, TimeUnit.SECONDS);
+		return consumer;
+	}
+
+}
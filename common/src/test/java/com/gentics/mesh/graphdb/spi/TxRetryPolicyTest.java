@@ -0,0 +1,53 @@
+package com.gentics.mesh.graphdb.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TxRetryPolicyTest {
+
+	@Test
+	public void testDelay() {
+		TxRetryPolicy policy = new TxRetryPolicy(10, 10, 1000);
+		for (int i = 0; i < 100; i++) {
+			assertDelay(policy.getDelay(0), 5, 10);
+			assertDelay(policy.getDelay(3), 40, 80);
+			// The delay is capped by the max delay
+			assertDelay(policy.getDelay(9), 500, 1000);
+			assertDelay(policy.getDelay(200), 500, 1000);
+		}
+	}
+
+	@Test
+	public void testNoDelay() {
+		TxRetryPolicy policy = new TxRetryPolicy(10, 0, 1000);
+		assertEquals(0, policy.getDelay(5));
+	}
+
+	@Test
+	public void testShouldRetry() {
+		TxRetryPolicy policy = new TxRetryPolicy(3, 10, 1000);
+		assertTrue(policy.shouldRetry(0));
+		assertTrue(policy.shouldRetry(1));
+		assertFalse("The third attempt was the last one", policy.shouldRetry(2));
+	}
+
+	@Test
+	public void testCallSite() {
+		StackTraceElement[] stack = {
+			new StackTraceElement("java.lang.Thread", "getStackTrace", null, 0),
+			new StackTraceElement("com.gentics.mesh.graphdb.OrientDBDatabase", "tx", null, 0),
+			new StackTraceElement("com.gentics.mesh.core.verticle.handler.HandlerUtilities", "syncTx", null, 0),
+			new StackTraceElement("com.gentics.mesh.core.endpoint.node.NodeCrudHandler", "lambda$handleMove$3", null, 0)
+		};
+		assertEquals("NodeCrudHandler.handleMove", TxCallSite.of(stack));
+		assertEquals("unknown", TxCallSite.of(new StackTraceElement[0]));
+	}
+
+	private void assertDelay(long delay, long min, long max) {
+		assertTrue("The delay {" + delay + "} should be at least {" + min + "}", delay >= min);
+		assertTrue("The delay {" + delay + "} should be at most {" + max + "}", delay <= max);
+	}
+}
@@ -0,0 +1,36 @@
+package com.gentics.mesh.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+
+public class RxUtilTest {
+
+	private static final Flowable<Buffer> STREAM = Flowable.just("012", "345", "678", "9").map(Buffer::buffer);
+
+	@Test
+	public void testSlice() {
+		assertEquals("0123456789", read(RxUtil.slice(STREAM, 0, 9)));
+		assertEquals("2345", read(RxUtil.slice(STREAM, 2, 5)));
+		assertEquals("4", read(RxUtil.slice(STREAM, 4, 4)));
+		assertEquals("789", read(RxUtil.slice(STREAM, 7, 100)));
+	}
+
+	@Test
+	public void testSliceCancelsSource() {
+		AtomicBoolean cancelled = new AtomicBoolean();
+		assertEquals("12", read(RxUtil.slice(STREAM.doOnCancel(() -> cancelled.set(true)), 1, 2)));
+		assertTrue("The source should be cancelled once the range has been read", cancelled.get());
+	}
+
+	private String read(Flowable<Buffer> stream) {
+		return stream.reduce(Buffer.buffer(), Buffer::appendBuffer).blockingGet().toString();
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.gentics.mesh.util.rx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+
+public class BufferFlowableInputStreamTest {
+
+	@Test
+	public void testReadAll() throws IOException {
+		Flowable<Buffer> stream = Flowable.just("Hello", " ", "World").map(Buffer::buffer);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (BufferFlowableInputStream ins = new BufferFlowableInputStream(stream, 2)) {
+			byte[] buffer = new byte[3];
+			int n;
+			while ((n = ins.read(buffer)) != -1) {
+				out.write(buffer, 0, n);
+			}
+		}
+		assertEquals("Hello World", out.toString("UTF-8"));
+	}
+
+	@Test
+	public void testBoundedRequests() throws IOException {
+		AtomicLong requested = new AtomicLong();
+		Flowable<Buffer> stream = Flowable.range(0, 100).map(i -> Buffer.buffer(new byte[] { i.byteValue() }))
+			.doOnRequest(requested::addAndGet);
+		try (BufferFlowableInputStream ins = new BufferFlowableInputStream(stream, 4)) {
+			assertEquals(4, requested.get());
+			assertEquals(0, ins.read());
+			assertEquals(5, requested.get());
+		}
+	}
+
+	@Test
+	public void testCloseCancels() throws IOException {
+		AtomicBoolean cancelled = new AtomicBoolean();
+		Flowable<Buffer> stream = Flowable.range(0, 100).map(i -> Buffer.buffer(new byte[] { i.byteValue() }))
+			.doOnCancel(() -> cancelled.set(true));
+		BufferFlowableInputStream ins = new BufferFlowableInputStream(stream, 4);
+		ins.read();
+		ins.close();
+		assertTrue(cancelled.get());
+		assertEquals(-1, ins.read());
+	}
+
+	@Test(expected = IOException.class)
+	public void testError() throws IOException {
+		Flowable<Buffer> stream = Flowable.error(new RuntimeException("Test"));
+		try (BufferFlowableInputStream ins = new BufferFlowableInputStream(stream, 4)) {
+			ins.read();
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.gentics.mesh.util.rx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.reactivex.Flowable;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+public class WriteStreamSubscriberTest {
+
+	@Test
+	public void testWriteAll() {
+		WriteStream<Buffer> stream = mockStream();
+		Flowable.range(0, 10).map(i -> Buffer.buffer("" + i)).subscribe(new WriteStreamSubscriber(stream, e -> {}));
+		verify(stream, times(10)).write(any(Buffer.class));
+		verify(stream).end();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testWaitForDrain() {
+		WriteStream<Buffer> stream = mockStream();
+		when(stream.writeQueueFull()).thenReturn(true);
+		AtomicLong requested = new AtomicLong();
+		Flowable<Buffer> source = Flowable.range(0, 10).map(i -> Buffer.buffer("" + i)).doOnRequest(requested::addAndGet);
+		source.subscribe(new WriteStreamSubscriber(stream, e -> {}));
+
+		// The queue is full, so no further buffer must be requested
+		assertEquals(1, requested.get());
+		ArgumentCaptor<Handler> drainHandler = ArgumentCaptor.forClass(Handler.class);
+		verify(stream).drainHandler(drainHandler.capture());
+
+		when(stream.writeQueueFull()).thenReturn(false);
+		drainHandler.getValue().handle(null);
+		drainHandler.getValue().handle(null);
+		assertEquals("The next buffer must only be requested once per drain", 11, requested.get());
+		verify(stream, times(10)).write(any(Buffer.class));
+		verify(stream).end();
+	}
+
+	@Test
+	public void testCancel() {
+		WriteStream<Buffer> stream = mockStream();
+		when(stream.writeQueueFull()).thenReturn(true);
+		AtomicBoolean cancelled = new AtomicBoolean();
+		WriteStreamSubscriber subscriber = new WriteStreamSubscriber(stream, e -> {});
+		Flowable.range(0, 10).map(i -> Buffer.buffer("" + i)).doOnCancel(() -> cancelled.set(true)).subscribe(subscriber);
+		subscriber.cancel();
+		assertTrue(cancelled.get());
+		verify(stream, never()).end();
+	}
+
+	@Test
+	public void testError() {
+		WriteStream<Buffer> stream = mockStream();
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		Flowable.<Buffer>error(new RuntimeException("Test")).subscribe(new WriteStreamSubscriber(stream, error::set));
+		assertNotNull(error.get());
+		verify(stream, never()).end();
+	}
+
+	@SuppressWarnings("unchecked")
+	private WriteStream<Buffer> mockStream() {
+		return mock(WriteStream.class);
+	}
+
+}
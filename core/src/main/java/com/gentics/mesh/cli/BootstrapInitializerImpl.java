@@ -66,6 +66,7 @@ import com.gentics.mesh.core.data.root.impl.MeshRootImpl;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
+import com.gentics.mesh.core.data.service.NodeResponseStore;
 import com.gentics.mesh.core.data.service.WebrootPathStore;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
 import com.gentics.mesh.core.rest.schema.HtmlFieldSchema;
@@ -84,7 +85,11 @@ import com.gentics.mesh.etc.config.ClusterOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.MonitoringConfig;
+import com.gentics.mesh.event.MeshEventBatch;
+import com.gentics.mesh.event.MeshEventBatchCodec;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaStore;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.plugin.PluginManager;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.search.DevNullSearchProvider;
@@ -144,6 +149,15 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	@Inject
 	public WebrootPathStore pathStore;
 
+	@Inject
+	public NodeResponseStore responseStore;
+
+	@Inject
+	public GraphQLSchemaStore graphQLSchemaStore;
+
+	@Inject
+	public MetricsService metrics;
+
 	private static MeshRoot meshRoot;
 
 	// TODO: Changing the role name or deleting the role would cause code that utilizes this field to break.
@@ -363,6 +377,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 			log.info("Creating non-clustered Vert.x instance");
 			vertx = Vertx.vertx(vertxOptions);
 		}
+		vertx.eventBus().registerDefaultCodec(MeshEventBatch.class, new MeshEventBatchCodec());
 		if (vertx.isNativeTransportEnabled()) {
 			log.info("Running with native transports enabled");
 		} else {
@@ -466,8 +481,11 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	@Override
 	public void registerEventHandlers() {
 		RouterStorage.registerEventbus();
+		PermissionStore.init(Mesh.mesh().getOptions().getCacheConfig(), metrics);
 		PermissionStore.registerEventHandler();
 		pathStore.registerEventHandler();
+		responseStore.registerEventHandler();
+		graphQLSchemaStore.registerEventHandler();
 	}
 
 	@Override
@@ -1,6 +1,7 @@
 package com.gentics.mesh.context.impl;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -9,6 +10,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import com.gentics.madl.traversal.RawTraversalResult;
@@ -16,6 +18,7 @@ import com.gentics.mesh.context.AbstractInternalActionContext;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.NodeMigrationActionContext;
+import com.gentics.mesh.core.cache.RoleSet;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.MeshAuthUser;
@@ -72,7 +75,7 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 	private Map<String, Object> data;
 
-	private Set<ConflictWarning> conflicts = new HashSet<>();
+	private Set<ConflictWarning> conflicts = ConcurrentHashMap.newKeySet();
 
 	private MultiMap parameters = MultiMap.caseInsensitiveMultiMap();
 
@@ -276,6 +279,16 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 				return true;
 			}
 
+			@Override
+			public RoleSet getRoleSet() {
+				return RoleSet.of(Collections.emptyList());
+			}
+
+			@Override
+			public Set<Object> filterReadable(Collection<Object> elementIds, GraphPermission permission) {
+				return new HashSet<>(elementIds);
+			}
+
 			@Override
 			public boolean hasPermission(MeshVertex element, GraphPermission permission) {
 				return true;
@@ -878,6 +891,24 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 		Objects.requireNonNull(toContainerVersion, "The target schema reference is missing in the context.");
 	}
 
+	/**
+	 * Create a new context which references the same migration state (project, branch, versions, cause, status and conflicts). The request
+	 * parameters are not shared. This way each migration worker can use its own context.
+	 *
+	 * @return
+	 */
+	public NodeMigrationActionContextImpl fork() {
+		NodeMigrationActionContextImpl context = new NodeMigrationActionContextImpl();
+		context.conflicts = conflicts;
+		context.project = project;
+		context.branch = branch;
+		context.cause = cause;
+		context.fromContainerVersion = fromContainerVersion;
+		context.toContainerVersion = toContainerVersion;
+		context.status = status;
+		return context;
+	}
+
 	@Override
 	public boolean isPurgeAllowed() {
 		// The purge operation is not allowed during schema migrations. Instead the purge will be executed after containers have been migrated.
@@ -4,7 +4,10 @@ import java.util.function.Consumer;
 
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.FileUpload;
 
 /**
@@ -30,4 +33,22 @@ public interface BinaryDataProcessor {
 	 */
 	Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, String hash);
 
+	/**
+	 * Process the binary data while the upload is being read and return a consumer for the binary field. All processors and the hashing share a
+	 * single read of the upload. The stream must be subscribed synchronously when the returned maybe is subscribed and the processor must not
+	 * block the stream. Processors which can't process the stream should not subscribe to it.
+	 * 
+	 * The default implementation processes the upload file via {@link #process(FileUpload, String)} once the hash is known.
+	 * 
+	 * @param upload
+	 * @param stream
+	 *            Content of the upload
+	 * @param hash
+	 *            SHA512 sum of the upload which will be available once the upload has been read
+	 * @return Modifier for the binary graph field.
+	 */
+	default Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, Flowable<Buffer> stream, Single<String> hash) {
+		return hash.flatMapMaybe(h -> process(upload, h));
+	}
+
 }
@@ -0,0 +1,189 @@
+package com.gentics.mesh.core.binary;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.image.spi.ImageManipulator;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+import com.gentics.mesh.util.HttpQueryUtils;
+
+import dagger.Lazy;
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.processors.FlowableProcessor;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Handler which generates the configured image renditions of uploaded images. The renditions are written to the image cache, so that the first
+ * request for a rendition does not have to wait for the resize operation.
+ *
+ * The uploads are queued in memory and processed one after another, independent of the jobs. The renditions only warm up the image cache and thus
+ * don't need to be persisted. Renditions which have not been generated, e.g. due to a restart, will be created on the first request.
+ */
+@Singleton
+public class ImageRenditionHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageRenditionHandler.class);
+
+	/**
+	 * Maximum amount of uploads which may wait for the generation of their renditions. The renditions of further uploads will be generated on the
+	 * first request.
+	 */
+	private static final int MAX_QUEUED_UPLOADS = 1000;
+
+	private final Database db;
+
+	private final Lazy<BootstrapInitializer> boot;
+
+	private final ImageManipulator imageManipulator;
+
+	private final Map<String, String> renditions;
+
+	private final FlowableProcessor<RenditionRequest> queue = PublishProcessor.<RenditionRequest>create().toSerialized();
+
+	@Inject
+	public ImageRenditionHandler(Database db, Lazy<BootstrapInitializer> boot, ImageManipulator imageManipulator, MeshOptions options) {
+		this.db = db;
+		this.boot = boot;
+		this.imageManipulator = imageManipulator;
+		this.renditions = options.getImageOptions().getRenditions();
+		queue.onBackpressureDrop(request -> {
+			log.warn("Too many uploads are waiting for their renditions. The renditions of binary {" + request.sha512sum
+				+ "} will be generated on the first request.");
+		}).concatMapCompletable(request -> generateRenditions(request.sha512sum, request.focalPoint)
+			.subscribeOn(Schedulers.io())
+			.doOnError(e -> log.error("Could not generate the renditions of binary {" + request.sha512sum + "}", e))
+			.onErrorComplete(), MAX_QUEUED_UPLOADS)
+			.subscribe();
+	}
+
+	/**
+	 * Check whether any renditions have been configured.
+	 *
+	 * @return
+	 */
+	public boolean hasRenditions() {
+		return !renditions.isEmpty();
+	}
+
+	/**
+	 * Enqueue the generation of the configured renditions of the binary. The renditions will be generated in the background.
+	 *
+	 * @param sha512sum
+	 *            Hash of the uploaded binary
+	 * @param focalPoint
+	 *            Focal point of the field which references the binary
+	 */
+	public void enqueue(String sha512sum, FocalPoint focalPoint) {
+		queue.onNext(new RenditionRequest(sha512sum, focalPoint));
+	}
+
+	/**
+	 * Generate all configured renditions of the binary one after another and store the names of the generated renditions in the binary. A failed
+	 * rendition will be logged and will not abort the remaining renditions.
+	 *
+	 * @param sha512sum
+	 *            Hash of the binary
+	 * @param focalPoint
+	 *            Focal point of the field which references the binary. It is used for the renditions which don't specify a focal point, just like
+	 *            the focal point of the field is used when an image is requested.
+	 * @return
+	 */
+	public Completable generateRenditions(String sha512sum, FocalPoint focalPoint) {
+		return Completable.defer(() -> {
+			Binary binary = db.tx(() -> boot.get().binaryRoot().findByHash(sha512sum));
+			if (binary == null) {
+				log.warn("The binary {" + sha512sum + "} could not be found. It may have been deleted in the meantime.");
+				return Completable.complete();
+			}
+			String binaryUuid = db.tx(() -> binary.getUuid());
+			List<String> generated = new ArrayList<>();
+			return Observable.fromIterable(renditions.entrySet())
+				.concatMapCompletable(rendition -> generateRendition(binary, rendition.getValue(), focalPoint)
+					.doOnComplete(() -> generated.add(rendition.getKey()))
+					.onErrorComplete(e -> {
+						log.warn("Could not generate image rendition {" + rendition.getKey() + "} for binary {" + binaryUuid + "}", e);
+						return true;
+					}))
+				.andThen(Completable.fromAction(() -> db.tx(() -> {
+					binary.setRenditions(generated);
+					return updateReferencingNodes(binary);
+				}).dispatch()));
+		});
+	}
+
+	/**
+	 * The renditions are stored in the binary which is shared by all fields which reference the same data. Update the content stamp of all nodes
+	 * which reference the binary and create the update events for their containers, so that cached responses and the search index pick up the
+	 * renditions.
+	 *
+	 * @param binary
+	 * @return Batch with the update events
+	 */
+	private EventQueueBatch updateReferencingNodes(Binary binary) {
+		EventQueueBatch batch = EventQueueBatch.create();
+		for (BinaryGraphField field : binary.findFields()) {
+			NodeGraphFieldContainer container = field.getParentContainer();
+			if (container == null) {
+				continue;
+			}
+			container.getParentNode().updateContentStamp();
+			for (ContainerType type : Arrays.asList(DRAFT, PUBLISHED)) {
+				for (String branchUuid : container.getBranches(type)) {
+					batch.add(container.onUpdated(branchUuid, type));
+				}
+			}
+		}
+		return batch;
+	}
+
+	private Completable generateRendition(Binary binary, String query, FocalPoint focalPoint) {
+		return Completable.defer(() -> {
+			ImageManipulationParameters parameters = new ImageManipulationParametersImpl();
+			HttpQueryUtils.splitQuery(query).forEach(parameters::setParameter);
+			if (!parameters.hasFocalPoint() && focalPoint != null) {
+				parameters.setFocalPoint(focalPoint);
+			}
+			return db.tx(() -> imageManipulator.handleResize(binary, parameters))
+				.doOnSuccess(imageManipulator::releaseVariant)
+				.ignoreElement();
+		});
+	}
+
+	/**
+	 * Upload which waits for the generation of its renditions.
+	 */
+	private static class RenditionRequest {
+
+		private final String sha512sum;
+
+		private final FocalPoint focalPoint;
+
+		RenditionRequest(String sha512sum, FocalPoint focalPoint) {
+			this.sha512sum = sha512sum;
+			this.focalPoint = focalPoint;
+		}
+	}
+
+}
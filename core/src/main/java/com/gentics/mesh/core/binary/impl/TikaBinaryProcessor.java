@@ -23,8 +23,12 @@ import com.gentics.mesh.core.binary.DocumentTikaParser;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.rest.node.field.binary.Location;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.util.rx.BufferFlowableInputStream;
 
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.FileUpload;
@@ -48,6 +52,11 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 	 */
 	private static final int DEFAULT_NON_DOC_TIKA_PARSE_LIMIT = 0;
 
+	/**
+	 * Amount of buffers which are read ahead of the parser when parsing the upload stream
+	 */
+	private static final int STREAM_PREFETCH = 16;
+
 	@Inject
 	public TikaBinaryProcessor(MeshOptions options) {
 		this.options = options;
@@ -118,19 +127,7 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 
 			try (FileInputStream ins = new FileInputStream(uploadFile)) {
 				TikaResult pr = parseFile(ins, len);
-
-				Consumer<BinaryGraphField> consumer = field -> {
-					pr.getMetadata().forEach((e, k) -> {
-						field.setMetadata(e, k);
-					});
-					if (pr.getPlainText().isPresent()) {
-						field.setPlainText(pr.getPlainText().get());
-					}
-					if (pr.getLoc().isPresent()) {
-						field.setLocation(pr.getLoc());
-					}
-				};
-				sub.onSuccess(consumer);
+				sub.onSuccess(createConsumer(pr));
 			} catch (Exception e) {
 				log.warn("Tika processing of upload failed", e);
 				sub.onError(e);
@@ -141,6 +138,41 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 
 	}
 
+	/**
+	 * Parse the upload while it is being read. The parser reads from a bounded window of the stream in a worker thread.
+	 */
+	@Override
+	public Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, Flowable<Buffer> stream, Single<String> hash) {
+		return Maybe.defer(() -> {
+			// Subscribe right away so that no data of the shared stream is missed
+			BufferFlowableInputStream ins = new BufferFlowableInputStream(stream, STREAM_PREFETCH);
+			return Maybe.fromCallable(() -> {
+				try {
+					return createConsumer(parseFile(ins, getParserLimit(upload.contentType())));
+				} finally {
+					// Stops the subscription if the parser did not read all data
+					ins.close();
+				}
+			}).subscribeOn(RxHelper.blockingScheduler(Mesh.vertx(), false))
+				.doOnError(e -> log.warn("Tika processing of upload failed", e))
+				.doOnDispose(ins::close);
+		}).onErrorComplete();
+	}
+
+	private Consumer<BinaryGraphField> createConsumer(TikaResult pr) {
+		return field -> {
+			pr.getMetadata().forEach((e, k) -> {
+				field.setMetadata(e, k);
+			});
+			if (pr.getPlainText().isPresent()) {
+				field.setPlainText(pr.getPlainText().get());
+			}
+			if (pr.getLoc().isPresent()) {
+				field.setLocation(pr.getLoc());
+			}
+		};
+	}
+
 	public TikaResult parseFile(InputStream ins, int len) throws TikaException, IOException {
 
 		Location loc = new Location();
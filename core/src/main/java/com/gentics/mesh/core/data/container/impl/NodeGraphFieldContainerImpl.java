@@ -11,6 +11,7 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIS
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_MICROSCHEMA_CONTAINER;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_SCHEMA_CONTAINER_VERSION;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_VERSION;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
@@ -39,6 +40,7 @@ import org.apache.commons.collections.CollectionUtils;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
@@ -82,6 +84,7 @@ import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.Schema;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
@@ -217,10 +220,15 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public void updateFieldsFromRest(InternalActionContext ac, FieldMap restFields) {
+		updateFieldsFromRest(ac, restFields, null);
+	}
+
+	@Override
+	public void updateFieldsFromRest(InternalActionContext ac, FieldMap restFields, EventQueueBatch batch) {
 		super.updateFieldsFromRest(ac, restFields);
 		String branchUuid = ac.getBranch().getUuid();
 
-		updateWebrootPathInfo(ac, branchUuid, "node_conflicting_segmentfield_update");
+		updateWebrootPathInfo(ac, branchUuid, "node_conflicting_segmentfield_update", batch);
 		updateDisplayFieldValue();
 	}
 
@@ -263,8 +271,11 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 	 * @param branchUuid
 	 * @param urlFieldValues
 	 * @param type
+	 * @param batch
+	 *            Batch which will clear the path stores after the commit
 	 */
-	private void updateWebrootUrlFieldsInfo(GraphFieldContainerEdge edge, String branchUuid, Set<String> urlFieldValues, ContainerType type) {
+	private void updateWebrootUrlFieldsInfo(GraphFieldContainerEdge edge, String branchUuid, Set<String> urlFieldValues, ContainerType type,
+		EventQueueBatch batch) {
 		if (urlFieldValues != null && !urlFieldValues.isEmpty()) {
 			// Individually check each url
 			for (String urlFieldValue : urlFieldValues) {
@@ -290,7 +301,17 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 						conflictingContainer.getLanguageTag());
 				}
 			}
+			Set<String> previousUrlFieldValues = edge.getUrlFieldInfo();
 			edge.setUrlFieldInfo(urlFieldValues);
+			// Added url field values may shadow paths which have been cached for other nodes. The stores must only be cleared once the change has
+			// been committed. Otherwise the shadowed paths could be cached again in the meantime.
+			if (previousUrlFieldValues == null || !previousUrlFieldValues.containsAll(urlFieldValues)) {
+				if (batch == null) {
+					clearPathStores();
+				} else {
+					batch.onDispatch(NodeGraphFieldContainerImpl::clearPathStores);
+				}
+			}
 		} else {
 			edge.setUrlFieldInfo(null);
 		}
@@ -298,22 +319,26 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 	}
 
 	@Override
-	public void updateWebrootPathInfo(InternalActionContext ac, String branchUuid, String conflictI18n) {
+	public void updateWebrootPathInfo(InternalActionContext ac, String branchUuid, String conflictI18n, EventQueueBatch batch) {
 		Set<String> urlFieldValues = getUrlFieldValues();
 		Iterator<? extends GraphFieldContainerEdge> it = getContainerEdge(DRAFT, branchUuid);
 		if (it.hasNext()) {
 			GraphFieldContainerEdge draftEdge = it.next();
 			updateWebrootPathInfo(ac, draftEdge, branchUuid, conflictI18n, DRAFT);
-			updateWebrootUrlFieldsInfo(draftEdge, branchUuid, urlFieldValues, DRAFT);
+			updateWebrootUrlFieldsInfo(draftEdge, branchUuid, urlFieldValues, DRAFT, batch);
 		}
 		it = getContainerEdge(PUBLISHED, branchUuid);
 		if (it.hasNext()) {
 			GraphFieldContainerEdge publishEdge = it.next();
 			updateWebrootPathInfo(ac, publishEdge, branchUuid, conflictI18n, PUBLISHED);
-			updateWebrootUrlFieldsInfo(publishEdge, branchUuid, urlFieldValues, PUBLISHED);
+			updateWebrootUrlFieldsInfo(publishEdge, branchUuid, urlFieldValues, PUBLISHED, batch);
 		}
 	}
 
+	private static void clearPathStores() {
+		Mesh.vertx().eventBus().publish(CLEAR_PATH_STORE.address, null);
+	}
+
 	/**
 	 * Update the webroot path info (checking for uniqueness before)
 	 *
@@ -14,6 +14,7 @@ import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.core.cache.PermissionStore;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.Role;
@@ -120,6 +121,11 @@ public class MeshVertexImpl extends AbstractVertexFrame implements MeshVertex {
 		Set<GraphPermission> permissionsToRevoke) {
 		role.grantPermissions(this, permissionsToGrant.toArray(new GraphPermission[permissionsToGrant.size()]));
 		role.revokePermissions(this, permissionsToRevoke.toArray(new GraphPermission[permissionsToRevoke.size()]));
+		if (!permissionsToGrant.isEmpty() || !permissionsToRevoke.isEmpty()) {
+			// A concurrent permission check may have cached the previous permissions again before the change got committed
+			Object elementId = id();
+			batch.onDispatch(() -> PermissionStore.invalidateElement(elementId));
+		}
 
 		if (this instanceof MeshCoreVertex) {
 			MeshCoreVertex<?, ?> coreVertex = (MeshCoreVertex<?, ?>) this;
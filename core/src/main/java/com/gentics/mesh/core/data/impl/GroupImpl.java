@@ -16,6 +16,9 @@ import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -94,6 +97,8 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		// The roles of the user changed
+		PermissionStore.invalidateUsers(Collections.singleton(user.id()));
 	}
 
 	@Override
@@ -102,7 +107,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(Collections.singleton(user.id()));
 	}
 
 	@Override
@@ -115,10 +120,13 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		setUniqueLinkInTo(role, HAS_ROLE);
 
 		// Add shortcut edges from role to users of this group
+		List<Object> userIds = new ArrayList<>();
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
+			userIds.add(user.id());
 		}
-
+		// The roles of the users changed
+		PermissionStore.invalidateUsers(userIds);
 	}
 
 	@Override
@@ -126,10 +134,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		unlinkIn(role, HAS_ROLE);
 
 		// Update the shortcut edges since the role does no longer belong to the group
+		List<Object> userIds = new ArrayList<>();
 		for (User user : getUsers()) {
 			user.updateShortcutEdges();
+			userIds.add(user.id());
 		}
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(userIds);
 	}
 
 	@Override
@@ -194,13 +204,15 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		Set<? extends User> affectedUsers = getUsers().stream().collect(Collectors.toSet());
 		getElement().remove();
+		List<Object> userIds = new ArrayList<>();
 		for (User user : affectedUsers) {
 			user.updateShortcutEdges();
+			userIds.add(user.id());
 			bac.add(user.onUpdated());
 			bac.inc();
 		}
 		bac.process();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(userIds);
 	}
 
 	@Override
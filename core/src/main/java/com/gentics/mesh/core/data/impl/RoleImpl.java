@@ -112,11 +112,17 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public void grantPermissions(MeshVertex vertex, GraphPermission... permissions) {
+		boolean granted = false;
 		for (GraphPermission permission : permissions) {
 			if (!hasPermission(permission, vertex)) {
 				addFramedEdge(permission.label(), vertex);
+				granted = true;
 			}
 		}
+		// Cached denials for the element are no longer valid
+		if (granted) {
+			PermissionStore.invalidateElement(vertex.id());
+		}
 	}
 
 	@Override
@@ -157,7 +163,7 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 			.count();
 
 		if (edgesRemoved > 0) {
-			PermissionStore.invalidate();
+			PermissionStore.invalidateElement(vertex.id());
 		}
 	}
 
@@ -183,10 +189,11 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 				}
 			}
 		}
+		Object roleId = id();
 		bac.add(onDeleted());
 		getVertex().remove();
 		bac.process();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateRole(roleId);
 	}
 
 	@Override
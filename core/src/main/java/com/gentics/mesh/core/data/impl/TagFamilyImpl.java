@@ -217,6 +217,10 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 		}
 		if (!getName().equals(newName)) {
 			this.setName(newName);
+			// The tag family name is part of the tags within the node response
+			for (Tag tag : findAll()) {
+				tag.updateTaggedNodeContentStamps();
+			}
 			batch.add(onUpdated());
 			return true;
 		}
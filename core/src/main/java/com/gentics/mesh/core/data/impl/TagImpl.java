@@ -1,6 +1,5 @@
 package com.gentics.mesh.core.data.impl;
 
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.ASSIGNED_TO_PROJECT;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_CREATOR;
@@ -81,6 +80,15 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 		return new TraversalResult<>(it);
 	}
 
+	@Override
+	public void updateTaggedNodeContentStamps() {
+		for (Branch branch : getProject().getBranchRoot().findAll()) {
+			for (Node node : getNodes(branch)) {
+				node.updateContentStamp();
+			}
+		}
+	}
+
 	@Override
 	public String getName() {
 		return property(TAG_VALUE_KEY);
@@ -165,6 +173,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 		for (Branch branch : getProject().getBranchRoot().findAll()) {
 			for (Node node : getNodes(branch)) {
 				bac.add(node.onTagged(this, branch, UNASSIGNED));
+				node.updateContentStamp();
 			}
 		}
 		getElement().remove();
@@ -184,25 +193,17 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 		Branch branch = ac.getBranch();
 		String branchUuid = branch.getUuid();
 		TraversalResult<? extends Node> nodes = new TraversalResult<>(inE(HAS_TAG).has(GraphFieldContainerEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).outV().frameExplicit(NodeImpl.class));
-		Stream<? extends Node> s = nodes.stream()
+		Stream<? extends Node> drafts = nodes.stream()
 			.filter(item -> {
 				// Check whether the node has at least a draft in the selected branch - Otherwise the node should be skipped
 				return GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, DRAFT);
 			})
-			.filter(item -> {
-				boolean hasRead = user.hasPermissionForId(item.getId(), READ_PERM);
-				if (hasRead) {
-					return true;
-				} else {
-					// Check whether the node is published. In this case we need to check the read publish perm.
-					boolean isPublishedForBranch = GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, PUBLISHED);
-					if (isPublishedForBranch) {
-						return user.hasPermissionForId(item.getId(), READ_PUBLISHED_PERM);
-					}
-				}
-				return false;
 			});
 
+		// Check the permissions of multiple nodes at once
+		Stream<? extends Node> s = user.filterReadableNodes(drafts, Node::getId,
+			id -> GraphFieldContainerEdgeImpl.matchesBranchAndType(id, branchUuid, PUBLISHED));
+
 		return new TraversalResult<>(() -> s.iterator());
 	}
 
@@ -254,6 +255,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 				setEditor(ac.getUser());
 				setLastEditedTimestamp();
 				setName(newTagName);
+				updateTaggedNodeContentStamps();
 				batch.add(onUpdated());
 				return true;
 			}
@@ -20,7 +20,13 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
@@ -37,6 +43,7 @@ import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.cache.RoleSet;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -320,39 +327,121 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public boolean hasPermissionForId(Object elementId, GraphPermission permission) {
-		if (PermissionStore.hasPermission(getId(), permission, elementId)) {
-			return true;
-		} else {
-			FramedGraph graph = getGraph();
-			// Find all roles that are assigned to the user by checking the
-			// shortcut edge from the index
-			String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
-			Iterable<Edge> roleEdges = graph.getEdges(idxKey.toLowerCase(), this.id());
-			for (Edge roleEdge : roleEdges) {
-				Vertex role = roleEdge.getVertex(Direction.IN);
-				// Find all permission edges between the found role and target
-				// vertex with the specified label
-				String roleEdgeIdx = "e." + permission.label() + "_inout";
-				Iterable<Edge> edges = graph.getEdges(roleEdgeIdx.toLowerCase(),
-					MeshInternal.get().database().index().createComposedIndexKey(elementId, role.getId()));
-				boolean foundPermEdge = edges.iterator().hasNext();
-				if (foundPermEdge) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					PermissionStore.store(getId(), permission, elementId);
-					return true;
+		RoleSet roles = getRoleSet();
+		Boolean cachedPerm = PermissionStore.getCachedPermission(roles, permission, elementId);
+		if (cachedPerm != null) {
+			return cachedPerm;
+		}
+		FramedGraph graph = getGraph();
+		// Use the roles of the set since the permission will be stored for the set
+		for (Object roleId : roles.getRoleIds()) {
+			// Find all permission edges between the role and target
+			// vertex with the specified label
+			String roleEdgeIdx = "e." + permission.label() + "_inout";
+			Iterable<Edge> edges = graph.getEdges(roleEdgeIdx.toLowerCase(),
+				MeshInternal.get().database().index().createComposedIndexKey(elementId, roleId));
+			boolean foundPermEdge = edges.iterator().hasNext();
+			if (foundPermEdge) {
+				PermissionStore.store(roles, permission, elementId, true);
+				return true;
+			}
+		}
+		// Fall back to read and check whether the user has read perm. Read permission also includes read published.
+		boolean granted = permission == READ_PUBLISHED_PERM && hasPermissionForId(elementId, READ_PERM);
+		PermissionStore.store(roles, permission, elementId, granted);
+		return granted;
+	}
+
+	@Override
+	public Set<Object> filterReadable(Collection<Object> elementIds, GraphPermission permission) {
+		Set<Object> readable = new HashSet<>();
+		List<Object> unknownIds = new ArrayList<>();
+		RoleSet roles = getRoleSet();
+		for (Object elementId : elementIds) {
+			Boolean cachedPerm = PermissionStore.getCachedPermission(roles, permission, elementId);
+			if (cachedPerm == null) {
+				unknownIds.add(elementId);
+			} else if (cachedPerm) {
+				readable.add(elementId);
+			}
+		}
+		if (unknownIds.isEmpty()) {
+			return readable;
+		}
+
+		// Use the roles of the set since the permissions will be stored for the set
+		List<Object> roleIds = roles.getRoleIds();
+		Set<Object> granted = findGrantedIds(unknownIds, roleIds, permission);
+		// Fall back to read. Read permission also includes read published.
+		if (permission == READ_PUBLISHED_PERM && granted.size() < unknownIds.size()) {
+			List<Object> remainingIds = unknownIds.stream().filter(id -> !granted.contains(id)).collect(Collectors.toList());
+			Set<Object> grantedRead = findGrantedIds(remainingIds, roleIds, READ_PERM);
+			for (Object elementId : remainingIds) {
+				boolean hasRead = grantedRead.contains(elementId);
+				PermissionStore.store(roles, READ_PERM, elementId, hasRead);
+				if (hasRead) {
+					granted.add(elementId);
 				}
 			}
-			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
-			if (permission == READ_PUBLISHED_PERM) {
-				return hasPermissionForId(elementId, READ_PERM);
-			} else {
-				return false;
+		}
+
+		for (Object elementId : unknownIds) {
+			boolean hasPerm = granted.contains(elementId);
+			PermissionStore.store(roles, permission, elementId, hasPerm);
+			if (hasPerm) {
+				readable.add(elementId);
 			}
 		}
+		return readable;
+	}
+
+	@Override
+	public RoleSet getRoleSet() {
+		return PermissionStore.getRoleSet(getId(), this::getRoleIds);
+	}
+
+	/**
+	 * Return the ids of the roles which are assigned to the user by checking the shortcut edges from the index.
+	 *
+	 * @return
+	 */
+	private List<Object> getRoleIds() {
+		String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
+		List<Object> roleIds = new ArrayList<>();
+		for (Edge roleEdge : getGraph().getEdges(idxKey.toLowerCase(), this.id())) {
+			roleIds.add(roleEdge.getVertex(Direction.IN).getId());
+		}
+		return roleIds;
+	}
 
+	/**
+	 * Determine the elements on which at least one of the roles grants the permission. All element and role combinations are resolved using a single
+	 * grouped index lookup.
+	 *
+	 * @param elementIds
+	 * @param roleIds
+	 * @param permission
+	 * @return Ids of the elements on which the permission is granted
+	 */
+	private Set<Object> findGrantedIds(List<Object> elementIds, List<Object> roleIds, GraphPermission permission) {
+		Set<Object> granted = new HashSet<>();
+		if (elementIds.isEmpty() || roleIds.isEmpty()) {
+			return granted;
+		}
+		IndexHandler index = MeshInternal.get().database().index();
+		Map<Object, Object> keys = new HashMap<>();
+		for (Object elementId : elementIds) {
+			for (Object roleId : roleIds) {
+				keys.put(index.createComposedIndexKey(elementId, roleId), elementId);
+			}
+		}
+		for (Object foundKey : index.edgeKeyLookup(permission.label(), "inout", keys.keySet())) {
+			Object elementId = keys.get(foundKey);
+			if (elementId != null) {
+				granted.add(elementId);
+			}
+		}
+		return granted;
 	}
 
 	@Override
@@ -532,10 +621,11 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// user will be just disabled and removed from all groups.");
 		// }
 		// outE(HAS_USER).removeAll();
+		Object userId = id();
 		bac.add(onDeleted());
 		getElement().remove();
 		bac.process();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(Collections.singleton(userId));
 	}
 
 	/**
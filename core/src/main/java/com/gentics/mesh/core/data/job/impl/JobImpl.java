@@ -7,6 +7,7 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TO_
 import static com.gentics.mesh.core.rest.job.JobStatus.STARTING;
 import static com.gentics.mesh.core.rest.job.JobStatus.UNKNOWN;
 
+import java.util.Locale;
 import java.util.Map;
 
 import org.apache.commons.lang.NotImplementedException;
@@ -102,6 +103,19 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 			log.debug("No referenced branch found.");
 		}
 
+		Long totalCount = getTotalCount();
+		if (totalCount != null) {
+			props.put("totalCount", String.valueOf(totalCount));
+		}
+		Double throughput = getThroughput();
+		if (throughput != null) {
+			props.put("throughput", String.format(Locale.ENGLISH, "%.2f", throughput));
+		}
+		String eta = getEtaDate();
+		if (eta != null) {
+			props.put("eta", eta);
+		}
+
 		SchemaContainerVersion toSchema = getToSchemaVersion();
 		if (toSchema != null) {
 			SchemaContainer container = toSchema.getSchemaContainer();
@@ -189,6 +203,36 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		property(COMPLETION_COUNT_PROPERTY_KEY, count);
 	}
 
+	@Override
+	public Long getTotalCount() {
+		return property(TOTAL_COUNT_PROPERTY_KEY);
+	}
+
+	@Override
+	public void setTotalCount(Long count) {
+		property(TOTAL_COUNT_PROPERTY_KEY, count);
+	}
+
+	@Override
+	public Double getThroughput() {
+		return property(THROUGHPUT_PROPERTY_KEY);
+	}
+
+	@Override
+	public void setThroughput(Double throughput) {
+		property(THROUGHPUT_PROPERTY_KEY, throughput);
+	}
+
+	@Override
+	public Long getEtaTimestamp() {
+		return property(ETA_TIMESTAMP_PROPERTY_KEY);
+	}
+
+	@Override
+	public void setEtaTimestamp(Long timestamp) {
+		property(ETA_TIMESTAMP_PROPERTY_KEY, timestamp);
+	}
+
 	@Override
 	public Branch getBranch() {
 		return out(HAS_BRANCH, BranchImpl.class).nextOrNull();
@@ -304,6 +348,8 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		setStopTimestamp(null);
 		setErrorDetail(null);
 		setErrorMessage(null);
+		setThroughput(null);
+		setEtaTimestamp(null);
 		setStatus(JobStatus.QUEUED);
 	}
 
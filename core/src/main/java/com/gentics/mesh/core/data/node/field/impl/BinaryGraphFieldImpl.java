@@ -18,8 +18,10 @@ import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.GraphFieldContainer;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.binary.impl.BinaryImpl;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.generic.MeshEdgeImpl;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.data.node.field.FieldGetter;
@@ -175,6 +177,10 @@ public class BinaryGraphFieldImpl extends MeshEdgeImpl implements BinaryGraphFie
 			restModel.setSha512sum(binary.getSHA512Sum());
 			restModel.setWidth(binary.getImageWidth());
 			restModel.setHeight(binary.getImageHeight());
+			List<String> renditions = binary.getRenditions();
+			if (!renditions.isEmpty()) {
+				restModel.setRenditions(renditions);
+			}
 		}
 
 		restModel.setFocalPoint(getImageFocalPoint());
@@ -328,6 +334,11 @@ public class BinaryGraphFieldImpl extends MeshEdgeImpl implements BinaryGraphFie
 		return inV().nextOrDefaultExplicit(BinaryImpl.class, null);
 	}
 
+	@Override
+	public NodeGraphFieldContainer getParentContainer() {
+		return outV().nextOrDefaultExplicit(NodeGraphFieldContainerImpl.class, null);
+	}
+
 	@Override
 	public Map<String, String> getMetadataProperties() {
 		List<String> keys = getPropertyKeys().stream().filter(k -> k.startsWith(META_DATA_PROPERTY_PREFIX)).collect(Collectors.toList());
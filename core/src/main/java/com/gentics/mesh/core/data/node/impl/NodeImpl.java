@@ -149,6 +149,7 @@ import com.gentics.mesh.util.DateUtils;
 import com.gentics.mesh.util.ETag;
 import com.gentics.mesh.util.StreamUtil;
 import com.gentics.mesh.util.URIUtils;
+import com.gentics.mesh.util.UUIDUtil;
 import com.gentics.mesh.util.VersionNumber;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.FramedGraph;
@@ -170,6 +171,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	public static final String CONTENT_STAMP_PROPERTY_KEY = "contentStamp";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createType(vertexType(NodeImpl.class, MeshVertexImpl.class));
 		index.createIndex(edgeIndex(HAS_PARENT_NODE));
@@ -459,6 +462,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			initialEdge.setBranchUuid(branchUuid);
 			initialEdge.setType(INITIAL);
 		}
+		updateContentStamp();
 
 		return newContainer;
 	}
@@ -489,11 +493,13 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public void removeTag(Tag tag, Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).mark().inV().retain(tag).back().removeAll();
+		updateContentStamp();
 	}
 
 	@Override
 	public void removeAllTags(Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).removeAll();
+		updateContentStamp();
 	}
 
 	@Override
@@ -538,12 +544,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		Iterator<Edge> it = edges.iterator();
 		Iterable<Edge> iterable = () -> it;
 		Stream<Edge> stream = StreamSupport.stream(iterable.spliterator(), false);
-		return stream
-			.map(edge -> edge.getVertex(OUT))
-			.filter(vertex -> {
-				Object id = vertex.getId();
-				return user.hasPermissionForId(id, READ_PERM) || user.hasPermissionForId(id, READ_PUBLISHED_PERM);
-			})
+		// Children are visible if either read or read published permission is granted
+		return user.filterReadableNodes(stream.map(edge -> edge.getVertex(OUT)), Vertex::getId, id -> true)
 			.map(vertex -> graph.frameElementExplicit(vertex, NodeImpl.class));
 	}
 
@@ -563,8 +565,33 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void setParentNode(String branchUuid, Node parent) {
+		Node previousParent = getParentNode(branchUuid);
+		if (previousParent != null) {
+			previousParent.updateContentStamp();
+		}
 		outE(HAS_PARENT_NODE).has(BRANCH_UUID_KEY, branchUuid).removeAll();
 		addFramedEdge(HAS_PARENT_NODE, parent).setProperty(BRANCH_UUID_KEY, branchUuid);
+		parent.updateContentStamp();
+		updateContentStamp();
+	}
+
+	@Override
+	public String getContentStamp() {
+		return property(CONTENT_STAMP_PROPERTY_KEY);
+	}
+
+	@Override
+	public void updateContentStamp() {
+		property(CONTENT_STAMP_PROPERTY_KEY, UUIDUtil.randomUUID());
+	}
+
+	/**
+	 * Update the content stamps of the parent nodes in all branches. The children of a node are part of its ETag.
+	 */
+	private void updateParentContentStamps() {
+		for (Node parent : out(HAS_PARENT_NODE, NodeImpl.class)) {
+			parent.updateContentStamp();
+		}
 	}
 
 	@Override
@@ -1198,7 +1225,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// publish all unpublished containers and handle recursion
 		unpublishedContainers.stream().forEach(c -> {
-			NodeGraphFieldContainer newVersion = publish(ac, c.getLanguageTag(), branch, ac.getUser());
+			NodeGraphFieldContainer newVersion = publish(ac, c.getLanguageTag(), branch, ac.getUser(), bac.batch());
 			bac.add(newVersion.onPublish(branchUuid));
 		});
 		assertPublishConsistency(ac, branch);
@@ -1239,6 +1266,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				content.purge(bac);
 			}
 		});
+		updateContentStamp();
 
 		assertPublishConsistency(ac, branch);
 
@@ -1296,7 +1324,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 
 		// TODO check whether all required fields are filled, if not -> unable to publish
-		NodeGraphFieldContainer publishedContainer = publish(ac, draftVersion.getLanguageTag(), branch, ac.getUser());
+		NodeGraphFieldContainer publishedContainer = publish(ac, draftVersion.getLanguageTag(), branch, ac.getUser(), bac.batch());
 		// Invoke a store of the document since it must now also be added to the published index
 		bac.add(publishedContainer.onPublish(branchUuid));
 	}
@@ -1314,13 +1342,14 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Remove the "published" edge
 		getGraphFieldContainerEdge(languageTag, branchUuid, PUBLISHED).remove();
+		updateContentStamp();
 		assertPublishConsistency(ac, branch);
 
 		bac.process();
 	}
 
 	@Override
-	public void setPublished(InternalActionContext ac, NodeGraphFieldContainer container, String branchUuid) {
+	public void setPublished(InternalActionContext ac, NodeGraphFieldContainer container, String branchUuid, EventQueueBatch batch) {
 		String languageTag = container.getLanguageTag();
 		boolean isAutoPurgeEnabled = container.isAutoPurgeEnabled();
 
@@ -1331,7 +1360,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			// check the published edge again
 			NodeGraphFieldContainerImpl oldPublishedContainer = currentPublished.inV().nextOrDefaultExplicit(NodeGraphFieldContainerImpl.class, null);
 			currentPublished.remove();
-			oldPublishedContainer.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_publish");
+			oldPublishedContainer.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_publish", batch);
 			if (ac.isPurgeAllowed() && isAutoPurgeEnabled && oldPublishedContainer.isPurgeable()) {
 				oldPublishedContainer.purge();
 			}
@@ -1350,18 +1379,19 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		edge.setLanguageTag(languageTag);
 		edge.setBranchUuid(branchUuid);
 		edge.setType(PUBLISHED);
-		container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_publish");
+		container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_publish", batch);
+		updateContentStamp();
 	}
 
 	@Override
-	public NodeGraphFieldContainer publish(InternalActionContext ac, String languageTag, Branch branch, User user) {
+	public NodeGraphFieldContainer publish(InternalActionContext ac, String languageTag, Branch branch, User user, EventQueueBatch batch) {
 		String branchUuid = branch.getUuid();
 
 		// create published version
 		NodeGraphFieldContainer newVersion = createGraphFieldContainer(languageTag, branch, user);
 		newVersion.setVersion(newVersion.getVersion().nextPublished());
 
-		setPublished(ac, newVersion, branchUuid);
+		setPublished(ac, newVersion, branchUuid, batch);
 		return newVersion;
 	}
 
@@ -1440,6 +1470,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 
 		addReferenceUpdates(bac);
+		updateParentContentStamps();
 
 		bac.add(onDeleted(getUuid(), getSchemaContainer(), null, null, null));
 		getElement().remove();
@@ -1514,6 +1545,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			// Otherwise we need to remove the "parent" edge for the branch
 			// first remove the "parent" edge (because the node itself will
 			// probably not be deleted, but just removed from the branch)
+			Node parent = getParentNode(branchUuid);
+			if (parent != null) {
+				parent.updateContentStamp();
+			}
 			outE(HAS_PARENT_NODE).has(BRANCH_UUID_KEY, branchUuid).removeAll();
 		}
 	}
@@ -1606,6 +1641,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			}
 		}
 		super.applyPermissions(batch, role, recursive, permissionsToGrant, permissionsToRevoke);
+		// The children info of the parent only contains readable children
+		updateParentContentStamps();
 	}
 
 	@Override
@@ -1706,7 +1743,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				setParentNode(branch.getUuid(), parentNode);
 			}
 
-			latestDraftVersion.updateFieldsFromRest(ac, requestModel.getFields());
+			latestDraftVersion.updateFieldsFromRest(ac, requestModel.getFields(), batch);
 			batch.add(latestDraftVersion.onCreated(branch.getUuid(), DRAFT));
 			return true;
 		} else {
@@ -1775,7 +1812,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				NodeGraphFieldContainer newDraftVersion = createGraphFieldContainer(language.getLanguageTag(), branch, ac.getUser(),
 					latestDraftVersion, true);
 				// Update the existing fields
-				newDraftVersion.updateFieldsFromRest(ac, requestModel.getFields());
+				newDraftVersion.updateFieldsFromRest(ac, requestModel.getFields(), batch);
 
 				// Purge the old draft
 				if (ac.isPurgeAllowed() && newDraftVersion.isAutoPurgeEnabled() && latestDraftVersion.isPurgeable()) {
@@ -1857,12 +1894,12 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Update published graph field containers
 		getGraphFieldContainers(branchUuid, PUBLISHED).stream().forEach(container -> {
-			container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_move");
+			container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_move", batch);
 		});
 
 		// Update draft graph field containers
 		getGraphFieldContainers(branchUuid, DRAFT).stream().forEach(container -> {
-			container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_move");
+			container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_move", batch);
 		});
 		batch.add(onNodeMoved(branchUuid, targetNode));
 		assertPublishConsistency(ac, branch);
@@ -1884,6 +1921,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(NOT_FOUND, "node_no_language_found", languageTag);
 		}
 		container.deleteFromBranch(branch, bac);
+		updateContentStamp();
 		// No need to delete the published variant because if the container was published the take offline call handled it
 
 		// starting with the old draft, delete all GFC that have no next and are not draft (for other branches)
@@ -2013,7 +2051,6 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// Parameters
 		Branch branch = ac.getBranch(getProject());
 		VersioningParameters versioiningParameters = ac.getVersioningParameters();
-		ContainerType type = forVersion(versioiningParameters.getVersion());
 
 		Node parentNode = getParentNode(branch.getUuid());
 		NodeGraphFieldContainer container = findVersion(ac.getNodeParameters().getLanguageList(), branch.getUuid(), ac.getVersioningParameters()
@@ -2028,7 +2065,13 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		keyBuilder.append(branch.getUuid());
 		keyBuilder.append("-");
 
-		// TODO version, language list
+		/**
+		 * version & language list
+		 */
+		keyBuilder.append(versioiningParameters.getVersion());
+		keyBuilder.append("-");
+		keyBuilder.append(ac.getNodeParameters().getLanguageList());
+		keyBuilder.append("-");
 
 		// We can omit further etag keys since this would return a 404 anyhow
 		// since the requested container could not be found.
@@ -2069,68 +2112,50 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		keyBuilder.append("expandFields:");
 		keyBuilder.append(expandedFields);
 
-		// branch specific tags
-		for (Tag tag : getTags(branch)) {
-			// Tags can't be moved across branches thus we don't need to add the
-			// tag family etag
-			keyBuilder.append(tag.getETag(ac));
-		}
-
-		// branch specific children
-		for (Node child : getChildren(branch.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PUBLISHED_PERM)) {
-				keyBuilder.append("-");
-				keyBuilder.append(child.getSchemaContainer().getName());
-			}
-		}
-
-		// Publish state & availableLanguages
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, PUBLISHED)) {
-			keyBuilder.append(c.getLanguageTag() + "published");
-		}
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, DRAFT)) {
-			keyBuilder.append(c.getLanguageTag() + "draft");
-		}
-
-		// breadcrumb
+		/**
+		 * Content stamp
+		 * 
+		 * Tags, children, language variants and the publish state are not part of the container etag. Changes to those are tracked via the content stamp of
+		 * the node instead of loading them for each request.
+		 */
 		keyBuilder.append("-");
-		Node current = getParentNode(branch.getUuid());
-		if (current != null) {
-			while (current != null) {
+		keyBuilder.append(getContentStamp());
 
-				String key = current.getUuid() + current.getDisplayName(ac);
-				keyBuilder.append(key);
-				if (LinkType.OFF != ac.getNodeParameters().getResolveLinks()) {
-					WebRootLinkReplacer linkReplacer = MeshInternal.get().webRootLinkReplacer();
-					String url = linkReplacer.resolve(ac, branch.getUuid(), type, current.getUuid(), ac.getNodeParameters().getResolveLinks(),
-						getProject().getName(), container.getLanguageTag());
-					keyBuilder.append(url);
-				}
-				current = current.getParentNode(branch.getUuid());
+		/**
+		 * Roles
+		 * 
+		 * The children info only contains the children which are readable by the user.
+		 */
+		keyBuilder.append("-");
+		keyBuilder.append(ac.getUser().getRoleSet());
 
-			}
+		/**
+		 * Breadcrumb
+		 * 
+		 * The display names and segments of the parent nodes are part of the breadcrumb and the resolved links. Changes to those are reflected by the content
+		 * stamps of the parent nodes.
+		 */
+		keyBuilder.append("-");
+		Node current = parentNode;
+		while (current != null) {
+			keyBuilder.append(current.getUuid());
+			keyBuilder.append(current.getContentStamp());
+			current = current.getParentNode(branch.getUuid());
 		}
 
 		/**
 		 * webroot path & language paths
 		 * 
-		 * The webroot and language paths must be included in the etag computation in order to invalidate the etag once a node language gets updated or once the
-		 * display name of any parent node changes.
+		 * The resolved paths depend on the link type, project name and the branch path prefix.
 		 */
-		if (ac.getNodeParameters().getResolveLinks() != LinkType.OFF) {
-
-			WebRootLinkReplacer linkReplacer = MeshInternal.get().webRootLinkReplacer();
-			String path = linkReplacer.resolve(ac, branch.getUuid(), type, getUuid(), ac.getNodeParameters().getResolveLinks(), getProject()
-				.getName(), container.getLanguageTag());
-			keyBuilder.append(path);
-
-			// languagePaths
-			for (GraphFieldContainer currentFieldContainer : getGraphFieldContainers(branch, forVersion(versioiningParameters.getVersion()))) {
-				String currLanguage = currentFieldContainer.getLanguageTag();
-				keyBuilder.append(currLanguage + "=" + linkReplacer.resolve(ac, branch.getUuid(), type, this, ac.getNodeParameters()
-					.getResolveLinks(), currLanguage));
-			}
-
+		LinkType linkType = ac.getNodeParameters().getResolveLinks();
+		if (linkType != LinkType.OFF) {
+			keyBuilder.append("-");
+			keyBuilder.append(linkType.name());
+			keyBuilder.append(getProject().getName());
+			keyBuilder.append(branch.getPathPrefix());
+			keyBuilder.append(branch.getHostname());
+			keyBuilder.append(branch.getSsl());
 		}
 
 		/**
@@ -15,6 +15,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.Spliterator;
@@ -59,6 +61,7 @@ import com.syncleus.ferma.FramedTransactionalGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -118,33 +121,69 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 
 	@Override
 	public Stream<? extends Node> findAllStream(InternalActionContext ac, GraphPermission permission) {
+		FramedTransactionalGraph graph = Tx.get().getGraph();
+
+		String idx = "e." + getRootLabel().toLowerCase() + "_out";
+		Spliterator<Edge> itemEdges = graph.getEdges(idx.toLowerCase(), id()).spliterator();
+		Stream<Vertex> vertices = StreamSupport.stream(itemEdges, false)
+			.map(edge -> edge.getVertex(Direction.IN));
+		return frameVisible(ac, vertices);
+	}
+
+	@Override
+	public Stream<? extends Node> findAllBySchemaStream(InternalActionContext ac, GraphPermission permission, SchemaContainer schema) {
+		// The nodes of the schema may belong to other projects
+		Stream<Vertex> vertices = schema.getNodes().stream()
+			.map(node -> node.getElement())
+			.filter(this::containsVertex);
+		return frameVisible(ac, vertices);
+	}
+
+	@Override
+	public Stream<? extends Node> findAllByUuidsStream(InternalActionContext ac, GraphPermission permission, Collection<String> uuids) {
+		Stream<Vertex> vertices = uuids.stream()
+			.distinct()
+			.map(uuid -> database().getVertices(getPersistanceClass(), new String[] { UUID_KEY }, new String[] { uuid }))
+			.filter(Iterator::hasNext)
+			.map(Iterator::next)
+			.filter(this::containsVertex);
+		return frameVisible(ac, vertices);
+	}
+
+	/**
+	 * Check whether the vertex is an item of this root by using the edge index.
+	 * 
+	 * @param vertex
+	 * @return
+	 */
+	private boolean containsVertex(Vertex vertex) {
+		FramedTransactionalGraph graph = Tx.get().getGraph();
+		Iterable<Edge> edges = graph.getEdges("e." + getRootLabel().toLowerCase() + "_inout", database().createComposedIndexKey(vertex.getId(), id()));
+		return edges.iterator().hasNext();
+	}
+
+	/**
+	 * Filter the node vertices which are not part of the branch of the context or which are not readable by the user and frame the remaining vertices.
+	 * 
+	 * @param ac
+	 * @param vertices
+	 * @return
+	 */
+	private Stream<? extends Node> frameVisible(InternalActionContext ac, Stream<Vertex> vertices) {
 		MeshAuthUser user = ac.getUser();
 		FramedTransactionalGraph graph = Tx.get().getGraph();
 
 		Branch branch = ac.getBranch();
 		String branchUuid = branch.getUuid();
 
-		String idx = "e." + getRootLabel().toLowerCase() + "_out";
-		Spliterator<Edge> itemEdges = graph.getEdges(idx.toLowerCase(), id()).spliterator();
-		return StreamSupport.stream(itemEdges, false)
-			.map(edge -> edge.getVertex(Direction.IN))
+		Stream<Vertex> drafts = vertices
 			.filter(item -> {
 				// Check whether the node has at least a draft in the selected branch - Otherwise the node should be skipped
 				return GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, DRAFT);
-			})
-			.filter(item -> {
-				boolean hasRead = user.hasPermissionForId(item.getId(), READ_PERM);
-				if (hasRead) {
-					return true;
-				} else {
-					// Check whether the node is published. In this case we need to check the read publish perm.
-					boolean isPublishedForBranch = GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, PUBLISHED);
-					if (isPublishedForBranch) {
-						return user.hasPermissionForId(item.getId(), READ_PUBLISHED_PERM);
-					}
-				}
-				return false;
-			})
+			});
+
+		// Check the permissions of multiple nodes at once
+		return user.filterReadableNodes(drafts, Vertex::getId, id -> GraphFieldContainerEdgeImpl.matchesBranchAndType(id, branchUuid, PUBLISHED))
 			.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
 	}
 
@@ -281,7 +320,7 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 			throw error(BAD_REQUEST, "language_not_found", requestModel.getLanguage());
 		}
 		NodeGraphFieldContainer container = node.createGraphFieldContainer(language.getLanguageTag(), branch, requestUser);
-		container.updateFieldsFromRest(ac, requestModel.getFields());
+		container.updateFieldsFromRest(ac, requestModel.getFields(), batch);
 
 		batch.add(node.onCreated());
 		batch.add(container.onCreated(branch.getUuid(), DRAFT));
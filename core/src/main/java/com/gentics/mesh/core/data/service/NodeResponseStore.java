@@ -0,0 +1,362 @@
+package com.gentics.mesh.core.data.service;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE_ROLE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE_USER;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_TAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNTAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+import static com.gentics.mesh.metric.Metrics.RESPONSE_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.RESPONSE_CACHE_MISS;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.codahale.metrics.Meter;
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.error.NotModifiedException;
+import com.gentics.mesh.core.rest.event.MeshElementEventModel;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.core.rest.event.ProjectEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.MeshEventBatch;
+import com.gentics.mesh.metric.MetricsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for rendered node and webroot responses. The cache holds the serialized response together with the ETag. Cached responses can thus be
+ * returned and conditional requests can be answered without loading the node.
+ *
+ * The responses are cached per project, branch, requested node or path, request parameters and set of roles of the user. A rendered node contains
+ * information of other nodes (e.g. breadcrumb, children, resolved links), tags, schemas and users. Node, tag and permission events thus evict all cached
+ * responses of the project and schema, user and role events clear the whole cache. The keys contain a generation counter per project. Evicting the
+ * responses of a project only increments the counter, the outdated entries are no longer found and will be removed by the LRU eviction.
+ */
+@Singleton
+public class NodeResponseStore {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeResponseStore.class);
+
+	/**
+	 * Events which evict the responses of the affected project.
+	 */
+	private static final List<MeshEvent> PROJECT_EVENTS = Arrays.asList(NODE_CREATED,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_TAGGED,
+		NODE_UNTAGGED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		NODE_REFERENCE_UPDATED,
+		ROLE_PERMISSIONS_CHANGED,
+		TAG_UPDATED,
+		TAG_DELETED,
+		TAG_FAMILY_UPDATED,
+		TAG_FAMILY_DELETED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		PROJECT_UPDATED,
+		PROJECT_DELETED);
+
+	/**
+	 * Events which clear the whole cache. Permission changes of single elements are handled via the batched {@link MeshEvent#ROLE_PERMISSIONS_CHANGED}
+	 * events which contain the project of the element.
+	 */
+	private static final List<MeshEvent> CLEAR_EVENTS = Arrays.asList(CLEAR_PATH_STORE,
+		CLEAR_PERMISSION_STORE,
+		CLEAR_PERMISSION_STORE_USER,
+		CLEAR_PERMISSION_STORE_ROLE,
+		ROLE_DELETED,
+		GROUP_DELETED,
+		GROUP_USER_ASSIGNED,
+		GROUP_USER_UNASSIGNED,
+		GROUP_ROLE_ASSIGNED,
+		GROUP_ROLE_UNASSIGNED,
+		USER_UPDATED,
+		USER_DELETED,
+		SCHEMA_UPDATED,
+		SCHEMA_MIGRATION_FINISHED,
+		MICROSCHEMA_UPDATED,
+		MICROSCHEMA_MIGRATION_FINISHED);
+
+	private final Cache<String, CachedResponse> responseCache;
+
+	/**
+	 * Generation of the whole cache. It is incremented when the cache gets cleared, so that responses which were rendered before can't be stored anymore.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * Generations of the cached responses per project.
+	 */
+	private final Map<String, AtomicLong> projectGenerations = new ConcurrentHashMap<>();
+
+	private final CacheConfig cacheOptions;
+
+	private final MetricsService metrics;
+
+	private final Meter hitMeter;
+
+	private final Meter missMeter;
+
+	@Inject
+	public NodeResponseStore(MeshOptions options, MetricsService metrics) {
+		this.cacheOptions = options.getCacheConfig();
+		this.metrics = metrics;
+		Caffeine<Object, Object> builder = Caffeine.newBuilder()
+			.maximumSize(cacheOptions.getResponseCacheSize());
+		if (cacheOptions.getResponseCacheTtl() > 0) {
+			builder.expireAfterWrite(cacheOptions.getResponseCacheTtl(), TimeUnit.SECONDS);
+		}
+		this.responseCache = builder.build();
+		this.hitMeter = metrics.meter(RESPONSE_CACHE_HIT);
+		this.missMeter = metrics.meter(RESPONSE_CACHE_MISS);
+	}
+
+	/**
+	 * Create the cache key for the requested node or path. This method must be invoked within a transaction.
+	 *
+	 * @param ac
+	 * @param type
+	 *            Type of the response (e.g. node or webroot)
+	 * @param nodeOrPath
+	 *            Uuid of the node or the webroot path
+	 * @return
+	 */
+	public String createCacheKey(InternalActionContext ac, String type, String nodeOrPath) {
+		User user = ac.getUser();
+		String projectUuid = ac.getProject().getUuid();
+		long projectGeneration = projectGenerations.computeIfAbsent(projectUuid, k -> new AtomicLong()).get();
+		return generation.get() + "-" + projectUuid + "-" + projectGeneration + "-" + ac.getBranch().getUuid() + "-" + type + "-" + nodeOrPath + "?"
+			+ ac.query() + "-" + user.hasAdminRole() + "-" + user.getRoleSet();
+	}
+
+	/**
+	 * Return the cached response.
+	 *
+	 * @param key
+	 * @return Found response or null if the response has not been cached
+	 */
+	public CachedResponse get(String key) {
+		CachedResponse response = responseCache.getIfPresent(key);
+		if (metrics.isEnabled()) {
+			if (response == null) {
+				missMeter.mark();
+			} else {
+				hitMeter.mark();
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * Store the response in the cache.
+	 *
+	 * @param key
+	 * @param response
+	 */
+	public void store(String key, CachedResponse response) {
+		if (isDisabled()) {
+			return;
+		}
+		responseCache.put(key, response);
+	}
+
+	/**
+	 * Register the event handler which can be used to invalidate the LRU cache.
+	 */
+	public void registerEventHandler() {
+		// No need to register when cache is disabled.
+		if (isDisabled()) {
+			return;
+		}
+		EventBus eb = Mesh.vertx().eventBus();
+
+		// Events which are published directly (e.g. permission store clear events)
+		CLEAR_EVENTS.forEach(event -> {
+			eb.consumer(event.address, e -> {
+				// The separately published copies of batched events are handled via the batch
+				if (!MeshEventBatch.isBatched(e)) {
+					invalidateByEvent(e);
+				}
+			});
+		});
+
+		// Events of the event queue batches are handled once per batch
+		eb.<MeshEventBatch>consumer(MeshEventBatch.ADDRESS, e -> {
+			invalidateByBatch(e.body());
+		});
+	}
+
+	/**
+	 * Invalidate the cache once for all events of the batch. The responses of each affected project are only evicted once.
+	 * 
+	 * @param batch
+	 */
+	private void invalidateByBatch(MeshEventBatch batch) {
+		Set<String> projectUuids = new HashSet<>();
+		for (MeshEventModel event : batch.getEvents()) {
+			if (CLEAR_EVENTS.contains(event.getEvent())) {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing response store due to batched event {" + event.getEvent() + "}");
+				}
+				invalidate();
+				return;
+			}
+			if (PROJECT_EVENTS.contains(event.getEvent())) {
+				String projectUuid = getProjectUuid(event);
+				if (projectUuid == null) {
+					invalidate();
+					return;
+				}
+				projectUuids.add(projectUuid);
+			}
+		}
+		if (projectUuids.isEmpty()) {
+			return;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Clearing responses of projects " + projectUuids + " due to batched events");
+		}
+		for (String projectUuid : projectUuids) {
+			projectGenerations.computeIfAbsent(projectUuid, k -> new AtomicLong()).incrementAndGet();
+		}
+	}
+
+	private String getProjectUuid(MeshEventModel event) {
+		if (event instanceof ProjectEvent && ((ProjectEvent) event).getProject() != null) {
+			return ((ProjectEvent) event).getProject().getUuid();
+		}
+		// Project events carry the uuid of the project itself
+		if ((event.getEvent() == PROJECT_UPDATED || event.getEvent() == PROJECT_DELETED) && event instanceof MeshElementEventModel) {
+			return ((MeshElementEventModel) event).getUuid();
+		}
+		return null;
+	}
+
+	private void invalidateByEvent(Message<?> e) {
+		if (log.isDebugEnabled()) {
+			log.debug("Clearing response store due to received event from {" + e.address() + "}");
+		}
+		invalidate();
+	}
+
+	/**
+	 * Invalidate the cache.
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+		responseCache.invalidateAll();
+	}
+
+	/**
+	 * Set the ETag of the node response and check whether the client already holds the current version of the response.
+	 *
+	 * @param ac
+	 * @param etag
+	 * @throws NotModifiedException
+	 *             if the ETag matches the ETag of the conditional request
+	 */
+	public static void checkETag(InternalActionContext ac, String etag) {
+		ac.setEtag(etag, true);
+		if (ac.matches(etag, true)) {
+			throw new NotModifiedException();
+		}
+	}
+
+	public boolean isDisabled() {
+		return cacheOptions.getResponseCacheSize() == 0;
+	}
+
+	/**
+	 * Rendered response which is stored in the {@link NodeResponseStore}.
+	 */
+	public static class CachedResponse {
+
+		private final String body;
+
+		private final String etag;
+
+		private final String cacheControl;
+
+		/**
+		 * Create a new cached response.
+		 *
+		 * @param body
+		 *            Serialized response body
+		 * @param etag
+		 *            ETag of the response
+		 * @param cacheControl
+		 *            Cache control header value or null if the default should be used
+		 */
+		public CachedResponse(String body, String etag, String cacheControl) {
+			this.body = body;
+			this.etag = etag;
+			this.cacheControl = cacheControl;
+		}
+
+		public String getBody() {
+			return body;
+		}
+
+		public String getEtag() {
+			return etag;
+		}
+
+		public String getCacheControl() {
+			return cacheControl;
+		}
+	}
+}
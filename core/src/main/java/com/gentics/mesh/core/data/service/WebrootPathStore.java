@@ -10,42 +10,88 @@ import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
 import com.gentics.mesh.etc.config.CacheConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.MeshEventBatch;
+import com.gentics.mesh.event.MeshEventConsumer;
 import com.gentics.mesh.path.Path;
+import com.gentics.mesh.path.PathSegment;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.vertx.core.eventbus.EventBus;
-import io.vertx.core.eventbus.Message;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU webroot path cache which is used to quickly lookup cached paths.
+ *
+ * Each cached path records the nodes of its segments. A reverse index maps the nodes to the cached paths which were resolved through them. Node events
+ * thus only evict the paths which pass through the affected node within the branch and container type of the event. Paths which could not be resolved
+ * are evicted by any node event of their branch since a created, moved or renamed node may now match them.
  */
 @Singleton
 public class WebrootPathStore {
 
 	private static final Logger log = LoggerFactory.getLogger(WebrootPathStore.class);
 
-	private final Cache<String, Path> pathCache;
+	private static final List<MeshEvent> NODE_EVENTS = Arrays.asList(NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED);
+
+	private final Cache<String, CachedPath> pathCache;
+
+	/**
+	 * Reverse index which maps the node uuids to the keys of the cached paths which contain a segment of the node.
+	 */
+	private final Map<String, Set<String>> nodeIndex = new ConcurrentHashMap<>();
+
+	/**
+	 * Index which maps the branch uuids to the keys of the cached paths which could not be fully resolved.
+	 */
+	private final Map<String, Set<String>> unresolvedIndex = new ConcurrentHashMap<>();
 
 	private CacheConfig cacheOptions;
 
 	@Inject
 	public WebrootPathStore(MeshOptions options) {
 		this.cacheOptions = options.getCacheConfig();
-		this.pathCache = Caffeine.newBuilder().maximumSize(cacheOptions.getPathCacheSize()).build();
+		this.pathCache = Caffeine.newBuilder()
+			.maximumSize(cacheOptions.getPathCacheSize())
+			// Run the listener synchronously to keep the indices in sync with the cache
+			.executor(Runnable::run)
+			.<String, CachedPath>removalListener((key, value, cause) -> {
+				if (key != null && value != null) {
+					removeFromIndex(key, value);
+				}
+			})
+			.build();
 	}
 
 	/**
@@ -65,7 +111,8 @@ public class WebrootPathStore {
 			return null;
 		}
 		String key = createCacheKey(project, branch, type, path);
-		return pathCache.getIfPresent(key);
+		CachedPath cachedPath = pathCache.getIfPresent(key);
+		return cachedPath == null ? null : cachedPath.path;
 	}
 
 	/**
@@ -78,30 +125,96 @@ public class WebrootPathStore {
 		}
 		EventBus eb = Mesh.vertx().eventBus();
 
-		Arrays.asList(CLEAR_PATH_STORE,
-			NODE_UPDATED,
-			NODE_DELETED,
-			NODE_PUBLISHED,
-			NODE_UNPUBLISHED,
-			NODE_MOVED,
-			NODE_CONTENT_CREATED,
-			NODE_CONTENT_DELETED,
-			SCHEMA_MIGRATION_FINISHED)
-			.forEach(event -> {
-				eb.consumer(event.address, e -> {
-					invalidateByEvent(e);
-				});
-			});
+		MeshEventConsumer.consumer(eb, Arrays.asList(CLEAR_PATH_STORE, SCHEMA_MIGRATION_FINISHED), (event, model) -> {
+			invalidateByEvent(event);
+		});
+
+		eb.<MeshEventBatch>consumer(MeshEventBatch.ADDRESS, e -> {
+			invalidateByBatch(e.body());
+		});
+	}
 
+	/**
+	 * Invalidate the paths of all nodes which are affected by the node events of the batch. Each node is only handled once per batch.
+	 * 
+	 * @param batch
+	 */
+	private void invalidateByBatch(MeshEventBatch batch) {
+		Set<List<Object>> handled = new HashSet<>();
+		for (MeshEventModel model : batch.getEvents()) {
+			if (!NODE_EVENTS.contains(model.getEvent())) {
+				continue;
+			}
+			if (!(model instanceof NodeMeshEventModel) || ((NodeMeshEventModel) model).getUuid() == null) {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing path store due to batched event {" + model.getEvent() + "} without node information");
+				}
+				invalidate();
+				return;
+			}
+			NodeMeshEventModel event = (NodeMeshEventModel) model;
+			if (handled.add(Arrays.asList(event.getUuid(), event.getBranchUuid(), event.getType()))) {
+				invalidateNode(event.getUuid(), event.getBranchUuid(), event.getType());
+			}
+		}
 	}
 
-	private void invalidateByEvent(Message<Object> e) {
+	private void invalidateByEvent(MeshEvent event) {
 		if (log.isDebugEnabled()) {
-			log.debug("Clearing path store due to received event from {" + e.address() + "}");
+			log.debug("Clearing path store due to received event from {" + event.address + "}");
 		}
+		invalidate();
+	}
+
+	/**
+	 * Remove all paths from the cache.
+	 */
+	public void invalidate() {
 		pathCache.invalidateAll();
 	}
 
+	/**
+	 * Remove the paths which contain a segment of the node. Paths which could not be resolved will also be removed since the change of the node may
+	 * cause them to be resolvable.
+	 * 
+	 * @param nodeUuid
+	 *            Uuid of the changed node
+	 * @param branchUuid
+	 *            Branch in which the node was changed or null to remove the paths of all branches
+	 * @param type
+	 *            Changed container type or null to remove the paths of all types
+	 */
+	public void invalidateNode(String nodeUuid, String branchUuid, ContainerType type) {
+		for (String key : keysOf(nodeIndex, nodeUuid)) {
+			CachedPath cachedPath = pathCache.getIfPresent(key);
+			if (cachedPath != null && cachedPath.matches(branchUuid, type)) {
+				pathCache.invalidate(key);
+			}
+		}
+		if (branchUuid == null) {
+			for (String unresolvedBranchUuid : unresolvedIndex.keySet()) {
+				pathCache.invalidateAll(keysOf(unresolvedIndex, unresolvedBranchUuid));
+			}
+		} else {
+			pathCache.invalidateAll(keysOf(unresolvedIndex, branchUuid));
+		}
+	}
+
+	/**
+	 * Return a snapshot of the cache keys which are stored in the index for the given index key.
+	 * 
+	 * @param index
+	 * @param indexKey
+	 * @return
+	 */
+	private static List<String> keysOf(Map<String, Set<String>> index, String indexKey) {
+		Set<String> keys = index.get(indexKey);
+		if (keys == null) {
+			return Collections.emptyList();
+		}
+		return new ArrayList<>(keys);
+	}
+
 	/**
 	 * Create the cache key.
 	 * 
@@ -131,10 +244,78 @@ public class WebrootPathStore {
 		if (isDisabled()) {
 			return;
 		}
-		pathCache.put(createCacheKey(project, branch, type, path), resolvedPath);
+		String key = createCacheKey(project, branch, type, path);
+		CachedPath cachedPath = new CachedPath(resolvedPath, branch.getUuid(), type);
+		pathCache.put(key, cachedPath);
+		if (cachedPath.nodeUuids == null) {
+			addToIndex(unresolvedIndex, cachedPath.branchUuid, key);
+		} else {
+			for (String nodeUuid : cachedPath.nodeUuids) {
+				addToIndex(nodeIndex, nodeUuid, key);
+			}
+		}
+	}
+
+	private void removeFromIndex(String key, CachedPath cachedPath) {
+		if (cachedPath.nodeUuids == null) {
+			removeFromIndex(unresolvedIndex, cachedPath.branchUuid, key);
+		} else {
+			for (String nodeUuid : cachedPath.nodeUuids) {
+				removeFromIndex(nodeIndex, nodeUuid, key);
+			}
+		}
+	}
+
+	private static void addToIndex(Map<String, Set<String>> index, String indexKey, String key) {
+		index.computeIfAbsent(indexKey, k -> ConcurrentHashMap.newKeySet()).add(key);
+	}
+
+	private static void removeFromIndex(Map<String, Set<String>> index, String indexKey, String key) {
+		index.computeIfPresent(indexKey, (k, keys) -> {
+			keys.remove(key);
+			return keys.isEmpty() ? null : keys;
+		});
 	}
 
 	public boolean isDisabled() {
 		return cacheOptions.getPathCacheSize() == 0;
 	}
+
+	/**
+	 * Cached path together with the information which is needed to determine whether a node change affects the path.
+	 */
+	private static class CachedPath {
+
+		private final Path path;
+
+		private final String branchUuid;
+
+		private final ContainerType type;
+
+		/**
+		 * Uuids of the nodes which provide the segments of the path or null if the path could not be resolved.
+		 */
+		private final String[] nodeUuids;
+
+		CachedPath(Path path, String branchUuid, ContainerType type) {
+			this.path = path;
+			this.branchUuid = branchUuid;
+			this.type = type;
+			if (path.isPrefixMismatch() || !path.isFullyResolved()) {
+				this.nodeUuids = null;
+			} else {
+				this.nodeUuids = path.getSegments().stream()
+					.map(PathSegment::getContainer)
+					.filter(Objects::nonNull)
+					.map(NodeGraphFieldContainer::getParentNode)
+					.map(Node::getUuid)
+					.distinct()
+					.toArray(String[]::new);
+			}
+		}
+
+		boolean matches(String branchUuid, ContainerType type) {
+			return (branchUuid == null || branchUuid.equals(this.branchUuid)) && (type == null || type == this.type);
+		}
+	}
 }
@@ -2,9 +2,18 @@ package com.gentics.mesh.core.endpoint.migration;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -21,11 +30,14 @@ import com.gentics.mesh.core.rest.common.FieldContainer;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.StreamUtil;
 
+import io.reactivex.Completable;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -34,16 +46,29 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractMigrationHandler.class);
 
+	/**
+	 * Amount of migrated containers after which the collected events of a worker will be dispatched.
+	 */
+	private static final int DISPATCH_THRESHOLD = 500;
+
+	/**
+	 * Minimum interval in milliseconds between two checkpoints of the migration progress.
+	 */
+	private static final long CHECKPOINT_INTERVAL = 1000;
+
 	protected Database db;
 
 	protected BinaryUploadHandler binaryFieldHandler;
 
 	protected MetricsService metrics;
 
-	public AbstractMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics) {
+	protected MeshOptions options;
+
+	public AbstractMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, MeshOptions options) {
 		this.db = db;
 		this.binaryFieldHandler = binaryFieldHandler;
 		this.metrics = metrics;
+		this.options = options;
 	}
 
 	/**
@@ -81,11 +106,13 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	 *            new schema version
 	 * @param touchedFields
 	 *            set of touched fields
+	 * @param batch
+	 *            Batch which is used to clear the path stores after the commit if the migrated node container affects cached paths
 	 * @throws Exception
 	 */
 	protected void migrate(NodeMigrationActionContextImpl ac, GraphFieldContainer newContainer, FieldContainer newContent,
 		   	GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion,
-		GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> newVersion, Set<String> touchedFields) throws Exception {
+		GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> newVersion, Set<String> touchedFields, EventQueueBatch batch) throws Exception {
 
 		// Remove all touched fields (if necessary, they will be readded later)
 		newContainer.getFields().stream().filter(f -> touchedFields.contains(f.getFieldKey())).forEach(f -> f.removeField(newContainer));
@@ -100,42 +127,211 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 		fields.clear();
 		fields.putAll(newFields);
 
-		newContainer.updateFieldsFromRest(ac, fields);
+		if (newContainer instanceof NodeGraphFieldContainer) {
+			((NodeGraphFieldContainer) newContainer).updateFieldsFromRest(ac, fields, batch);
+		} else {
+			newContainer.updateFieldsFromRest(ac, fields);
+		}
 	}
 
+	/**
+	 * Migrate the given containers one by one. Each container is migrated in a dedicated transaction.
+	 *
+	 * @param containers
+	 *            Containers to be migrated
+	 * @param cause
+	 *            Cause which will be attached to the dispatched events
+	 * @param status
+	 *            Status handler which tracks the progress
+	 * @param migrator
+	 *            Migrator which will be invoked for each container
+	 * @return Detected errors
+	 */
 	@ParametersAreNonnullByDefault
 	protected <T> List<Exception> migrateLoop(Iterable<T> containers, EventCauseInfo cause, MigrationStatusHandler status,
 		TriConsumer<EventQueueBatch, T, List<Exception>> migrator) {
-		// Iterate over all containers and invoke a migration for each one
-		long count = 0;
-		List<Exception> errorsDetected = new ArrayList<>();
+		Queue<List<T>> partitions = new ConcurrentLinkedQueue<>();
+		containers.forEach(container -> partitions.add(Collections.singletonList(container)));
+		return migratePartitions(partitions, cause, status, 1, () -> migrator);
+	}
+
+	/**
+	 * Migrate the given groups of containers. The groups will be combined to partitions of at least the given batch size and each partition will be
+	 * migrated in a single transaction. A group is never split, so that the containers of a group are never migrated by different workers at the same
+	 * time. The partitions are processed by the given amount of workers. Each worker will request its own migrator from the factory so that state
+	 * which is held by the migrator (e.g. the action context) is not shared between threads. The progress of the committed partitions is
+	 * periodically stored in the job.
+	 *
+	 * @param groups
+	 *            Groups of containers to be migrated
+	 * @param cause
+	 *            Cause which will be attached to the dispatched events
+	 * @param status
+	 *            Status handler which tracks the progress
+	 * @param batchSize
+	 *            Amount of containers which will be migrated within a single transaction
+	 * @param workers
+	 *            Amount of workers which process the partitions concurrently
+	 * @param migratorFactory
+	 *            Factory which provides the migrator for each worker
+	 * @return Detected errors
+	 */
+	@ParametersAreNonnullByDefault
+	protected <T> List<Exception> migrateLoop(Collection<? extends Collection<T>> groups, EventCauseInfo cause, MigrationStatusHandler status,
+		int batchSize, int workers, Supplier<TriConsumer<EventQueueBatch, T, List<Exception>>> migratorFactory) {
+		return migratePartitions(partition(groups, batchSize), cause, status, workers, migratorFactory);
+	}
+
+	/**
+	 * Combine the groups to partitions of at least the given size.
+	 *
+	 * @param groups
+	 * @param batchSize
+	 * @return Queue of partitions
+	 */
+	static <T> Queue<List<T>> partition(Collection<? extends Collection<T>> groups, int batchSize) {
+		Queue<List<T>> partitions = new ConcurrentLinkedQueue<>();
+		List<T> partition = new ArrayList<>();
+		for (Collection<T> group : groups) {
+			partition.addAll(group);
+			if (partition.size() >= batchSize) {
+				partitions.add(partition);
+				partition = new ArrayList<>();
+			}
+		}
+		if (!partition.isEmpty()) {
+			partitions.add(partition);
+		}
+		return partitions;
+	}
+
+	/**
+	 * Collect the ids of the given containers grouped by the id of their node. Containers which are returned multiple times are only added once.
+	 *
+	 * @param containers
+	 * @return Groups of container ids
+	 */
+	protected Collection<Set<Object>> groupByNode(Iterator<? extends NodeGraphFieldContainer> containers) {
+		Map<Object, Set<Object>> groups = new LinkedHashMap<>();
+		containers.forEachRemaining(container -> {
+			groups.computeIfAbsent(container.getParentNode().id(), k -> new LinkedHashSet<>()).add(container.id());
+		});
+		return groups.values();
+	}
+
+	/**
+	 * Count the elements of the given groups.
+	 *
+	 * @param groups
+	 * @return
+	 */
+	protected static long count(Collection<? extends Collection<?>> groups) {
+		return groups.stream().mapToLong(Collection::size).sum();
+	}
+
+	/**
+	 * Invoked after the containers of a partition have been committed. The migration of a partition is not repeated once its transaction has been
+	 * committed, so that the progress will only be reported once for each container.
+	 *
+	 * @param count
+	 *            Amount of containers in the partition
+	 */
+	protected void onPartitionMigrated(int count) {
+	}
+
+	private <T> List<Exception> migratePartitions(Queue<List<T>> partitions, EventCauseInfo cause, MigrationStatusHandler status, int workers,
+		Supplier<TriConsumer<EventQueueBatch, T, List<Exception>>> migratorFactory) {
+		int workerCount = Math.max(1, Math.min(workers, partitions.size()));
+
+		List<Exception> errorsDetected = Collections.synchronizedList(new ArrayList<>());
+		AtomicLong count = new AtomicLong();
+		AtomicLong lastCheckpoint = new AtomicLong(System.currentTimeMillis());
+		if (workerCount == 1) {
+			migrateWorker(partitions, cause, status, migratorFactory.get(), errorsDetected, count, lastCheckpoint);
+		} else {
+			log.info("Migrating {" + partitions.size() + "} partitions using {" + workerCount + "} workers");
+			List<Completable> tasks = new ArrayList<>();
+			for (int i = 0; i < workerCount; i++) {
+				tasks.add(Completable.fromAction(() -> {
+					migrateWorker(partitions, cause, status, migratorFactory.get(), errorsDetected, count, lastCheckpoint);
+				}).subscribeOn(Schedulers.io()));
+			}
+			Completable.merge(tasks).blockingAwait();
+		}
+
+		log.info("Migration of " + count.get() + " containers done..");
+		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
+		return new ArrayList<>(errorsDetected);
+	}
+
+	/**
+	 * Process partitions from the queue until it has been drained.
+	 *
+	 * @param partitions
+	 *            Shared queue of partitions
+	 * @param cause
+	 * @param status
+	 * @param migrator
+	 *            Migrator of the worker
+	 * @param errorsDetected
+	 *            Shared list of detected errors
+	 * @param count
+	 *            Shared counter of migrated containers
+	 * @param lastCheckpoint
+	 *            Shared timestamp of the last checkpoint
+	 */
+	private <T> void migrateWorker(Queue<List<T>> partitions, EventCauseInfo cause, MigrationStatusHandler status,
+		TriConsumer<EventQueueBatch, T, List<Exception>> migrator, List<Exception> errorsDetected, AtomicLong count, AtomicLong lastCheckpoint) {
 		EventQueueBatch sqb = EventQueueBatch.create();
 		sqb.setCause(cause);
-		for (T container : containers) {
-			try {
-				// Each container migration has its own search queue batch which is then combined with other batch entries.
-				// This prevents adding partial entries from failed migrations.
-				EventQueueBatch containerBatch = EventQueueBatch.create();
-				db.tx(() -> {
-					migrator.accept(containerBatch, container, errorsDetected);
-				});
-				sqb.addAll(containerBatch);
-				status.incCompleted();
-				if (count % 50 == 0) {
-					log.info("Migrated containers: " + count);
+		long pending = 0;
+		List<T> partition;
+		while ((partition = partitions.poll()) != null) {
+			// Each partition migration has its own search queue batch which is then combined with other batch entries.
+			// This prevents adding partial entries from failed migrations.
+			EventQueueBatch partitionBatch = EventQueueBatch.create();
+			List<Exception> partitionErrors = new ArrayList<>();
+			if (!migratePartition(partition, partitionBatch, partitionErrors, migrator)) {
+				// Isolate the failing container by migrating the partition container by container
+				partitionBatch.clear();
+				partitionErrors.clear();
+				for (T container : partition) {
+					EventQueueBatch containerBatch = EventQueueBatch.create();
+					List<Exception> containerErrors = new ArrayList<>();
+					try {
+						db.tx(() -> {
+							containerBatch.clear();
+							containerErrors.clear();
+							migrator.accept(containerBatch, container, containerErrors);
+						});
+						partitionBatch.addAll(containerBatch);
+						partitionErrors.addAll(containerErrors);
+					} catch (Exception e) {
+						partitionErrors.add(e);
+					}
 				}
-				count++;
-			} catch (Exception e) {
-				errorsDetected.add(e);
+			}
+			sqb.addAll(partitionBatch);
+			errorsDetected.addAll(partitionErrors);
+			pending += partition.size();
+			long migrated = count.addAndGet(partition.size());
+			if (log.isDebugEnabled()) {
+				log.debug("Migrated containers: " + migrated);
+			}
+			onPartitionMigrated(partition.size());
+			status.incCompleted(partition.size());
+			if (checkpoint(status, lastCheckpoint)) {
+				log.info("Migrated containers: " + migrated);
 			}
 
-			if (count % 500 == 0) {
+			if (pending >= DISPATCH_THRESHOLD) {
 				// Process the batch and reset it
 				log.info("Syncing batch with size: " + sqb.size());
 				db.tx(() -> {
 					sqb.dispatch();
 					sqb.clear();
 				});
+				pending = 0;
 			}
 		}
 		if (sqb.size() > 0) {
@@ -144,10 +340,58 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 				sqb.dispatch();
 			});
 		}
+	}
+
+	/**
+	 * Migrate all containers of the partition within a single transaction.
+	 *
+	 * @return false when the transaction failed and no container of the partition has been migrated
+	 */
+	private <T> boolean migratePartition(List<T> partition, EventQueueBatch partitionBatch, List<Exception> partitionErrors,
+		TriConsumer<EventQueueBatch, T, List<Exception>> migrator) {
+		try {
+			db.tx(() -> {
+				// Reset the collected state since the transaction may be retried
+				partitionBatch.clear();
+				partitionErrors.clear();
+				for (T container : partition) {
+					migrator.accept(partitionBatch, container, partitionErrors);
+				}
+			});
+			return true;
+		} catch (Exception e) {
+			if (partition.size() == 1) {
+				partitionErrors.clear();
+				partitionErrors.add(e);
+				return true;
+			}
+			log.warn("Migration of partition with {" + partition.size() + "} containers failed. Retrying container by container.", e);
+			return false;
+		}
+	}
 
-		log.info("Migration of " + count + " containers done..");
-		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
-		return errorsDetected;
+	/**
+	 * Store the progress in the job. The migration is resumable since migrated containers no longer reference the old version. The stored completion
+	 * count allows the status handler to continue the progress and throughput tracking when an interrupted job is processed again. Workers commit the
+	 * progress one after another and at most once per interval to avoid conflicting updates of the job vertex.
+	 *
+	 * @param status
+	 * @param lastCheckpoint
+	 *            Timestamp of the last checkpoint
+	 * @return true if the progress has been stored
+	 */
+	private boolean checkpoint(MigrationStatusHandler status, AtomicLong lastCheckpoint) {
+		long now = System.currentTimeMillis();
+		long last = lastCheckpoint.get();
+		if (now - last < CHECKPOINT_INTERVAL || !lastCheckpoint.compareAndSet(last, now)) {
+			return false;
+		}
+		synchronized (status) {
+			db.tx(() -> {
+				status.commit();
+			});
+		}
+		return true;
 	}
 
 	/**
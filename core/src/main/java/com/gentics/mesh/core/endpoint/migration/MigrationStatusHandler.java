@@ -62,6 +62,22 @@ public interface MigrationStatusHandler {
 	 */
 	void incCompleted();
 
+	/**
+	 * Increment the completion counter by the given amount.
+	 * 
+	 * @param count
+	 */
+	void incCompleted(long count);
+
+	/**
+	 * Start tracking the throughput of the migration. The completion count of a previously interrupted run of the job will be continued. Needs to be
+	 * invoked within a transaction.
+	 * 
+	 * @param remainingCount
+	 *            Amount of elements which still need to be migrated
+	 */
+	void startTracking(long remainingCount);
+
 	default Exception fail(HttpResponseStatus status, String message) {
 		GenericRestException ex = Errors.error(status, message);
 		error(ex, message);
@@ -4,6 +4,7 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 
 import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.management.MBeanServer;
 import javax.management.MalformedObjectNameException;
@@ -35,7 +36,13 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private Job job;
 
-	private long completionCount = 0;
+	private final AtomicLong completionCount = new AtomicLong();
+
+	private long initialCount = 0;
+
+	private long totalCount = -1;
+
+	private long startTime;
 
 	private JobStatus status;
 
@@ -53,14 +60,40 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		if (versionEdge != null) {
 			versionEdge.setMigrationStatus(status);
 		}
-		job.setCompletionCount(completionCount);
+		long completed = completionCount.get();
+		job.setCompletionCount(completed);
 		job.setStatus(status);
+		if (totalCount >= 0) {
+			updateThroughput(completed);
+		}
 
 		Tx.get().getGraph().commit();
 		return this;
 
 	}
 
+	/**
+	 * Update the throughput and the estimated completion time of the job.
+	 * 
+	 * @param completed
+	 */
+	private void updateThroughput(long completed) {
+		long now = System.currentTimeMillis();
+		long duration = now - startTime;
+		long migrated = completed - initialCount;
+		if (duration <= 0 || migrated <= 0) {
+			return;
+		}
+		double throughput = migrated * 1000d / duration;
+		long remaining = Math.max(0, totalCount - completed);
+		job.setTotalCount(totalCount);
+		job.setThroughput(throughput);
+		job.setEtaTimestamp(now + (long) (remaining * 1000d / throughput));
+		if (log.isDebugEnabled()) {
+			log.debug("Migrated {" + completed + "} of {" + totalCount + "} elements with {" + String.format("%.2f", throughput) + "} elements/s");
+		}
+	}
+
 	private ObjectName startJMX() throws MalformedObjectNameException {
 		String JMX_MBEAN_NAME = "com.gentics.mesh:type=NodeMigration";
 		ObjectName statusMBeanName = new ObjectName(JMX_MBEAN_NAME + ",name=" + "bogus");
@@ -123,7 +156,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	@Override
 	public void setCompletionCount(long completionCount) {
-		this.completionCount = completionCount;
+		this.completionCount.set(completionCount);
 	}
 
 	@Override
@@ -133,7 +166,23 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	@Override
 	public void incCompleted() {
-		completionCount++;
+		completionCount.incrementAndGet();
+	}
+
+	@Override
+	public void incCompleted(long count) {
+		completionCount.addAndGet(count);
+	}
+
+	@Override
+	public void startTracking(long remainingCount) {
+		initialCount = job.getCompletionCount();
+		completionCount.set(initialCount);
+		totalCount = initialCount + remainingCount;
+		startTime = System.currentTimeMillis();
+		if (initialCount > 0) {
+			log.info("Resuming migration after {" + initialCount + "} elements. Remaining elements: {" + remainingCount + "}");
+		}
 	}
 
 }
@@ -6,6 +6,7 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -13,10 +14,12 @@ import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.context.MicronodeMigrationContext;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Micronode;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.list.MicronodeGraphFieldList;
@@ -27,6 +30,8 @@ import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.rest.event.node.MicroschemaMigrationCause;
 import com.gentics.mesh.core.rest.micronode.MicronodeResponse;
+import com.gentics.mesh.etc.config.ContentConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
@@ -44,8 +49,8 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	private static final Logger log = LoggerFactory.getLogger(MicronodeMigrationHandler.class);
 
 	@Inject
-	public MicronodeMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics) {
-		super(db, binaryFieldHandler, metrics);
+	public MicronodeMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, MeshOptions options) {
+		super(db, binaryFieldHandler, metrics, options);
 	}
 
 	/**
@@ -83,13 +88,19 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 				return Completable.error(e);
 			}
 
-			// Get the containers, that need to be transformed
-			List<? extends NodeGraphFieldContainer> fieldContainersResult = db.tx(() -> {
-				return fromVersion.getDraftFieldContainers(branch.getUuid()).list();
+			// Get the containers, that need to be transformed. Only the ids are collected since the containers will be loaded again within the
+			// transaction of their partition. The containers are grouped by node, since the containers of a node modify the same node vertex and
+			// must not be migrated concurrently.
+			Collection<Set<Object>> containerIds = db.tx(() -> {
+				Collection<Set<Object>> ids = groupByNode(fromVersion.getDraftFieldContainers(branch.getUuid()).iterator());
+				if (status != null) {
+					status.startTracking(count(ids));
+				}
+				return ids;
 			});
 
 			// No field containers, migration is done
-			if (fieldContainersResult.isEmpty()) {
+			if (containerIds.isEmpty()) {
 				if (status != null) {
 					db.tx(() -> {
 						status.setStatus(COMPLETED);
@@ -99,9 +110,19 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 				return Completable.complete();
 			}
 
-			List<Exception> errorsDetected = migrateLoop(fieldContainersResult, cause, status,
-				(batch, container, errors) -> migrateMicronodeContainer(ac,
-					batch, branch, fromVersion, toVersion, container, touchedFields, errors));
+			ContentConfig contentOptions = options.getContentOptions();
+			List<Exception> errorsDetected = migrateLoop(containerIds, cause, status, contentOptions.getMigrationBatchSize(),
+				contentOptions.getMigrationWorkers(), () -> {
+					NodeMigrationActionContextImpl workerContext = ac.fork();
+					return (batch, containerId, errors) -> {
+						NodeGraphFieldContainer container = Tx.get().getGraph().getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, containerId);
+						if (container == null) {
+							log.debug("Container {" + containerId + "} has been removed in the meantime. Skipping it.");
+							return;
+						}
+						migrateMicronodeContainer(workerContext, batch, branch, fromVersion, toVersion, container, touchedFields, errors);
+					};
+				});
 
 			Completable result = Completable.complete();
 			if (!errorsDetected.isEmpty()) {
@@ -145,7 +166,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 		if (publish) {
 			migrated.setVersion(container.getVersion().nextPublished());
 			// Ensure that the publish edge is also updated correctly
-			node.setPublished(ac, migrated, branchUuid);
+			node.setPublished(ac, migrated, branchUuid, sqb);
 		} else {
 			if (nextDraftVersion == null) {
 				nextDraftVersion = container.getVersion().nextDraft();
@@ -240,7 +261,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 
 		NodeGraphFieldContainer migrated = node.createGraphFieldContainer(container.getLanguageTag(), branch, container.getEditor(), container, true);
 		migrated.setVersion(container.getVersion().nextPublished());
-		node.setPublished(ac, migrated, branchUuid);
+		node.setPublished(ac, migrated, branchUuid, sqb);
 
 		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, touchedFields);
 		sqb.add(migrated.onUpdated(branchUuid, PUBLISHED));
@@ -272,7 +293,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 			Micronode micronode = field.getMicronode();
 			// transform to rest and migrate
 			MicronodeResponse restModel = micronode.transformToRestSync(ac, 0);
-			migrate(ac, micronode, restModel, fromVersion, toVersion, touchedFields);
+			migrate(ac, micronode, restModel, fromVersion, toVersion, touchedFields, null);
 		}
 
 		// iterate over all micronode list fields to migrate
@@ -293,7 +314,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 				if (newMicronode.getSchemaContainerVersion().equals(fromVersion)) {
 					// transform to rest and migrate
 					MicronodeResponse restModel = newMicronode.transformToRestSync(ac, 0);
-					migrate(ac, newMicronode, restModel, fromVersion, toVersion, touchedFields);
+					migrate(ac, newMicronode, restModel, fromVersion, toVersion, touchedFields, null);
 				}
 			}
 		}
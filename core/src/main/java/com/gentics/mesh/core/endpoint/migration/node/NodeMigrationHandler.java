@@ -6,17 +6,19 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 import static com.gentics.mesh.metric.Metrics.NODE_MIGRATION_PENDING;
 
+import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -26,12 +28,13 @@ import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.rest.event.node.SchemaMigrationCause;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.etc.config.ContentConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.metric.ResettableCounter;
 import com.gentics.mesh.util.VersionNumber;
-import com.google.common.collect.Lists;
 
 import io.reactivex.Completable;
 import io.reactivex.exceptions.CompositeException;
@@ -49,8 +52,8 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	private final ResettableCounter migrationCounter;
 
 	@Inject
-	public NodeMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics) {
-		super(db, nodeFieldAPIHandler, metrics);
+	public NodeMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, MeshOptions options) {
+		super(db, nodeFieldAPIHandler, metrics, options);
 		migrationCounter = metrics.resetableCounter(NODE_MIGRATION_PENDING);
 	}
 
@@ -89,18 +92,24 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 
 			// Get the draft containers that need to be transformed. Containers which need to be transformed are those which are still linked to older schema
 			// versions. We'll work on drafts. The migration code will later on also handle publish versions.
-			List<? extends NodeGraphFieldContainer> containers = db.tx(() -> {
-				Iterator<? extends NodeGraphFieldContainer> it = fromVersion.getDraftFieldContainers(branch.getUuid());
-				return Lists.newArrayList(it);
+			// Only the ids are collected since the containers will be loaded again within the transaction of their partition. Migrated containers
+			// are no longer linked to the old version. An interrupted migration will thus only load the remaining containers.
+			// The containers are grouped by node, since the containers of a node modify the same node vertex and must not be migrated concurrently.
+			Collection<Set<Object>> containerIds = db.tx(() -> {
+				Collection<Set<Object>> ids = groupByNode(fromVersion.getDraftFieldContainers(branch.getUuid()));
+				if (status != null) {
+					status.startTracking(count(ids));
+				}
+				return ids;
 			});
 
 			if (metrics.isEnabled()) {
 				migrationCounter.reset();
-				migrationCounter.inc(containers.size());
+				migrationCounter.inc(count(containerIds));
 			}
 
 			// No field containers, migration is done
-			if (containers.isEmpty()) {
+			if (containerIds.isEmpty()) {
 				if (status != null) {
 					db.tx(() -> {
 						status.setStatus(COMPLETED);
@@ -110,12 +119,20 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 				return Completable.complete();
 			}
 
-		List<Exception> errorsDetected = migrateLoop(containers, cause, status, (batch, container, errors) -> {
-			migrateContainer(context, batch, container, fromVersion, newSchema, errors, touchedFields);
-			if (metrics.isEnabled()) {
-				migrationCounter.dec();
-			}
-		});
+			ContentConfig contentOptions = options.getContentOptions();
+			List<Exception> errorsDetected = migrateLoop(containerIds, cause, status, contentOptions.getMigrationBatchSize(),
+				contentOptions.getMigrationWorkers(), () -> {
+					// Each worker uses its own context since the context parameters are modified for each container
+					NodeMigrationActionContextImpl workerContext = context.fork();
+					return (batch, containerId, errors) -> {
+						NodeGraphFieldContainer container = Tx.get().getGraph().getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, containerId);
+						if (container == null) {
+							log.debug("Container {" + containerId + "} has been removed in the meantime. Skipping it.");
+							return;
+						}
+						migrateContainer(workerContext, batch, container, fromVersion, newSchema, errors, touchedFields);
+					};
+				});
 
 			// TODO prepare errors. They should be easy to understand and to grasp
 			Completable result = Completable.complete();
@@ -132,6 +149,13 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 
 	}
 
+	@Override
+	protected void onPartitionMigrated(int count) {
+		if (metrics.isEnabled()) {
+			migrationCounter.dec(count);
+		}
+	}
+
 	/**
 	 * Migrates the given container.
 	 * 
@@ -233,7 +257,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		// Ensure that the migrated version is also published since the old version was
 		if (publish) {
 			migrated.setVersion(container.getVersion().nextPublished());
-			node.setPublished(ac, migrated, branchUuid);
+			node.setPublished(ac, migrated, branchUuid, sqb);
 		} else {
 			if (nextDraftVersion == null) {
 				nextDraftVersion = container.getVersion().nextDraft();
@@ -242,7 +266,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		}
 
 		// Pass the new version through the migration scripts and update the version
-		migrate(ac, migrated, restModel, fromVersion, toVersion, touchedFields);
+		migrate(ac, migrated, restModel, fromVersion, toVersion, touchedFields, sqb);
 
 		// Ensure the search index is updated accordingly
 		sqb.add(migrated.onUpdated(branchUuid, DRAFT));
@@ -282,9 +306,9 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		NodeGraphFieldContainer migrated = node.createGraphFieldContainer(container.getLanguageTag(), branch, container.getEditor(), container, true);
 
 		migrated.setVersion(container.getVersion().nextPublished());
-		node.setPublished(ac, migrated, branchUuid);
+		node.setPublished(ac, migrated, branchUuid, sqb);
 
-		migrate(ac, migrated, restModel, fromVersion, toVersion, touchedFields);
+		migrate(ac, migrated, restModel, fromVersion, toVersion, touchedFields, sqb);
 		sqb.add(migrated.onUpdated(branchUuid, PUBLISHED));
 		return migrated.getVersion();
 	}
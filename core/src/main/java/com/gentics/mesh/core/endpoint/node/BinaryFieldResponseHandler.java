@@ -21,6 +21,8 @@ import com.gentics.mesh.util.ETag;
 import com.gentics.mesh.util.EncodeUtil;
 import com.gentics.mesh.util.MimeTypeUtils;
 
+import io.reactivex.Completable;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.impl.MimeMapping;
@@ -110,13 +112,8 @@ public class BinaryFieldResponseHandler {
 		if (localPath != null) {
 			rangeRequestHandler.handle(rc, localPath, contentType);
 		} else {
-			String contentLength = String.valueOf(binary.getSize());
-			if (contentType != null) {
-				response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
-			}
 			response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
-			response.putHeader(HttpHeaders.CONTENT_LENGTH, contentLength);
-			binary.getStream().subscribe(response::write, rc::fail, response::end);
+			rangeRequestHandler.handleStream(rc, binary.getUuid(), binary.getSize(), contentType);
 		}
 
 	}
@@ -132,20 +129,36 @@ public class BinaryFieldResponseHandler {
 		}
 		String fileName = binaryField.getFileName();
 		imageManipulator.handleResize(binaryField.getBinary(), imageParams)
-			.flatMap(cachedFilePath -> rxVertx.fileSystem().rxProps(cachedFilePath)
-			.doOnSuccess(props -> {
-				response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(props.size()));
-				response.putHeader(HttpHeaders.CONTENT_TYPE, MimeTypeUtils.getMimeTypeForFilename(cachedFilePath).orElse(DEFAULT_BINARY_MIME_TYPE));
-				response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
-				response.putHeader(MeshHeaders.WEBROOT_RESPONSE_TYPE, "binary");
-				// Set to IDENTITY to avoid gzip compression
-				response.putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
-
-				addContentDispositionHeader(response, fileName, "inline");
-
-				response.sendFile(cachedFilePath);
-			}))
-			.subscribe(ignore -> {}, rc::fail);
+			.flatMapCompletable(cachedFilePath -> {
+				// Frequently requested images are held in memory and can be sent without accessing the file
+				Buffer data = imageManipulator.getVariantData(cachedFilePath);
+				if (data != null) {
+					addResizeHeaders(response, cachedFilePath, fileName, data.length());
+					response.end(data);
+					imageManipulator.releaseVariant(cachedFilePath);
+					return Completable.complete();
+				}
+				return rxVertx.fileSystem().rxProps(cachedFilePath)
+					.doOnSuccess(props -> {
+						addResizeHeaders(response, cachedFilePath, fileName, props.size());
+						// The file must not be deleted by the image cache until it has been sent
+						response.sendFile(cachedFilePath, rh -> imageManipulator.releaseVariant(cachedFilePath));
+					})
+					.doOnError(e -> imageManipulator.releaseVariant(cachedFilePath))
+					.ignoreElement();
+			})
+			.subscribe(() -> {}, rc::fail);
+	}
+
+	private void addResizeHeaders(HttpServerResponse response, String cachedFilePath, String fileName, long size) {
+		response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(size));
+		response.putHeader(HttpHeaders.CONTENT_TYPE, MimeTypeUtils.getMimeTypeForFilename(cachedFilePath).orElse(DEFAULT_BINARY_MIME_TYPE));
+		response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
+		response.putHeader(MeshHeaders.WEBROOT_RESPONSE_TYPE, "binary");
+		// Set to IDENTITY to avoid gzip compression
+		response.putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+
+		addContentDispositionHeader(response, fileName, "inline");
 	}
 
 	private void addContentDispositionHeader(HttpServerResponse response, String fileName, String type) {
@@ -152,10 +152,11 @@ public class BinaryTransformHandler extends AbstractHandler {
 				// Return a POJO which hold all information that is needed to update the field
 				TransformationResult result = new TransformationResult(hashV, props.size(), infoV, file);
 				return Single.just(result);
-			}).flatMap(e -> e);
+			}).flatMap(e -> e)
+				.doOnError(e -> imageManipulator.releaseVariant(file));
 		});
 
-		obsTransformation.flatMap(r -> {
+		obsTransformation.flatMap(r -> Single.defer(() -> {
 			db.tx(() -> {
 				String hash = r.getHash();
 				BinaryRoot binaryRoot = boot.get().meshRoot().getBinaryRoot();
@@ -171,7 +172,7 @@ public class BinaryTransformHandler extends AbstractHandler {
 			Flowable<Buffer> data = fs.rxOpen(r.getFilePath(), new OpenOptions()).toFlowable()
 				.flatMap(RxUtil::toBufferFlow);
 			return binaryStorage.storeInTemp(data, temporaryId).andThen(Single.just(r));
-		}).map(r -> {
+		}).doFinally(() -> imageManipulator.releaseVariant(r.getFilePath()))).map(r -> {
 			// Update graph with the new image information
 			return updateNodeInGraph(ac, context, r, node, languageTag, fieldName, parameters);
 		}).onErrorResumeNext(e -> {
@@ -247,7 +248,7 @@ public class BinaryTransformHandler extends AbstractHandler {
 			}
 			// If the binary field is the segment field, we need to update the webroot info in the node
 			if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getSchema().getSegmentField())) {
-				newDraftVersion.updateWebrootPathInfo(branch.getUuid(), "node_conflicting_segmentfield_upload");
+				newDraftVersion.updateWebrootPathInfo(branch.getUuid(), "node_conflicting_segmentfield_upload", batch);
 			}
 			String branchUuid = node.getProject().getBranchRoot().getLatestBranch().getUuid();
 
@@ -20,6 +20,7 @@ import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.binary.BinaryDataProcessor;
+import com.gentics.mesh.core.binary.ImageRenditionHandler;
 import com.gentics.mesh.core.binary.BinaryProcessorRegistry;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Language;
@@ -50,9 +51,11 @@ import com.gentics.mesh.util.UUIDUtil;
 
 import dagger.Lazy;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -77,6 +80,8 @@ public class BinaryUploadHandler extends AbstractHandler {
 
 	private final HandlerUtilities utils;
 
+	private final ImageRenditionHandler renditionHandler;
+
 	private FileSystem fs;
 
 	@Inject
@@ -86,7 +91,8 @@ public class BinaryUploadHandler extends AbstractHandler {
 		BinaryFieldResponseHandler binaryFieldResponseHandler,
 		BinaryStorage binaryStorage,
 		BinaryProcessorRegistry binaryProcessorRegistry,
-		HandlerUtilities utils, Vertx rxVertx) {
+		HandlerUtilities utils, Vertx rxVertx,
+		ImageRenditionHandler renditionHandler) {
 
 		this.db = db;
 		this.boot = boot;
@@ -95,6 +101,7 @@ public class BinaryUploadHandler extends AbstractHandler {
 		this.binaryProcessorRegistry = binaryProcessorRegistry;
 		this.utils = utils;
 		this.fs = rxVertx.fileSystem();
+		this.renditionHandler = renditionHandler;
 	}
 
 	private void validateFileUpload(FileUpload ul, String fieldName) {
@@ -160,12 +167,7 @@ public class BinaryUploadHandler extends AbstractHandler {
 		ctx.setUpload(ul);
 
 		// First process the upload data
-		hashUpload(ul).flatMap(hash -> {
-			Single<List<Consumer<BinaryGraphField>>> modifierOp = postProcessUpload(ul, hash).toList();
-			return modifierOp.map(list -> {
-				return Tuple.tuple(hash, list);
-			});
-		}).flatMap(modifierListAndHash -> {
+		processUpload(ul).flatMap(modifierListAndHash -> {
 			String hash = modifierListAndHash.v1();
 			List<Consumer<BinaryGraphField>> modifierList = modifierListAndHash.v2();
 			ctx.setHash(hash);
@@ -210,6 +212,11 @@ public class BinaryUploadHandler extends AbstractHandler {
 			} else {
 				return Single.just(n);
 			}
+		}).doOnSuccess(n -> {
+			// The renditions can only be generated once the upload has been moved into place
+			if (ctx.isGenerateRenditions()) {
+				renditionHandler.enqueue(ctx.getHash(), ctx.getFocalPoint());
+			}
 		}).subscribe(model -> ac.send(model, CREATED), ac::fail);
 
 	}
@@ -232,13 +239,24 @@ public class BinaryUploadHandler extends AbstractHandler {
 		}
 	}
 
-	private Single<String> hashUpload(FileUpload ul) {
+	/**
+	 * Read the upload once and share the data between the hashing and all binary data processors. The read is throttled to the pace of the
+	 * slowest consumer.
+	 * 
+	 * @param ul
+	 * @return SHA512 sum of the upload and the modifiers of the processors
+	 */
+	private Single<Tuple<String, List<Consumer<BinaryGraphField>>>> processUpload(FileUpload ul) {
 		String uploadFilePath = ul.uploadedFileName();
 		return fs.rxOpen(uploadFilePath, new OpenOptions())
 			.flatMapPublisher(RxUtil::toBufferFlow)
-			.to(FileUtils::hash).doOnError(e -> {
-				log.error("Error while hashing upload {}", uploadFilePath, e);
-			});
+			.publish(stream -> {
+				Single<String> hash = FileUtils.hash(stream).doOnError(e -> {
+					log.error("Error while hashing upload {}", uploadFilePath, e);
+				}).cache();
+				Single<List<Consumer<BinaryGraphField>>> modifiers = postProcessUpload(ul, stream, hash).toList();
+				return Single.zip(hash, modifiers, Tuple::tuple).toFlowable();
+			}).singleOrError();
 	}
 
 	private NodeResponse storeUploadInGraph(InternalActionContext ac, List<Consumer<BinaryGraphField>> fieldModifier, UploadContext context,
@@ -345,13 +363,17 @@ public class BinaryUploadHandler extends AbstractHandler {
 					modifier.accept(field);
 				}
 
+				if (renditionHandler.hasRenditions() && NodeUtil.isProcessableImage(upload.contentType())) {
+					context.setGenerateRenditions(field.getImageFocalPoint());
+				}
+
 				// Now get rid of the old field
 				if (oldField != null) {
 					oldField.removeField(newDraftVersion);
 				}
 				// If the binary field is the segment field, we need to update the webroot info in the node
 				if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getSchema().getSegmentField())) {
-					newDraftVersion.updateWebrootPathInfo(branch.getUuid(), "node_conflicting_segmentfield_upload");
+					newDraftVersion.updateWebrootPathInfo(branch.getUuid(), "node_conflicting_segmentfield_upload", batch);
 				}
 
 				if (ac.isPurgeAllowed() && newDraftVersion.isAutoPurgeEnabled() && latestDraftVersion.isPurgeable()) {
@@ -370,15 +392,17 @@ public class BinaryUploadHandler extends AbstractHandler {
 	 * 
 	 * @param upload
 	 *            Upload to process
+	 * @param stream
+	 *            Shared content of the upload
 	 * @param hash
 	 *            SHA512 sum of the upload
 	 * @return Consumers which modify the graph field
 	 */
-	private Observable<Consumer<BinaryGraphField>> postProcessUpload(FileUpload upload, String hash) {
+	private Observable<Consumer<BinaryGraphField>> postProcessUpload(FileUpload upload, Flowable<Buffer> stream, Single<String> hash) {
 		String contentType = upload.contentType();
 		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(contentType);
 
-		return Observable.fromIterable(processors).flatMapMaybe(p -> p.process(upload, hash)
+		return Observable.fromIterable(processors).flatMapMaybe(p -> p.process(upload, stream, hash)
 			.doOnSuccess(s -> {
 				log.info(
 					"Processing of upload {" + upload.fileName() + "/" + upload.uploadedFileName() + "} in handler {" + p.getClass()
@@ -12,12 +12,15 @@ import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.root.RootVertex;
+import com.gentics.mesh.core.data.service.NodeResponseStore;
+import com.gentics.mesh.core.data.service.NodeResponseStore.CachedResponse;
 import com.gentics.mesh.core.endpoint.handler.AbstractCrudHandler;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.parameter.NodeParameters;
@@ -26,10 +29,16 @@ import com.gentics.mesh.parameter.VersioningParameters;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.reactivex.Single;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.lang3.math.NumberUtils;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
 import javax.inject.Inject;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.DELETE_PERM;
@@ -53,12 +62,15 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 
 	private BootstrapInitializer boot;
 
+	private NodeResponseStore responseStore;
+
 	private static final Logger log = LoggerFactory.getLogger(NodeCrudHandler.class);
 
 	@Inject
-	public NodeCrudHandler(Database db, HandlerUtilities utils, BootstrapInitializer boot) {
+	public NodeCrudHandler(Database db, HandlerUtilities utils, BootstrapInitializer boot, NodeResponseStore responseStore) {
 		super(db, utils);
 		this.boot = boot;
+		this.responseStore = responseStore;
 	}
 
 	@Override
@@ -66,24 +78,37 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		return ac.getProject().getNodeRoot();
 	}
 
+	@Override
+	public void handleCreate(InternalActionContext ac) {
+		// The created node will be added to the parent node and to the node root
+		utils.createOrUpdateElement(ac, null, () -> getRootVertex(ac), () -> requestedParentNodeUuid(ac));
+	}
+
+	@Override
+	public void handleUpdate(InternalActionContext ac, String uuid) {
+		validateParameter(uuid, "uuid");
+		// The update may create the node with the given uuid
+		utils.createOrUpdateElement(ac, uuid, () -> getRootVertex(ac), () -> requestedParentNodeUuid(ac));
+	}
+
 	@Override
 	public void handleDelete(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
-		utils.syncTx(ac, () -> {
-			try {
-				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, DELETE_PERM);
-				if (node.getProject().getBaseNode().getUuid().equals(node.getUuid())) {
-					throw error(METHOD_NOT_ALLOWED, "node_basenode_not_deletable");
-				}
-				// Create the batch first since we can't delete the container and access it later in batch creation
-				utils.bulkableAction(bac -> {
-					node.deleteFromBranch(ac, ac.getBranch(), bac, false);
-				});
-			} finally {
-				utils.unlock();
+		// The node will be removed from its parent node and from the node root
+		WriteLock lock = utils.lock(ac, () -> {
+			RootVertex<Node> nodeRoot = getRootVertex(ac);
+			return Arrays.asList(uuid, parentNodeUuid(ac, nodeRoot.findByUuid(uuid)), nodeRoot.getUuid());
+		});
+		utils.syncTx(ac, lock, () -> {
+			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, DELETE_PERM);
+			if (node.getProject().getBaseNode().getUuid().equals(node.getUuid())) {
+				throw error(METHOD_NOT_ALLOWED, "node_basenode_not_deletable");
 			}
+			// Create the batch first since we can't delete the container and access it later in batch creation
+			utils.bulkableAction(bac -> {
+				node.deleteFromBranch(ac, ac.getBranch(), bac, false);
+			});
 		}, () -> ac.send(NO_CONTENT));
 	}
 
@@ -100,20 +125,16 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleDeleteLanguage(InternalActionContext ac, String uuid, String languageTag) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
-		utils.syncTx(ac, () -> {
-			try {
-				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, DELETE_PERM);
-				Language language = MeshInternal.get().boot().meshRoot().getLanguageRoot().findByLanguageTag(languageTag);
-				if (language == null) {
-					throw error(NOT_FOUND, "error_language_not_found", languageTag);
-				}
-				utils.bulkableAction(bac -> {
-					node.deleteLanguageContainer(ac, ac.getBranch(), languageTag, bac, true);
-				});
-			} finally {
-				utils.unlock();
+		WriteLock lock = utils.lock(ac, uuid);
+		utils.syncTx(ac, lock, () -> {
+			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, DELETE_PERM);
+			Language language = MeshInternal.get().boot().meshRoot().getLanguageRoot().findByLanguageTag(languageTag);
+			if (language == null) {
+				throw error(NOT_FOUND, "error_language_not_found", languageTag);
 			}
+			utils.bulkableAction(bac -> {
+				node.deleteLanguageContainer(ac, ac.getBranch(), languageTag, bac, true);
+			});
 		}, () -> ac.send(NO_CONTENT));
 	}
 
@@ -131,27 +152,27 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		validateParameter(uuid, "uuid");
 		validateParameter(toUuid, "toUuid");
 
-		utils.lock();
-		utils.syncTx(ac, () -> {
-			try {
-				Project project = ac.getProject();
-
-				// TODO Add support for moving nodes across projects.
-				// This is tricky since the branch consistency must be taken care of
-				// One option would be to delete all the version within the source project and create the in the target project
-				// The needed schema versions would need to be present in the target project branch as well.
-
-				// Load the node that should be moved
-				NodeRoot nodeRoot = project.getNodeRoot();
-				Node sourceNode = nodeRoot.loadObjectByUuid(ac, uuid, UPDATE_PERM);
-				Node targetNode = nodeRoot.loadObjectByUuid(ac, toUuid, UPDATE_PERM);
-
-				utils.eventAction(batch -> {
-					sourceNode.moveTo(ac, targetNode, batch);
-				});
-			} finally {
-				utils.unlock();
-			}
+		// The node will be removed from its current parent node and added to the target node
+		WriteLock lock = utils.lock(ac, () -> {
+			Node node = getRootVertex(ac).findByUuid(uuid);
+			return Arrays.asList(uuid, toUuid, parentNodeUuid(ac, node));
+		});
+		utils.syncTx(ac, lock, () -> {
+			Project project = ac.getProject();
+
+			// TODO Add support for moving nodes across projects.
+			// This is tricky since the branch consistency must be taken care of
+			// One option would be to delete all the version within the source project and create the in the target project
+			// The needed schema versions would need to be present in the target project branch as well.
+
+			// Load the node that should be moved
+			NodeRoot nodeRoot = project.getNodeRoot();
+			Node sourceNode = nodeRoot.loadObjectByUuid(ac, uuid, UPDATE_PERM);
+			Node targetNode = nodeRoot.loadObjectByUuid(ac, toUuid, UPDATE_PERM);
+
+			utils.eventAction(batch -> {
+				sourceNode.moveTo(ac, targetNode, batch);
+			});
 		}, () -> ac.send(NO_CONTENT));
 
 	}
@@ -209,7 +230,31 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleRead(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 		GraphPermission requiredPermission = "published".equals(ac.getVersioningParameters().getVersion()) ? READ_PUBLISHED_PERM : READ_PERM;
-		utils.readElement(ac, uuid, () -> getRootVertex(ac), requiredPermission);
+		if (responseStore.isDisabled()) {
+			utils.readElement(ac, uuid, () -> getRootVertex(ac), requiredPermission);
+			return;
+		}
+
+		boolean useEtag = ac.getGenericParameters().getETag();
+		utils.syncTx(ac, tx -> {
+			String key = responseStore.createCacheKey(ac, "node", uuid);
+			CachedResponse response = responseStore.get(key);
+			if (response != null) {
+				if (useEtag) {
+					NodeResponseStore.checkETag(ac, response.getEtag());
+				}
+				return response;
+			}
+			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, requiredPermission);
+			String etag = node.getETag(ac);
+			// No need to render the node if the client already has the current version
+			if (useEtag) {
+				NodeResponseStore.checkETag(ac, etag);
+			}
+			response = new CachedResponse(node.transformToRestSync(ac, 0).toJson(), etag, null);
+			responseStore.store(key, response);
+			return response;
+		}, response -> ac.send(response.getBody(), OK));
 	}
 
 	/**
@@ -256,30 +301,26 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		validateParameter(uuid, "uuid");
 		validateParameter(tagUuid, "tagUuid");
 
-		utils.lock();
-		utils.rxSyncTx(ac, tx -> {
-			try {
-				Project project = ac.getProject();
-				Branch branch = ac.getBranch();
-				Node node = project.getNodeRoot().loadObjectByUuid(ac, uuid, UPDATE_PERM);
-				Tag tag = boot.meshRoot().getTagRoot().loadObjectByUuid(ac, tagUuid, READ_PERM);
-
-				if (node.hasTag(tag, branch)) {
-					if (log.isDebugEnabled()) {
-						log.debug("Node {{}} is already tagged with tag {{}}", node.getUuid(), tag.getUuid());
-					}
-				} else {
-					utils.eventAction(batch -> {
-						node.addTag(tag, branch);
+		WriteLock lock = utils.lock(ac, uuid);
+		utils.rxSyncTx(ac, lock, tx -> {
+			Project project = ac.getProject();
+			Branch branch = ac.getBranch();
+			Node node = project.getNodeRoot().loadObjectByUuid(ac, uuid, UPDATE_PERM);
+			Tag tag = boot.meshRoot().getTagRoot().loadObjectByUuid(ac, tagUuid, READ_PERM);
 
-						batch.add(node.onTagged(tag, branch, ASSIGNED));
-					});
+			if (node.hasTag(tag, branch)) {
+				if (log.isDebugEnabled()) {
+					log.debug("Node {{}} is already tagged with tag {{}}", node.getUuid(), tag.getUuid());
 				}
+			} else {
+				utils.eventAction(batch -> {
+					node.addTag(tag, branch);
 
-				return node.transformToRest(ac, 0);
-			} finally {
-				utils.unlock();
+					batch.add(node.onTagged(tag, branch, ASSIGNED));
+				});
 			}
+
+			return node.transformToRest(ac, 0);
 		}, model -> ac.send(model, OK));
 
 	}
@@ -298,26 +339,22 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		validateParameter(uuid, "uuid");
 		validateParameter(tagUuid, "tagUuid");
 
-		utils.lock();
-		utils.syncTx(ac, () -> {
-			try {
-				Project project = ac.getProject();
-				Branch branch = ac.getBranch();
-				Node node = project.getNodeRoot().loadObjectByUuid(ac, uuid, UPDATE_PERM);
-				Tag tag = boot.meshRoot().getTagRoot().loadObjectByUuid(ac, tagUuid, READ_PERM);
-
-				if (node.hasTag(tag, branch)) {
-					utils.eventAction(batch -> {
-						node.removeTag(tag, branch);
-						batch.add(node.onTagged(tag, branch, UNASSIGNED));
-					});
-				} else {
-					if (log.isDebugEnabled()) {
-						log.debug("Node {{}} was not tagged with tag {{}}", node.getUuid(), tag.getUuid());
-					}
+		WriteLock lock = utils.lock(ac, uuid);
+		utils.syncTx(ac, lock, () -> {
+			Project project = ac.getProject();
+			Branch branch = ac.getBranch();
+			Node node = project.getNodeRoot().loadObjectByUuid(ac, uuid, UPDATE_PERM);
+			Tag tag = boot.meshRoot().getTagRoot().loadObjectByUuid(ac, tagUuid, READ_PERM);
+
+			if (node.hasTag(tag, branch)) {
+				utils.eventAction(batch -> {
+					node.removeTag(tag, branch);
+					batch.add(node.onTagged(tag, branch, UNASSIGNED));
+				});
+			} else {
+				if (log.isDebugEnabled()) {
+					log.debug("Node {{}} was not tagged with tag {{}}", node.getUuid(), tag.getUuid());
 				}
-			} finally {
-				utils.unlock();
 			}
 		}, () -> ac.send(NO_CONTENT));
 	}
@@ -350,17 +387,13 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handlePublish(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
-		utils.syncTx(ac, tx -> {
-			try {
-				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
-				utils.bulkableAction(bac -> {
-					node.publish(ac, bac);
-				});
-				return node.transformToPublishStatus(ac);
-			} finally {
-				utils.unlock();
-			}
+		WriteLock lock = utils.lock(ac, uuid);
+		utils.syncTx(ac, lock, tx -> {
+			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
+			utils.bulkableAction(bac -> {
+				node.publish(ac, bac);
+			});
+			return node.transformToPublishStatus(ac);
 		}, model -> ac.send(model, OK));
 	}
 
@@ -375,16 +408,12 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleTakeOffline(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
-		utils.syncTx(ac, () -> {
-			try {
-				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
-				utils.bulkableAction(bac -> {
-					node.takeOffline(ac, bac);
-				});
-			} finally {
-				utils.unlock();
-			}
+		WriteLock lock = utils.lock(ac, uuid);
+		utils.syncTx(ac, lock, () -> {
+			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
+			utils.bulkableAction(bac -> {
+				node.takeOffline(ac, bac);
+			});
 		}, () -> ac.send(NO_CONTENT));
 	}
 
@@ -420,17 +449,13 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handlePublish(InternalActionContext ac, String uuid, String languageTag) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
-		utils.syncTx(ac, tx -> {
-			try {
-				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
-				utils.bulkableAction(bac -> {
-					node.publish(ac, bac, languageTag);
-				});
-				return node.transformToPublishStatus(ac, languageTag);
-			} finally {
-				utils.unlock();
-			}
+		WriteLock lock = utils.lock(ac, uuid);
+		utils.syncTx(ac, lock, tx -> {
+			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
+			utils.bulkableAction(bac -> {
+				node.publish(ac, bac, languageTag);
+			});
+			return node.transformToPublishStatus(ac, languageTag);
 		}, model -> ac.send(model, OK));
 	}
 
@@ -447,17 +472,13 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleTakeOffline(InternalActionContext ac, String uuid, String languageTag) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
-		utils.syncTx(ac, () -> {
-			try {
-				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
-				utils.bulkableAction(bac -> {
-					Branch branch = ac.getBranch(ac.getProject());
-					node.takeOffline(ac, bac, branch, languageTag);
-				});
-			} finally {
-				utils.unlock();
-			}
+		WriteLock lock = utils.lock(ac, uuid);
+		utils.syncTx(ac, lock, () -> {
+			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
+			utils.bulkableAction(bac -> {
+				Branch branch = ac.getBranch(ac.getProject());
+				node.takeOffline(ac, bac, branch, languageTag);
+			});
 		}, () -> ac.send(NO_CONTENT));
 	}
 
@@ -497,20 +518,16 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleBulkTagUpdate(InternalActionContext ac, String nodeUuid) {
 		validateParameter(nodeUuid, "nodeUuid");
 
-		utils.lock();
+		WriteLock lock = utils.lock(ac, nodeUuid);
 		db.asyncTx(() -> {
-			try {
-				Project project = ac.getProject();
-				Node node = project.getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
-				TransformablePage<? extends Tag> page = utils.eventAction(batch -> {
-					return node.updateTags(ac, batch);
-				});
+			Project project = ac.getProject();
+			Node node = project.getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
+			TransformablePage<? extends Tag> page = utils.eventAction(batch -> {
+				return node.updateTags(ac, batch);
+			});
 
-				return page.transformToRest(ac, 0);
-			} finally {
-				utils.unlock();
-			}
-		}).subscribe(model -> ac.send(model, OK), ac::fail);
+			return page.transformToRest(ac, 0);
+		}).doFinally(lock::unlock).subscribe(model -> ac.send(model, OK), ac::fail);
 
 	}
 
@@ -530,4 +547,37 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 			ac.send(model, OK);
 		});
 	}
+
+	/**
+	 * Return the uuid of the parent node of the node in the branch of the request.
+	 * 
+	 * @param ac
+	 * @param node
+	 * @return Uuid or null if the node or the parent node does not exist
+	 */
+	private String parentNodeUuid(InternalActionContext ac, Node node) {
+		if (node == null) {
+			return null;
+		}
+		Node parentNode = node.getParentNode(ac.getBranch().getUuid());
+		return parentNode == null ? null : parentNode.getUuid();
+	}
+
+	/**
+	 * Return the uuid of the parent node which was specified in the request body.
+	 * 
+	 * @param ac
+	 * @return Uuid of the parent node. Empty if the request does not specify a parent node.
+	 */
+	private Collection<String> requestedParentNodeUuid(InternalActionContext ac) {
+		try {
+			JsonObject parentNode = new JsonObject(ac.getBodyAsString()).getJsonObject("parentNode");
+			if (parentNode != null && parentNode.getValue("uuid") instanceof String) {
+				return Collections.singletonList(parentNode.getString("uuid"));
+			}
+		} catch (DecodeException | ClassCastException e) {
+			// The invalid request will be rejected when the node gets created
+		}
+		return Collections.emptyList();
+	}
 }
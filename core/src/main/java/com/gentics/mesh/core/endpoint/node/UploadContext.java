@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.endpoint.node;
 
+import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
 import com.gentics.mesh.util.UUIDUtil;
 
 import io.vertx.ext.web.FileUpload;
@@ -16,6 +17,10 @@ public class UploadContext {
 
 	private boolean invokeStore = false;
 
+	private boolean generateRenditions = false;
+
+	private FocalPoint focalPoint;
+
 	public UploadContext() {
 		this.temporaryId = UUIDUtil.randomUUID();
 	}
@@ -56,4 +61,23 @@ public class UploadContext {
 		return this.invokeStore;
 	}
 
+	/**
+	 * Mark that the image renditions of the upload should be generated.
+	 * 
+	 * @param focalPoint
+	 *            Focal point of the field which references the upload
+	 */
+	public void setGenerateRenditions(FocalPoint focalPoint) {
+		this.generateRenditions = true;
+		this.focalPoint = focalPoint;
+	}
+
+	public boolean isGenerateRenditions() {
+		return generateRenditions;
+	}
+
+	public FocalPoint getFocalPoint() {
+		return focalPoint;
+	}
+
 }
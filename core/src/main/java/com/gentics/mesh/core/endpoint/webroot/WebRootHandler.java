@@ -27,6 +27,8 @@ import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.core.data.service.NodeResponseStore;
+import com.gentics.mesh.core.data.service.NodeResponseStore.CachedResponse;
 import com.gentics.mesh.core.data.service.WebRootServiceImpl;
 import com.gentics.mesh.core.endpoint.node.BinaryFieldResponseHandler;
 import com.gentics.mesh.core.endpoint.node.NodeCrudHandler;
@@ -66,14 +68,17 @@ public class WebRootHandler {
 
 	private HandlerUtilities utils;
 
+	private NodeResponseStore responseStore;
+
 	@Inject
 	public WebRootHandler(Database database, WebRootServiceImpl webrootService, BinaryFieldResponseHandler binaryFieldResponseHandler,
-		NodeCrudHandler nodeCrudHandler, HandlerUtilities utils) {
+		NodeCrudHandler nodeCrudHandler, HandlerUtilities utils, NodeResponseStore responseStore) {
 		this.db = database;
 		this.webrootService = webrootService;
 		this.binaryFieldResponseHandler = binaryFieldResponseHandler;
 		this.nodeCrudHandler = nodeCrudHandler;
 		this.utils = utils;
+		this.responseStore = responseStore;
 	}
 
 	/**
@@ -88,6 +93,19 @@ public class WebRootHandler {
 		MeshAuthUser requestUser = ac.getUser();
 		db.asyncTx(() -> {
 
+			// Check whether the rendered response has already been cached
+			String cacheKey = null;
+			if (!responseStore.isDisabled()) {
+				cacheKey = responseStore.createCacheKey(ac, "webroot", path);
+				CachedResponse cachedResponse = responseStore.get(cacheKey);
+				if (cachedResponse != null) {
+					rc.response().putHeader(CACHE_CONTROL, cachedResponse.getCacheControl());
+					ac.setWebrootResponseType("node");
+					NodeResponseStore.checkETag(ac, cachedResponse.getEtag());
+					return Single.just(Optional.of(cachedResponse));
+				}
+			}
+
 			String branchUuid = ac.getBranch().getUuid();
 			// Load all nodes for the given path
 			Path nodePath = webrootService.findByProjectPath(ac, path);
@@ -107,7 +125,8 @@ public class WebRootHandler {
 
 			String version = ac.getVersioningParameters().getVersion();
 			Node node = container.getParentNode();
-			addCacheControl(rc, node, version);
+			String cacheControl = getCacheControl(node, version);
+			rc.response().putHeader(CACHE_CONTROL, cacheControl);
 			requestUser.failOnNoReadPermission(container, branchUuid, version);
 
 			GraphField field = lastSegment.getPathField();
@@ -126,26 +145,30 @@ public class WebRootHandler {
 					return Single.error(new NotModifiedException());
 				} else {
 					binaryFieldResponseHandler.handle(rc, binaryField);
-					return Single.just(Optional.empty());
+					return Single.just(Optional.<CachedResponse>empty());
 				}
 			} else {
 				String etag = node.getETag(ac);
-				ac.setEtag(etag, true);
-				if (ac.matches(etag, true)) {
-					return Single.error(new NotModifiedException());
-				} else {
-					// Use the language for which the node was resolved
-					List<String> languageTags = new ArrayList<>();
-					languageTags.add(lastSegment.getLanguageTag());
-					languageTags.addAll(ac.getNodeParameters().getLanguageList());
-					ac.setWebrootResponseType("node");
-					return node.transformToRest(ac, 0, languageTags.toArray(new String[0])).map(model -> Optional.of(model));
-				}
+				ac.setWebrootResponseType("node");
+				NodeResponseStore.checkETag(ac, etag);
+
+				// Use the language for which the node was resolved
+				List<String> languageTags = new ArrayList<>();
+				languageTags.add(lastSegment.getLanguageTag());
+				languageTags.addAll(ac.getNodeParameters().getLanguageList());
+				String key = cacheKey;
+				return node.transformToRest(ac, 0, languageTags.toArray(new String[0])).map(model -> {
+					CachedResponse response = new CachedResponse(JsonUtil.toJson(model), etag, cacheControl);
+					if (key != null) {
+						responseStore.store(key, response);
+					}
+					return Optional.of(response);
+				});
 			}
 
 		}).subscribe(result -> {
 			if (result.isPresent()) {
-				ac.send(JsonUtil.toJson(result.get()),
+				ac.send(result.get().getBody(),
 					HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())));
 			}
 		}, ac::fail);
@@ -153,19 +176,18 @@ public class WebRootHandler {
 	}
 
 	/**
-	 * Add the cache control headers.
+	 * Return the cache control header value for the node.
 	 * 
-	 * @param rc
 	 * @param node
 	 * @param version
+	 * @return
 	 */
-	private void addCacheControl(RoutingContext rc, Node node, String version) {
+	private String getCacheControl(Node node, String version) {
 		if (isPublic(node, version)) {
-			rc.response().putHeader(CACHE_CONTROL, "public");
+			return "public";
 		} else {
-			rc.response().putHeader(CACHE_CONTROL, "private");
+			return "private";
 		}
-
 	}
 
 	/**
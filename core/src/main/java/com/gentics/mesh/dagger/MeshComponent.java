@@ -9,6 +9,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.binary.ImageRenditionHandler;
 import com.gentics.mesh.core.data.schema.handler.SchemaComparator;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
 import com.gentics.mesh.core.endpoint.migration.branch.BranchMigrationHandler;
@@ -88,6 +89,8 @@ public interface MeshComponent {
 
 	ProjectVersionPurgeHandler projectVersionPurgeHandler();
 
+	ImageRenditionHandler imageRenditionHandler();
+
 	MeshLocalClientImpl meshLocalClientImpl();
 
 	WebRootLinkReplacer webRootLinkReplacer();
@@ -11,6 +11,7 @@ import com.gentics.mesh.etc.config.HttpServerConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.handler.impl.MeshBodyHandlerImpl;
 import com.gentics.mesh.image.ImgscalrImageManipulator;
+import com.gentics.mesh.metric.MetricsService;
 
 import dagger.Module;
 import dagger.Provides;
@@ -35,8 +36,8 @@ public class MeshModule {
 
 	@Provides
 	@Singleton
-	public static ImageManipulator imageProvider() {
-		return new ImgscalrImageManipulator();
+	public static ImageManipulator imageProvider(MetricsService metrics) {
+		return new ImgscalrImageManipulator(metrics);
 	}
 
 
@@ -37,4 +37,16 @@ public interface RangeRequestHandler {
 	 */
 	void handle(RoutingContext rc, String localPath, String contentType);
 
+	/**
+	 * Process the request for a binary which can't be accessed via a local path. The requested data will be read from the binary storage and
+	 * streamed to the client. The storage is only read as fast as the client consumes the data.
+	 * 
+	 * @param rc
+	 * @param binaryUuid
+	 * @param size
+	 *            Size of the binary in bytes
+	 * @param contentType
+	 */
+	void handleStream(RoutingContext rc, String binaryUuid, long size, String contentType);
+
 }
@@ -15,11 +15,16 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.handler.RangeRequestHandler;
+import com.gentics.mesh.storage.BinaryStorage;
+import com.gentics.mesh.util.rx.WriteStreamSubscriber;
 
+import io.reactivex.Flowable;
 import io.reactivex.Single;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
@@ -42,10 +47,12 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 
 	private int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
 	private final Vertx rxVertx;
+	private final BinaryStorage storage;
 
 	@Inject
-	public RangeRequestHandlerImpl(Vertx rxVertx) {
+	public RangeRequestHandlerImpl(Vertx rxVertx, BinaryStorage storage) {
 		this.rxVertx = rxVertx;
+		this.storage = storage;
 	}
 
 	@Override
@@ -64,7 +71,56 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 		}, context::fail);
 	}
 
+	@Override
+	public void handleStream(RoutingContext context, String binaryUuid, long size, String contentType) {
+		ByteRange range = prepareResponse(context, size, contentType);
+		if (range == null) {
+			return;
+		}
+		HttpServerResponse response = context.response();
+		Flowable<Buffer> stream = range.partial ? storage.read(binaryUuid, range.start, range.end) : storage.read(binaryUuid);
+		WriteStreamSubscriber subscriber = new WriteStreamSubscriber(response, e -> {
+			log.error("Error while streaming binary {" + binaryUuid + "}", e);
+			if (response.headWritten()) {
+				// The status has already been sent, so the client can only notice the error by the connection being closed
+				response.close();
+			} else {
+				context.fail(e);
+			}
+		});
+		// Stop reading from the storage when the client goes away
+		response.closeHandler(v -> subscriber.cancel());
+		stream.subscribe(subscriber);
+	}
+
 	private void sendFile(RoutingContext context, String file, String contentType, FileProps fileProps) {
+		ByteRange range = prepareResponse(context, fileProps.size(), contentType);
+		if (range == null) {
+			return;
+		}
+		HttpServerResponse response = context.response();
+		if (range.partial) {
+			response.sendFile(file, range.start, range.length());
+		} else {
+			// Return the full file
+			response.sendFile(file, res2 -> {
+				if (res2.failed()) {
+					context.fail(res2.cause());
+				}
+			});
+		}
+	}
+
+	/**
+	 * Evaluate the range header of the request and prepare the status and headers of the response.
+	 *
+	 * @param context
+	 * @param size
+	 *            Size of the complete content
+	 * @param contentType
+	 * @return Range which should be sent or null if the response has already been handled
+	 */
+	private ByteRange prepareResponse(RoutingContext context, long size, String contentType) {
 		HttpServerRequest request = context.request();
 
 		Long offset = null;
@@ -74,7 +130,7 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 		// check if the client is making a range request
 		String range = request.getHeader("Range");
 		// end byte is length - 1
-		end = fileProps.size() - 1;
+		end = size - 1;
 
 		if (range != null) {
 			Matcher m = RANGE.matcher(range);
@@ -84,7 +140,7 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 					// offset cannot be empty
 					offset = Long.parseLong(part);
 					// offset must fall inside the limits of the file
-					if (offset < 0 || offset >= fileProps.size()) {
+					if (offset < 0 || offset >= size) {
 						throw new IndexOutOfBoundsException();
 					}
 					// length can be empty
@@ -98,22 +154,23 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 						}
 					}
 				} catch (NumberFormatException | IndexOutOfBoundsException e) {
-					context.response().putHeader("Content-Range", "bytes */" + fileProps.size());
+					context.response().putHeader("Content-Range", "bytes */" + size);
 					context.fail(REQUESTED_RANGE_NOT_SATISFIABLE.code());
-					return;
+					return null;
 				}
 			}
 
 			// notify client we support range requests
 			headers = request.response().headers();
 			headers.set("Accept-Ranges", "bytes");
-			// send the content length even for HEAD requests
-			headers.set("Content-Length", Long.toString(end + 1 - (offset == null ? 0 : offset)));
 		}
 
+		// send the content length even for HEAD requests
+		request.response().headers().set("Content-Length", Long.toString(end + 1 - (offset == null ? 0 : offset)));
+
 		if (request.method() == HttpMethod.HEAD) {
 			request.response().end();
-			return;
+			return null;
 		}
 
 		if (contentType != null) {
@@ -125,23 +182,12 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 		}
 		if (offset != null) {
 			// must return content range
-			headers.set("Content-Range", "bytes " + offset + "-" + end + "/" + fileProps.size());
+			headers.set("Content-Range", "bytes " + offset + "-" + end + "/" + size);
 			// return a partial response
 			request.response().setStatusCode(PARTIAL_CONTENT.code());
-
-			final Long finalOffset = offset;
-			final Long finalLength = end + 1 - offset;
-
-			request.response().sendFile(file, finalOffset, finalLength);
-		} else {
-			// Return the full file
-			request.response().sendFile(file, res2 -> {
-				if (res2.failed()) {
-					context.fail(res2.cause());
-				}
-			});
+			return new ByteRange(offset, end, true);
 		}
-
+		return new ByteRange(0, end, false);
 	}
 
 	private Single<FileProps> getFileProps(String file) {
@@ -161,4 +207,26 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 		return propsCache;
 	}
 
+	/**
+	 * Inclusive byte range of the content which should be sent.
+	 */
+	private static class ByteRange {
+
+		private final long start;
+
+		private final long end;
+
+		private final boolean partial;
+
+		ByteRange(long start, long end, boolean partial) {
+			this.start = start;
+			this.end = end;
+			this.partial = partial;
+		}
+
+		long length() {
+			return end + 1 - start;
+		}
+	}
+
 }
@@ -145,11 +145,12 @@ public class RestAPIVerticle extends AbstractVerticle {
 		HttpServerOptions options = new HttpServerOptions();
 		options.setPort(port);
 		options.setHost(host);
-		options.setCompressionSupported(true);
 		options.setHandle100ContinueAutomatically(true);
 		// options.setLogActivity(true);
 		MeshOptions meshOptions = Mesh.mesh().getOptions();
 		HttpServerConfig httpServerOptions = meshOptions.getHttpServerOptions();
+		options.setCompressionSupported(httpServerOptions.getEnableCompression());
+		options.setCompressionLevel(httpServerOptions.getCompressionLevel());
 		if (httpServerOptions.getSsl()) {
 			if (log.isDebugEnabled()) {
 				log.debug("Setting ssl server options..");
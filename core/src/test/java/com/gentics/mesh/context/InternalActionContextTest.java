@@ -1,17 +1,33 @@
 package com.gentics.mesh.context;
 
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.core.rest.user.UserResponse;
+import com.gentics.mesh.mock.Mocks;
 
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 
 public class InternalActionContextTest {
@@ -26,4 +42,43 @@ public class InternalActionContextTest {
 		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
 		assertNotNull(ac.splitQuery());
 	}
+
+	@Test
+	public void testSendRestModel() {
+		UserResponse user = new UserResponse();
+		user.setUsername("joe");
+		user.setFirstname("Jöe");
+
+		Buffer compact = send("", user);
+		Buffer pretty = send("pretty=true", user);
+		assertFalse("The compact JSON should not contain line breaks", compact.toString(UTF_8).contains("\n"));
+		assertTrue("The JSON should be pretty printed", pretty.toString(UTF_8).contains("\n"));
+		assertEquals(new JsonObject(user.toJson()), new JsonObject(compact.toString(UTF_8)));
+		assertEquals(new JsonObject(user.toJson()), new JsonObject(pretty.toString(UTF_8)));
+	}
+
+	/**
+	 * Send the model via the routing context and return the buffer which was written to the response. The content is read after the send call
+	 * returned, like the transport does.
+	 * 
+	 * @param query
+	 * @param user
+	 * @return
+	 */
+	private Buffer send(String query, UserResponse user) {
+		RoutingContext rc = Mocks.getMockedRoutingContext(query, false, null, null);
+		HttpServerResponse response = mock(HttpServerResponse.class);
+		when(response.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+		when(response.putHeader(anyString(), anyString())).thenReturn(response);
+		when(response.putHeader(any(CharSequence.class), any(CharSequence.class))).thenReturn(response);
+		when(response.setStatusCode(anyInt())).thenReturn(response);
+		when(rc.response()).thenReturn(response);
+
+		new InternalRoutingActionContextImpl(rc).send(user, OK);
+
+		ArgumentCaptor<Buffer> body = ArgumentCaptor.forClass(Buffer.class);
+		verify(response).setStatusCode(OK.code());
+		verify(response).end(body.capture());
+		return body.getValue();
+	}
 }
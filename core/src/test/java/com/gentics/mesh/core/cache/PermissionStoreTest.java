@@ -0,0 +1,121 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.Group;
+import com.gentics.mesh.core.data.Role;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class PermissionStoreTest extends AbstractMeshTest {
+
+	@Test
+	public void testInvalidateElement() {
+		try (Tx tx = tx()) {
+			User user = user();
+			Node content = content();
+			Node folder = folder("2015");
+			assertTrue(user.hasPermission(content, READ_PERM));
+			assertTrue(user.hasPermission(folder, READ_PERM));
+			RoleSet roles = cachedRoleSet(user);
+			assertTrue(PermissionStore.getCachedPermission(roles, READ_PERM, content.id()));
+			assertTrue(PermissionStore.getCachedPermission(roles, READ_PERM, folder.id()));
+
+			role().revokePermissions(folder, READ_PERM);
+			assertNull("The permissions of the folder should have been invalidated.", PermissionStore.getCachedPermission(roles, READ_PERM, folder.id()));
+			assertTrue("The permissions of other elements should still be cached.", PermissionStore.getCachedPermission(roles, READ_PERM, content.id()));
+
+			assertFalse(user.hasPermission(folder, READ_PERM));
+			assertFalse("The denied permission should have been cached.", PermissionStore.getCachedPermission(roles, READ_PERM, folder.id()));
+		}
+	}
+
+	@Test
+	public void testInvalidateUsersOfGroup() {
+		try (Tx tx = tx()) {
+			User user = user();
+			Node content = content();
+			assertTrue(user.hasPermission(content, READ_PERM));
+			RoleSet roles = cachedRoleSet(user);
+
+			Role extraRole = boot().roleRoot().create("extraRole", user);
+			group().addRole(extraRole);
+			RoleSet updatedRoles = PermissionStore.getRoleSet(user.id(), () -> Arrays.asList(role().id(), extraRole.id()));
+			assertNotEquals("The role set of the user should have been invalidated.", roles, updatedRoles);
+			assertTrue(updatedRoles.contains(extraRole.id()));
+			assertTrue("The permissions of the previous role set should still be cached.", PermissionStore.getCachedPermission(roles, READ_PERM, content.id()));
+		}
+	}
+
+	@Test
+	public void testRoleChangeOfUserWithSharedRoleSet() {
+		try (Tx tx = tx()) {
+			User user = user();
+			User other = boot().userRoot().create("other", user);
+			group().addUser(other);
+			Node folder = folder("2015");
+			role().revokePermissions(folder, READ_PERM);
+
+			Role extraRole = boot().roleRoot().create("extraRole", user);
+			extraRole.grantPermissions(folder, READ_PERM);
+			Group extraGroup = boot().groupRoot().create("extraGroup", user);
+			extraGroup.addRole(extraRole);
+
+			assertFalse(user.hasPermission(folder, READ_PERM));
+			assertFalse(other.hasPermission(folder, READ_PERM));
+			RoleSet sharedRoles = cachedRoleSet(user);
+			assertEquals("Both users should share the role set.", sharedRoles, cachedRoleSet(other));
+
+			// Grant the role and cache the previous role set again, like a concurrent request would do until the change has been committed
+			extraGroup.addUser(user);
+			PermissionStore.getRoleSet(user.id(), () -> sharedRoles.getRoleIds());
+			assertFalse("The permission must be determined using the roles of the cached set.", user.hasPermission(folder, READ_PERM));
+			assertFalse("The permission of the other user must not be affected.", other.hasPermission(folder, READ_PERM));
+
+			// Clear the store like it is done once the events of the change have been dispatched
+			PermissionStore.invalidate(false);
+			assertTrue(user.hasPermission(folder, READ_PERM));
+			assertNotEquals(sharedRoles, cachedRoleSet(user));
+			assertFalse("The permission of the other user must not be affected.", other.hasPermission(folder, READ_PERM));
+
+			// Revoke the role again
+			extraGroup.removeUser(user);
+			assertFalse(user.hasPermission(folder, READ_PERM));
+			assertEquals(sharedRoles, cachedRoleSet(user));
+			assertFalse(other.hasPermission(folder, READ_PERM));
+		}
+	}
+
+	@Test
+	public void testRoleSetEquality() {
+		assertEquals(RoleSet.of(Arrays.asList("#1:2", "#1:1")), RoleSet.of(Arrays.asList("#1:1", "#1:2", "#1:1")));
+		assertNotEquals(RoleSet.of(Arrays.asList("#1:1")), RoleSet.of(Arrays.asList("#1:1", "#1:2")));
+		assertTrue(RoleSet.of(Arrays.asList()).isEmpty());
+	}
+
+	/**
+	 * Return the cached role set of the user and fail if the role set has not been cached.
+	 * 
+	 * @param user
+	 * @return
+	 */
+	private RoleSet cachedRoleSet(User user) {
+		return PermissionStore.getRoleSet(user.id(), () -> {
+			throw new AssertionError("The role set of the user should have been cached.");
+		});
+	}
+}
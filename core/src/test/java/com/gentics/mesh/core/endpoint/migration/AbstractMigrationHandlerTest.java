@@ -0,0 +1,35 @@
+package com.gentics.mesh.core.endpoint.migration;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.Test;
+
+public class AbstractMigrationHandlerTest {
+
+	@Test
+	public void testPartition() {
+		List<List<String>> groups = asList(asList("a1", "a2"), asList("b1"), asList("c1", "c2", "c3"), asList("d1"));
+		Queue<List<String>> partitions = AbstractMigrationHandler.partition(groups, 3);
+		assertThat(partitions).containsExactly(asList("a1", "a2", "b1"), asList("c1", "c2", "c3"), asList("d1"));
+	}
+
+	@Test
+	public void testPartitionDoesNotSplitGroups() {
+		// The containers of a node must never be migrated by different workers
+		List<List<String>> groups = asList(asList("a1", "a2", "a3"), asList("b1", "b2"), asList("c1"));
+		Queue<List<String>> partitions = AbstractMigrationHandler.partition(groups, 2);
+		assertThat(partitions).containsExactly(asList("a1", "a2", "a3"), asList("b1", "b2"), asList("c1"));
+	}
+
+	@Test
+	public void testPartitionEmpty() {
+		List<List<String>> groups = Collections.emptyList();
+		assertThat(AbstractMigrationHandler.partition(groups, 10)).isEmpty();
+	}
+
+}
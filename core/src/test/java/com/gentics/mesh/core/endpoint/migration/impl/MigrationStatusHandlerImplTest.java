@@ -0,0 +1,95 @@
+package com.gentics.mesh.core.endpoint.migration.impl;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.core.rest.job.JobType;
+import com.syncleus.ferma.FramedTransactionalGraph;
+
+public class MigrationStatusHandlerImplTest {
+
+	private Job job;
+
+	@Before
+	public void setup() {
+		Tx tx = mock(Tx.class);
+		when(tx.getGraph()).thenReturn(mock(FramedTransactionalGraph.class));
+		Tx.setActive(tx);
+		job = mock(Job.class);
+	}
+
+	@After
+	public void cleanup() {
+		Tx.setActive(null);
+	}
+
+	@Test
+	public void testThroughputAndEta() throws InterruptedException {
+		MigrationStatusHandlerImpl status = new MigrationStatusHandlerImpl(job, null, JobType.schema);
+		status.startTracking(100);
+		status.incCompleted(25);
+		Thread.sleep(50);
+		long now = System.currentTimeMillis();
+		status.commit();
+
+		verify(job).setCompletionCount(25);
+		verify(job).setTotalCount(100L);
+		ArgumentCaptor<Double> throughput = ArgumentCaptor.forClass(Double.class);
+		verify(job).setThroughput(throughput.capture());
+		assertTrue("The throughput should be positive", throughput.getValue() > 0);
+		ArgumentCaptor<Long> eta = ArgumentCaptor.forClass(Long.class);
+		verify(job).setEtaTimestamp(eta.capture());
+		assertTrue("The remaining elements should be estimated to complete in the future", eta.getValue() > now);
+	}
+
+	@Test
+	public void testResume() throws InterruptedException {
+		// The interrupted migration already completed 40 elements
+		when(job.getCompletionCount()).thenReturn(40L);
+		MigrationStatusHandlerImpl status = new MigrationStatusHandlerImpl(job, null, JobType.schema);
+		status.startTracking(60);
+		status.incCompleted(10);
+		Thread.sleep(50);
+		status.commit();
+
+		verify(job).setCompletionCount(50);
+		verify(job).setTotalCount(100L);
+		ArgumentCaptor<Double> throughput = ArgumentCaptor.forClass(Double.class);
+		verify(job).setThroughput(throughput.capture());
+		// Only the elements which were migrated after resuming the job count towards the throughput
+		assertTrue("The throughput should be based on 10 elements", throughput.getValue() <= 10 * 1000d / 50);
+	}
+
+	@Test
+	public void testNoThroughputWithoutProgress() {
+		MigrationStatusHandlerImpl status = new MigrationStatusHandlerImpl(job, null, JobType.schema);
+		status.startTracking(10);
+		status.commit();
+
+		verify(job).setCompletionCount(0);
+		verify(job, never()).setThroughput(any());
+		verify(job, never()).setEtaTimestamp(any());
+	}
+
+	@Test
+	public void testNoTrackingWithoutTotal() {
+		MigrationStatusHandlerImpl status = new MigrationStatusHandlerImpl(job, null, JobType.schema);
+		status.incCompleted(5);
+		status.commit();
+
+		verify(job).setCompletionCount(5);
+		verify(job, never()).setTotalCount(any());
+	}
+
+}
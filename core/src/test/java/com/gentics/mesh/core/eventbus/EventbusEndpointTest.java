@@ -16,6 +16,7 @@ import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.util.RxUtil;
 import io.reactivex.Completable;
 import io.reactivex.subjects.CompletableSubject;
+import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
@@ -77,6 +78,28 @@ public class EventbusEndpointTest extends AbstractMeshTest {
 		Mesh.vertx().eventBus().publish(allowedAddress.address, new JsonObject().put("test", "someValue"));
 	}
 
+	@Test(timeout = 4_000)
+	public void testPlainEventbusConsumer(TestContext context) throws Exception {
+		Async async = context.async();
+
+		String uuid = contentUuid();
+
+		// Listeners which don't unpack the batches still receive the single events
+		MessageConsumer<JsonObject> consumer = Mesh.vertx().eventBus().consumer(NODE_UPDATED.address, message -> {
+			NodeMeshEventModel body = JsonUtil.readValue(message.body().encode(), NodeMeshEventModel.class);
+			context.assertEquals(uuid, body.getUuid());
+			async.complete();
+		});
+		async.handler(rh -> consumer.unregister());
+
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.getFields().put("slug", FieldUtil.createStringField("blub"));
+		request.setVersion(response.getVersion());
+		request.setLanguage("en");
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+	}
+
 	@Test(timeout = 4_000)
 	public void testNodeDeleteEvent(TestContext context) throws Exception {
 		Async async = context.async();
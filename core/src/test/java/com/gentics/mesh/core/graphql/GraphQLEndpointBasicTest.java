@@ -3,8 +3,10 @@ package com.gentics.mesh.core.graphql;
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.io.IOException;
 
@@ -12,9 +14,15 @@ import org.json.JSONException;
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.core.rest.schema.impl.StringFieldSchemaImpl;
+import com.gentics.mesh.etc.config.GraphQLOptions;
+import com.gentics.mesh.graphql.GraphQLHandler;
+import com.gentics.mesh.graphql.cache.GraphQLQueryStore;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -70,6 +78,83 @@ public class GraphQLEndpointBasicTest extends AbstractMeshTest {
 		assertThat(uuid).isNotEmpty();
 	}
 
+	@Test
+	public void testSchemaUpdateIsReflected() throws JSONException {
+		String query = "{ node(path:\"/News\") { ... on folder { fields { extraField } } } }";
+		grantAdminRole();
+		String folderSchemaUuid = tx(() -> schemaContainer("folder").getUuid());
+
+		// The field does not yet exist. The schema will be built and cached.
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertEquals(1, response.getErrors().stream().filter(error -> error.getType().equals("ValidationError")).count());
+
+		SchemaUpdateRequest request = call(() -> client().findSchemaByUuid(folderSchemaUuid)).toUpdateRequest();
+		request.addField(new StringFieldSchemaImpl().setName("extraField"));
+		waitForJob(() -> {
+			call(() -> client().updateSchema(folderSchemaUuid, request));
+		});
+
+		// The cached schema must not be used since the schema version changed
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertThat(response.getErrors()).isNullOrEmpty();
+		MeshJSONAssert.assertEquals("{'node':{'fields':{'extraField':null}}}", response.getData());
+	}
+
+	@Test
+	public void testPersistedQuery() throws JSONException {
+		String query = "{me{firstname}}";
+		JsonObject extensions = new JsonObject().put("persistedQuery", new JsonObject()
+			.put("version", 1)
+			.put("sha256Hash", GraphQLQueryStore.hash(query)));
+
+		// The query is not yet known
+		GraphQLRequest request = new GraphQLRequest().setExtensions(extensions);
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, request));
+		assertEquals(GraphQLHandler.PERSISTED_QUERY_NOT_FOUND, response.getErrors().get(0).getMessage());
+
+		// Register the query
+		request.setQuery(query);
+		response = call(() -> client().graphql(PROJECT_NAME, request));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+
+		// Now the hash is sufficient
+		request.setQuery(null);
+		response = call(() -> client().graphql(PROJECT_NAME, request));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+	}
+
+	@Test
+	public void testPersistedQueryHashMismatch() {
+		JsonObject extensions = new JsonObject().put("persistedQuery", new JsonObject()
+			.put("version", 1)
+			.put("sha256Hash", GraphQLQueryStore.hash("{me{uuid}}")));
+		GraphQLRequest request = new GraphQLRequest().setQuery("{me{firstname}}").setExtensions(extensions);
+		call(() -> client().graphql(PROJECT_NAME, request), BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch");
+	}
+
+	@Test
+	public void testQueryCostLimits() throws JSONException {
+		GraphQLOptions options = Mesh.mesh().getOptions().getGraphQLOptions();
+		String query = "{me{groups{elements{name}}}}";
+		try {
+			options.setMaxQueryDepth(3);
+			GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+			assertNull(response.getData());
+			assertEquals(1, response.getErrors().stream().filter(error -> error.getType().equals("ExecutionAborted")).count());
+
+			options.setMaxQueryDepth(4);
+			response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+			assertThat(response.getErrors()).isNullOrEmpty();
+
+			options.setMaxQueryComplexity(3);
+			response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+			assertEquals(1, response.getErrors().stream().filter(error -> error.getType().equals("ExecutionAborted")).count());
+		} finally {
+			options.setMaxQueryDepth(0);
+			options.setMaxQueryComplexity(0);
+		}
+	}
+
 	@Test
 	public void testConcurrentQuery() {
 		Flowable<Completable> calls = Single.fromCallable(() ->
@@ -173,6 +173,7 @@ public class GraphQLEndpointTest extends AbstractMeshTest {
 			Arrays.asList("filtering/nodes-en", true, "draft"),
 			Arrays.asList("filtering/nodes-jp", true, "draft"),
 			Arrays.asList("filtering/nodes-creator-editor", true, "draft"),
+			Arrays.asList("filtering/nodes-uuid", true, "draft"),
 			Arrays.asList("filtering/users", true, "draft"),
 			Arrays.asList("filtering/groups", true, "draft"),
 			Arrays.asList("filtering/roles", true, "draft"),
@@ -0,0 +1,125 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.core.rest.graphql.GraphQLError;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Tests for the batched loading of referenced nodes via the node data loader.
+ */
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLNodeDataLoaderTest extends AbstractMeshTest {
+
+	private static final String QUERY = "{ nodes(perPage: 1000) { elements { uuid parent { uuid } } } }";
+
+	@Test
+	public void testParentsOfAllNodes() {
+		Map<String, String> expectedParents = parentUuids();
+
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, QUERY));
+		assertTrue("The query should not fail but got " + response.getErrors(), response.getErrors() == null || response.getErrors().isEmpty());
+
+		JsonArray elements = response.getData().getJsonObject("nodes").getJsonArray("elements");
+		assertFalse(elements.isEmpty());
+		for (int i = 0; i < elements.size(); i++) {
+			JsonObject element = elements.getJsonObject(i);
+			String expectedParent = expectedParents.get(element.getString("uuid"));
+			JsonObject parent = element.getJsonObject("parent");
+			if (expectedParent == null) {
+				assertNull("The base node has no parent", parent);
+			} else {
+				assertNotNull("The parent of node {" + element.getString("uuid") + "} was not loaded", parent);
+				assertEquals(expectedParent, parent.getString("uuid"));
+			}
+		}
+	}
+
+	@Test
+	public void testUnreadableParent() {
+		String newsUuid;
+		try (Tx tx = tx()) {
+			Node news = folder("news");
+			newsUuid = news.getUuid();
+			role().revokePermissions(news, GraphPermission.READ_PERM, GraphPermission.READ_PUBLISHED_PERM);
+			tx.success();
+		}
+		Map<String, String> expectedParents = parentUuids();
+		expectedParents.remove(newsUuid);
+		Set<String> childrenOfNews = expectedParents.entrySet().stream()
+			.filter(entry -> newsUuid.equals(entry.getValue()))
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toSet());
+		assertFalse("The test requires readable children of the unreadable folder", childrenOfNews.isEmpty());
+
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, QUERY));
+
+		JsonArray elements = response.getData().getJsonObject("nodes").getJsonArray("elements");
+		int deniedParents = 0;
+		for (int i = 0; i < elements.size(); i++) {
+			JsonObject element = elements.getJsonObject(i);
+			String uuid = element.getString("uuid");
+			assertTrue("The unreadable folder must not be listed", expectedParents.containsKey(uuid));
+			String expectedParent = expectedParents.get(uuid);
+			JsonObject parent = element.getJsonObject("parent");
+			if (childrenOfNews.contains(uuid)) {
+				assertNull("The unreadable parent of node {" + uuid + "} must not be loaded", parent);
+				deniedParents++;
+			} else if (expectedParent == null) {
+				assertNull("The base node has no parent", parent);
+			} else {
+				assertNotNull("The parent of node {" + uuid + "} should still be loaded", parent);
+				assertEquals(expectedParent, parent.getString("uuid"));
+			}
+		}
+		assertTrue("The children of the unreadable folder should be listed", deniedParents > 0);
+
+		// Only the parent fields which reference the unreadable folder must fail
+		assertNotNull(response.getErrors());
+		assertEquals(deniedParents, response.getErrors().size());
+		for (GraphQLError error : response.getErrors()) {
+			assertEquals(PermissionException.TYPE, error.getType());
+			assertEquals(newsUuid, error.getElementId());
+		}
+	}
+
+	/**
+	 * Return the parent uuid of each node of the project. The base node is mapped to null.
+	 *
+	 * @return
+	 */
+	private Map<String, String> parentUuids() {
+		return tx(() -> {
+			String branchUuid = latestBranch().getUuid();
+			Map<String, String> parents = new HashMap<>();
+			for (Node node : project().getNodeRoot().findAll()) {
+				Node parent = node.getParentNode(branchUuid);
+				parents.put(node.getUuid(), parent == null ? null : parent.getUuid());
+			}
+			return parents;
+		});
+	}
+}
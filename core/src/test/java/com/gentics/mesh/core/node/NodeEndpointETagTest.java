@@ -20,6 +20,7 @@ import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.tag.TagUpdateRequest;
 import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
@@ -174,4 +175,39 @@ public class NodeEndpointETagTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testReadParentAfterChildCreate() {
+		String uuid = tx(() -> folder("2015").getUuid());
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 304);
+
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(uuid));
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.getFields().put("teaser", FieldUtil.createStringField("someTeaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("someSlug"));
+		call(() -> client().createNode(PROJECT_NAME, request));
+
+		// The children info of the parent changed
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+	}
+
+	@Test
+	public void testReadAfterTagRename() {
+		String uuid = contentUuid();
+		String tagUuid = tx(() -> tag("red").getUuid());
+		String tagFamilyUuid = tx(() -> tag("red").getTagFamily().getUuid());
+		call(() -> client().addTagToNode(PROJECT_NAME, uuid, tagUuid));
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 304);
+
+		TagUpdateRequest request = new TagUpdateRequest();
+		request.setName("crimson");
+		call(() -> client().updateTag(PROJECT_NAME, tagFamilyUuid, tagUuid, request));
+
+		// The renamed tag is part of the node response
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+	}
+
 }
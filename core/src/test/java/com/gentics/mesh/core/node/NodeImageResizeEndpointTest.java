@@ -1,12 +1,14 @@
 package com.gentics.mesh.core.node;
 
 import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ClientHelper.callETag;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.test.util.MeshAssert.failingLatch;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
@@ -29,6 +31,7 @@ import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.image.spi.CacheFileInfo;
+import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.node.field.BinaryField;
@@ -41,6 +44,7 @@ import com.gentics.mesh.test.assertj.MeshCoreAssertion;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
+import io.netty.util.ReferenceCountUtil;
 import io.vertx.core.buffer.Buffer;
 
 @MeshTestSetting(testSize = FULL, startServer = true)
@@ -64,6 +68,90 @@ public class NodeImageResizeEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testMemoryCachedVariantIsSentRepeatedly() throws Exception {
+		Node node = folder("news");
+		String uuid = tx(() -> node.getUuid());
+		uploadImage(node, "en", "image");
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(100).setHeight(102);
+		byte[] expected = downloadBytes(uuid, params);
+
+		ImageManipulator imageManipulator = meshDagger().imageManipulator();
+		String sha512sum = tx(() -> node.getLatestDraftFieldContainer(english()).getBinary("image").getBinary().getSHA512Sum());
+		String path = imageManipulator.getCacheFilePath(sha512sum, params).blockingGet().path;
+		imageManipulator.releaseVariant(path);
+
+		// Frequently requested variants are held in memory
+		for (int i = 0; i < 50 && !isHeldInMemory(imageManipulator, path); i++) {
+			assertArrayEquals(expected, downloadBytes(uuid, params));
+			Thread.sleep(20);
+		}
+		assertTrue("The variant should be held in memory", isHeldInMemory(imageManipulator, path));
+
+		// Each response must send the whole data
+		assertArrayEquals(expected, downloadBytes(uuid, params));
+		assertArrayEquals(expected, downloadBytes(uuid, params));
+	}
+
+	@Test
+	public void testRenditionsAreGeneratedOnUpload() throws Exception {
+		Node node = folder("news");
+		String uuid = tx(() -> node.getUuid());
+		ImageManipulatorOptions options = Mesh.mesh().getOptions().getImageOptions();
+		options.setRendition("thumb", "w=50&h=50");
+		try {
+			long jobCount = call(() -> client().findJobs()).getMetainfo().getTotalCount();
+
+			// 1. Upload image and wait for the renditions
+			uploadImage(node, "en", "image");
+			BinaryField field = null;
+			for (int i = 0; i < 100; i++) {
+				NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+				field = response.getFields().getBinaryField("image");
+				if (field.getRenditions() != null && !field.getRenditions().isEmpty()) {
+					break;
+				}
+				Thread.sleep(100);
+			}
+
+			// 2. Check that the rendition has been recorded in the binary field
+			assertThat(field.getRenditions()).containsExactly("thumb");
+
+			// 3. The renditions must not leave any jobs behind
+			assertEquals("No job should have been created for the renditions", jobCount,
+				call(() -> client().findJobs()).getMetainfo().getTotalCount());
+		} finally {
+			options.getRenditions().clear();
+		}
+	}
+
+	@Test
+	public void testRenditionsUpdateReadNode() throws Exception {
+		Node node = folder("news");
+		String uuid = tx(() -> node.getUuid());
+		ImageManipulatorOptions options = Mesh.mesh().getOptions().getImageOptions();
+
+		// 1. Upload image without renditions and read the node
+		uploadImage(node, "en", "image");
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		assertThat(response.getFields().getBinaryField("image").getRenditions()).isNullOrEmpty();
+		String sha512sum = response.getFields().getBinaryField("image").getSha512sum();
+
+		options.setRendition("thumb", "w=50&h=50");
+		try {
+			// 2. Generate the renditions
+			meshDagger().imageRenditionHandler().generateRenditions(sha512sum, null).blockingAwait();
+
+			// 3. The node has to be re-read with the renditions and a new etag
+			response = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+			assertThat(response.getFields().getBinaryField("image").getRenditions()).containsExactly("thumb");
+			assertNotEquals("The etag should have changed by the renditions", etag, callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid)));
+		} finally {
+			options.getRenditions().clear();
+		}
+	}
+
 	@Test
 	public void testImageResizeOverLimit() throws Exception {
 		Node node = folder("news");
@@ -371,4 +459,22 @@ public class NodeImageResizeEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	private byte[] downloadBytes(String uuid, ImageManipulationParameters params) throws IOException {
+		MeshBinaryResponse download = call(() -> client().downloadBinaryField(PROJECT_NAME, uuid, "en", "image", params));
+		try {
+			return IOUtils.toByteArray(download.getStream());
+		} finally {
+			download.close();
+		}
+	}
+
+	private boolean isHeldInMemory(ImageManipulator imageManipulator, String path) {
+		Buffer data = imageManipulator.getVariantData(path);
+		if (data == null) {
+			return false;
+		}
+		ReferenceCountUtil.release(data.getByteBuf());
+		return true;
+	}
+
 }
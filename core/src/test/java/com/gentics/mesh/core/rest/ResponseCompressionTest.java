@@ -0,0 +1,85 @@
+package com.gentics.mesh.core.rest;
+
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.COMPRESSION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.parameter.ParameterProvider;
+import com.gentics.mesh.parameter.impl.GenericParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+import okhttp3.Request;
+import okhttp3.Response;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = COMPRESSION)
+public class ResponseCompressionTest extends AbstractMeshTest {
+
+	@Test
+	public void testJsonResponseIsCompressed() throws IOException {
+		String path = CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/nodes/" + contentUuid();
+		try (Response response = get(path)) {
+			assertEquals(200, response.code());
+			assertEquals("gzip", response.header("Content-Encoding"));
+			try (InputStream ins = new GZIPInputStream(response.body().byteStream())) {
+				JsonObject json = new JsonObject(IOUtils.toString(ins, "UTF-8"));
+				assertEquals(contentUuid(), json.getString("uuid"));
+			}
+		}
+	}
+
+	@Test
+	public void testBinaryResponseIsNotCompressed() throws IOException {
+		Node node = folder("news");
+		String uuid = tx(() -> node.getUuid());
+		uploadImage(node, "en", "image");
+
+		String path = CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/nodes/" + uuid + "/binary/image";
+		try (Response response = get(path)) {
+			assertEquals(200, response.code());
+			assertNull("Binary responses must not be compressed", response.header("Content-Encoding"));
+			assertTrue(response.body().bytes().length > 0);
+		}
+	}
+
+	@Test
+	public void testPrettyResponse() throws IOException {
+		String path = CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/nodes/" + contentUuid();
+		String compact = getString(path);
+		String pretty = getString(path, new GenericParametersImpl().setPretty(true));
+		assertFalse("The response should be compact by default", compact.contains("\n"));
+		assertTrue("The response should be pretty printed", pretty.contains("\n"));
+		assertNotEquals(compact, pretty);
+		assertEquals(new JsonObject(compact), new JsonObject(pretty));
+	}
+
+	private String getString(String path, ParameterProvider... params) throws IOException {
+		return httpGetNow(path, client().getAuthentication().getToken(), params);
+	}
+
+	private Response get(String path) throws IOException {
+		Request request = new Request.Builder()
+			.url(prepareUrl(path))
+			.addHeader("Authorization", "Bearer " + client().getAuthentication().getToken())
+			// Setting the header explicitly disables the transparent decompression of the client
+			.addHeader("Accept-Encoding", "gzip")
+			.build();
+		return httpClient().newCall(request).execute();
+	}
+
+}
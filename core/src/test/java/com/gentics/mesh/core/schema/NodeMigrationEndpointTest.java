@@ -17,6 +17,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -26,6 +28,7 @@ import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.Branch;
@@ -48,6 +51,7 @@ import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
 import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaModelImpl;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
@@ -67,6 +71,7 @@ import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
 import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.etc.config.ContentConfig;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
@@ -426,6 +431,64 @@ public class NodeMigrationEndpointTest extends AbstractMeshTest {
 		assertThat(status).listsAll(COMPLETED).hasInfos(1).containsJobs(jobUuid);
 	}
 
+	@Test
+	public void testSchemaMigrationWithWorkers() throws Throwable {
+		ContentConfig contentOptions = Mesh.mesh().getOptions().getContentOptions();
+		int batchSize = contentOptions.getMigrationBatchSize();
+		int workers = contentOptions.getMigrationWorkers();
+		contentOptions.setMigrationBatchSize(3);
+		contentOptions.setMigrationWorkers(4);
+		try {
+			String fieldName = "changedfield";
+			int nodeCount = 10;
+			List<String> languages = Arrays.asList(english(), german());
+			SchemaContainer container = tx(() -> createDummySchemaWithChanges(fieldName, false));
+			List<Node> nodes = new ArrayList<>();
+			SchemaContainerVersion versionB;
+			String jobUuid;
+			try (Tx tx = tx()) {
+				versionB = container.getLatestVersion();
+				SchemaContainerVersion versionA = versionB.getPreviousVersion();
+				User user = user();
+				EventQueueBatch batch = EventQueueBatch.create();
+				project().getLatestBranch().assignSchemaVersion(user, versionA, batch);
+
+				// Create nodes with multiple containers. The containers of a node are migrated within the same partition.
+				Node parentNode = folder("2015");
+				for (int i = 0; i < nodeCount; i++) {
+					Node node = parentNode.create(user, versionA, project());
+					for (String language : languages) {
+						NodeGraphFieldContainer fieldContainer = node.createGraphFieldContainer(language, project().getLatestBranch(), user);
+						fieldContainer.createString(fieldName).setString(language + " content " + i);
+					}
+					nodes.add(node);
+				}
+				jobUuid = project().getLatestBranch().assignSchemaVersion(user, versionB, batch).getUuid();
+				tx.success();
+			}
+
+			triggerAndWaitForJob(jobUuid);
+
+			try (Tx tx = tx()) {
+				for (int i = 0; i < nodeCount; i++) {
+					Node node = nodes.get(i);
+					for (String language : languages) {
+						assertThat(node.getGraphFieldContainer(language)).as("Migrated field container").isOf(versionB).hasVersion("0.2");
+						assertEquals(language + " content " + i, node.getGraphFieldContainer(language).getString(fieldName).getString());
+					}
+				}
+			}
+
+			JobResponse job = call(() -> client().findJobByUuid(jobUuid));
+			assertEquals(COMPLETED, job.getStatus());
+			assertEquals(nodeCount * languages.size(), job.getCompletionCount());
+			assertEquals(String.valueOf(nodeCount * languages.size()), job.getProperties().get("totalCount"));
+		} finally {
+			contentOptions.setMigrationBatchSize(batchSize);
+			contentOptions.setMigrationWorkers(workers);
+		}
+	}
+
 	@Test
 	public void testMigrateAddRawField() throws Throwable {
 
@@ -49,4 +49,14 @@ public class DummyMigrationStatus implements MigrationStatusHandler {
 	public void incCompleted() {
 
 	}
+
+	@Override
+	public void incCompleted(long count) {
+
+	}
+
+	@Override
+	public void startTracking(long remainingCount) {
+
+	}
 }
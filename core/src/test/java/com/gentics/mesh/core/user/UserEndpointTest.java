@@ -54,6 +54,7 @@ import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.TagFamily;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.page.impl.PageCursor;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.UserRoot;
 import com.gentics.mesh.core.rest.common.ListResponse;
@@ -502,6 +503,79 @@ public class UserEndpointTest extends AbstractMeshTest implements BasicRestTestc
 		call(() -> client().findUsers(new PagingParametersImpl(-1, 25L)), BAD_REQUEST, "error_page_parameter_must_be_positive", "-1");
 	}
 
+	@Test
+	public void testReadWithCursor() {
+		List<String> expectedUuids = call(() -> client().findUsers()).getData().stream()
+			.map(UserResponse::getUuid)
+			.collect(Collectors.toList());
+
+		List<String> uuids = new ArrayList<>();
+		String cursor = null;
+		do {
+			PagingParametersImpl paging = new PagingParametersImpl(1, 1L);
+			paging.setAfter(cursor);
+			UserListResponse response = call(() -> client().findUsers(paging));
+			assertEquals(1, response.getData().size());
+			assertEquals("The total count is not determined for cursor based pages", cursor == null ? expectedUuids.size() : -1,
+				response.getMetainfo().getTotalCount());
+			uuids.add(response.getData().get(0).getUuid());
+			cursor = response.getMetainfo().getNextCursor();
+		} while (cursor != null);
+
+		assertEquals("Loading all pages via the cursor should return all users in the same order", expectedUuids, uuids);
+	}
+
+	@Test
+	public void testReadWithInvalidCursor() {
+		PagingParametersImpl paging = new PagingParametersImpl(1, 1L);
+		paging.setAfter("%%%");
+		call(() -> client().findUsers(paging), BAD_REQUEST, "error_invalid_paging_cursor", "%%%");
+	}
+
+	@Test
+	public void testReadWithUnknownCursorOnLargeList() {
+		String staleCursor;
+		try (Tx tx = tx()) {
+			UserRoot root = meshRoot().getUserRoot();
+			for (int i = 0; i < 500; i++) {
+				User user = root.create("cursor_user_" + i, user());
+				group().addUser(user);
+				role().grantPermissions(user, READ_PERM);
+			}
+			User deleted = root.create("deleted_cursor_user", user());
+			staleCursor = PageCursor.encode(deleted.id());
+			deleted.delete();
+			tx.success();
+		}
+
+		// Cursors which don't reference an existing element are rejected before the elements are listed
+		String malformedCursor = PageCursor.encode("bogus");
+		PagingParametersImpl paging = new PagingParametersImpl(1, 1L);
+		paging.setAfter(malformedCursor);
+		call(() -> client().findUsers(paging), BAD_REQUEST, "error_paging_cursor_not_found", malformedCursor);
+
+		paging.setAfter(staleCursor);
+		call(() -> client().findUsers(paging), BAD_REQUEST, "error_paging_cursor_not_found", staleCursor);
+	}
+
+	@Test
+	public void testReadWithCursorOfDeletedElement() {
+		UserCreateRequest request = new UserCreateRequest();
+		request.setUsername("cursor_user");
+		request.setGroupUuid(groupUuid());
+		request.setPassword("test1234");
+		String uuid = call(() -> client().createUser(request)).getUuid();
+		String cursor = tx(() -> PageCursor.encode(boot().userRoot().findByUuid(uuid).id()));
+
+		PagingParametersImpl paging = new PagingParametersImpl(1, 1L);
+		paging.setAfter(cursor);
+		// The cursor is valid as long as the element exists
+		call(() -> client().findUsers(paging));
+
+		call(() -> client().deleteUser(uuid));
+		call(() -> client().findUsers(paging), BAD_REQUEST, "error_paging_cursor_not_found", cursor);
+	}
+
 	@Test
 	@Override
 	public void testUpdateMultithreaded() throws InterruptedException {
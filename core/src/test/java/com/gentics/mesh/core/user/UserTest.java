@@ -5,6 +5,7 @@ import static com.gentics.mesh.core.data.relationship.GraphPermission.CREATE_PER
 import static com.gentics.mesh.core.data.relationship.GraphPermission.DELETE_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.PUBLISH_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.common.Permission.CREATE;
 import static com.gentics.mesh.core.rest.common.Permission.DELETE;
@@ -20,6 +21,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
@@ -142,6 +146,25 @@ public class UserTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testFilterReadable() {
+		try (Tx tx = tx()) {
+			User user = user();
+			Node content = content();
+			Node folder = folder("2015");
+			role().revokePermissions(folder, READ_PERM, READ_PUBLISHED_PERM);
+			List<Object> ids = Arrays.asList(content.id(), folder.id());
+			assertThat(user.filterReadable(ids, READ_PERM)).containsOnly(content.id());
+			assertFalse("The denied permission should have been cached.", user.hasPermission(folder, READ_PERM));
+
+			// Granting the permission must invalidate the cached denial
+			role().grantPermissions(folder, READ_PERM);
+			assertThat(user.filterReadable(ids, READ_PERM)).containsOnly(content.id(), folder.id());
+			// Read permission also grants read published
+			assertThat(user.filterReadable(ids, READ_PUBLISHED_PERM)).containsOnly(content.id(), folder.id());
+		}
+	}
+
 	@Test
 	@Override
 	public void testFindAll() throws InvalidArgumentException {
@@ -0,0 +1,66 @@
+package com.gentics.mesh.core.webroot;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ClientHelper.callETag;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.RESPONSE_CACHE;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.core.rest.role.RolePermissionRequest;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.rest.client.MeshWebrootResponse;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = RESPONSE_CACHE)
+public class WebRootEndpointResponseCacheTest extends AbstractMeshTest {
+
+	private static final String PATH = "/News/2015/News_2015.en.html";
+
+	@Test
+	public void testCachedResponseETag() {
+		String etag = callETag(() -> client().webroot(PROJECT_NAME, PATH, new VersioningParametersImpl().draft()));
+		// The second request is served from the cache
+		assertEquals(etag, callETag(() -> client().webroot(PROJECT_NAME, PATH, new VersioningParametersImpl().draft()), etag, true, 304));
+		assertEquals(etag, callETag(() -> client().webroot(PROJECT_NAME, PATH, new VersioningParametersImpl().draft())));
+	}
+
+	@Test
+	public void testUpdateEvictsResponse() {
+		MeshWebrootResponse response = call(() -> client().webroot(PROJECT_NAME, PATH));
+		NodeResponse node = response.getNodeResponse();
+
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion(node.getVersion());
+		request.getFields().put("teaser", FieldUtil.createStringField("Updated teaser"));
+		call(() -> client().updateNode(PROJECT_NAME, node.getUuid(), request));
+
+		NodeResponse updated = call(() -> client().webroot(PROJECT_NAME, PATH)).getNodeResponse();
+		assertNotEquals(node.getVersion(), updated.getVersion());
+		assertEquals("Updated teaser", updated.getFields().getStringField("teaser").getString());
+		assertEquals(updated.getVersion(), call(() -> client().findNodeByUuid(PROJECT_NAME, node.getUuid())).getVersion());
+	}
+
+	@Test
+	public void testPermissionChangeEvictsResponse() {
+		String uuid = call(() -> client().webroot(PROJECT_NAME, PATH)).getNodeResponse().getUuid();
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+
+		RolePermissionRequest request = new RolePermissionRequest();
+		request.getPermissions().setRead(false);
+		request.getPermissions().setReadPublished(false);
+		call(() -> client().updateRolePermissions(roleUuid(), "/projects/" + PROJECT_NAME + "/nodes/" + uuid, request));
+
+		call(() -> client().webroot(PROJECT_NAME, PATH), FORBIDDEN, "error_missing_perm", uuid, "read");
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid), FORBIDDEN, "error_missing_perm", uuid, "read");
+	}
+}
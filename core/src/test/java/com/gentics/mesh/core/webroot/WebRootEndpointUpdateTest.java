@@ -185,6 +185,27 @@ public class WebRootEndpointUpdateTest extends AbstractMeshTest {
 		assertEquals("The same node (lang) should have been renamed", response.getLanguage(), checkResponse.getNodeResponse().getLanguage());
 	}
 
+	@Test
+	public void testUpdateParentSegmentInvalidatesCachedPaths() {
+		String oldPath = "/News/2015/News_2015.en.html";
+		String otherPath = "/Products";
+		String unresolvedPath = "/News/2016/News_2015.en.html";
+		String newsUuid = call(() -> client().webroot(PROJECT_NAME, oldPath)).getNodeResponse().getUuid();
+		String productsUuid = call(() -> client().webroot(PROJECT_NAME, otherPath)).getNodeResponse().getUuid();
+		call(() -> client().webroot(PROJECT_NAME, unresolvedPath), NOT_FOUND, "node_not_found_for_path", unresolvedPath);
+
+		NodeUpdateRequest nodeUpdateRequest = new NodeUpdateRequest();
+		nodeUpdateRequest.setLanguage("en");
+		nodeUpdateRequest.setVersion("1.0");
+		nodeUpdateRequest.getFields().put("slug", FieldUtil.createStringField("2016"));
+		call(() -> client().updateNode(PROJECT_NAME, tx(() -> folder("2015").getUuid()), nodeUpdateRequest));
+
+		// The cached paths through the renamed folder must no longer be resolvable
+		call(() -> client().webroot(PROJECT_NAME, oldPath), NOT_FOUND, "node_not_found_for_path", oldPath);
+		assertEquals(newsUuid, call(() -> client().webroot(PROJECT_NAME, unresolvedPath)).getNodeResponse().getUuid());
+		assertEquals(productsUuid, call(() -> client().webroot(PROJECT_NAME, otherPath)).getNodeResponse().getUuid());
+	}
+
 	@Test
 	public void testAddLanguageContentViaPath() {
 		NodeUpdateRequest nodeUpdateRequest = new NodeUpdateRequest();
@@ -29,6 +29,7 @@ import com.gentics.mesh.core.data.impl.UserImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.root.UserRoot;
+import com.gentics.mesh.graphdb.spi.TxConflictException;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.util.TestUtils;
@@ -144,6 +145,37 @@ public class TxTest extends AbstractMeshTest {
 		assertEquals("OK", result);
 	}
 
+	@Test
+	public void testAsyncTxRetryOnConflict() {
+		AtomicInteger attempts = new AtomicInteger();
+		String result = db().asyncTx(tx -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new TxConflictException(new RuntimeException("conflict"));
+			}
+			return Single.just("OK");
+		}).blockingGet();
+		assertEquals("OK", result);
+		assertEquals("The conflicting attempt should have been retried", 2, attempts.get());
+	}
+
+	@Test
+	public void testTxRetryOnConflict() {
+		AtomicInteger attempts = new AtomicInteger();
+		String result = db().tx(tx -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new TxConflictException(new RuntimeException("conflict"));
+			}
+			return "OK";
+		});
+		assertEquals("OK", result);
+		assertEquals("The conflicting attempt should have been retried", 2, attempts.get());
+	}
+
+	@Test
+	public void testMaybeTxWithoutResult() {
+		assertNull(db().maybeTx(tx -> null).blockingGet());
+	}
+
 	@Test
 	@Ignore
 	public void testUpdateMultithreaded() throws InterruptedException, BrokenBarrierException, TimeoutException {
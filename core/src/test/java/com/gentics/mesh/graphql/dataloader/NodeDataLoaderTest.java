@@ -0,0 +1,171 @@
+package com.gentics.mesh.graphql.dataloader;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.dataloader.DataLoaderRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Matchers;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+public class NodeDataLoaderTest {
+
+	private static final List<String> LANGUAGES = Arrays.asList("en", "de");
+
+	private GraphQLContext gc;
+
+	private DataLoaderRegistry registry;
+
+	/**
+	 * Nodes which were passed to the permission checks of the batches
+	 */
+	private List<Collection<?>> checkedBatches;
+
+	private Set<Object> readable;
+
+	@Before
+	public void setup() {
+		gc = mock(GraphQLContext.class);
+		registry = NodeDataLoader.createRegistry(gc);
+		when(gc.getDataLoaderRegistry()).thenReturn(registry);
+
+		checkedBatches = new ArrayList<>();
+		readable = new HashSet<>();
+		when(gc.filterPermitted(anyCollection(), Matchers.<GraphPermission>anyVararg())).thenAnswer(invocation -> {
+			checkedBatches.add(new ArrayList<>((Collection<?>) invocation.getArguments()[0]));
+			return readable;
+		});
+	}
+
+	@Test
+	public void testBatchLoading() {
+		List<Node> nodes = new ArrayList<>();
+		List<CompletableFuture<NodeContent>> futures = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			Node node = mockNode("node" + i, true);
+			nodes.add(node);
+			futures.add(NodeDataLoader.load(gc, node, LANGUAGES));
+		}
+		for (CompletableFuture<NodeContent> future : futures) {
+			assertFalse("The contents must only be loaded once the loader is dispatched", future.isDone());
+		}
+
+		registry.dispatchAll();
+
+		assertEquals("The permissions of all nodes must be checked within a single batch", 1, checkedBatches.size());
+		assertEquals(nodes, checkedBatches.get(0));
+		for (int i = 0; i < nodes.size(); i++) {
+			NodeContent content = futures.get(i).join();
+			assertSame(nodes.get(i), content.getNode());
+			assertEquals(LANGUAGES, content.getLanguageFallback());
+		}
+	}
+
+	@Test
+	public void testDuplicateKeys() {
+		Node node = mockNode("node", true);
+		// The same vertex is often loaded via different element instances (e.g. as parent of multiple nodes)
+		Node sameNode = mockNode("node", true);
+		Node otherNode = mockNode("otherNode", true);
+
+		CompletableFuture<NodeContent> first = NodeDataLoader.load(gc, node, LANGUAGES);
+		CompletableFuture<NodeContent> second = NodeDataLoader.load(gc, sameNode, LANGUAGES);
+		CompletableFuture<NodeContent> other = NodeDataLoader.load(gc, otherNode, LANGUAGES);
+		// Other languages must result in a separate key
+		CompletableFuture<NodeContent> german = NodeDataLoader.load(gc, node, Arrays.asList("de"));
+		registry.dispatchAll();
+
+		assertSame("Equal keys must resolve to the same content", first.join(), second.join());
+		assertEquals(Arrays.asList(node, otherNode, node), checkedBatches.get(0));
+		verify(node, times(2)).findVersion(any(GraphQLContext.class), any());
+		verify(sameNode, never()).findVersion(any(GraphQLContext.class), any());
+		assertSame(otherNode, other.join().getNode());
+		assertEquals(Arrays.asList("de"), german.join().getLanguageFallback());
+
+		// Keys of later levels are also served from the cache of the query
+		CompletableFuture<NodeContent> later = NodeDataLoader.load(gc, sameNode, LANGUAGES);
+		registry.dispatchAll();
+		assertSame(first.join(), later.join());
+		assertEquals(1, checkedBatches.size());
+	}
+
+	@Test
+	public void testPermissionPerKey() {
+		Node readableNode = mockNode("readable", true);
+		Node deniedNode = mockNode("denied", false);
+		Node otherReadableNode = mockNode("otherReadable", true);
+
+		CompletableFuture<NodeContent> first = NodeDataLoader.load(gc, readableNode, LANGUAGES);
+		CompletableFuture<NodeContent> denied = NodeDataLoader.load(gc, deniedNode, LANGUAGES);
+		CompletableFuture<NodeContent> last = NodeDataLoader.load(gc, otherReadableNode, LANGUAGES);
+		registry.dispatchAll();
+
+		assertSame(readableNode, first.join().getNode());
+		assertSame(otherReadableNode, last.join().getNode());
+		assertTrue(denied.isCompletedExceptionally());
+		try {
+			denied.join();
+			fail("Loading the content of the node without permission should fail");
+		} catch (CompletionException e) {
+			assertTrue("The key should fail with the permission error but was {" + e.getCause() + "}",
+				e.getCause() instanceof PermissionException);
+		}
+		verify(deniedNode, never()).findVersion(any(GraphQLContext.class), any());
+	}
+
+	@Test
+	public void testLoadManyWithoutPermissionCheck() {
+		Node node = mockNode("node", false);
+		Node otherNode = mockNode("otherNode", false);
+
+		CompletableFuture<List<NodeContent>> contents = NodeDataLoader.loadMany(gc, Arrays.asList(node, otherNode), LANGUAGES);
+		registry.dispatchAll();
+
+		assertEquals(2, contents.join().size());
+		assertSame(node, contents.join().get(0).getNode());
+		assertSame(otherNode, contents.join().get(1).getNode());
+		assertTrue("Nodes of lists must not be checked again", checkedBatches.get(0).isEmpty());
+	}
+
+	private Node mockNode(String id, boolean isReadable) {
+		Node node = mock(Node.class);
+		when(node.id()).thenReturn(id);
+		when(node.getUuid()).thenReturn(id);
+		when(node.findVersion(any(GraphQLContext.class), any())).thenReturn(mock(NodeGraphFieldContainer.class));
+		if (isReadable) {
+			readable.add(id);
+		} else {
+			when(gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM)).thenThrow(missingPerm("node", id));
+		}
+		return node;
+	}
+}
@@ -0,0 +1,74 @@
+package com.gentics.mesh.handler.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.storage.BinaryStorage;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.reactivex.core.Vertx;
+
+public class RangeRequestHandlerImplTest {
+
+	private BinaryStorage storage;
+
+	private RangeRequestHandlerImpl handler;
+
+	private RoutingContext context;
+
+	private HttpServerRequest request;
+
+	private HttpServerResponse response;
+
+	private MultiMap headers;
+
+	@Before
+	public void setup() {
+		storage = mock(BinaryStorage.class);
+		handler = new RangeRequestHandlerImpl(mock(Vertx.class), storage);
+		context = mock(RoutingContext.class);
+		request = mock(HttpServerRequest.class);
+		response = mock(HttpServerResponse.class);
+		headers = MultiMap.caseInsensitiveMultiMap();
+		when(context.request()).thenReturn(request);
+		when(context.response()).thenReturn(response);
+		when(request.response()).thenReturn(response);
+		when(request.method()).thenReturn(HttpMethod.HEAD);
+		when(response.headers()).thenReturn(headers);
+	}
+
+	@Test
+	public void testHeadStreamWithoutRange() {
+		handler.handleStream(context, "binaryUuid", 1234, "image/jpeg");
+
+		assertEquals("The length must be sent for HEAD requests", "1234", headers.get("Content-Length"));
+		assertNull(headers.get("Content-Range"));
+		verify(response).end();
+		verify(storage, never()).read(anyString());
+		verify(storage, never()).read(anyString(), anyLong(), anyLong());
+	}
+
+	@Test
+	public void testHeadStreamWithRange() {
+		when(request.getHeader("Range")).thenReturn("bytes=10-19");
+		handler.handleStream(context, "binaryUuid", 1234, "image/jpeg");
+
+		assertEquals("10", headers.get("Content-Length"));
+		assertEquals("bytes", headers.get("Accept-Ranges"));
+		verify(response).end();
+		verify(storage, never()).read(anyString(), anyLong(), anyLong());
+	}
+}
@@ -58,6 +58,7 @@ import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
 import com.gentics.mesh.core.rest.schema.impl.StringFieldSchemaImpl;
+import com.gentics.mesh.event.MeshEventConsumer;
 import com.gentics.mesh.parameter.client.PagingParametersImpl;
 import com.gentics.mesh.rest.client.MeshRequest;
 import com.gentics.mesh.router.ProjectsRouter;
@@ -76,6 +77,7 @@ import io.reactivex.Completable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.functions.Action;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.json.JsonObject;
@@ -527,25 +529,40 @@ public abstract class AbstractMeshTest implements TestHttpMethods, TestGraphHelp
 	 */
 	protected void waitForEvent(String address, Action code) {
 		CountDownLatch latch = new CountDownLatch(1);
+		Optional<MeshEvent> event = MeshEvent.fromAddress(address);
+		if (event.isPresent()) {
+			// Mesh events may be published within a batch
+			MeshEventConsumer consumer = MeshEventConsumer.consumer(vertx().eventBus(), Collections.singleton(event.get()), (ev, model) -> latch.countDown());
+			consumer.completionHandler(res -> runAfterRegistration(res, code));
+			awaitLatch(latch);
+			consumer.unregister();
+			return;
+		}
 		MessageConsumer<Object> consumer = vertx().eventBus().consumer(address);
 		consumer.handler(msg -> latch.countDown());
 		// The completion handler will be invoked once the consumer has been registered
-		consumer.completionHandler(res -> {
-			if (res.failed()) {
-				throw new RuntimeException("Could not listen to event", res.cause());
-			}
-			try {
-				code.run();
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-		});
+		consumer.completionHandler(res -> runAfterRegistration(res, code));
+		awaitLatch(latch);
+		consumer.unregister();
+	}
+
+	private void runAfterRegistration(AsyncResult<Void> res, Action code) {
+		if (res.failed()) {
+			throw new RuntimeException("Could not listen to event", res.cause());
+		}
+		try {
+			code.run();
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private void awaitLatch(CountDownLatch latch) {
 		try {
 			latch.await(10, TimeUnit.SECONDS);
 		} catch (InterruptedException e) {
 			throw new RuntimeException(e);
 		}
-		consumer.unregister();
 	}
 
 	/**
@@ -13,6 +13,8 @@ public enum MeshOptionChanger {
 		options.getSearchOptions().setEventBufferSize(100);
 	}), NO_PATH_CACHE(options -> {
 		options.getCacheConfig().setPathCacheSize(0);
+	}), RESPONSE_CACHE(options -> {
+		options.getCacheConfig().setResponseCacheSize(1000);
 	}), NO_UPLOAD_PARSER(options -> {
 		options.getUploadOptions().setParser(false);
 	}), EXCLUDE_BINARY_SEARCH(options -> {
@@ -26,6 +28,8 @@ public enum MeshOptionChanger {
 		} catch (Exception e) {
 			throw new RuntimeException("Could not find free port", e);
 		}
+	}), COMPRESSION(options -> {
+		options.getHttpServerOptions().setEnableCompression(true);
 	}), WITH_MAPPER_SCRIPT(options -> {
 		AuthenticationOptions auth = options.getAuthenticationOptions();
 		OAuth2Options oauth2options = auth.getOauth2();
@@ -1,6 +1,7 @@
 package com.gentics.mesh.test.context.event;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -11,12 +12,13 @@ import java.util.concurrent.TimeoutException;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.event.MeshEventBatch;
+import com.gentics.mesh.event.MeshEventConsumer;
 
 import com.gentics.mesh.search.verticle.eventhandler.Util;
 import io.reactivex.Observable;
 import io.reactivex.subjects.PublishSubject;
 import io.reactivex.subjects.Subject;
-import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -85,9 +87,9 @@ public class EventAsserter {
 		if (!isRegistered) {
 			CompletableFuture<Void> fut = new CompletableFuture<>();
 			List<JsonObject> list = events.computeIfAbsent(event, e -> new ArrayList<>());
-			Mesh.vertx().eventBus().consumer(event.getAddress(), (Message<JsonObject> mh) -> {
+			MeshEventConsumer.consumer(Mesh.vertx().eventBus(), Collections.singleton(event), (ev, model) -> {
 				// Add the event to the list of events
-				JsonObject body = mh.body();
+				JsonObject body = model == null ? null : MeshEventBatch.toJson(model);
 				list.add(body);
 				eventSubject.onNext(Util.dummyObject);
 				fut.complete(null);
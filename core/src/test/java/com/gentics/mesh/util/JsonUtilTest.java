@@ -2,6 +2,7 @@ package com.gentics.mesh.util;
 
 import static com.gentics.mesh.core.rest.common.Permission.READ;
 import static com.gentics.mesh.test.util.TestUtils.getJson;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -36,6 +37,7 @@ import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.example.GraphQLExamples;
 import com.gentics.mesh.json.JsonUtil;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 
 public class JsonUtilTest {
@@ -45,6 +47,24 @@ public class JsonUtilTest {
 		JsonUtil.toJson(new Loop());
 	}
 
+	@Test
+	public void testToJsonBuffer() {
+		UserResponse user = new UserResponse();
+		user.setUsername("joe");
+		user.setFirstname("Jöe");
+
+		Buffer compact = JsonUtil.toJsonBuffer(user, false);
+		Buffer pretty = JsonUtil.toJsonBuffer(user, true);
+		try {
+			assertEquals(JsonUtil.getMapper().writeValueAsString(user), compact.toString(UTF_8));
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException(e);
+		}
+		assertFalse("The compact JSON should not contain line breaks", compact.toString(UTF_8).contains("\n"));
+		assertEquals(user.toJson(), pretty.toString(UTF_8));
+		assertEquals(new JsonObject(compact.toString(UTF_8)), new JsonObject(pretty.toString(UTF_8)));
+	}
+
 	@Test
 	public void testJsonEncoding() throws IOException {
 		// Reading UTF16BE - The string will be converted to utf8.
@@ -1,15 +1,20 @@
 package com.gentics.mesh.neo4j;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.madl.field.FieldMap;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
 import com.syncleus.ferma.ElementFrame;
+import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.VertexFrame;
 
 @Singleton
@@ -42,6 +47,20 @@ public class Neo4jIndexHandler implements IndexHandler {
 		return null;
 	}
 
+	@Override
+	public Set<Object> edgeKeyLookup(String edgeLabel, String indexPostfix, Collection<Object> keys) {
+		// There is no multi-key index lookup available, so each key is checked separately
+		Set<Object> foundKeys = new HashSet<>();
+		FramedGraph graph = Tx.get().getGraph();
+		String indexName = "e." + edgeLabel.toLowerCase() + "_" + indexPostfix;
+		for (Object key : keys) {
+			if (graph.getEdges(indexName, key).iterator().hasNext()) {
+				foundKeys.add(key);
+			}
+		}
+		return foundKeys;
+	}
+
 	@Override
 	public void addCustomEdgeIndex(String label, String indexPostfix, FieldMap fields, boolean unique) {
 		// TODO Auto-generated method stub
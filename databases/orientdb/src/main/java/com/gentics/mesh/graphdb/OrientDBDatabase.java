@@ -1,6 +1,7 @@
 package com.gentics.mesh.graphdb;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.Metrics.TX_CONFLICT;
 import static com.gentics.mesh.metric.Metrics.TX_RETRY;
 import static com.gentics.mesh.metric.Metrics.TX_TIME;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
@@ -27,6 +28,8 @@ import com.gentics.mesh.graphdb.index.OrientDBIndexHandler;
 import com.gentics.mesh.graphdb.index.OrientDBTypeHandler;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.graphdb.spi.AbstractDatabase;
+import com.gentics.mesh.graphdb.spi.TxConflictException;
+import com.gentics.mesh.graphdb.spi.TxRetryPolicy;
 import com.gentics.mesh.graphdb.tx.OrientStorage;
 import com.gentics.mesh.graphdb.tx.impl.OrientLocalStorageImpl;
 import com.gentics.mesh.graphdb.tx.impl.OrientServerStorageImpl;
@@ -69,8 +72,6 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private TypeResolver resolver;
 
-	private int maxRetry = 10;
-
 	private OrientStorage txProvider;
 
 	private MetricsService metrics;
@@ -142,8 +143,9 @@ public class OrientDBDatabase extends AbstractDatabase {
 		// resolver = new OrientDBTypeResolver(basePaths);
 		resolver = new MeshTypeResolver(basePaths);
 		if (options != null && storageOptions.getParameters() != null && storageOptions.getParameters().get("maxTransactionRetry") != null) {
-			this.maxRetry = Integer.valueOf(storageOptions.getParameters().get("maxTransactionRetry"));
-			log.info("Using {" + this.maxRetry + "} transaction retries before failing");
+			int maxRetry = Integer.valueOf(storageOptions.getParameters().get("maxTransactionRetry"));
+			this.retryPolicy = new TxRetryPolicy(maxRetry, storageOptions.getTxRetryDelay(), storageOptions.getTxRetryMaxDelay());
+			log.info("Using {" + maxRetry + "} transaction retries before failing");
 		}
 	}
 
@@ -278,68 +280,50 @@ public class OrientDBDatabase extends AbstractDatabase {
 	}
 
 	@Override
-	public <T> T tx(TxAction<T> txHandler) {
-		/**
-		 * OrientDB uses the MVCC pattern which requires a retry of the code that manipulates the graph in cases where for example an
-		 * {@link OConcurrentModificationException} is thrown.
-		 */
-		T handlerResult = null;
-		boolean handlerFinished = false;
-		for (int retry = 0; retry < maxRetry; retry++) {
-			final Timer.Context context = txTimer.time();
-			try (Tx tx = tx()) {
-				handlerResult = txHandler.handle(tx);
-				handlerFinished = true;
-				tx.success();
-			} catch (OSchemaException e) {
-				log.error("OrientDB schema exception detected.");
-				// TODO maybe we should invoke a metadata getschema reload?
-				// factory.getTx().getRawGraph().getMetadata().getSchema().reload();
-				// Database.getThreadLocalGraph().getMetadata().getSchema().reload();
-			} catch (ONeedRetryException | FastNoSuchElementException e) {
-				if (log.isTraceEnabled()) {
-					log.trace("Error while handling transaction. Retrying " + retry, e);
-				}
-				int rnd = (int) (Math.random() * 6000.0);
-				try {
-					// Increase the delay for each retry by 25ms to give the other transaction a chance to finish
-					Thread.sleep(50 + (retry * 25) + rnd);
-				} catch (InterruptedException e1) {
-					e1.printStackTrace();
-				}
-				// Reset previous result
-				handlerFinished = false;
-				handlerResult = null;
-			} catch (ORecordDuplicatedException e) {
-				log.error(e);
-				throw error(INTERNAL_SERVER_ERROR, "error_internal");
-			} catch (GenericRestException e) {
-				// Don't log. Just throw it along so that others can handle it
-				throw e;
-			} catch (RuntimeException e) {
-				if (log.isDebugEnabled()) {
-					log.debug("Error handling transaction", e);
-				}
-				throw e;
-			} catch (Exception e) {
-				if (log.isDebugEnabled()) {
-					log.debug("Error handling transaction", e);
-				}
-				throw new RuntimeException("Transaction error", e);
-			} finally {
-				context.stop();
+	public <T> T txAttempt(TxAction<T> txHandler) {
+		final Timer.Context context = txTimer.time();
+		try (Tx tx = tx()) {
+			T handlerResult = txHandler.handle(tx);
+			tx.success();
+			return handlerResult;
+		} catch (OSchemaException e) {
+			log.error("OrientDB schema exception detected.");
+			// TODO maybe we should invoke a metadata getschema reload?
+			// factory.getTx().getRawGraph().getMetadata().getSchema().reload();
+			// Database.getThreadLocalGraph().getMetadata().getSchema().reload();
+			throw new TxConflictException(e);
+		} catch (ONeedRetryException | FastNoSuchElementException e) {
+			if (log.isTraceEnabled()) {
+				log.trace("Error while handling transaction.", e);
 			}
-			if (!handlerFinished && log.isDebugEnabled()) {
-				log.debug("Retrying .. {" + retry + "}");
-				if (metrics.isEnabled()) {
-					txRetryCounter.inc();
-				}
+			throw new TxConflictException(e);
+		} catch (ORecordDuplicatedException e) {
+			log.error(e);
+			throw error(INTERNAL_SERVER_ERROR, "error_internal");
+		} catch (GenericRestException | TxConflictException e) {
+			// Don't log. Just throw it along so that others can handle it
+			throw e;
+		} catch (RuntimeException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling transaction", e);
 			}
-			if (handlerFinished) {
-				return handlerResult;
+			throw e;
+		} catch (Exception e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling transaction", e);
 			}
+			throw new RuntimeException("Transaction error", e);
+		} finally {
+			context.stop();
+		}
+	}
+
+	@Override
+	public void recordTxRetry(String callSite) {
+		if (metrics != null && metrics.isEnabled()) {
+			txRetryCounter.inc();
+			metrics.getMetricRegistry().counter(TX_CONFLICT.key() + "." + callSite).inc();
 		}
-		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
 	}
 
 	@Override
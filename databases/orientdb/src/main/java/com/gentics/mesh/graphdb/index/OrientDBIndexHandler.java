@@ -4,8 +4,11 @@ import static com.gentics.mesh.graphdb.FieldTypeMapper.toSubType;
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toType;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -144,6 +147,33 @@ public class OrientDBIndexHandler implements IndexHandler {
 		return ids;
 	}
 
+	@Override
+	public Set<Object> edgeKeyLookup(String edgeLabel, String indexPostfix, Collection<Object> keys) {
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		Set<Object> foundKeys = new HashSet<>();
+		if (keys.isEmpty()) {
+			return foundKeys;
+		}
+
+		// Load the edge type in order to access the indices of the edge
+		OrientEdgeType edgeType = orientBaseGraph.getEdgeType(edgeLabel);
+		if (edgeType != null) {
+			OIndex<?> index = edgeType.getClassIndex("e." + edgeLabel.toLowerCase() + "_" + indexPostfix);
+			if (index != null) {
+				// Resolve all keys using a single cursor
+				OIndexCursor cursor = index.iterateEntries(keys, false);
+				while (cursor.hasNext()) {
+					Entry<Object, OIdentifiable> entry = cursor.nextEntry();
+					if (entry == null) {
+						break;
+					}
+					foundKeys.add(entry.getKey());
+				}
+			}
+		}
+		return foundKeys;
+	}
+
 	@Override
 	public void removeVertexIndex(String indexName, Class<? extends VertexFrame> clazz) {
 		if (log.isDebugEnabled()) {
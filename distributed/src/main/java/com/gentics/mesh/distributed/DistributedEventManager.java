@@ -6,6 +6,8 @@ import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_LEFT;
 import static com.orientechnologies.orient.server.distributed.ODistributedServerManager.DB_STATUS.ONLINE;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import javax.inject.Inject;
@@ -17,6 +19,8 @@ import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.cache.PermissionStore;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.event.MeshEventBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.router.RouterStorage;
 import com.orientechnologies.orient.server.distributed.ODistributedServerManager.DB_STATUS;
@@ -66,16 +70,13 @@ public class DistributedEventManager {
 			PermissionStore.invalidate(false);
 		});
 
-		// React on project creates
-		eb.consumer(Project.TYPE_INFO.getOnCreated().getAddress(), (Message<JsonObject> handler) -> {
-			log.info("Received project create event");
-			handleClusterTopologyUpdate(handler);
-		});
-
-		// React on project updates
-		eb.consumer(Project.TYPE_INFO.getOnUpdated().getAddress(), (Message<JsonObject> handler) -> {
-			log.info("Received project update event.");
-			handleClusterTopologyUpdate(handler);
+		// React on project creates and updates. The routes are only synchronized once per batch of events
+		List<MeshEvent> projectEvents = Arrays.asList(Project.TYPE_INFO.getOnCreated(), Project.TYPE_INFO.getOnUpdated());
+		eb.consumer(MeshEventBatch.ADDRESS, (Message<MeshEventBatch> handler) -> {
+			if (handler.body().events(projectEvents).findAny().isPresent()) {
+				log.info("Received batch with project create or update events.");
+				handleClusterTopologyUpdate(handler);
+			}
 		});
 
 		eb.consumer(CLUSTER_DATABASE_CHANGE_STATUS.address, (Message<JsonObject> handler) -> {
@@ -64,6 +64,23 @@ public final class ElasticsearchErrorHelper {
 		return false;
 	}
 
+	/**
+	 * Check whether Elasticsearch rejected the request or some of its bulk items because it is overloaded.
+	 *
+	 * @param error
+	 * @return
+	 */
+	public static boolean isRejectedError(Throwable error) {
+		if (error instanceof HttpErrorException) {
+			return ((HttpErrorException) error).getStatusCode() == 429;
+		}
+		if (error instanceof ElasticsearchResponseErrorStreamable) {
+			return ((ElasticsearchResponseErrorStreamable) error).stream()
+				.anyMatch(err -> "es_rejected_execution_exception".equals(err.getType()));
+		}
+		return false;
+	}
+
 	/**
 	 * Extract the error from the throwable and return a user friendly error.
 	 * 
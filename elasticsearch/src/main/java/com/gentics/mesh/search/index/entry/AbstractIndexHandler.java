@@ -4,14 +4,12 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import com.gentics.elasticsearch.client.ElasticsearchClient;
-import com.gentics.elasticsearch.client.HttpErrorException;
-import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.MeshCoreVertex;
@@ -22,26 +20,25 @@ import com.gentics.mesh.core.data.search.bulk.DeleteBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.IndexBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.UpdateBulkEntry;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
 import com.gentics.mesh.event.EventQueueBatch;
-import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.MappingProvider;
 import com.gentics.mesh.search.index.Transformer;
 import com.gentics.mesh.search.index.metric.SyncMetric;
+import com.gentics.mesh.search.index.sync.DocumentVersion;
+import com.gentics.mesh.search.index.sync.GraphVersionIterator;
+import com.gentics.mesh.search.index.sync.IndexVersionIterator;
+import com.gentics.mesh.search.index.sync.SyncDiff;
 import com.gentics.mesh.search.verticle.eventhandler.MeshHelper;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
-import io.reactivex.Single;
 import io.reactivex.functions.Action;
-import io.reactivex.functions.Function;
-import io.vertx.core.json.JsonArray;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -176,7 +173,9 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 	}
 
 	/**
-	 * Diff the source (graph) with the sink (ES index) and create {@link EventQueueBatch} objects add, delete or update entries.
+	 * Diff the source (graph) with the sink (ES index) and create {@link EventQueueBatch} objects add, delete or update entries. Both sides are
+	 * iterated in the order of the document ids and merge-joined. Only the ids of the graph elements and a single page of the index are held in
+	 * memory.
 	 * 
 	 * @param indexName
 	 * @param projectUuid
@@ -184,128 +183,68 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 	 * @return
 	 */
 	protected Flowable<SearchRequest> diffAndSync(String indexName, String projectUuid, SyncMetric metric) {
-		return Single.zip(
-			loadVersionsFromIndex(indexName),
-			Single.fromCallable(this::loadVersionsFromGraph),
-			(sinkVersions, sourceVersions) -> {
-				log.info("Handling index sync on handler {" + getClass().getName() + "}");
-
-				MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-				if (diff.areEqual()) {
-					log.info("No diff detected. Index {" + indexName + "} is in sync.");
-					return Flowable.<SearchRequest>empty();
+		return SyncDiff.diff(this::loadVersionsFromGraph, () -> loadVersionsFromIndex(indexName))
+			.map(diff -> {
+				String uuid = diff.getDocument().getDocumentId();
+				switch (diff.getType()) {
+				case INSERT:
+					metric.incInsert(1);
+					return createDocumentRequest(indexName, uuid, metric::decInsert);
+				case UPDATE:
+					metric.incUpdate(1);
+					return createDocumentRequest(indexName, uuid, metric::decUpdate);
+				default:
+					metric.incDelete(1);
+					return helper.deleteDocumentRequest(indexName, uuid, metric::decDelete);
 				}
+			})
+			.doOnSubscribe(ignore -> log.info("Handling index sync of index {" + indexName + "} on handler {" + getClass().getName() + "}"))
+			.doOnComplete(() -> log.info("Sync diff of index {" + indexName + "} done."))
+			.subscribeOn(Schedulers.io());
+	}
 
-				Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-				Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
-				Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-
-				log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-				log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-
-				metric.incInsert(needInsertionInES.size());
-				metric.incUpdate(needUpdateInEs.size());
-				metric.incDelete(needRemovalInES.size());
-
-				Function<Action, Function<String, CreateDocumentRequest>> toCreateRequest = action -> uuid -> {
-					JsonObject doc = db.tx(() -> getTransformer().toDocument(getElement(uuid)));
-					return helper.createDocumentRequest(indexName, uuid, doc, action);
-				};
-
-				Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-					.map(toCreateRequest.apply(metric::decInsert));
-
-				Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-					.map(toCreateRequest.apply(metric::decUpdate));
-
-				Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
-					.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, metric::decDelete));
+	private SearchRequest createDocumentRequest(String indexName, String uuid, Action action) {
+		JsonObject doc = db.tx(() -> getTransformer().toDocument(getElement(uuid)));
+		return helper.createDocumentRequest(indexName, uuid, doc, action);
+	}
 
-				return Flowable.merge(toInsert, toUpdate, toDelete);
-			}).flatMapPublisher(x -> x);
+	/**
+	 * Merge the sync flows of multiple indices. At most {@link ElasticSearchOptions#getSyncConcurrency()} indices are synchronized at the same
+	 * time.
+	 * 
+	 * @param flows
+	 * @return
+	 */
+	protected Flowable<SearchRequest> mergeSync(List<Flowable<SearchRequest>> flows) {
+		return Flowable.merge(flows, helper.getOptions().getSearchOptions().getSyncConcurrency());
 	}
 
 	protected T getElement(String elementUuid) {
 		return getRootVertex().findByUuid(elementUuid);
 	}
 
-	private Map<String, String> loadVersionsFromGraph() {
-		return db.tx(() -> getRootVertex().findAll().stream()
-			.collect(Collectors.toMap(
-				MeshElement::getUuid,
-				this::generateVersion)));
-	}
-
-	// TODO Async
-	public Single<Map<String, String>> loadVersionsFromIndex(String indexName) {
-		return Single.fromCallable(() -> {
-			String fullIndexName = searchProvider.installationPrefix() + indexName;
-			Map<String, String> versions = new HashMap<>();
-			log.debug("Loading document info from index {" + fullIndexName + "}");
-			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
-			JsonObject query = new JsonObject();
-			query.put("size", ES_SYNC_FETCH_BATCH_SIZE);
-			query.put("_source", new JsonArray().add("uuid").add("version"));
-			query.put("query", new JsonObject().put("match_all", new JsonObject()));
-			query.put("sort", new JsonArray().add("_doc"));
-
-			RequestBuilder<JsonObject> builder = client.searchScroll(query, "1m", fullIndexName);
-			JsonObject result = new JsonObject();
-			try {
-				result = builder.sync();
-				if (log.isTraceEnabled()) {
-					log.trace("Got response {" + result.encodePrettily() + "}");
-				}
-				JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
-				processHits(hits, versions);
-
-				// Check whether we need to process more scrolls
-				if (hits.size() != 0) {
-					String nextScrollId = result.getString("_scroll_id");
-					try {
-						while (true) {
-							final String currentScroll = nextScrollId;
-							log.debug("Fetching scroll result using scrollId {" + currentScroll + "}");
-							JsonObject scrollResult = client.scroll("1m", currentScroll).sync();
-							JsonArray scrollHits = scrollResult.getJsonObject("hits").getJsonArray("hits");
-							if (log.isTraceEnabled()) {
-								log.trace("Got response {" + scrollHits.encodePrettily() + "}");
-							}
-							if (scrollHits.size() != 0) {
-								processHits(scrollHits, versions);
-								// Update the scrollId for the next fetch
-								nextScrollId = scrollResult.getString("_scroll_id");
-								if (log.isDebugEnabled()) {
-									log.debug("Using scrollId {" + nextScrollId + "} for next fetch.");
-								}
-							} else {
-								// The scroll yields no more data. We are done
-								break;
-							}
-						}
-					} finally {
-						// Clearing used scroll in order to free memory in ES
-						client.clearScroll(nextScrollId).sync();
-					}
-				}
-			} catch (HttpErrorException e) {
-				log.error("Error while loading version information from index {" + indexName + "}", e.toString());
-				log.error(e);
-				throw e;
-			}
-
-			return versions;
+	private Iterator<DocumentVersion> loadVersionsFromGraph() {
+		List<DocumentVersion> entries = db.tx(() -> getRootVertex().findAll().stream()
+			.map(element -> new DocumentVersion(element.getUuid(), null, element.getUuid()))
+			.collect(Collectors.toList()));
+		return new GraphVersionIterator(db, entries, uuid -> {
+			T element = getElement((String) uuid);
+			return element == null ? null : generateVersion(element);
 		});
 	}
 
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
-		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
+	/**
+	 * Return an iterator which loads the versions of the documents of the index ordered by uuid.
+	 * 
+	 * @param indexName
+	 * @return
+	 */
+	public IndexVersionIterator loadVersionsFromIndex(String indexName) {
+		String fullIndexName = searchProvider.installationPrefix() + indexName;
+		return new IndexVersionIterator(searchProvider.getClient(), fullIndexName, ES_SYNC_FETCH_BATCH_SIZE, hit -> {
 			JsonObject source = hit.getJsonObject("_source");
-			String uuid = source.getString("uuid");
-			String version = source.getString("version");
-			versions.put(uuid, version);
-		}
+			return new DocumentVersion(source.getString("uuid"), source.getString("version"), null);
+		}, "uuid");
 	}
 
 	@Override
@@ -453,8 +453,23 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 	}
 
 	public String generateVersion(NodeGraphFieldContainer container, String branchUuid, ContainerType type) {
+		Project project = container.getParentNode().getProject();
+		return generateVersion(container, branchUuid, type, project.getUuid() + project.getName());
+	}
+
+	/**
+	 * Generate the version of the document for the given container. The project key is passed in so that it can be determined once when generating
+	 * the versions for many containers of the same project.
+	 * 
+	 * @param container
+	 * @param branchUuid
+	 * @param type
+	 * @param projectKey
+	 *            Concatenation of the project uuid and name
+	 * @return
+	 */
+	public String generateVersion(NodeGraphFieldContainer container, String branchUuid, ContainerType type, String projectKey) {
 		Node node = container.getParentNode();
-		Project project = node.getProject();
 
 		StringBuilder builder = new StringBuilder();
 		builder.append(container.getElementVersion());
@@ -463,7 +478,7 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 		builder.append("|");
 		builder.append(type.name());
 		builder.append("|");
-		builder.append(project.getUuid() + project.getName());
+		builder.append(projectKey);
 		builder.append("|");
 		builder.append(node.getElementVersion());
 
@@ -10,10 +10,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -40,7 +40,6 @@ import com.gentics.mesh.core.data.search.context.GenericEntryContext;
 import com.gentics.mesh.core.data.search.context.MoveEntryContext;
 import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.schema.Schema;
@@ -50,16 +49,20 @@ import com.gentics.mesh.graphdb.spi.Transactional;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
 import com.gentics.mesh.search.index.metric.SyncMetric;
+import com.gentics.mesh.search.index.sync.DocumentVersion;
+import com.gentics.mesh.search.index.sync.GraphVersionIterator;
+import com.gentics.mesh.search.index.sync.IndexVersionIterator;
+import com.gentics.mesh.search.index.sync.SyncDiff;
 import com.gentics.mesh.search.verticle.eventhandler.MeshHelper;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
+import com.syncleus.ferma.FramedGraph;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.functions.Action;
-import io.vertx.core.json.JsonArray;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -221,85 +224,114 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 				.flatMap(branch -> branch.findActiveSchemaVersions().stream()
 				.flatMap(version -> Stream.of(DRAFT, PUBLISHED)
 				.map(type -> diffAndSync(project, branch, version, type, metric)))))
-				.collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
+				.collect(Collectors.collectingAndThen(Collectors.toList(), this::mergeSync));
 		}));
 	}
 
-	private Map<String, NodeGraphFieldContainer> loadVersionsFromGraph(Branch branch, SchemaContainerVersion version, ContainerType type) {
-		return db.tx(() -> {
-			String branchUuid = branch.getUuid();
+	/**
+	 * Load the document ids of the containers of the given version, branch and type. The versions are computed while the returned iterator
+	 * advances.
+	 * 
+	 * @param branch
+	 * @param version
+	 * @param type
+	 * @return
+	 */
+	private Iterator<DocumentVersion> loadVersionsFromGraph(Branch branch, SchemaContainerVersion version, ContainerType type) {
+		String branchUuid = branch.getUuid();
+		List<DocumentVersion> entries = db.tx(() -> {
 			return version.getFieldContainers(branchUuid)
 				.filter(c -> c.getSchemaContainerVersion().equals(version))
 				.filter(c -> c.isType(type, branchUuid))
-				.collect(Collectors.toMap(c -> c.getParentNode().getUuid() + "-" + c.getLanguageTag(), Function.identity()));
+				.map(c -> new DocumentVersion(NodeGraphFieldContainer.composeDocumentId(c.getParentNode().getUuid(), c.getLanguageTag()), null, c.id()))
+				.collect(Collectors.toList());
+		});
+		// The project is the same for all containers of the index
+		String projectKey = db.tx(() -> {
+			Project project = branch.getProject();
+			return project.getUuid() + project.getName();
+		});
+		return new GraphVersionIterator(db, entries, id -> {
+			NodeGraphFieldContainer container = loadContainer(id);
+			return container == null ? null : getTransformer().generateVersion(container, branchUuid, type, projectKey);
 		});
 	}
 
 	/**
-	 * We need to override the default method since the UUID alone is not enough to id a document in the node index. We also need to append the language.
+	 * Load the container with the given element id. Needs to be invoked within a transaction.
+	 * 
+	 * @param id
+	 * @return Loaded container or null if the container no longer exists
+	 */
+	private NodeGraphFieldContainer loadContainer(Object id) {
+		FramedGraph graph = Tx.get().getGraph();
+		Vertex vertex = graph.getVertex(id);
+		return vertex == null ? null : graph.frameElement(vertex, NodeGraphFieldContainer.class);
+	}
+
+	/**
+	 * Return an iterator which loads the versions of the documents of the node index ordered by document id. The document id of nodes is the
+	 * combination of the node uuid and the language. Sorting by uuid and language thus yields the order of the document ids since all uuids have the
+	 * same length.
 	 */
 	@Override
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
-		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
+	public IndexVersionIterator loadVersionsFromIndex(String indexName) {
+		String fullIndexName = searchProvider.installationPrefix() + indexName;
+		return new IndexVersionIterator(searchProvider.getClient(), fullIndexName, ES_SYNC_FETCH_BATCH_SIZE, hit -> {
 			// The id contains the UUID + language
-			String uuidAndLang = hit.getString("_id");
-			String version = source.getString("version");
-			versions.put(uuidAndLang, version);
-		}
+			return new DocumentVersion(hit.getString("_id"), hit.getJsonObject("_source").getString("version"), null);
+		}, "uuid", "language");
 	}
 
 	private Flowable<SearchRequest> diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type, SyncMetric metric) {
 		String indexName = NodeGraphFieldContainer.composeIndexName(project.getUuid(), branch.getUuid(),
 			version.getUuid(), type);
-
-		return Single.zip(
-			loadVersionsFromIndex(indexName),
-			Single.fromCallable(() -> loadVersionsFromGraph(branch, version, type)),
-			(sinkVersions, sourceNodes) -> {
-				log.info("Handling index sync on handler {" + getClass().getName() + "}");
-				String branchUuid = branch.getUuid();
-
-				Map<String, String> sourceVersions = db.tx(() -> sourceNodes.entrySet().stream()
-					.collect(Collectors.toMap(Map.Entry::getKey, x -> generateVersion(x.getValue(), branchUuid, type))));
-
-				// 3. Diff the maps
-				MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-				if (diff.areEqual()) {
-					return Flowable.<SearchRequest>empty();
+		String branchUuid = branch.getUuid();
+
+		return SyncDiff.diff(() -> loadVersionsFromGraph(branch, version, type), () -> loadVersionsFromIndex(indexName))
+			.map(diff -> {
+				DocumentVersion document = diff.getDocument();
+				String documentId = document.getDocumentId();
+				switch (diff.getType()) {
+				case INSERT:
+					metric.incInsert(1);
+					return createDocumentRequest(indexName, document, branchUuid, type, metric::decInsert);
+				case UPDATE:
+					metric.incUpdate(1);
+					return createDocumentRequest(indexName, document, branchUuid, type, metric::decUpdate);
+				default:
+					metric.incDelete(1);
+					return helper.deleteDocumentRequest(indexName, documentId, metric::decDelete);
 				}
-				Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-				Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-				Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
-
-				log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-				log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-				log.info("Pending updates on {" + indexName + "}:" + needUpdateInEs.size());
-
-				metric.incInsert(needInsertionInES.size());
-				metric.incDelete(needRemovalInES.size());
-				metric.incUpdate(needUpdateInEs.size());
-
-				io.reactivex.functions.Function<
-					Action,
-					io.reactivex.functions.Function<String, CreateDocumentRequest>
-					> toCreateRequest = action -> uuid -> {
-					JsonObject doc = db.tx(() -> getTransformer().toDocument(sourceNodes.get(uuid), branchUuid, type));
-					return helper.createDocumentRequest(indexName, uuid, doc, action);
-				};
-
-				Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-					.map(toCreateRequest.apply(metric::decInsert));
-
-				Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-					.map(toCreateRequest.apply(metric::decUpdate));
-
-				Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
-					.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, metric::decDelete));
+			})
+			.doOnSubscribe(ignore -> log.info("Handling index sync of index {" + indexName + "} on handler {" + getClass().getName() + "}"))
+			.doOnComplete(() -> log.info("Sync diff of index {" + indexName + "} done."))
+			.subscribeOn(Schedulers.io());
+	}
 
-				return Flowable.merge(toInsert, toUpdate, toDelete);
-		}).flatMapPublisher(x -> x);
+	/**
+	 * Create the request which stores the document of the container. A delete request is created instead if the container has been deleted since
+	 * the versions were compared.
+	 * 
+	 * @param indexName
+	 * @param document
+	 * @param branchUuid
+	 * @param type
+	 * @param action
+	 * @return
+	 */
+	private SearchRequest createDocumentRequest(String indexName, DocumentVersion document, String branchUuid, ContainerType type, Action action) {
+		JsonObject doc = db.tx(() -> {
+			NodeGraphFieldContainer container = loadContainer(document.getElementId());
+			return container == null ? null : getTransformer().toDocument(container, branchUuid, type);
+		});
+		if (doc == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("The container of document {" + document.getDocumentId() + "} no longer exists. Deleting the document.");
+			}
+			return helper.deleteDocumentRequest(indexName, document.getDocumentId(), action);
+		}
+		return helper.createDocumentRequest(indexName, document.getDocumentId(), doc, action);
 	}
 
 	@Override
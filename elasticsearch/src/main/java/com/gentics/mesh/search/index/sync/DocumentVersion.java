@@ -0,0 +1,46 @@
+package com.gentics.mesh.search.index.sync;
+
+/**
+ * Version information of a single document. The document may either be stored in the search index or be derived from an element in the graph.
+ */
+public class DocumentVersion {
+
+	private final String documentId;
+
+	private final String version;
+
+	private final Object elementId;
+
+	/**
+	 * Create a new version entry.
+	 * 
+	 * @param documentId
+	 *            Id of the document
+	 * @param version
+	 *            Version of the document
+	 * @param elementId
+	 *            Id of the graph element from which the document is created. May be null for documents which were loaded from the index.
+	 */
+	public DocumentVersion(String documentId, String version, Object elementId) {
+		this.documentId = documentId;
+		this.version = version;
+		this.elementId = elementId;
+	}
+
+	public String getDocumentId() {
+		return documentId;
+	}
+
+	public String getVersion() {
+		return version;
+	}
+
+	public Object getElementId() {
+		return elementId;
+	}
+
+	@Override
+	public String toString() {
+		return documentId + "@" + version;
+	}
+}
@@ -0,0 +1,86 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import com.gentics.mesh.graphdb.spi.Database;
+
+/**
+ * Iterator which provides the versions of the documents of graph elements ordered by the document id. Only the document ids and element ids are
+ * kept in memory. The versions are computed chunk by chunk within a dedicated transaction while the iterator advances.
+ */
+public class GraphVersionIterator implements Iterator<DocumentVersion> {
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private final Database db;
+
+	private final List<DocumentVersion> entries;
+
+	private final Function<Object, String> versionFunction;
+
+	private Iterator<DocumentVersion> chunk;
+
+	private int position = 0;
+
+	/**
+	 * Create a new iterator.
+	 * 
+	 * @param db
+	 * @param entries
+	 *            Document and element ids of the elements. The list will be sorted by document id.
+	 * @param versionFunction
+	 *            Function which computes the version for the element with the given id. The function is invoked within a transaction and may return
+	 *            null if the element no longer exists.
+	 */
+	public GraphVersionIterator(Database db, List<DocumentVersion> entries, Function<Object, String> versionFunction) {
+		this.db = db;
+		this.entries = entries;
+		this.versionFunction = versionFunction;
+		this.entries.sort(Comparator.comparing(DocumentVersion::getDocumentId));
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (chunk == null || !chunk.hasNext()) {
+			if (position >= entries.size()) {
+				return false;
+			}
+			chunk = loadChunk();
+		}
+		return true;
+	}
+
+	@Override
+	public DocumentVersion next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return chunk.next();
+	}
+
+	/**
+	 * Compute the versions for the next chunk of entries.
+	 * 
+	 * @return
+	 */
+	private Iterator<DocumentVersion> loadChunk() {
+		int end = Math.min(position + CHUNK_SIZE, entries.size());
+		List<DocumentVersion> ids = entries.subList(position, end);
+		position = end;
+		return db.tx(() -> {
+			List<DocumentVersion> versions = new ArrayList<>(ids.size());
+			for (DocumentVersion entry : ids) {
+				String version = versionFunction.apply(entry.getElementId());
+				if (version != null) {
+					versions.add(new DocumentVersion(entry.getDocumentId(), version, entry.getElementId()));
+				}
+			}
+			return versions;
+		}).iterator();
+	}
+}
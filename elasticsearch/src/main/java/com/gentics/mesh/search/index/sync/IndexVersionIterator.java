@@ -0,0 +1,139 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import com.gentics.elasticsearch.client.ElasticsearchClient;
+import com.gentics.elasticsearch.client.HttpErrorException;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Iterator which loads the versions of all documents of an index page by page via the scroll API. The documents are sorted by the given fields.
+ * Only a single page is held in memory. The scroll will be cleared once the iterator is exhausted or closed.
+ */
+public class IndexVersionIterator implements Iterator<DocumentVersion>, AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(IndexVersionIterator.class);
+
+	private static final String SCROLL_AGE = "5m";
+
+	private final ElasticsearchClient<JsonObject> client;
+
+	private final String indexName;
+
+	private final JsonObject query;
+
+	private final Function<JsonObject, DocumentVersion> hitMapper;
+
+	private JsonArray hits;
+
+	private int position;
+
+	private String scrollId;
+
+	private boolean exhausted = false;
+
+	/**
+	 * Create a new iterator.
+	 * 
+	 * @param client
+	 *            Client used to load the pages
+	 * @param indexName
+	 *            Full name of the index
+	 * @param pageSize
+	 *            Amount of documents per page
+	 * @param hitMapper
+	 *            Mapper which extracts the version information from a search hit
+	 * @param sortFields
+	 *            Fields which are used to sort the documents. The order must match the order of the document ids.
+	 */
+	public IndexVersionIterator(ElasticsearchClient<JsonObject> client, String indexName, int pageSize,
+		Function<JsonObject, DocumentVersion> hitMapper, String... sortFields) {
+		this.client = client;
+		this.indexName = indexName;
+		this.hitMapper = hitMapper;
+
+		JsonArray source = new JsonArray().add("uuid").add("version");
+		JsonArray sort = new JsonArray();
+		for (String field : sortFields) {
+			source.add(field);
+			sort.add(new JsonObject().put(field, "asc"));
+		}
+		this.query = new JsonObject()
+			.put("size", pageSize)
+			.put("_source", source)
+			.put("query", new JsonObject().put("match_all", new JsonObject()))
+			.put("sort", sort);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (hits != null && position < hits.size()) {
+			return true;
+		}
+		if (exhausted) {
+			return false;
+		}
+		fetchPage();
+		return position < hits.size();
+	}
+
+	@Override
+	public DocumentVersion next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return hitMapper.apply(hits.getJsonObject(position++));
+	}
+
+	/**
+	 * Load the next page of the scroll.
+	 */
+	private void fetchPage() {
+		try {
+			JsonObject result;
+			if (scrollId == null) {
+				log.debug("Loading document versions from index {" + indexName + "}");
+				result = client.searchScroll(query, SCROLL_AGE, indexName).sync();
+			} else {
+				log.debug("Fetching scroll result using scrollId {" + scrollId + "}");
+				result = client.scroll(SCROLL_AGE, scrollId).sync();
+			}
+			if (log.isTraceEnabled()) {
+				log.trace("Got response {" + result.encodePrettily() + "}");
+			}
+			scrollId = result.getString("_scroll_id", scrollId);
+			hits = result.getJsonObject("hits").getJsonArray("hits");
+			position = 0;
+			if (hits.isEmpty()) {
+				close();
+			}
+		} catch (HttpErrorException e) {
+			log.error("Error while loading version information from index {" + indexName + "}", e.toString());
+			exhausted = true;
+			throw new RuntimeException("Error while loading version information from index {" + indexName + "}", e);
+		}
+	}
+
+	/**
+	 * Clear the scroll in order to free the resources in Elasticsearch.
+	 */
+	@Override
+	public void close() {
+		exhausted = true;
+		if (scrollId != null) {
+			String currentScroll = scrollId;
+			scrollId = null;
+			try {
+				client.clearScroll(currentScroll).sync();
+			} catch (HttpErrorException e) {
+				log.warn("Could not clear scroll of index {" + indexName + "}", e);
+			}
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Flowable;
+
+/**
+ * Difference between the documents of the graph (source) and the documents of the search index (sink).
+ */
+public class SyncDiff {
+
+	/**
+	 * Action which is needed to bring the sink in sync with the source.
+	 */
+	public enum Type {
+		INSERT, UPDATE, DELETE
+	}
+
+	private final Type type;
+
+	private final DocumentVersion document;
+
+	public SyncDiff(Type type, DocumentVersion document) {
+		this.type = type;
+		this.document = document;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Return the version information of the document. The source entry will be returned for inserts and updates and the sink entry for deletions.
+	 * 
+	 * @return
+	 */
+	public DocumentVersion getDocument() {
+		return document;
+	}
+
+	/**
+	 * Merge-join the source and sink entries and emit the differences. Both iterators must provide the entries ordered by document id. Only the
+	 * current entry of each side is held in memory.
+	 * 
+	 * @param source
+	 *            Supplier for the entries of the graph
+	 * @param sink
+	 *            Supplier for the entries of the index. The iterator will be closed once the flowable terminates if it is {@link AutoCloseable}.
+	 * @return
+	 */
+	public static Flowable<SyncDiff> diff(Callable<? extends Iterator<DocumentVersion>> source,
+		Callable<? extends Iterator<DocumentVersion>> sink) {
+		return Flowable.using(sink,
+			sinkIterator -> {
+				Iterator<DocumentVersion> sourceIterator = source.call();
+				return Flowable.fromIterable(() -> new MergeIterator(sourceIterator, sinkIterator));
+			},
+			sinkIterator -> {
+				if (sinkIterator instanceof AutoCloseable) {
+					((AutoCloseable) sinkIterator).close();
+				}
+			});
+	}
+
+	/**
+	 * Iterator which advances both sides and returns the next difference.
+	 */
+	private static class MergeIterator implements Iterator<SyncDiff> {
+
+		private final Iterator<DocumentVersion> source;
+
+		private final Iterator<DocumentVersion> sink;
+
+		private DocumentVersion currentSource;
+
+		private DocumentVersion currentSink;
+
+		private SyncDiff next;
+
+		MergeIterator(Iterator<DocumentVersion> source, Iterator<DocumentVersion> sink) {
+			this.source = source;
+			this.sink = sink;
+			this.currentSource = source.hasNext() ? source.next() : null;
+			this.currentSink = sink.hasNext() ? sink.next() : null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (next == null && (currentSource != null || currentSink != null)) {
+				next = advance();
+			}
+			return next != null;
+		}
+
+		@Override
+		public SyncDiff next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			SyncDiff diff = next;
+			next = null;
+			return diff;
+		}
+
+		/**
+		 * Compare the current entries and advance the side(s) with the lower document id.
+		 * 
+		 * @return Detected difference or null if the current entries match
+		 */
+		private SyncDiff advance() {
+			int cmp;
+			if (currentSource == null) {
+				cmp = 1;
+			} else if (currentSink == null) {
+				cmp = -1;
+			} else {
+				cmp = currentSource.getDocumentId().compareTo(currentSink.getDocumentId());
+			}
+
+			SyncDiff diff = null;
+			if (cmp < 0) {
+				diff = new SyncDiff(Type.INSERT, currentSource);
+				currentSource = source.hasNext() ? source.next() : null;
+			} else if (cmp > 0) {
+				diff = new SyncDiff(Type.DELETE, currentSink);
+				currentSink = sink.hasNext() ? sink.next() : null;
+			} else {
+				if (!currentSource.getVersion().equals(currentSink.getVersion())) {
+					diff = new SyncDiff(Type.UPDATE, currentSource);
+				}
+				currentSource = source.hasNext() ? source.next() : null;
+				currentSink = sink.hasNext() ? sink.next() : null;
+			}
+			return diff;
+		}
+	}
+}
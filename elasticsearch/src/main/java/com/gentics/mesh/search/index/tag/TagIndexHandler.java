@@ -119,7 +119,7 @@ public class TagIndexHandler extends AbstractIndexHandler<Tag> {
 				.map(project -> {
 					String uuid = project.getUuid();
 					return diffAndSync(Tag.composeIndexName(uuid), uuid, metric);
-				}).collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
+				}).collect(Collectors.collectingAndThen(Collectors.toList(), this::mergeSync));
 		}));
 	}
 
@@ -110,7 +110,7 @@ public class TagFamilyIndexHandler extends AbstractIndexHandler<TagFamily> {
 					String uuid = project.getUuid();
 					String indexName = TagFamily.composeIndexName(uuid);
 					return diffAndSync(indexName, uuid, metric);
-				}).collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
+				}).collect(Collectors.collectingAndThen(Collectors.toList(), this::mergeSync));
 		}));
 	}
 
@@ -4,26 +4,46 @@ import static com.gentics.mesh.core.rest.MeshEvent.INDEX_SYNC_REQUEST;
 import static com.gentics.mesh.core.rest.MeshEvent.IS_SEARCH_IDLE;
 import static com.gentics.mesh.core.rest.MeshEvent.SEARCH_FLUSH_REQUEST;
 import static com.gentics.mesh.core.rest.MeshEvent.SEARCH_REFRESH_REQUEST;
+import static com.gentics.mesh.metric.Metrics.SEARCH_BULK_IN_FLIGHT;
+import static com.gentics.mesh.metric.Metrics.SEARCH_BULK_REJECTED;
+import static com.gentics.mesh.metric.Metrics.SEARCH_BULK_SIZE;
+import static com.gentics.mesh.metric.Metrics.SEARCH_BULK_SLOW;
+import static com.gentics.mesh.metric.Metrics.SEARCH_BULK_TIME;
+import static com.gentics.mesh.metric.Metrics.SEARCH_EVENT_COALESCED;
+import static com.gentics.mesh.metric.Metrics.SEARCH_EVENT_QUEUE;
+import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.isRejectedError;
 import static com.gentics.mesh.search.verticle.eventhandler.RxUtil.retryWithDelay;
 import static com.gentics.mesh.search.verticle.eventhandler.Util.logElasticSearchError;
 
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import com.gentics.mesh.core.data.search.request.BulkRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.event.MeshEventBatch;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.metric.ResettableCounter;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.impl.ElasticsearchResponseErrorStreamable;
+import com.gentics.mesh.search.verticle.bulk.AdaptiveBulkLimit;
+import com.gentics.mesh.search.verticle.bulk.BulkDispatcher;
 import com.gentics.mesh.search.verticle.bulk.BulkOperator;
 import com.gentics.mesh.search.verticle.eventhandler.MainEventHandler;
 import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
@@ -38,7 +58,6 @@ import io.reactivex.processors.PublishProcessor;
 import io.reactivex.subjects.BehaviorSubject;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
-import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -50,10 +69,13 @@ import io.vertx.reactivex.core.eventbus.MessageConsumer;
  * <p>The basic flow of events can be found in the {@link #assemble()} method. It looks like this:</p>
  * <ol>
  *     <li>Event received</li>
+ *     <li>Drop events which are superseded by later events for the same document</li>
  *     <li>Generate necessary requests out of the event</li>
  *     <li>Bulk bulkable requests together</li>
  *     <li>Send request to elasticsearch</li>
  * </ol>
+ * <p>Multiple requests may be in flight at the same time, but requests which affect the same document are sent one after another
+ * (see {@link BulkDispatcher}). The amount of requests per bulk adapts to the latency of elasticsearch (see {@link AdaptiveBulkLimit}).</p>
  */
 public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	private static final Logger log = LoggerFactory.getLogger(ElasticsearchProcessVerticle.class);
@@ -63,10 +85,20 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	private final IdleChecker idleChecker;
 	private final SyncEventHandler syncEventHandler;
 	private final ElasticSearchOptions options;
+	private final AdaptiveBulkLimit bulkLimit;
+	private final BulkDispatcher dispatcher;
+
+	private final ResettableCounter eventQueue;
+	private final Meter eventsCoalesced;
+	private final Counter inFlight;
+	private final Timer bulkTime;
+	private final Histogram bulkSize;
+	private final Meter bulkRejected;
+	private final Meter bulkSlow;
 
 	private FlowableProcessor<MessageEvent> requests = PublishProcessor.create();
 
-	private List<MessageConsumer<JsonObject>> vertxHandlers;
+	private List<MessageConsumer<?>> vertxHandlers;
 	private final AtomicBoolean stopped = new AtomicBoolean(false);
 	private final BehaviorSubject<Boolean> elasticsearchAvailable = BehaviorSubject.createDefault(true);
 	private final AtomicBoolean waitForSync = new AtomicBoolean(false);
@@ -76,12 +108,22 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 										SearchProvider searchProvider,
 										IdleChecker idleChecker,
 										SyncEventHandler syncEventHandler,
-										MeshOptions options) {
+										MeshOptions options,
+										MetricsService metrics) {
 		this.mainEventhandler = mainEventhandler;
 		this.searchProvider = searchProvider;
 		this.idleChecker = idleChecker;
 		this.syncEventHandler = syncEventHandler;
 		this.options = options.getSearchOptions();
+		this.bulkLimit = new AdaptiveBulkLimit(this.options.getBulkLimit());
+		this.dispatcher = new BulkDispatcher(this.options.getBulkConcurrency());
+		this.eventQueue = metrics.resetableCounter(SEARCH_EVENT_QUEUE);
+		this.eventsCoalesced = metrics.meter(SEARCH_EVENT_COALESCED);
+		this.inFlight = metrics.counter(SEARCH_BULK_IN_FLIGHT);
+		this.bulkTime = metrics.timer(SEARCH_BULK_TIME);
+		this.bulkSize = metrics.histogram(SEARCH_BULK_SIZE);
+		this.bulkRejected = metrics.meter(SEARCH_BULK_REJECTED);
+		this.bulkSlow = metrics.meter(SEARCH_BULK_SLOW);
 	}
 
 	@Override
@@ -94,30 +136,55 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 				vertx.eventBus().publish(MeshEvent.SEARCH_IDLE.address, null);
 			});
 
-		vertxHandlers = mainEventhandler.handledEvents()
+		Set<MeshEvent> handledEvents = new HashSet<>(mainEventhandler.handledEvents());
+		vertxHandlers = handledEvents
 			.stream()
 			.map(event -> vertx.eventBus().<JsonObject>localConsumer(event.address, message -> {
-				if (!stopped.get() && !isDroppedEvent(message)) {
-					idleChecker.incrementAndGetTransformations();
-					// Only continue processing the event if elasticsearch is available.
-					elasticsearchAvailable.filter(available -> available)
-						.firstOrError()
-						.subscribe(ignore -> {
-							waitForSync.set(false);
-							log.trace(String.format("Received event message on address {%s}:\n%s", message.address(), message.body()));
-							requests.onNext(new MessageEvent(event, MeshEventModel.fromMessage(message)));
-						});
+				// Events which are published directly. The events of the event queue batches are handled by the batch consumer.
+				if (!MeshEventBatch.isBatched(message)) {
+					handleEvent(event, () -> MeshEventModel.fromMessage(message));
 				}
 			}))
 			.map((Function<io.vertx.core.eventbus.MessageConsumer<JsonObject>, MessageConsumer<JsonObject>>) MessageConsumer::new)
-			.collect(Collectors.toList());
+			.collect(Collectors.<MessageConsumer<?>>toList());
 
+		vertxHandlers.add(new MessageConsumer<>(vertx.eventBus().<MeshEventBatch>localConsumer(MeshEventBatch.ADDRESS, message -> {
+			for (MeshEventModel model : message.body().getEvents()) {
+				if (handledEvents.contains(model.getEvent())) {
+					handleEvent(model.getEvent(), () -> model);
+				}
+			}
+		})));
 		vertxHandlers.add(replyingEventHandler(IS_SEARCH_IDLE, Single.fromCallable(idleChecker::isIdle)));
 		vertxHandlers.add(replyingEventHandler(SEARCH_REFRESH_REQUEST, refresh().andThen(Single.just(true))));
 
 		log.trace("Done Initializing Elasticsearch process verticle");
 	}
 
+	/**
+	 * Queues the event for processing once elasticsearch is available.
+	 *
+	 * @param event
+	 * @param model
+	 *            Supplier for the event model. The model is only loaded once the event is processed
+	 */
+	private void handleEvent(MeshEvent event, Supplier<MeshEventModel> model) {
+		if (!stopped.get() && !isDroppedEvent(event)) {
+			idleChecker.incrementAndGetTransformations();
+			// Only continue processing the event if elasticsearch is available.
+			elasticsearchAvailable.filter(available -> available)
+				.firstOrError()
+				.subscribe(ignore -> {
+					waitForSync.set(false);
+					MeshEventModel message = model.get();
+					if (log.isTraceEnabled()) {
+						log.trace(String.format("Received event message on address {%s}:\n%s", event.address, message == null ? null : message.toJson()));
+					}
+					requests.onNext(new MessageEvent(event, message));
+				});
+		}
+	}
+
 	public MessageConsumer<JsonObject> replyingEventHandler(MeshEvent event, Single<?> response) {
 		return new Vertx(vertx).eventBus().localConsumer(event.address, message ->
 			response.subscribe(value -> message.reply(value))
@@ -129,11 +196,11 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	 * Events will be ignored when an index sync has been requested but not yet started.
 	 * Effectively this will ignore all events that occurred before the index sync request.
 	 *
-	 * @param message
+	 * @param event
 	 * @return
 	 */
-	private boolean isDroppedEvent(Message<JsonObject> message) {
-		return waitForSync.get() && !message.address().equals(INDEX_SYNC_REQUEST.address);
+	private boolean isDroppedEvent(MeshEvent event) {
+		return waitForSync.get() && event != INDEX_SYNC_REQUEST;
 	}
 
 	@Override
@@ -169,28 +236,57 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 
 	/**
 	 * Assembles the main Flowable through which all requests are processed.
+	 * Requests are dispatched one after another, but up to {@link ElasticSearchOptions#getBulkConcurrency()} of them may be in flight.
 	 */
 	private void assemble() {
 		BulkOperator bulker = new BulkOperator(vertx,
 			Duration.ofMillis(options.getBulkDebounceTime()),
-			options.getBulkLimit(),
+			bulkLimit,
 			options.getBulkLengthLimit()
 		);
 		requests
+			.compose(this::coalesceEvents)
 			.compose(this::bufferEvents)
 			.concatMap(this::generateRequests, 1)
 			.lift(bulker)
-			.concatMap(request ->
-				this.sendRequest(request)
-				// To make sure the subscription stays alive
-				.onErrorResumeNext(Flowable.empty())
-			, 1)
+			.concatMap(request -> dispatcher.acquire(request).andThen(Flowable.just(request)), 1)
+			.flatMap(request -> {
+				inFlight.inc();
+				return this.sendRequest(request)
+					// To make sure the subscription stays alive
+					.onErrorResumeNext(Flowable.empty())
+					.doFinally(() -> {
+						inFlight.dec();
+						dispatcher.release(request);
+					});
+			}, options.getBulkConcurrency())
 			// To make sure the subscription stays alive
 			.doOnError(err -> log.info("Error at end of ES process chain", err))
 			.retry()
 			.subscribe();
 	}
 
+	/**
+	 * Collects events for the configured time and drops events which are superseded by a later event for the same document.
+	 *
+	 * @see ElasticSearchOptions#getEventCoalesceTime()
+	 * @see EventCoalescer
+	 * @param upstream
+	 * @return
+	 */
+	private Flowable<MessageEvent> coalesceEvents(Flowable<MessageEvent> upstream) {
+		if (options.getEventCoalesceTime() <= 0) {
+			return upstream;
+		}
+		return upstream
+			.buffer(options.getEventCoalesceTime(), TimeUnit.MILLISECONDS, options.getEventBufferSize())
+			.concatMapIterable(events -> EventCoalescer.coalesce(events, dropped -> {
+				log.trace("Dropping event {} since it is superseded by a later event", dropped.event);
+				eventsCoalesced.mark();
+				idleChecker.decrementAndGetTransformations();
+			}));
+	}
+
 	/**
 	 * Buffers requests to elasticsearch when the requests to elasticsearch are slower than the flow of incoming events.
 	 * If too many events are queued, the queue is cleared and an index sync will be requested.
@@ -200,21 +296,20 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	 * @return
 	 */
 	private <T> Flowable<T> bufferEvents(Flowable<T> upstream) {
-		AtomicInteger bufferedEvents = new AtomicInteger(0);
 		return upstream
 			.doOnNext(request -> {
-				bufferedEvents.incrementAndGet();
+				eventQueue.inc();
 			})
 			.onBackpressureBuffer(
 				options.getEventBufferSize(),
 				() -> {
 					log.info("Event buffer size of {} was reached. Dropping all pending events and scheduling index sync.", options.getEventBufferSize());
-					bufferedEvents.set(0);
+					eventQueue.reset();
 					idleChecker.resetTransformations();
 					startSync();
 				}
 		).retry(err -> err instanceof MissingBackpressureException)
-		.doOnNext(request -> bufferedEvents.decrementAndGet());
+		.doOnNext(request -> eventQueue.dec());
 	}
 
 	/**
@@ -243,16 +338,19 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	 * <h2>Connection errors</h2>
 	 * The request will be retried indefinitely in a configurable interval.
 	 *
+	 * <h2>Rejections</h2>
+	 * Requests which have been rejected by an overloaded elasticsearch will be retried like connection errors.
+	 *
 	 * <h2>Errors inside elasticsearch</h2>
 	 * These errors will not affect this verticle and will be loggend and then ignored.
 	 *
 	 * @param request
 	 * @return
 	 */
-	private Flowable<SearchRequest> sendRequest(SearchRequest request) {
+	Flowable<SearchRequest> sendRequest(SearchRequest request) {
 		return stopped.get()
 			? Flowable.empty()
-			: request.execute(searchProvider)
+			: execute(request)
 			.doOnSubscribe(ignore -> {
 				log.trace("Sending request to Elasticsearch: {}", request);
 			})
@@ -275,6 +373,40 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 			});
 	}
 
+	/**
+	 * Executes the request and adapts the bulk limit to the observed latency. The limit is reduced if a bulk takes longer than
+	 * {@link ElasticSearchOptions#getBulkTargetLatency()} or is rejected by elasticsearch.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private Completable execute(SearchRequest request) {
+		if (!(request instanceof BulkRequest)) {
+			return request.execute(searchProvider);
+		}
+		return Completable.defer(() -> {
+			bulkSize.update(((BulkRequest) request).getRequests().size());
+			Timer.Context context = bulkTime.time();
+			return request.execute(searchProvider)
+				.doOnComplete(() -> {
+					long latency = TimeUnit.NANOSECONDS.toMillis(context.stop());
+					if (latency > options.getBulkTargetLatency()) {
+						bulkSlow.mark();
+						bulkLimit.decrease();
+					} else {
+						bulkLimit.increase();
+					}
+				})
+				.doOnError(err -> {
+					context.stop();
+					if (isRejectedError(err)) {
+						bulkRejected.mark();
+						bulkLimit.decrease();
+					}
+				});
+		});
+	}
+
 	/**
 	 * Ignores the error if there are only deletes on missing indices.
 	 * @param request
@@ -325,12 +457,13 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 
 	/**
 	 * Most errors inside elasticsearch are not recoverable by retrying. These errors will only be logged.
+	 * Rejections due to an overloaded elasticsearch are retried.
 	 * @param request
 	 * @return
 	 */
 	private io.reactivex.functions.Function<Throwable, Flowable<SearchRequest>> ignoreElasticsearchErrors(SearchRequest request) {
 		return error -> {
-			if (error instanceof ElasticsearchResponseErrorStreamable) {
+			if (error instanceof ElasticsearchResponseErrorStreamable && !isRejectedError(error)) {
 				log.error("Not retrying because it is an error inside elasticsearch.");
 				return Flowable.just(request);
 			} else {
@@ -376,4 +509,12 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	public IdleChecker getIdleChecker() {
 		return idleChecker;
 	}
+
+	/**
+	 * Returns the current amount of requests per bulk.
+	 * @return
+	 */
+	AdaptiveBulkLimit getBulkLimit() {
+		return bulkLimit;
+	}
 }
@@ -0,0 +1,113 @@
+package com.gentics.mesh.search.verticle;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.event.EventCauseAction.SCHEMA_MIGRATION;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.EventCauseInfo;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+
+/**
+ * Removes search events which are superseded by a later event for the same document.
+ *
+ * <p>Node content events only identify the affected content (project, branch, type, node and language). The document is always
+ * generated from the current state of the content, so only the latest store or delete event per document has to be handled. A delete
+ * supersedes all pending stores of the document and a store supersedes a pending delete.</p>
+ *
+ * <p>All other events act as barriers: events are only coalesced with events between the same two barriers and the order of the
+ * remaining events is kept.</p>
+ */
+public final class EventCoalescer {
+
+	private static final Set<MeshEvent> COALESCABLE_EVENTS = EnumSet.of(NODE_CONTENT_CREATED, NODE_UPDATED, NODE_PUBLISHED,
+		NODE_CONTENT_DELETED, NODE_UNPUBLISHED);
+
+	private EventCoalescer() {
+
+	}
+
+	/**
+	 * Coalesce the given events.
+	 *
+	 * @param events
+	 *            Events in the order in which they have been received
+	 * @param dropped
+	 *            Invoked for every event which has been dropped
+	 * @return Remaining events
+	 */
+	public static List<MessageEvent> coalesce(List<MessageEvent> events, Consumer<MessageEvent> dropped) {
+		if (events.size() < 2) {
+			return events;
+		}
+		List<MessageEvent> result = new ArrayList<>(events.size());
+		List<MessageEvent> segment = new ArrayList<>();
+		for (MessageEvent event : events) {
+			if (documentKey(event) == null) {
+				flushSegment(segment, result, dropped);
+				result.add(event);
+			} else {
+				segment.add(event);
+			}
+		}
+		flushSegment(segment, result, dropped);
+		return result;
+	}
+
+	/**
+	 * Add the latest event per document of the segment to the result. The events keep the position of their latest occurrence.
+	 */
+	private static void flushSegment(List<MessageEvent> segment, List<MessageEvent> result, Consumer<MessageEvent> dropped) {
+		Set<String> seen = new HashSet<>();
+		List<MessageEvent> latest = new ArrayList<>(segment.size());
+		for (int i = segment.size() - 1; i >= 0; i--) {
+			MessageEvent event = segment.get(i);
+			if (seen.add(documentKey(event))) {
+				latest.add(event);
+			} else {
+				dropped.accept(event);
+			}
+		}
+		Collections.reverse(latest);
+		result.addAll(latest);
+		segment.clear();
+	}
+
+	/**
+	 * Return the key of the document which is affected by the event or null if the event must not be coalesced.
+	 *
+	 * @param event
+	 * @return
+	 */
+	private static String documentKey(MessageEvent event) {
+		if (!COALESCABLE_EVENTS.contains(event.event) || !(event.message instanceof NodeMeshEventModel)) {
+			return null;
+		}
+		NodeMeshEventModel message = (NodeMeshEventModel) event.message;
+		EventCauseInfo cause = message.getCause();
+		// Migration events also remove the document of the previous schema version
+		if (cause != null && cause.getAction() == SCHEMA_MIGRATION) {
+			return null;
+		}
+		if (message.getProject() == null || message.getType() == null) {
+			return null;
+		}
+		return String.join("/",
+			message.getProject().getUuid(),
+			message.getBranchUuid(),
+			message.getType().name(),
+			message.getUuid(),
+			message.getLanguageTag());
+	}
+}
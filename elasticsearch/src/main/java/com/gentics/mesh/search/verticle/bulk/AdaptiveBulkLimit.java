@@ -0,0 +1,54 @@
+package com.gentics.mesh.search.verticle.bulk;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Amount of requests per bulk which adapts to the load of Elasticsearch. The limit starts at the configured maximum, is halved whenever
+ * Elasticsearch rejects a bulk or answers too slowly and grows back by a tenth of the maximum after each bulk that was processed in time.
+ */
+public class AdaptiveBulkLimit implements IntSupplier {
+
+	private static final Logger log = LoggerFactory.getLogger(AdaptiveBulkLimit.class);
+
+	private final int maxLimit;
+	private final int step;
+	private final AtomicInteger limit;
+
+	/**
+	 * Create a new limit.
+	 *
+	 * @param maxLimit
+	 *            Upper limit which will never be exceeded
+	 */
+	public AdaptiveBulkLimit(int maxLimit) {
+		this.maxLimit = Math.max(1, maxLimit);
+		this.step = Math.max(1, this.maxLimit / 10);
+		this.limit = new AtomicInteger(this.maxLimit);
+	}
+
+	@Override
+	public int getAsInt() {
+		return limit.get();
+	}
+
+	/**
+	 * Grow the limit after a bulk has been processed in time.
+	 */
+	public void increase() {
+		limit.updateAndGet(current -> Math.min(maxLimit, current + step));
+	}
+
+	/**
+	 * Halve the limit after a bulk has been rejected or took too long.
+	 */
+	public void decrease() {
+		int reduced = limit.updateAndGet(current -> Math.max(1, current / 2));
+		if (log.isDebugEnabled()) {
+			log.debug("Reduced bulk limit to {}", reduced);
+		}
+	}
+}
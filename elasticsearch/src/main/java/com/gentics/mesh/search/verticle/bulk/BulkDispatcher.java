@@ -0,0 +1,180 @@
+package com.gentics.mesh.search.verticle.bulk;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.core.data.search.request.UpdateDocumentRequest;
+
+import io.reactivex.Completable;
+import io.reactivex.CompletableEmitter;
+
+/**
+ * Limits the amount of requests which are sent to Elasticsearch concurrently while keeping the order of changes per document.
+ * <ul>
+ *     <li>At most the given amount of requests are in flight at the same time.</li>
+ *     <li>A request is held back as long as an in-flight request affects one of its documents.</li>
+ *     <li>Requests which do not address single documents (e.g. index creation) wait until all in-flight requests are completed
+ *     and hold back all following requests until they are completed themselves.</li>
+ * </ul>
+ * Requests must be acquired one after another. Every acquired request must be released once it is completed.
+ */
+public class BulkDispatcher {
+
+	private final int maxInFlight;
+	private final Map<String, Integer> inFlightDocuments = new HashMap<>();
+	private int inFlight = 0;
+	private boolean exclusive = false;
+	private Pending pending;
+
+	public BulkDispatcher(int maxInFlight) {
+		this.maxInFlight = Math.max(1, maxInFlight);
+	}
+
+	/**
+	 * Returns a completable which completes as soon as the request can be sent.
+	 *
+	 * @param request
+	 * @return
+	 */
+	public Completable acquire(SearchRequest request) {
+		return Completable.create(emitter -> {
+			Set<String> documents = documentKeys(request);
+			boolean ready;
+			synchronized (this) {
+				ready = canDispatch(documents);
+				if (ready) {
+					dispatch(documents);
+				} else {
+					Pending waiting = new Pending(documents, emitter);
+					pending = waiting;
+					emitter.setCancellable(() -> {
+						synchronized (this) {
+							if (pending == waiting) {
+								pending = null;
+							}
+						}
+					});
+				}
+			}
+			if (ready) {
+				emitter.onComplete();
+			}
+		});
+	}
+
+	/**
+	 * Releases a previously acquired request and dispatches the waiting request if possible.
+	 *
+	 * @param request
+	 */
+	public void release(SearchRequest request) {
+		Set<String> documents = documentKeys(request);
+		CompletableEmitter ready = null;
+		synchronized (this) {
+			inFlight--;
+			if (documents == null) {
+				exclusive = false;
+			} else {
+				for (String document : documents) {
+					inFlightDocuments.computeIfPresent(document, (key, count) -> count > 1 ? count - 1 : null);
+				}
+			}
+			if (pending != null && canDispatch(pending.documents)) {
+				dispatch(pending.documents);
+				ready = pending.emitter;
+				pending = null;
+			}
+		}
+		if (ready != null) {
+			ready.onComplete();
+		}
+	}
+
+	/**
+	 * Return the amount of requests which are currently in flight.
+	 *
+	 * @return
+	 */
+	public synchronized int inFlight() {
+		return inFlight;
+	}
+
+	private boolean canDispatch(Set<String> documents) {
+		if (exclusive || inFlight >= maxInFlight) {
+			return false;
+		}
+		if (documents == null) {
+			return inFlight == 0;
+		}
+		return documents.stream().noneMatch(inFlightDocuments::containsKey);
+	}
+
+	private void dispatch(Set<String> documents) {
+		inFlight++;
+		if (documents == null) {
+			exclusive = true;
+		} else {
+			for (String document : documents) {
+				inFlightDocuments.merge(document, 1, Integer::sum);
+			}
+		}
+	}
+
+	/**
+	 * Return the keys of all documents which are affected by the request or null if the request does not only address single documents.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private static Set<String> documentKeys(SearchRequest request) {
+		if (request instanceof BulkRequest) {
+			Set<String> keys = new HashSet<>();
+			for (Bulkable bulkable : ((BulkRequest) request).getRequests()) {
+				String key = documentKey(bulkable);
+				if (key == null) {
+					return null;
+				}
+				keys.add(key);
+			}
+			return keys;
+		}
+		String key = documentKey(request);
+		if (key == null) {
+			return null;
+		}
+		Set<String> keys = new HashSet<>();
+		keys.add(key);
+		return keys;
+	}
+
+	private static String documentKey(SearchRequest request) {
+		if (request instanceof CreateDocumentRequest) {
+			CreateDocumentRequest create = (CreateDocumentRequest) request;
+			return create.getIndex() + "/" + create.getId();
+		} else if (request instanceof UpdateDocumentRequest) {
+			UpdateDocumentRequest update = (UpdateDocumentRequest) request;
+			return update.getIndex() + "/" + update.getId();
+		} else if (request instanceof DeleteDocumentRequest) {
+			DeleteDocumentRequest delete = (DeleteDocumentRequest) request;
+			return delete.getIndex() + "/" + delete.getId();
+		}
+		return null;
+	}
+
+	private static class Pending {
+		private final Set<String> documents;
+		private final CompletableEmitter emitter;
+
+		Pending(Set<String> documents, CompletableEmitter emitter) {
+			this.documents = documents;
+			this.emitter = emitter;
+		}
+	}
+}
@@ -8,6 +8,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
 
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -41,11 +42,23 @@ public class BulkOperator implements FlowableOperator<SearchRequest, SearchReque
 
 	private final Vertx vertx;
 	private final long bulkTime;
-	private final int requestLimit;
+	private final IntSupplier requestLimit;
 	private final long lengthLimit;
 	private ActualBulkOperator<SearchRequest> operator;
 
 	public BulkOperator(Vertx vertx, Duration bulkTime, int requestLimit, long lengthLimit) {
+		this(vertx, bulkTime, () -> requestLimit, lengthLimit);
+	}
+
+	/**
+	 * Create a new operator whose request amount limit may change over time. The limit is read whenever a request is added to the current bulk.
+	 *
+	 * @param vertx
+	 * @param bulkTime
+	 * @param requestLimit
+	 * @param lengthLimit
+	 */
+	public BulkOperator(Vertx vertx, Duration bulkTime, IntSupplier requestLimit, long lengthLimit) {
 		this.vertx = vertx;
 		this.bulkTime = bulkTime.toMillis();
 		this.requestLimit = requestLimit;
@@ -143,11 +156,12 @@ public class BulkOperator implements FlowableOperator<SearchRequest, SearchReque
 					bulkableRequests.add((Bulkable) searchRequest);
 					log.trace("Added request of class [{}] to the current bulk with the size of now {}.",
 						searchRequest.getClass(), bulkableRequests.size());
-					if (bulkableRequests.size() >= requestLimit || bulkableRequests.getBulkLength() >= lengthLimit) {
+					int currentRequestLimit = requestLimit.getAsInt();
+					if (bulkableRequests.size() >= currentRequestLimit || bulkableRequests.getBulkLength() >= lengthLimit) {
 						if (log.isTraceEnabled()) {
-							if (bulkableRequests.size() >= requestLimit) {
+							if (bulkableRequests.size() >= currentRequestLimit) {
 								log.info("Flushing {} requests because request amount limit of {} has been reached.",
-									bulkableRequests.size(), requestLimit);
+									bulkableRequests.size(), currentRequestLimit);
 							} else {
 								log.info("Flushing {} requests with total size of {} because size limit of {} has been exceeded.",
 									bulkableRequests.size(), bulkableRequests.getBulkLength(), lengthLimit);
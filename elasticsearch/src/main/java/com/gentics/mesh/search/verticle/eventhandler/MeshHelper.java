@@ -106,4 +106,8 @@ public class MeshHelper {
 		return boot;
 	}
 
+	public MeshOptions getOptions() {
+		return options;
+	}
+
 }
@@ -0,0 +1,119 @@
+package com.gentics.mesh.search.index.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.search.index.sync.SyncDiff.Type;
+
+public class SyncDiffTest {
+
+	@Test
+	public void testDiff() {
+		List<DocumentVersion> source = Arrays.asList(doc("a", "1"), doc("b", "1"), doc("d", "2"), doc("e", "1"));
+		List<DocumentVersion> sink = Arrays.asList(doc("b", "1"), doc("c", "1"), doc("d", "1"), doc("f", "1"));
+
+		List<String> diffs = SyncDiff.diff(source::iterator, sink::iterator)
+			.map(diff -> diff.getType() + ":" + diff.getDocument().getDocumentId())
+			.toList()
+			.blockingGet();
+
+		assertEquals(Arrays.asList("INSERT:a", "DELETE:c", "UPDATE:d", "INSERT:e", "DELETE:f"), diffs);
+	}
+
+	@Test
+	public void testEmptySides() {
+		List<DocumentVersion> docs = Arrays.asList(doc("a", "1"), doc("b", "1"));
+
+		List<Type> inserts = SyncDiff.diff(docs::iterator, () -> new ArrayList<DocumentVersion>().iterator())
+			.map(SyncDiff::getType)
+			.toList()
+			.blockingGet();
+		assertEquals(Arrays.asList(Type.INSERT, Type.INSERT), inserts);
+
+		List<Type> deletes = SyncDiff.diff(() -> new ArrayList<DocumentVersion>().iterator(), docs::iterator)
+			.map(SyncDiff::getType)
+			.toList()
+			.blockingGet();
+		assertEquals(Arrays.asList(Type.DELETE, Type.DELETE), deletes);
+	}
+
+	@Test
+	public void testInSync() {
+		List<DocumentVersion> docs = Arrays.asList(doc("a", "1"), doc("b", "1"));
+		assertEquals(0L, (long) SyncDiff.diff(docs::iterator, docs::iterator).count().blockingGet());
+	}
+
+	@Test
+	public void testSinkIsClosed() {
+		AtomicBoolean closed = new AtomicBoolean();
+		List<DocumentVersion> docs = Arrays.asList(doc("a", "1"));
+		SyncDiff.diff(docs::iterator, () -> new ClosingIterator(docs.iterator(), closed)).blockingSubscribe();
+		assertTrue("The sink iterator should have been closed", closed.get());
+	}
+
+	@Test
+	public void testDiffLargeSides() {
+		List<DocumentVersion> source = new ArrayList<>();
+		List<DocumentVersion> sink = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			String id = String.format("%05d", i);
+			if (i % 3 != 0) {
+				source.add(doc(id, "1"));
+			}
+			if (i % 5 != 0) {
+				sink.add(doc(id, i % 7 == 0 ? "2" : "1"));
+			}
+		}
+		List<SyncDiff> diffs = SyncDiff.diff(source::iterator, sink::iterator).toList().blockingGet();
+		long expectedInserts = source.stream().filter(d -> Integer.parseInt(d.getDocumentId()) % 5 == 0).count();
+		long expectedDeletes = sink.stream().filter(d -> Integer.parseInt(d.getDocumentId()) % 3 == 0).count();
+		long expectedUpdates = sink.stream().map(d -> Integer.parseInt(d.getDocumentId())).filter(i -> i % 3 != 0 && i % 7 == 0).count();
+		assertEquals(expectedInserts, count(diffs, Type.INSERT));
+		assertEquals(expectedDeletes, count(diffs, Type.DELETE));
+		assertEquals(expectedUpdates, count(diffs, Type.UPDATE));
+	}
+
+	private long count(List<SyncDiff> diffs, Type type) {
+		return diffs.stream().filter(d -> d.getType() == type).collect(Collectors.counting());
+	}
+
+	private DocumentVersion doc(String id, String version) {
+		return new DocumentVersion(id, version, null);
+	}
+
+	private static class ClosingIterator implements Iterator<DocumentVersion>, AutoCloseable {
+
+		private final Iterator<DocumentVersion> delegate;
+
+		private final AtomicBoolean closed;
+
+		ClosingIterator(Iterator<DocumentVersion> delegate, AtomicBoolean closed) {
+			this.delegate = delegate;
+			this.closed = closed;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public DocumentVersion next() {
+			return delegate.next();
+		}
+
+		@Override
+		public void close() {
+			closed.set(true);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.gentics.mesh.search.verticle;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.gentics.mesh.search.verticle.bulk.AdaptiveBulkLimit;
+
+public class AdaptiveBulkLimitTest {
+
+	@Test
+	public void testStartsAtMaximum() {
+		assertEquals(100, new AdaptiveBulkLimit(100).getAsInt());
+	}
+
+	@Test
+	public void testDecreaseHalvesLimit() {
+		AdaptiveBulkLimit limit = new AdaptiveBulkLimit(100);
+		limit.decrease();
+		assertEquals(50, limit.getAsInt());
+		limit.decrease();
+		assertEquals(25, limit.getAsInt());
+	}
+
+	@Test
+	public void testLimitNeverDropsBelowOne() {
+		AdaptiveBulkLimit limit = new AdaptiveBulkLimit(4);
+		for (int i = 0; i < 10; i++) {
+			limit.decrease();
+		}
+		assertEquals(1, limit.getAsInt());
+	}
+
+	@Test
+	public void testIncreaseGrowsBackToMaximum() {
+		AdaptiveBulkLimit limit = new AdaptiveBulkLimit(100);
+		limit.decrease();
+		limit.decrease();
+		limit.increase();
+		assertEquals("The limit should grow by a tenth of the maximum", 35, limit.getAsInt());
+		for (int i = 0; i < 10; i++) {
+			limit.increase();
+		}
+		assertEquals("The limit must not exceed the maximum", 100, limit.getAsInt());
+	}
+
+	@Test
+	public void testSmallMaximum() {
+		AdaptiveBulkLimit limit = new AdaptiveBulkLimit(0);
+		assertEquals(1, limit.getAsInt());
+		limit.increase();
+		assertEquals(1, limit.getAsInt());
+
+		limit = new AdaptiveBulkLimit(5);
+		limit.decrease();
+		limit.increase();
+		assertEquals("The limit should grow by at least one", 3, limit.getAsInt());
+	}
+}
@@ -0,0 +1,83 @@
+package com.gentics.mesh.search.verticle;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
+import com.gentics.mesh.core.data.search.request.DropIndexRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.search.verticle.bulk.BulkDispatcher;
+
+import io.reactivex.observers.TestObserver;
+
+public class BulkDispatcherTest {
+
+	private BulkDispatcher dispatcher;
+
+	@Before
+	public void setUp() {
+		dispatcher = new BulkDispatcher(2);
+	}
+
+	private BulkRequest bulk(String... ids) {
+		DeleteDocumentRequest[] requests = new DeleteDocumentRequest[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			requests[i] = new DeleteDocumentRequest("index", "mesh-index", ids[i]);
+		}
+		return new BulkRequest(requests);
+	}
+
+	@Test
+	public void testIndependentBulksAreSentConcurrently() {
+		dispatcher.acquire(bulk("a", "b")).test().assertComplete();
+		dispatcher.acquire(bulk("c")).test().assertComplete();
+		assertEquals(2, dispatcher.inFlight());
+	}
+
+	@Test
+	public void testConcurrencyLimit() {
+		SearchRequest first = bulk("a");
+		dispatcher.acquire(first).test().assertComplete();
+		dispatcher.acquire(bulk("b")).test().assertComplete();
+
+		TestObserver<Void> third = dispatcher.acquire(bulk("c")).test();
+		third.assertNotComplete();
+
+		dispatcher.release(first);
+		third.assertComplete();
+		assertEquals(2, dispatcher.inFlight());
+	}
+
+	@Test
+	public void testSameDocumentWaitsForPreviousBulk() {
+		SearchRequest first = bulk("a", "b");
+		dispatcher.acquire(first).test().assertComplete();
+
+		TestObserver<Void> second = dispatcher.acquire(bulk("b", "c")).test();
+		second.assertNotComplete();
+		assertEquals(1, dispatcher.inFlight());
+
+		dispatcher.release(first);
+		second.assertComplete();
+	}
+
+	@Test
+	public void testNonBulkableRequestIsExclusive() {
+		SearchRequest first = bulk("a");
+		SearchRequest drop = new DropIndexRequest("index");
+		dispatcher.acquire(first).test().assertComplete();
+
+		TestObserver<Void> dropObserver = dispatcher.acquire(drop).test();
+		dropObserver.assertNotComplete();
+		dispatcher.release(first);
+		dropObserver.assertComplete();
+
+		TestObserver<Void> next = dispatcher.acquire(bulk("b")).test();
+		next.assertNotComplete();
+		dispatcher.release(drop);
+		next.assertComplete();
+	}
+}
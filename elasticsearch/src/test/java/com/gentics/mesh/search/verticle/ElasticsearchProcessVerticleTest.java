@@ -0,0 +1,140 @@
+package com.gentics.mesh.search.verticle;
+
+import static com.gentics.mesh.metric.Metrics.SEARCH_BULK_REJECTED;
+import static com.gentics.mesh.metric.Metrics.SEARCH_BULK_SLOW;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.Metrics;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.metric.ResettableCounter;
+import com.gentics.mesh.search.SearchProvider;
+import com.gentics.mesh.search.impl.ElasticsearchBulkResponseError;
+import com.gentics.mesh.search.verticle.eventhandler.MainEventHandler;
+import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
+
+import io.reactivex.Completable;
+import io.reactivex.subscribers.TestSubscriber;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.logging.SLF4JLogDelegateFactory;
+
+public class ElasticsearchProcessVerticleTest {
+
+	static {
+		// Use slf4j instead of JUL
+		System.setProperty(LoggerFactory.LOGGER_DELEGATE_FACTORY_CLASS_NAME, SLF4JLogDelegateFactory.class.getName());
+	}
+
+	private static final int BULK_LIMIT = 100;
+
+	private SearchProvider searchProvider;
+	private Meter rejected;
+	private Meter slow;
+	private ElasticsearchProcessVerticle verticle;
+
+	@Before
+	public void setUp() {
+		MeshOptions options = new MeshOptions();
+		options.getSearchOptions()
+			.setBulkLimit(BULK_LIMIT)
+			.setBulkTargetLatency(200)
+			.setRetryInterval(10)
+			.setRetryLimit(3);
+
+		rejected = new Meter();
+		slow = new Meter();
+		MetricsService metrics = mock(MetricsService.class);
+		when(metrics.meter(any(Metrics.class))).thenReturn(new Meter());
+		when(metrics.meter(SEARCH_BULK_REJECTED)).thenReturn(rejected);
+		when(metrics.meter(SEARCH_BULK_SLOW)).thenReturn(slow);
+		when(metrics.counter(any(Metrics.class))).thenReturn(new Counter());
+		when(metrics.resetableCounter(any(Metrics.class))).thenReturn(new ResettableCounter());
+		when(metrics.timer(any(Metrics.class))).thenReturn(new Timer());
+		when(metrics.histogram(any(Metrics.class))).thenReturn(mock(Histogram.class));
+
+		searchProvider = mock(SearchProvider.class);
+		verticle = new ElasticsearchProcessVerticle(mock(MainEventHandler.class), searchProvider, new IdleChecker(options),
+			mock(SyncEventHandler.class), options, metrics);
+	}
+
+	@Test
+	public void testRejectedBulkIsRetried() {
+		when(searchProvider.processBulk(anyCollection())).thenReturn(Completable.error(rejection()), Completable.complete());
+
+		BulkRequest request = bulk();
+		TestSubscriber<SearchRequest> sub = verticle.sendRequest(request).test();
+		sub.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		sub.assertComplete().assertValue(request);
+
+		verify(searchProvider, times(2)).processBulk(anyCollection());
+		assertEquals(1, rejected.getCount());
+		assertEquals(0, slow.getCount());
+		assertEquals("The limit should be halved after the rejection and grow again after the successful retry",
+			BULK_LIMIT / 2 + BULK_LIMIT / 10, verticle.getBulkLimit().getAsInt());
+	}
+
+	@Test
+	public void testSlowBulkReducesLimit() {
+		when(searchProvider.processBulk(anyCollection())).thenReturn(Completable.timer(300, TimeUnit.MILLISECONDS));
+
+		TestSubscriber<SearchRequest> sub = verticle.sendRequest(bulk()).test();
+		sub.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		sub.assertComplete();
+
+		verify(searchProvider, times(1)).processBulk(anyCollection());
+		assertEquals(0, rejected.getCount());
+		assertEquals(1, slow.getCount());
+		assertEquals(BULK_LIMIT / 2, verticle.getBulkLimit().getAsInt());
+	}
+
+	@Test
+	public void testFastBulkKeepsLimit() {
+		when(searchProvider.processBulk(anyCollection())).thenReturn(Completable.complete());
+
+		TestSubscriber<SearchRequest> sub = verticle.sendRequest(bulk()).test();
+		sub.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		sub.assertComplete();
+
+		assertEquals(0, rejected.getCount());
+		assertEquals(0, slow.getCount());
+		assertEquals(BULK_LIMIT, verticle.getBulkLimit().getAsInt());
+	}
+
+	private BulkRequest bulk() {
+		return new BulkRequest(new DeleteDocumentRequest("index", "mesh-index", "a"));
+	}
+
+	/**
+	 * Create the error of a bulk whose items have been rejected with status 429 by an overloaded Elasticsearch.
+	 *
+	 * @return
+	 */
+	private ElasticsearchBulkResponseError rejection() {
+		JsonObject error = new JsonObject()
+			.put("type", "es_rejected_execution_exception")
+			.put("reason", "rejected execution of bulk");
+		JsonObject item = new JsonObject()
+			.put("delete", new JsonObject().put("status", 429).put("error", error));
+		return new ElasticsearchBulkResponseError(new JsonObject().put("items", new JsonArray().add(item)));
+	}
+}
@@ -0,0 +1,68 @@
+package com.gentics.mesh.search.verticle;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.core.rest.project.ProjectReference;
+
+public class EventCoalescerTest {
+
+	private static MessageEvent event(MeshEvent event, String nodeUuid, String language) {
+		NodeMeshEventModel model = new NodeMeshEventModel();
+		model.setProject(new ProjectReference().setUuid("project"));
+		model.setBranchUuid("branch");
+		model.setType(ContainerType.DRAFT);
+		model.setUuid(nodeUuid);
+		model.setLanguageTag(language);
+		return new MessageEvent(event, model);
+	}
+
+	@Test
+	public void testKeepsLatestEventPerDocument() {
+		MessageEvent first = event(NODE_CONTENT_CREATED, "a", "en");
+		MessageEvent other = event(NODE_UPDATED, "b", "en");
+		MessageEvent otherLanguage = event(NODE_UPDATED, "a", "de");
+		MessageEvent last = event(NODE_UPDATED, "a", "en");
+		List<MessageEvent> dropped = new ArrayList<>();
+
+		List<MessageEvent> result = EventCoalescer.coalesce(Arrays.asList(first, other, otherLanguage, last), dropped::add);
+
+		assertEquals(Arrays.asList(other, otherLanguage, last), result);
+		assertEquals(Arrays.asList(first), dropped);
+	}
+
+	@Test
+	public void testDeleteSupersedesStore() {
+		MessageEvent update = event(NODE_UPDATED, "a", "en");
+		MessageEvent delete = event(NODE_CONTENT_DELETED, "a", "en");
+
+		List<MessageEvent> result = EventCoalescer.coalesce(Arrays.asList(update, delete), ignore -> {
+		});
+
+		assertEquals(Arrays.asList(delete), result);
+	}
+
+	@Test
+	public void testOtherEventsAreBarriers() {
+		MessageEvent before = event(NODE_UPDATED, "a", "en");
+		MessageEvent move = event(NODE_MOVED, "a", "en");
+		MessageEvent after = event(NODE_UPDATED, "a", "en");
+
+		List<MessageEvent> result = EventCoalescer.coalesce(Arrays.asList(before, move, after), ignore -> {
+		});
+
+		assertEquals(Arrays.asList(before, move, after), result);
+	}
+}
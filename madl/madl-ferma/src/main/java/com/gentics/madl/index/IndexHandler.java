@@ -1,6 +1,8 @@
 package com.gentics.madl.index;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import com.gentics.mesh.madl.field.FieldMap;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
@@ -46,6 +48,18 @@ public interface IndexHandler {
 	 */
 	List<Object> edgeLookup(String edgeLabel, String indexPostfix, Object key);
 
+	/**
+	 * Check which of the given keys are contained in the edge index. All keys are resolved within a single index operation which is faster than looking
+	 * up each key separately.
+	 * 
+	 * @param edgeLabel
+	 * @param indexPostfix
+	 * @param keys
+	 *            Keys to be checked. Composed keys need to be created via {@link #createComposedIndexKey(Object...)}
+	 * @return Set of the given keys for which at least one edge was found
+	 */
+	Set<Object> edgeKeyLookup(String edgeLabel, String indexPostfix, Collection<Object> keys);
+
 	/**
 	 * Add edge index for the given fields.
 	 * 
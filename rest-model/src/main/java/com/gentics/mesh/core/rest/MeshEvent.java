@@ -188,6 +188,27 @@ public enum MeshEvent {
 		null,
 		"Event which will clear the permission stores."),
 
+	/**
+	 * Event which is send to remove the cached permissions of an element from the permission stores.
+	 */
+	CLEAR_PERMISSION_STORE_ELEMENT("mesh.clear-permission-store.element",
+		null,
+		"Event which will remove the cached permissions of a single element from the permission stores."),
+
+	/**
+	 * Event which is send to remove the cached roles of users from the permission stores.
+	 */
+	CLEAR_PERMISSION_STORE_USER("mesh.clear-permission-store.user",
+		null,
+		"Event which will remove the cached roles of the given users from the permission stores."),
+
+	/**
+	 * Event which is send to remove the cached roles of all users which are assigned to a role from the permission stores.
+	 */
+	CLEAR_PERMISSION_STORE_ROLE("mesh.clear-permission-store.role",
+		null,
+		"Event which will remove the cached roles of all users which are assigned to the given role from the permission stores."),
+
 	/**
 	 * Event which is send to update the webroot path stores.
 	 */
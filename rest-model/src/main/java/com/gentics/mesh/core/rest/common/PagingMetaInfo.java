@@ -17,13 +17,17 @@ public class PagingMetaInfo {
 	private Long perPage;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of the pages which can be found for the given per page count.")
+	@JsonPropertyDescription("Number of the pages which can be found for the given per page count. The value is -1 if the page was loaded using a cursor.")
 	private long pageCount;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of all elements which could be found.")
+	@JsonPropertyDescription("Number of all elements which could be found. The value is -1 if the page was loaded using a cursor.")
 	private long totalCount;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Cursor which can be used to load the next page via the after parameter. The cursor is only set if a next page exists.")
+	private String nextCursor;
+
 	public PagingMetaInfo() {
 	}
 
@@ -70,9 +74,9 @@ public class PagingMetaInfo {
 	}
 
 	/**
-	 * Return the total page count.
+	 * Return the total page count. The count is -1 if the page was loaded using a cursor since the elements before the cursor are not counted.
 	 * 
-	 * @return Total page count
+	 * @return Total page count or -1
 	 */
 	public long getPageCount() {
 		return pageCount;
@@ -91,9 +95,9 @@ public class PagingMetaInfo {
 	}
 
 	/**
-	 * Return the total element count.
+	 * Return the total element count. The count is -1 if the page was loaded using a cursor since the elements before the cursor are not counted.
 	 * 
-	 * @return Total element count
+	 * @return Total element count or -1
 	 */
 	public long getTotalCount() {
 		return totalCount;
@@ -111,4 +115,24 @@ public class PagingMetaInfo {
 		return this;
 	}
 
+	/**
+	 * Return the cursor of the next page.
+	 * 
+	 * @return Cursor or null if no next page exists
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * Set the cursor of the next page.
+	 * 
+	 * @param nextCursor
+	 * @return Fluent API
+	 */
+	public PagingMetaInfo setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+		return this;
+	}
+
 }
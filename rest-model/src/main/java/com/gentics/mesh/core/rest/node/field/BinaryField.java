@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.rest.node.field;
 
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.gentics.mesh.core.rest.node.field.binary.BinaryMetadata;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
@@ -204,4 +206,19 @@ public interface BinaryField extends Field {
 	 */
 	BinaryField setPlainText(String text);
 
+	/**
+	 * Return the names of the image renditions which have been generated.
+	 *
+	 * @return
+	 */
+	List<String> getRenditions();
+
+	/**
+	 * Set the names of the image renditions which have been generated.
+	 *
+	 * @param renditions
+	 * @return
+	 */
+	BinaryField setRenditions(List<String> renditions);
+
 }
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.rest.node.field.impl;
 
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -60,6 +62,10 @@ public class BinaryFieldImpl implements BinaryField {
 	@JsonPropertyDescription("Plain text content of the upload. This can be the text content of a word or PDF document.")
 	private String plainText;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Names of the configured image renditions which have been generated for the image.")
+	private List<String> renditions;
+
 	@Override
 	public String getBinaryUuid() {
 		return binaryUuid;
@@ -181,6 +187,17 @@ public class BinaryFieldImpl implements BinaryField {
 		return this;
 	}
 
+	@Override
+	public List<String> getRenditions() {
+		return renditions;
+	}
+
+	@Override
+	public BinaryField setRenditions(List<String> renditions) {
+		this.renditions = renditions;
+		return this;
+	}
+
 	@Override
 	@JsonIgnore
 	public boolean hasValues() {
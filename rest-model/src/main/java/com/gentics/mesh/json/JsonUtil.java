@@ -2,8 +2,10 @@ package com.gentics.mesh.json;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 import org.codehaus.jettison.json.JSONObject;
 
@@ -60,6 +62,10 @@ import com.gentics.mesh.json.serializer.FieldListSerializer;
 import com.gentics.mesh.json.serializer.JsonArraySerializer;
 import com.gentics.mesh.json.serializer.JsonObjectSerializer;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -173,6 +179,34 @@ public final class JsonUtil {
 		}
 	}
 
+	/**
+	 * Transform the given object into a JSON buffer. The JSON is written directly into the buffer without creating an intermediate string. The buffer
+	 * is not pooled and thus does not need to be released.
+	 * 
+	 * @param obj
+	 * @param pretty
+	 *            Whether the JSON should be pretty printed. Otherwise the compact representation will be written.
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> Buffer toJsonBuffer(T obj, boolean pretty) throws GenericRestException {
+		ByteBuf buf = Unpooled.buffer();
+		try (OutputStream out = new ByteBufOutputStream(buf)) {
+			if (obj instanceof JSONObject) {
+				out.write(((JSONObject) obj).toString().getBytes(UTF_8));
+			} else if (pretty) {
+				defaultMapper.writerWithDefaultPrettyPrinter().writeValue(out, obj);
+			} else {
+				defaultMapper.writeValue(out, obj);
+			}
+		} catch (IOException e) {
+			// TODO i18n
+			String message = "Could not generate json from object";
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, message, e);
+		}
+		return Buffer.buffer(buf);
+	}
+
 	/**
 	 * Transform the given JSON content back into a POJO.
 	 * 
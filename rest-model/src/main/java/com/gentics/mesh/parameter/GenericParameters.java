@@ -15,6 +15,11 @@ public interface GenericParameters extends ParameterProvider {
 	 */
 	public static final String ETAG_PARAM_KEY = "etag";
 
+	/**
+	 * Query parameter key: {@value #PRETTY_PARAM_KEY}
+	 */
+	public static final String PRETTY_PARAM_KEY = "pretty";
+
 	/**
 	 * Return the fields which should be included in the response.
 	 * 
@@ -63,4 +68,23 @@ public interface GenericParameters extends ParameterProvider {
 		setParameter(ETAG_PARAM_KEY, String.valueOf(includeEtag));
 		return this;
 	}
+
+	/**
+	 * Return whether the JSON response should be pretty printed. Responses are compact by default.
+	 * 
+	 * @return
+	 */
+	default boolean getPretty() {
+		return Boolean.valueOf(getParameter(PRETTY_PARAM_KEY));
+	}
+
+	/**
+	 * Set the pretty print flag.
+	 * 
+	 * @param pretty
+	 */
+	default GenericParameters setPretty(boolean pretty) {
+		setParameter(PRETTY_PARAM_KEY, String.valueOf(pretty));
+		return this;
+	}
 }
@@ -9,6 +9,7 @@ public interface PagingParameters extends ParameterProvider {
 	public static final String PER_PAGE_PARAMETER_KEY = "perPage";
 	public static final String SORT_BY_PARAMETER_KEY = "sortBy";
 	public static final String SORT_ORDER_PARAMETER_KEY = "order";
+	public static final String AFTER_PARAMETER_KEY = "after";
 
 	public static final int DEFAULT_PAGE = 1;
 
@@ -56,6 +57,29 @@ public interface PagingParameters extends ParameterProvider {
 		return this;
 	}
 
+	/**
+	 * Return the cursor after which the page should start. The cursor is taken from the <code>nextCursor</code> of the previous page.
+	 * 
+	 * @return Cursor or null if the page number should be used
+	 */
+	default String getAfter() {
+		return getParameter(AFTER_PARAMETER_KEY);
+	}
+
+	/**
+	 * Set the cursor after which the page should start. The page number will be ignored when a cursor is set.
+	 * 
+	 * @param after
+	 *            Cursor of the previous page
+	 * @return Fluent API
+	 */
+	default PagingParameters setAfter(String after) {
+		if (after != null) {
+			setParameter(AFTER_PARAMETER_KEY, after);
+		}
+		return this;
+	}
+
 	/**
 	 * Return the sort by parameter value.
 	 * 
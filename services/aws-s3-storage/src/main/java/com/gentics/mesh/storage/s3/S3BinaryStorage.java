@@ -6,16 +6,21 @@ import java.net.URI;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.storage.AbstractBinaryStorage;
 import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
+import io.reactivex.Single;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
@@ -127,51 +132,125 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 	}
 
 	@Override
-	public Flowable<Buffer> read(String hashsum) {
-		return Flowable.generate(sub -> {
-			if (log.isDebugEnabled()) {
-				log.debug("Loading data for hash {" + hashsum + "}");
-			}
-			// GetObjectRequest rangeObjectRequest = new GetObjectRequest(options.getBucketName(), hashsum);
-			GetObjectRequest request = GetObjectRequest.builder().bucket(options.getBucketName()).build();
-			client.getObject(request, new AsyncResponseTransformer<GetObjectResponse, String>() {
-
-				@Override
-				public CompletableFuture<String> prepare() {
-					// TODO Auto-generated method stub
-					return null;
-				}
+	public Flowable<Buffer> read(String uuid) {
+		if (log.isDebugEnabled()) {
+			log.debug("Loading data for binary {" + uuid + "}");
+		}
+		GetObjectRequest request = GetObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(uuid)
+			.build();
+		return getObject(request);
+	}
 
-				@Override
-				public void onResponse(GetObjectResponse response) {
-					// TODO Auto-generated method stub
+	@Override
+	public Flowable<Buffer> read(String uuid, long start, long end) {
+		if (log.isDebugEnabled()) {
+			log.debug("Loading bytes {" + start + "-" + end + "} of binary {" + uuid + "}");
+		}
+		// Only the requested range will be transferred from S3
+		GetObjectRequest request = GetObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(uuid)
+			.range("bytes=" + start + "-" + end)
+			.build();
+		return getObject(request);
+	}
 
+	/**
+	 * Execute the request and return the object data. The data is requested from the response publisher of the client on demand, so the download
+	 * follows the speed of the subscriber. The request is aborted if the subscriber cancels before the response has been received.
+	 * 
+	 * @param request
+	 * @return
+	 */
+	private Flowable<Buffer> getObject(GetObjectRequest request) {
+		return Single.<SdkPublisher<ByteBuffer>>create(sub -> {
+			// Either the subscriber receives the publisher or the response is discarded, but not both
+			AtomicBoolean handedOver = new AtomicBoolean(false);
+			CompletableFuture<SdkPublisher<ByteBuffer>> response = client.getObject(request, new PublisherResponseTransformer());
+			response.whenComplete((publisher, error) -> {
+				if (error != null) {
+					sub.tryOnError(error);
+				} else if (handedOver.compareAndSet(false, true)) {
+					sub.onSuccess(publisher);
+				} else {
+					// The subscriber has already gone away. The body must be cancelled to release the connection.
+					discard(publisher);
 				}
-
-				@Override
-				public void onStream(SdkPublisher<ByteBuffer> publisher) {
-					// TODO Auto-generated method stub
-
+			});
+			sub.setCancellable(() -> {
+				if (handedOver.compareAndSet(false, true)) {
+					response.cancel(false);
 				}
+			});
+		}).flatMapPublisher(publisher -> Flowable.fromPublisher(publisher).map(S3BinaryStorage::toBuffer));
+	}
+
+	/**
+	 * Cancel the response body which will not be consumed.
+	 * 
+	 * @param publisher
+	 */
+	private static void discard(SdkPublisher<ByteBuffer> publisher) {
+		publisher.subscribe(new Subscriber<ByteBuffer>() {
+			@Override
+			public void onSubscribe(Subscription subscription) {
+				subscription.cancel();
+			}
 
-				@Override
-				public void exceptionOccurred(Throwable error) {
-					// TODO Auto-generated method stub
+			@Override
+			public void onNext(ByteBuffer byteBuffer) {
+			}
 
+			@Override
+			public void onError(Throwable error) {
+				if (log.isDebugEnabled()) {
+					log.debug("Error while discarding the response body", error);
 				}
-			});
+			}
 
-			// try (InputStream stream = objectPortion.getObjectContent()) {
-			//
-			// if (log.isDebugEnabled()) {
-			// log.debug("Printing bytes retrieved:");
-			// displayTextInputStream(stream);
-			// }
-			// }
-			// sub.onComplete();
+			@Override
+			public void onComplete() {
+			}
 		});
 	}
 
+	private static Buffer toBuffer(ByteBuffer byteBuffer) {
+		byte[] bytes = new byte[byteBuffer.remaining()];
+		byteBuffer.get(bytes);
+		return Buffer.buffer(bytes);
+	}
+
+	/**
+	 * Transformer which hands out the publisher of the response body instead of consuming it.
+	 */
+	private static class PublisherResponseTransformer implements AsyncResponseTransformer<GetObjectResponse, SdkPublisher<ByteBuffer>> {
+
+		private volatile CompletableFuture<SdkPublisher<ByteBuffer>> future;
+
+		@Override
+		public CompletableFuture<SdkPublisher<ByteBuffer>> prepare() {
+			// The transformer is prepared again when the request gets retried
+			future = new CompletableFuture<>();
+			return future;
+		}
+
+		@Override
+		public void onResponse(GetObjectResponse response) {
+		}
+
+		@Override
+		public void onStream(SdkPublisher<ByteBuffer> publisher) {
+			future.complete(publisher);
+		}
+
+		@Override
+		public void exceptionOccurred(Throwable error) {
+			future.completeExceptionally(error);
+		}
+	}
+
 	@Override
 	public Completable storeInTemp(String sourceFilePath, String temporaryId) {
 		return fs.rxOpen(sourceFilePath, new OpenOptions()).flatMapCompletable(asyncFile -> {
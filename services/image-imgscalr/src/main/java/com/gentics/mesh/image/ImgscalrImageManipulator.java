@@ -1,19 +1,34 @@
 package com.gentics.mesh.image;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_COALESCED;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_PENDING;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_REJECTED;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_TIME;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.time.Duration;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
 import javax.imageio.ImageWriteParam;
 import javax.imageio.ImageWriter;
@@ -31,12 +46,16 @@ import org.apache.tika.sax.BodyContentHandler;
 import org.imgscalr.Scalr;
 import org.imgscalr.Scalr.Mode;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.image.spi.AbstractImageManipulator;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.graphdb.spi.Supplier;
 import com.gentics.mesh.image.focalpoint.FocalPointModifier;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ImageRect;
@@ -48,10 +67,11 @@ import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.Context;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.RxHelper;
 import io.vertx.reactivex.core.Vertx;
-import io.vertx.reactivex.core.WorkerExecutor;
 
 /**
  * The ImgScalr Manipulator uses a pure java imageio image resizer.
@@ -60,19 +80,58 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 	private static final Logger log = LoggerFactory.getLogger(ImgscalrImageManipulator.class);
 
+	/**
+	 * Subsampled source images are decoded with this multiple of the target size to retain the quality of the resample filter, unless the decode memory
+	 * limit only allows to decode the target size.
+	 */
+	private static final int SUBSAMPLING_MARGIN = 2;
+
+	/**
+	 * Estimated amount of memory per decoded pixel.
+	 */
+	private static final int BYTES_PER_PIXEL = 4;
+
 	private FocalPointModifier focalPointModifier;
 
-	private WorkerExecutor workerPool;
+	private final ThreadPoolExecutor resizeExecutor;
+
+	/**
+	 * Resize operations which are currently running or waiting for a thread. The key identifies the image variant.
+	 */
+	private final Map<String, Single<String>> runningResizes = new ConcurrentHashMap<>();
+
+	private final Timer resizeTimer;
+
+	private final Counter pendingResizes;
+
+	private final Meter coalescedResizes;
+
+	private final Meter rejectedResizes;
 
-	public ImgscalrImageManipulator() {
-		this(new Vertx(Mesh.vertx()), Mesh.mesh().getOptions().getImageOptions());
+	public ImgscalrImageManipulator(MetricsService metrics) {
+		this(new Vertx(Mesh.vertx()), Mesh.mesh().getOptions().getImageOptions(), metrics);
 	}
 
-	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
-		super(vertx, options);
+	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
+		super(vertx, options, metrics);
 		focalPointModifier = new FocalPointModifier(options);
-		// 10 seconds
-		workerPool = vertx.createSharedWorkerExecutor("resizeWorker", 5, Duration.ofSeconds(10).toNanos());
+		resizeTimer = metrics.timer(IMAGE_RESIZE_TIME);
+		pendingResizes = metrics.counter(IMAGE_RESIZE_PENDING);
+		coalescedResizes = metrics.meter(IMAGE_RESIZE_COALESCED);
+		rejectedResizes = metrics.meter(IMAGE_RESIZE_REJECTED);
+
+		// Resizing is CPU and memory intensive for larger images. A dedicated pool with a bounded queue ensures that the load can't exhaust the
+		// regular worker pool or the heap.
+		int workers = options.getResizeWorkers();
+		int queueLimit = options.getResizeQueueLimit();
+		BlockingQueue<Runnable> queue = queueLimit > 0 ? new ArrayBlockingQueue<>(queueLimit) : new SynchronousQueue<>();
+		AtomicInteger threadCount = new AtomicInteger();
+		resizeExecutor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS, queue, r -> {
+			Thread thread = new Thread(r, "mesh-image-resize-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		resizeExecutor.allowCoreThreadTimeOut(true);
 	}
 
 	/**
@@ -105,8 +164,23 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 	 * @return Resized image or original image if no resize operation was requested
 	 */
 	protected BufferedImage resizeIfRequested(BufferedImage originalImage, ImageManipulationParameters parameters) {
-		int originalHeight = originalImage.getHeight();
-		int originalWidth = originalImage.getWidth();
+		return resizeIfRequested(originalImage, parameters, originalImage.getWidth(), originalImage.getHeight());
+	}
+
+	/**
+	 * Resize the image if the request contains resize parameters. The given source size is used to calculate the missing target dimension, since
+	 * the image may have been decoded with a reduced resolution.
+	 *
+	 * @param originalImage
+	 * @param parameters
+	 * @param originalWidth
+	 *            Width of the source image in full resolution
+	 * @param originalHeight
+	 *            Height of the source image in full resolution
+	 * @return Resized image or original image if no resize operation was requested
+	 */
+	private BufferedImage resizeIfRequested(BufferedImage originalImage, ImageManipulationParameters parameters, int originalWidth,
+		int originalHeight) {
 		double aspectRatio = (double) originalWidth / (double) originalHeight;
 
 		// Resize if required and calculate missing parameters if needed
@@ -217,20 +291,116 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		return writer;
 	}
 
+	/**
+	 * Create the read parameters for the source image. Only the crop area of the image will be decoded. Sources which would exceed the decode
+	 * memory limit in full resolution are subsampled when the target size is smaller, so that thumbnails of huge images don't require the full
+	 * resolution in memory. Requests which would still exceed the limit are rejected.
+	 *
+	 * @param reader
+	 * @param parameters
+	 * @return
+	 * @throws IOException
+	 */
+	private SourceDecode createSourceDecode(ImageReader reader, ImageManipulationParameters parameters) throws IOException {
+		int width = reader.getWidth(0);
+		int height = reader.getHeight(0);
+		ImageReadParam param = reader.getDefaultReadParam();
+
+		ImageRect rect = parameters.getRect();
+		if (parameters.getCropMode() == CropMode.RECT && rect != null) {
+			rect.validateCropBounds(width, height);
+			param.setSourceRegion(new Rectangle(rect.getStartX(), rect.getStartY(), rect.getWidth(), rect.getHeight()));
+			width = rect.getWidth();
+			height = rect.getHeight();
+		}
+
+		// Images which fit into the limit are decoded in full resolution to retain the best quality
+		int subsampling = 1;
+		long limit = options.getDecodeMemoryLimit();
+		if (limit > 0 && decodeMemory(width, height, 1) > limit) {
+			subsampling = calculateSubsampling(width, height, parameters, SUBSAMPLING_MARGIN);
+			if (decodeMemory(width, height, subsampling) > limit) {
+				// Rather reduce the quality of the resample filter than rejecting the request. The source still provides the target size.
+				subsampling = calculateSubsampling(width, height, parameters, 1);
+			}
+			if (decodeMemory(width, height, subsampling) > limit) {
+				throw error(BAD_REQUEST, "image_error_decode_memory_exceeded", String.valueOf(subsampledSize(width, subsampling)),
+					String.valueOf(subsampledSize(height, subsampling)), String.valueOf(limit));
+			}
+			param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Decoding {" + width + "x" + height + "} source pixels with subsampling {" + subsampling + "}");
+		}
+		return new SourceDecode(param, width, height);
+	}
+
+	/**
+	 * Return the estimated amount of memory which is needed to decode the area with the given subsampling factor.
+	 *
+	 * @param width
+	 * @param height
+	 * @param subsampling
+	 * @return Memory in bytes
+	 */
+	private long decodeMemory(int width, int height, int subsampling) {
+		return subsampledSize(width, subsampling) * subsampledSize(height, subsampling) * BYTES_PER_PIXEL;
+	}
+
+	private long subsampledSize(int size, int subsampling) {
+		return ((long) size + subsampling - 1) / subsampling;
+	}
+
+	/**
+	 * Calculate the largest subsampling factor which still decodes the source with the given multiple of the target size.
+	 *
+	 * @param width
+	 *            Width of the decoded area in full resolution
+	 * @param height
+	 *            Height of the decoded area in full resolution
+	 * @param parameters
+	 * @param margin
+	 *            Multiple of the target size which the decoded source must at least provide
+	 * @return Subsampling factor or 1 if the source must be decoded in full resolution
+	 */
+	private int calculateSubsampling(int width, int height, ImageManipulationParameters parameters, int margin) {
+		Integer pWidth = parameters.getWidth();
+		Integer pHeight = parameters.getHeight();
+		if (pWidth == null && pHeight == null) {
+			return 1;
+		}
+		if (parameters.getCropMode() == CropMode.FOCALPOINT) {
+			// The focal point modifier only resizes when a focal point and the full target size is given
+			if (parameters.getFocalPoint() == null || pWidth == null || pHeight == null) {
+				return 1;
+			}
+			// The zoom area is measured in pixels of the source image
+			Float zoom = parameters.getFocalPointZoom();
+			if (zoom != null && zoom > 1) {
+				return 1;
+			}
+		}
+		double targetWidth = pWidth != null ? pWidth : (double) pHeight * width / height;
+		double targetHeight = pHeight != null ? pHeight : (double) pWidth * height / width;
+		double factor = Math.min(width / targetWidth, height / targetHeight) / margin;
+		return Math.max(1, (int) factor);
+	}
+
 	/**
 	 * Resize the given image with the specified manipulation parameters.
 	 *
 	 * @param image The image to process
 	 * @param parameters The parameters defining cropping and resizing requests
+	 * @param decode The parameters which were used to decode the image
 	 * @return The modified image
 	 */
-	private BufferedImage cropAndResize(BufferedImage image, ImageManipulationParameters parameters) {
+	private BufferedImage cropAndResize(BufferedImage image, ImageManipulationParameters parameters, SourceDecode decode) {
 		CropMode cropMode = parameters.getCropMode();
 		boolean omitResize = false;
 		if (cropMode != null) {
 			switch (cropMode) {
 				case RECT:
-					image = crop(image, parameters.getRect());
+					// Only the crop area has been decoded
 					break;
 				case FOCALPOINT:
 					image = focalPointModifier.apply(image, parameters);
@@ -241,7 +411,7 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		}
 
 		if (!omitResize) {
-			image = resizeIfRequested(image, parameters);
+			image = resizeIfRequested(image, parameters, decode.width, decode.height);
 		}
 
 		return image;
@@ -254,62 +424,148 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		parameters.validateLimits(options);
 
 		Supplier<InputStream> stream = binary.openBlockingStream();
+		String sha512sum = binary.getSHA512Sum();
+		return getOrResize(stream, sha512sum, parameters);
+	}
 
-		return getCacheFilePath(binary.getSHA512Sum(), parameters)
+	/**
+	 * Return the cached variant or resize the image. The returned variant is in use until it is released.
+	 * 
+	 * @param stream
+	 * @param sha512sum
+	 * @param parameters
+	 * @return Path of the variant file
+	 */
+	private Single<String> getOrResize(Supplier<InputStream> stream, String sha512sum, ImageManipulationParameters parameters) {
+		return getCacheFilePath(sha512sum, parameters)
 			.flatMap(cacheFileInfo -> {
 				if (cacheFileInfo.exists) {
 					return Single.just(cacheFileInfo.path);
 				} else {
-					// TODO handle execution timeout
-					// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the regular worker
-					// pool
-					return workerPool.<String>rxExecuteBlocking(bh -> {
-						try (
-							InputStream is = stream.get();
-							ImageInputStream ins = ImageIO.createImageInputStream(is)
-						) {
-							BufferedImage image;
-							ImageReader reader = getImageReader(ins);
-
-							try {
-								image = reader.read(0);
-							} catch (IOException e) {
-								log.error("Could not read input image", e);
-
-								throw error(BAD_REQUEST, "image_error_reading_failed");
-							}
-
-							if (log.isDebugEnabled()) {
-								log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
-							}
-
-							image = cropAndResize(image, parameters);
-
-							String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
-							String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
-							String cacheFilePath = cacheFileInfo.path + "." + extension;
-							File outCacheFile = new File(cacheFilePath);
-
-							// Write image
-							try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
-								ImageWriteParam params = getImageWriteparams(extension);
-
-								// same as write(image), but with image parameters
-								getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
-							} catch (Exception e) {
-								throw error(BAD_REQUEST, "image_error_writing_failed");
-							}
-
-							// Return buffer to written cache file
-							bh.complete(cacheFilePath);
-						} catch (Exception e) {
-							bh.fail(e);
-						}
-					}).toSingle();
+					// Concurrent requests for the same variant share a single resize operation
+					String key = sha512sum + "/" + parameters.getCacheKey();
+					Context context = vertx.getDelegate().getOrCreateContext();
+					return resizeOnce(key, () -> resize(stream, cacheFileInfo.path, parameters))
+						// The variant may have been evicted by other resize operations before it could be used
+						.flatMap(path -> cache.retain(path) ? Single.just(path) : getOrResize(stream, sha512sum, parameters))
+						.observeOn(RxHelper.scheduler(context));
 				}
 			});
 	}
 
+	/**
+	 * Return the running resize operation for the given key or start a new one.
+	 * 
+	 * @param key
+	 *            Key of the image variant
+	 * @param resize
+	 *            Resize operation which returns the path of the written file
+	 * @return
+	 */
+	private Single<String> resizeOnce(String key, Callable<String> resize) {
+		Single<String> operation = executeResize(resize)
+			.doFinally(() -> runningResizes.remove(key))
+			.cache();
+		Single<String> running = runningResizes.putIfAbsent(key, operation);
+		if (running != null) {
+			coalescedResizes.mark();
+			return running;
+		}
+		return operation;
+	}
+
+	/**
+	 * Return the amount of resize operations which are running or waiting for a thread.
+	 * 
+	 * @return
+	 */
+	int getRunningResizeCount() {
+		return runningResizes.size();
+	}
+
+	/**
+	 * Run the resize operation in the resize thread pool. The operation will fail with a 503 error if the queue of the pool is full.
+	 * 
+	 * @param resize
+	 * @return
+	 */
+	private Single<String> executeResize(Callable<String> resize) {
+		return Single.create(sub -> {
+			pendingResizes.inc();
+			try {
+				resizeExecutor.execute(() -> {
+					Timer.Context timer = resizeTimer.time();
+					try {
+						sub.onSuccess(resize.call());
+					} catch (Throwable e) {
+						sub.tryOnError(e);
+					} finally {
+						timer.stop();
+						pendingResizes.dec();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				pendingResizes.dec();
+				rejectedResizes.mark();
+				sub.onError(error(SERVICE_UNAVAILABLE, "image_error_resize_queue_full"));
+			}
+		});
+	}
+
+	/**
+	 * Read, crop and resize the image and write it to the cache.
+	 * 
+	 * @param stream
+	 * @param cacheFileBasePath
+	 *            Path of the cache file without extension
+	 * @param parameters
+	 * @return Path of the written cache file
+	 * @throws Exception
+	 */
+	private String resize(Supplier<InputStream> stream, String cacheFileBasePath, ImageManipulationParameters parameters) throws Exception {
+		try (
+			InputStream is = stream.get();
+			ImageInputStream ins = ImageIO.createImageInputStream(is)
+		) {
+			BufferedImage image;
+			ImageReader reader = getImageReader(ins);
+			SourceDecode decode;
+
+			try {
+				decode = createSourceDecode(reader, parameters);
+				image = reader.read(0, decode.param);
+			} catch (IOException e) {
+				log.error("Could not read input image", e);
+
+				throw error(BAD_REQUEST, "image_error_reading_failed");
+			}
+
+			if (log.isDebugEnabled()) {
+				log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
+			}
+
+			image = cropAndResize(image, parameters, decode);
+
+			String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
+			String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
+			String cacheFilePath = cacheFileBasePath + "." + extension;
+			File outCacheFile = new File(cacheFilePath);
+
+			// Write image
+			try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
+				ImageWriteParam params = getImageWriteparams(extension);
+
+				// same as write(image), but with image parameters
+				getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
+			} catch (Exception e) {
+				throw error(BAD_REQUEST, "image_error_writing_failed");
+			}
+			cache.put(cacheFileBasePath, cacheFilePath, outCacheFile.length());
+
+			return cacheFilePath;
+		}
+	}
+
 	private ImageWriteParam getImageWriteparams(String extension) {
 		if (isJpeg(extension)) {
 			JPEGImageWriteParam params = new JPEGImageWriteParam(null);
@@ -359,4 +615,22 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		});
 	}
 
+	/**
+	 * Read parameters of a source image together with the full resolution size of the decoded area.
+	 */
+	private static class SourceDecode {
+
+		private final ImageReadParam param;
+
+		private final int width;
+
+		private final int height;
+
+		SourceDecode(ImageReadParam param, int width, int height) {
+			this.param = param;
+			this.width = width;
+			this.height = height;
+		}
+	}
+
 }
@@ -1,9 +1,14 @@
 package com.gentics.mesh.image;
 
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
 import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.metric.MetricsService;
 
 public final class ImageTestUtil {
 	private ImageTestUtil() {
@@ -15,4 +20,12 @@ public final class ImageTestUtil {
 		when(mock.getSHA512Sum()).thenReturn(filePath);
 		return mock;
 	}
+
+	public static MetricsService mockMetrics() {
+		MetricsService metrics = mock(MetricsService.class);
+		when(metrics.timer(any())).thenReturn(new Timer());
+		when(metrics.counter(any())).thenReturn(new Counter());
+		when(metrics.meter(any())).thenReturn(new Meter());
+		return metrics;
+	}
 }
@@ -2,10 +2,18 @@ package com.gentics.mesh.image;
 
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
 import static com.gentics.mesh.image.ImageTestUtil.createMockedBinary;
+import static com.gentics.mesh.image.ImageTestUtil.mockMetrics;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_COALESCED;
+import static com.gentics.mesh.metric.Metrics.IMAGE_RESIZE_REJECTED;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
@@ -18,6 +26,7 @@ import java.nio.file.Paths;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.imageio.ImageIO;
 
@@ -31,9 +40,12 @@ import org.junit.Before;
 import org.junit.Test;
 import org.xml.sax.SAXException;
 
+import com.codahale.metrics.Meter;
+import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.image.spi.ImageInfo;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 import com.gentics.mesh.util.PropReadFileStream;
 import com.gentics.mesh.util.RxUtil;
@@ -58,7 +70,7 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 		ImageManipulatorOptions options = new ImageManipulatorOptions();
 
 		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
-		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options);
+		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, mockMetrics());
 	}
 
 	@Test
@@ -94,6 +106,152 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 
 	}
 
+	@Test
+	public void testConcurrentResizeIsCoalesced() throws Exception {
+		MetricsService metrics = mockMetrics();
+		Meter coalesced = mock(Meter.class);
+		when(metrics.meter(IMAGE_RESIZE_COALESCED)).thenReturn(coalesced);
+		ImageManipulatorOptions options = new ImageManipulatorOptions().setImageCacheDirectory(cacheDir.getAbsolutePath());
+		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, metrics);
+
+		// Block the resize until the second request has joined it
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger reads = new AtomicInteger();
+		Binary binary = mock(Binary.class);
+		when(binary.getSHA512Sum()).thenReturn("coalesced");
+		when(binary.openBlockingStream()).thenReturn(() -> {
+			reads.incrementAndGet();
+			release.await(10, TimeUnit.SECONDS);
+			return getClass().getResourceAsStream("/pictures/blume.jpg");
+		});
+
+		ImageManipulationParametersImpl parameters = new ImageManipulationParametersImpl().setWidth(50);
+		Single<String> first = manipulator.handleResize(binary, parameters).cache();
+		first.subscribe();
+		Single<String> second = manipulator.handleResize(binary, parameters).cache();
+		second.subscribe();
+
+		verify(coalesced, timeout(10_000)).mark();
+		release.countDown();
+		assertEquals(first.blockingGet(), second.blockingGet());
+		assertEquals(1, reads.get());
+	}
+
+	@Test
+	public void testResizeQueueFull() throws Exception {
+		MetricsService metrics = mockMetrics();
+		Meter rejected = mock(Meter.class);
+		when(metrics.meter(IMAGE_RESIZE_REJECTED)).thenReturn(rejected);
+		ImageManipulatorOptions options = new ImageManipulatorOptions().setImageCacheDirectory(cacheDir.getAbsolutePath())
+			.setResizeWorkers(1)
+			.setResizeQueueLimit(1);
+		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, metrics);
+
+		// The first resize occupies the only worker and the second one fills the queue
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Binary blocking = mock(Binary.class);
+		when(blocking.getSHA512Sum()).thenReturn("blocking");
+		when(blocking.openBlockingStream()).thenReturn(() -> {
+			started.countDown();
+			release.await(10, TimeUnit.SECONDS);
+			return getClass().getResourceAsStream("/pictures/blume.jpg");
+		});
+		Single<String> running = manipulator.handleResize(blocking, new ImageManipulationParametersImpl().setWidth(50)).cache();
+		running.subscribe();
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		Single<String> queued = manipulator.handleResize(createMockedBinary("/pictures/blume.jpg"), new ImageManipulationParametersImpl().setWidth(60))
+			.cache();
+		queued.subscribe();
+
+		try {
+			manipulator.handleResize(createMockedBinary("/pictures/blume.jpg"), new ImageManipulationParametersImpl().setWidth(70)).blockingGet();
+			fail("The resize should have been rejected");
+		} catch (GenericRestException e) {
+			assertEquals(SERVICE_UNAVAILABLE, e.getStatus());
+			assertEquals("image_error_resize_queue_full", e.getI18nKey());
+		}
+		verify(rejected).mark();
+		awaitRunningResizes(manipulator, 2);
+
+		release.countDown();
+		assertNotNull(running.blockingGet());
+		assertNotNull(queued.blockingGet());
+		awaitRunningResizes(manipulator, 0);
+	}
+
+	@Test
+	public void testFailedResizeIsRemoved() throws Exception {
+		Binary binary = mock(Binary.class);
+		when(binary.getSHA512Sum()).thenReturn("failing");
+		when(binary.openBlockingStream()).thenReturn(() -> {
+			throw new IOException("Reading failed");
+		});
+
+		try {
+			manipulator.handleResize(binary, new ImageManipulationParametersImpl().setWidth(50)).blockingGet();
+			fail("The resize should have failed");
+		} catch (Exception e) {
+			// Expected
+		}
+		awaitRunningResizes(manipulator, 0);
+	}
+
+	private void awaitRunningResizes(ImgscalrImageManipulator manipulator, int expected) throws InterruptedException {
+		for (int i = 0; i < 50 && manipulator.getRunningResizeCount() != expected; i++) {
+			Thread.sleep(20);
+		}
+		assertEquals("Unexpected amount of running resize operations", expected, manipulator.getRunningResizeCount());
+	}
+
+	@Test
+	public void testSubsampledDecode() throws Exception {
+		// The source needs about 6 MB in full resolution
+		ImageManipulatorOptions options = new ImageManipulatorOptions().setImageCacheDirectory(cacheDir.getAbsolutePath())
+			.setDecodeMemoryLimit(1024 * 1024);
+		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, mockMetrics());
+
+		String path = manipulator.handleResize(createMockedBinary("/pictures/blume.jpg"), new ImageManipulationParametersImpl().setWidth(100))
+			.blockingGet();
+		BufferedImage resizedImage = ImageIO.read(new File(path));
+		assertEquals(100, resizedImage.getWidth());
+	}
+
+	@Test
+	public void testSubsampledDecodeWithoutMargin() throws Exception {
+		ImageManipulatorOptions options = new ImageManipulatorOptions().setImageCacheDirectory(cacheDir.getAbsolutePath())
+			.setDecodeMemoryLimit(1024 * 1024);
+		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, mockMetrics());
+
+		// Twice the target size would exceed the limit. The source is decoded with the target size instead.
+		String path = manipulator.handleResize(createMockedBinary("/pictures/blume.jpg"), new ImageManipulationParametersImpl().setWidth(300))
+			.blockingGet();
+		BufferedImage resizedImage = ImageIO.read(new File(path));
+		assertEquals(300, resizedImage.getWidth());
+	}
+
+	@Test(expected = GenericRestException.class)
+	public void testDecodeMemoryLimitExceeded() throws Exception {
+		ImageManipulatorOptions options = new ImageManipulatorOptions().setImageCacheDirectory(cacheDir.getAbsolutePath())
+			.setDecodeMemoryLimit(1024 * 1024);
+		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, mockMetrics());
+
+		// The target size does not allow to reduce the resolution
+		manipulator.handleResize(createMockedBinary("/pictures/blume.jpg"), new ImageManipulationParametersImpl().setWidth(1000))
+			.blockingGet();
+	}
+
+	@Test
+	public void testDecodeMemoryLimitDisabledByDefault() throws Exception {
+		ImageManipulatorOptions options = new ImageManipulatorOptions().setImageCacheDirectory(cacheDir.getAbsolutePath());
+		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, mockMetrics());
+
+		String path = manipulator.handleResize(createMockedBinary("/pictures/blume.jpg"), new ImageManipulationParametersImpl().setWidth(1000))
+			.blockingGet();
+		BufferedImage resizedImage = ImageIO.read(new File(path));
+		assertEquals(1000, resizedImage.getWidth());
+	}
+
 	@Test
 	public void testExtractImageInfo() throws IOException, JSONException {
 		checkImages((imageName, width, height, color, refImage, origPath, stream) -> {
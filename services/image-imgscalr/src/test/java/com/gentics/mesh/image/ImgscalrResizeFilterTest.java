@@ -1,5 +1,7 @@
 package com.gentics.mesh.image;
 
+import static com.gentics.mesh.image.ImageTestUtil.mockMetrics;
+
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.ResampleFilter;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
@@ -36,7 +38,7 @@ public class ImgscalrResizeFilterTest extends AbstractImageTest {
 		options.setResampleFilter(filter);
 
 		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
-		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options);
+		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, mockMetrics());
 	}
 
 	@Parameterized.Parameters(name = "filter={0}")
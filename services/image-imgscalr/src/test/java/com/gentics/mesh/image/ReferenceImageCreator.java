@@ -1,6 +1,7 @@
 package com.gentics.mesh.image;
 
 import static com.gentics.mesh.image.ImageTestUtil.createMockedBinary;
+import static com.gentics.mesh.image.ImageTestUtil.mockMetrics;
 import static com.gentics.mesh.image.ImgscalrImageManipulatorTest.getReferenceFilename;
 
 import java.io.File;
@@ -29,7 +30,7 @@ public class ReferenceImageCreator {
 		ImageManipulatorOptions options = new ImageManipulatorOptions();
 		String tmpDir = new File("target", "tmp_" + System.currentTimeMillis()).getAbsolutePath();
 		options.setImageCacheDirectory(tmpDir);
-		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(vertx, options);
+		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(vertx, options, mockMetrics());
 
 		readImageConfig().blockingForEach(image -> {
 			String imageName = image.getString("name");
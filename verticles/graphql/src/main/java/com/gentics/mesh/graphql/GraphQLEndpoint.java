@@ -42,11 +42,11 @@ public class GraphQLEndpoint extends AbstractProjectEndpoint {
 		queryEndpoint.exampleResponse(OK, graphqlExamples.createResponse(), "Basic GraphQL response.");
 		queryEndpoint.description("Endpoint which accepts GraphQL queries.");
 		queryEndpoint.path("/");
-		queryEndpoint.blockingHandler(rc -> {
+		queryEndpoint.handler(rc -> {
 			GraphQLContext gc = new GraphQLContextImpl(rc);
 			String body = gc.getBodyAsString();
 			queryHandler.handleQuery(gc, body);
-		}, false);
+		});
 
 		StaticHandler staticHandler = StaticHandler.create("graphiql");
 		staticHandler.setDirectoryListing(false);
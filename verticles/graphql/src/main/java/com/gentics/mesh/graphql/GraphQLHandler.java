@@ -1,27 +1,51 @@
 package com.gentics.mesh.graphql;
 
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_QUERY_COMPLEXITY;
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_QUERY_DEPTH;
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_QUERY_REJECTED;
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_QUERY_TIME;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static graphql.GraphQL.newGraphQL;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.codahale.metrics.Timer;
 import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.rest.error.AbstractUnavailableException;
+import com.gentics.mesh.etc.config.GraphQLOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLQueryStore;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaStore;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.instrumentation.QueryCostInstrumentation;
 import com.gentics.mesh.graphql.type.QueryTypeProvider;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.metric.MetricsService;
+
 import graphql.ExceptionWhileDataFetching;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
 import graphql.language.SourceLocation;
+import graphql.schema.GraphQLSchema;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -32,6 +56,8 @@ public class GraphQLHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GraphQLHandler.class);
 
+	public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+
 	@Inject
 	public QueryTypeProvider typeProvider;
 
@@ -39,11 +65,29 @@ public class GraphQLHandler {
 	public Database db;
 
 	@Inject
-	public GraphQLHandler() {
+	public GraphQLSchemaStore schemaStore;
+
+	@Inject
+	public GraphQLQueryStore queryStore;
+
+	private final GraphQLOptions options;
+
+	private final MetricsService metrics;
+
+	private final Timer queryTimer;
+
+	private WorkerExecutor workerPool;
+
+	@Inject
+	public GraphQLHandler(MeshOptions options, MetricsService metrics) {
+		this.options = options.getGraphQLOptions();
+		this.metrics = metrics;
+		this.queryTimer = metrics.timer(GRAPHQL_QUERY_TIME);
 	}
 
 	/**
-	 * Handle the GraphQL query.
+	 * Handle the GraphQL query. The query will be executed by the dedicated GraphQL worker pool in order to keep slow queries from blocking the event
+	 * loop and the shared worker threads.
 	 *
 	 * @param gc
 	 *            Context
@@ -51,13 +95,78 @@ public class GraphQLHandler {
 	 *            GraphQL query
 	 */
 	public void handleQuery(GraphQLContext gc, String body) {
+		getWorkerPool().<Void>executeBlocking(bc -> {
+			executeQuery(gc, body);
+			bc.complete();
+		}, false, rh -> {
+			if (rh.failed()) {
+				gc.fail(rh.cause());
+			}
+		});
+	}
+
+	/**
+	 * Return the worker pool which is used to execute the queries. The pool will be created on first use.
+	 *
+	 * @return
+	 */
+	private synchronized WorkerExecutor getWorkerPool() {
+		if (workerPool == null) {
+			workerPool = Mesh.vertx().createSharedWorkerExecutor("mesh-graphql-worker", options.getWorkerPoolSize(), Duration.ofMinutes(1).toNanos());
+		}
+		return workerPool;
+	}
+
+	/**
+	 * Create the instrumentation for a single query. The data loader instrumentation dispatches the batched loads of the query and the cost
+	 * instrumentation rejects queries which exceed the configured limits.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	private Instrumentation createInstrumentation(GraphQLContext gc) {
+		QueryCostInstrumentation costInstrumentation;
+		if (metrics.isEnabled()) {
+			costInstrumentation = new QueryCostInstrumentation(options.getMaxQueryDepth(), options.getMaxQueryComplexity(),
+				metrics.histogram(GRAPHQL_QUERY_DEPTH), metrics.histogram(GRAPHQL_QUERY_COMPLEXITY), metrics.meter(GRAPHQL_QUERY_REJECTED));
+		} else {
+			costInstrumentation = new QueryCostInstrumentation(options.getMaxQueryDepth(), options.getMaxQueryComplexity(), null, null, null);
+		}
+		return new ChainedInstrumentation(Arrays.asList(costInstrumentation, new DataLoaderDispatcherInstrumentation(gc.getDataLoaderRegistry())));
+	}
+
+	/**
+	 * Execute the GraphQL query and send the response.
+	 *
+	 * @param gc
+	 * @param body
+	 */
+	private void executeQuery(GraphQLContext gc, String body) {
 		try (Tx tx = db.tx()) {
 			JsonObject queryJson = new JsonObject(body);
-			String query = queryJson.getString("query");
-			GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc)).build();
+			String query = queryStore.resolveQuery(queryJson);
+			if (query == null) {
+				sendResponse(gc, createPersistedQueryNotFoundResponse());
+				return;
+			}
+			GraphQLSchema schema = schemaStore.getOrCreate(gc, () -> typeProvider.getRootSchema(gc));
+			GraphQL graphQL = newGraphQL(schema)
+				.preparsedDocumentProvider(queryStore.getDocumentProvider(schema))
+				.instrumentation(createInstrumentation(gc))
+				.build();
 			ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(query).context(gc).variables(extractVariables(queryJson))
 					.build();
-			ExecutionResult result = graphQL.execute(executionInput);
+			ExecutionResult result;
+			Timer.Context timerContext = metrics.isEnabled() ? queryTimer.time() : null;
+			try {
+				result = graphQL.execute(executionInput);
+			} catch (AbortExecutionException e) {
+				result = e.toExecutionResult();
+			} finally {
+				if (timerContext != null) {
+					timerContext.stop();
+				}
+			}
 			List<GraphQLError> errors = result.getErrors();
 			JsonObject response = new JsonObject();
 			if (!errors.isEmpty()) {
@@ -77,7 +186,7 @@ public class GraphQLHandler {
 				Map<String, Object> data = (Map<String, Object>) result.getData();
 				response.put("data", new JsonObject(data));
 			}
-			gc.send(response.encodePrettily(), OK);
+			sendResponse(gc, response);
 		}
 
 	}
@@ -98,6 +207,29 @@ public class GraphQLHandler {
 		}
 	}
 
+	/**
+	 * Send the response JSON. The JSON will only be pretty printed if requested via query parameter.
+	 * 
+	 * @param gc
+	 * @param response
+	 */
+	private void sendResponse(GraphQLContext gc, JsonObject response) {
+		gc.send(JsonUtil.toJsonBuffer(response, gc.getGenericParameters().getPretty()), OK, APPLICATION_JSON_UTF8);
+	}
+
+	/**
+	 * Create the response which informs the client that the referenced persisted query is not known. The client is expected to resend the request with
+	 * the full query.
+	 * 
+	 * @return
+	 */
+	private JsonObject createPersistedQueryNotFoundResponse() {
+		JsonObject jsonError = new JsonObject();
+		jsonError.put("message", PERSISTED_QUERY_NOT_FOUND);
+		jsonError.put("type", PERSISTED_QUERY_NOT_FOUND);
+		return new JsonObject().put("errors", new JsonArray().add(jsonError));
+	}
+
 	/**
 	 * Add the listed errors to the response.
 	 * 
@@ -111,8 +243,13 @@ public class GraphQLHandler {
 			JsonObject jsonError = new JsonObject();
 			if (error instanceof ExceptionWhileDataFetching) {
 				ExceptionWhileDataFetching dataError = (ExceptionWhileDataFetching) error;
-				if (dataError.getException() instanceof AbstractUnavailableException) {
-					AbstractUnavailableException restException = (AbstractUnavailableException) dataError.getException();
+				Throwable exception = dataError.getException();
+				// Errors of batch loaded fields are wrapped
+				if (exception instanceof CompletionException && exception.getCause() != null) {
+					exception = exception.getCause();
+				}
+				if (exception instanceof AbstractUnavailableException) {
+					AbstractUnavailableException restException = (AbstractUnavailableException) exception;
 					// TODO translate error
 					// TODO add i18n parameters
 					jsonError.put("message", restException.getI18nKey());
@@ -120,7 +257,7 @@ public class GraphQLHandler {
 					jsonError.put("elementId", restException.getElementId());
 					jsonError.put("elementType", restException.getElementType());
 				} else {
-					log.error("Error while fetching data.", dataError.getException());
+					log.error("Error while fetching data.", exception);
 					jsonError.put("message", dataError.getMessage());
 					jsonError.put("type", dataError.getErrorType());
 				}
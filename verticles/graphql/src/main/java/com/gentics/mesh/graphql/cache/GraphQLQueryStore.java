@@ -0,0 +1,162 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_DOCUMENT_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_DOCUMENT_CACHE_MISS;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.codahale.metrics.Meter;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.util.UUIDUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.schema.GraphQLSchema;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Central LRU cache for parsed and validated GraphQL query documents and for the queries which were registered via the automatic persisted query
+ * protocol.
+ *
+ * A persisted query request contains the <code>extensions.persistedQuery.sha256Hash</code> property. Requests which only contain the hash will be
+ * resolved using the stored query. If the query is unknown the client needs to resend the request with the full query and the hash.
+ */
+@Singleton
+public class GraphQLQueryStore {
+
+	public static final int PERSISTED_QUERY_VERSION = 1;
+
+	private final Cache<String, PreparsedDocumentEntry> documentCache;
+
+	private final Cache<String, String> persistedQueryCache;
+
+	private final Cache<GraphQLSchema, PreparsedDocumentProvider> documentProviders;
+
+	private final CacheConfig cacheOptions;
+
+	private final MetricsService metrics;
+
+	private final Meter hitMeter;
+
+	private final Meter missMeter;
+
+	@Inject
+	public GraphQLQueryStore(MeshOptions options, MetricsService metrics) {
+		this.cacheOptions = options.getCacheConfig();
+		this.metrics = metrics;
+		this.documentCache = Caffeine.newBuilder().maximumSize(cacheOptions.getGraphQLQueryCacheSize()).build();
+		this.persistedQueryCache = Caffeine.newBuilder().maximumSize(cacheOptions.getGraphQLQueryCacheSize()).build();
+		this.documentProviders = Caffeine.newBuilder().weakKeys().build();
+		this.hitMeter = metrics.meter(GRAPHQL_DOCUMENT_CACHE_HIT);
+		this.missMeter = metrics.meter(GRAPHQL_DOCUMENT_CACHE_MISS);
+	}
+
+	/**
+	 * Return the document provider for the given schema. Each provider must only be used for a single GraphQL schema since the validation result of a
+	 * document depends on the schema.
+	 *
+	 * @param schema
+	 * @return
+	 */
+	public PreparsedDocumentProvider getDocumentProvider(GraphQLSchema schema) {
+		return documentProviders.get(schema, s -> createDocumentProvider());
+	}
+
+	/**
+	 * Create a new document provider. The provider is identified by a random id which is part of the cache key.
+	 *
+	 * @return
+	 */
+	private PreparsedDocumentProvider createDocumentProvider() {
+		if (isDisabled()) {
+			return (query, compute) -> compute.apply(query);
+		}
+		String schemaId = UUIDUtil.randomUUID();
+		return (query, compute) -> {
+			String key = schemaId + "-" + hash(query);
+			PreparsedDocumentEntry entry = documentCache.getIfPresent(key);
+			if (entry != null) {
+				if (metrics.isEnabled()) {
+					hitMeter.mark();
+				}
+				return entry;
+			}
+			if (metrics.isEnabled()) {
+				missMeter.mark();
+			}
+			entry = compute.apply(query);
+			documentCache.put(key, entry);
+			return entry;
+		};
+	}
+
+	/**
+	 * Return the query of the GraphQL request. Persisted query requests which only contain the hash of the query will be resolved using the stored queries.
+	 * Requests which contain the query and the hash will store the query.
+	 *
+	 * @param request
+	 *            GraphQL request body
+	 * @return Resolved query or null if the request references an unknown persisted query
+	 */
+	public String resolveQuery(JsonObject request) {
+		String query = request.getString("query");
+		JsonObject extensions = request.getJsonObject("extensions");
+		JsonObject persistedQuery = extensions == null ? null : extensions.getJsonObject("persistedQuery");
+		if (persistedQuery == null) {
+			return query;
+		}
+		Integer version = persistedQuery.getInteger("version");
+		String sha256Hash = persistedQuery.getString("sha256Hash");
+		if (version == null || version != PERSISTED_QUERY_VERSION || sha256Hash == null) {
+			throw error(BAD_REQUEST, "graphql_error_persisted_query_invalid");
+		}
+
+		if (query == null) {
+			if (isDisabled()) {
+				return null;
+			}
+			return persistedQueryCache.getIfPresent(sha256Hash.toLowerCase());
+		}
+
+		if (!sha256Hash.equalsIgnoreCase(hash(query))) {
+			throw error(BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch");
+		}
+		if (!isDisabled()) {
+			persistedQueryCache.put(sha256Hash.toLowerCase(), query);
+		}
+		return query;
+	}
+
+	/**
+	 * Invalidate the cached documents and persisted queries.
+	 */
+	public void invalidate() {
+		documentCache.invalidateAll();
+		persistedQueryCache.invalidateAll();
+	}
+
+	public boolean isDisabled() {
+		return cacheOptions.getGraphQLQueryCacheSize() == 0;
+	}
+
+	/**
+	 * Return the hex encoded SHA-256 hash of the query.
+	 *
+	 * @param query
+	 * @return
+	 */
+	public static String hash(String query) {
+		return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+	}
+
+}
@@ -0,0 +1,188 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_SCHEMA_CACHE_HIT;
+import static com.gentics.mesh.metric.Metrics.GRAPHQL_SCHEMA_CACHE_MISS;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.codahale.metrics.Meter;
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.MeshEventConsumer;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.metric.MetricsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import graphql.schema.GraphQLSchema;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for built GraphQL schemas. Building the GraphQL schema requires all node, field and micronode types of the project to be generated
+ * which is expensive. The schema only depends on the project, the branch, the API version and the used schema / microschema versions. The cache key is
+ * thus derived from those values. The data fetchers of the cached schema must only use the context which is provided via the
+ * {@link graphql.schema.DataFetchingEnvironment} and never the context which was used to build the schema.
+ */
+@Singleton
+public class GraphQLSchemaStore {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaStore.class);
+
+	private final Cache<String, GraphQLSchema> schemaCache;
+
+	private final CacheConfig cacheOptions;
+
+	private final MetricsService metrics;
+
+	private final Meter hitMeter;
+
+	private final Meter missMeter;
+
+	@Inject
+	public GraphQLSchemaStore(MeshOptions options, MetricsService metrics) {
+		this.cacheOptions = options.getCacheConfig();
+		this.metrics = metrics;
+		this.schemaCache = Caffeine.newBuilder().maximumSize(cacheOptions.getGraphQLSchemaCacheSize()).build();
+		this.hitMeter = metrics.meter(GRAPHQL_SCHEMA_CACHE_HIT);
+		this.missMeter = metrics.meter(GRAPHQL_SCHEMA_CACHE_MISS);
+	}
+
+	/**
+	 * Return the cached GraphQL schema for the project, branch and schema versions of the given context. The schema will be created using the provided
+	 * supplier if it can't be found in the cache. This method must be invoked within a transaction.
+	 *
+	 * @param gc
+	 *            Context of the query
+	 * @param supplier
+	 *            Supplier which builds the GraphQL schema for the context
+	 * @return
+	 */
+	public GraphQLSchema getOrCreate(GraphQLContext gc, Supplier<GraphQLSchema> supplier) {
+		if (isDisabled()) {
+			return supplier.get();
+		}
+		String key = createCacheKey(gc);
+		GraphQLSchema schema = schemaCache.getIfPresent(key);
+		if (schema != null) {
+			if (metrics.isEnabled()) {
+				hitMeter.mark();
+			}
+			return schema;
+		}
+		if (metrics.isEnabled()) {
+			missMeter.mark();
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("GraphQL schema for key {" + key + "} not found in cache. Building schema.");
+		}
+		schema = supplier.get();
+		schemaCache.put(key, schema);
+		return schema;
+	}
+
+	/**
+	 * Create the cache key. The key contains the uuids of the latest schema and microschema versions of the project since the generated types are based on
+	 * those versions.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	private String createCacheKey(GraphQLContext gc) {
+		Project project = gc.getProject();
+		Branch branch = gc.getBranch();
+		String schemaVersions = project.getSchemaContainerRoot().findAll().stream()
+			.map(schema -> schema.getLatestVersion().getUuid())
+			.sorted()
+			.collect(Collectors.joining(","));
+		String microschemaVersions = project.getMicroschemaContainerRoot().findAll().stream()
+			.map(microschema -> microschema.getLatestVersion().getUuid())
+			.sorted()
+			.collect(Collectors.joining(","));
+		return project.getUuid() + "-" + branch.getUuid() + "-v" + gc.getApiVersion() + "-" + schemaVersions + "-" + microschemaVersions;
+	}
+
+	/**
+	 * Register the event handler which can be used to invalidate the LRU cache.
+	 */
+	public void registerEventHandler() {
+		// No need to register when cache is disabled.
+		if (isDisabled()) {
+			return;
+		}
+		EventBus eb = Mesh.vertx().eventBus();
+
+		MeshEventConsumer.consumer(eb, Arrays.asList(SCHEMA_CREATED,
+			SCHEMA_UPDATED,
+			SCHEMA_DELETED,
+			SCHEMA_BRANCH_ASSIGN,
+			SCHEMA_BRANCH_UNASSIGN,
+			SCHEMA_MIGRATION_FINISHED,
+			MICROSCHEMA_CREATED,
+			MICROSCHEMA_UPDATED,
+			MICROSCHEMA_DELETED,
+			MICROSCHEMA_BRANCH_ASSIGN,
+			MICROSCHEMA_BRANCH_UNASSIGN,
+			MICROSCHEMA_MIGRATION_FINISHED,
+			PROJECT_UPDATED,
+			PROJECT_DELETED,
+			PROJECT_SCHEMA_ASSIGNED,
+			PROJECT_SCHEMA_UNASSIGNED,
+			PROJECT_MICROSCHEMA_ASSIGNED,
+			PROJECT_MICROSCHEMA_UNASSIGNED,
+			BRANCH_CREATED,
+			BRANCH_UPDATED,
+			BRANCH_DELETED), (event, model) -> {
+				invalidateByEvent(event);
+			});
+	}
+
+	private void invalidateByEvent(MeshEvent event) {
+		if (log.isDebugEnabled()) {
+			log.debug("Clearing GraphQL schema store due to received event from {" + event.address + "}");
+		}
+		schemaCache.invalidateAll();
+	}
+
+	/**
+	 * Invalidate the cache.
+	 */
+	public void invalidate() {
+		schemaCache.invalidateAll();
+	}
+
+	public boolean isDisabled() {
+		return cacheOptions.getGraphQLSchemaCacheSize() == 0;
+	}
+}
@@ -4,14 +4,21 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.function.Supplier;
 
+import org.dataloader.DataLoaderRegistry;
+
 /**
  * Extended context for GraphQL handling.
  */
 public interface GraphQLContext extends InternalActionContext {
 
+	String DATA_LOADER_REGISTRY_KEY = "dataLoaderRegistry";
+
 	/**
 	 * Check whether at least one of the provided permissions is granted. Otherwise a failure {@link PermissionException} will be thrown.
 	 * 
@@ -23,6 +30,17 @@ public interface GraphQLContext extends InternalActionContext {
 	 */
 	<T extends MeshCoreVertex<?, ?>> T requiresPerm(T vertex, GraphPermission... permission);
 
+	/**
+	 * Check the permissions of multiple elements at once. The results are memorized like the checks of {@link #requiresPerm(MeshCoreVertex,
+	 * GraphPermission...)}.
+	 *
+	 * @param vertices
+	 *            Elements to be checked
+	 * @param permission
+	 * @return Ids of the elements for which at least one of the permissions is granted
+	 */
+	Set<Object> filterPermitted(Collection<? extends MeshCoreVertex<?, ?>> vertices, GraphPermission... permission);
+
 	/**
 	 * Gets a value from the context. If the value does not exist yet, the supplier will be called.
 	 * The result is then stored in the context and also returned.
@@ -38,4 +56,13 @@ public interface GraphQLContext extends InternalActionContext {
 		}
 		return value;
 	}
+
+	/**
+	 * Return the data loader registry of the current query. The registry will be created on first access.
+	 * 
+	 * @return
+	 */
+	default DataLoaderRegistry getDataLoaderRegistry() {
+		return getOrStore(DATA_LOADER_REGISTRY_KEY, () -> NodeDataLoader.createRegistry(this));
+	}
 }
@@ -1,5 +1,14 @@
 package com.gentics.mesh.graphql.context.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -13,18 +22,59 @@ import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
  */
 public class GraphQLContextImpl extends InternalRoutingActionContextImpl implements GraphQLContext {
 
+	/**
+	 * Permission checks which were already done for this query. The same elements are often referenced multiple times within a query (e.g. parent nodes
+	 * or creators).
+	 */
+	private final Map<String, Boolean> permissions = new ConcurrentHashMap<>();
+
 	public GraphQLContextImpl(RoutingContext rc) {
 		super(rc);
 	}
 
 	@Override
 	public <T extends MeshCoreVertex<?, ?>> T requiresPerm(T vertex, GraphPermission... permission) {
+		Object id = vertex.id();
 		for (GraphPermission perm : permission) {
-			if (getUser().hasPermission(vertex, perm)) {
+			boolean granted = permissions.computeIfAbsent(id + "-" + perm.ordinal(), key -> getUser().hasPermission(vertex, perm));
+			if (granted) {
 				return vertex;
 			}
 		}
 		throw missingPerm(vertex.getTypeInfo().getType().name().toLowerCase(), vertex.getUuid());
 	}
 
+	@Override
+	public Set<Object> filterPermitted(Collection<? extends MeshCoreVertex<?, ?>> vertices, GraphPermission... permission) {
+		Set<Object> permitted = new HashSet<>();
+		Set<Object> remaining = new LinkedHashSet<>();
+		for (MeshCoreVertex<?, ?> vertex : vertices) {
+			remaining.add(vertex.id());
+		}
+		for (GraphPermission perm : permission) {
+			// Only check the elements which have not yet been checked for this query
+			List<Object> unknown = new ArrayList<>();
+			for (Object id : remaining) {
+				Boolean granted = permissions.get(id + "-" + perm.ordinal());
+				if (granted == null) {
+					unknown.add(id);
+				} else if (granted) {
+					permitted.add(id);
+				}
+			}
+			if (!unknown.isEmpty()) {
+				Set<Object> granted = getUser().filterReadable(unknown, perm);
+				for (Object id : unknown) {
+					boolean isGranted = granted.contains(id);
+					permissions.put(id + "-" + perm.ordinal(), isGranted);
+					if (isGranted) {
+						permitted.add(id);
+					}
+				}
+			}
+			remaining.removeAll(permitted);
+		}
+		return permitted;
+	}
+
 }
@@ -0,0 +1,152 @@
+package com.gentics.mesh.graphql.dataloader;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+/**
+ * Data loader which batches the loading of node contents. Data fetchers which resolve referenced nodes (e.g. node fields, node list fields, parent and
+ * breadcrumb) don't load the content directly. Instead they register the node and the requested languages with the loader. All registered keys of an
+ * execution level will be loaded at once when the level has been fetched. Duplicate keys will only be loaded once per query and the permission of each
+ * node will only be checked once. The permissions of all nodes of a batch are checked at once.
+ */
+public final class NodeDataLoader {
+
+	public static final String CONTENT_LOADER_KEY = "nodeContentLoader";
+
+	private NodeDataLoader() {
+	}
+
+	/**
+	 * Create a new registry which contains the loaders for the given context. A new registry must be created for each query.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public static DataLoaderRegistry createRegistry(GraphQLContext gc) {
+		DataLoaderRegistry registry = new DataLoaderRegistry();
+		registry.register(CONTENT_LOADER_KEY, DataLoader.<Key, NodeContent>newDataLoader(keys -> {
+			return CompletableFuture.completedFuture(loadContents(gc, keys));
+		}));
+		return registry;
+	}
+
+	/**
+	 * Load the content of the node in the given languages. The read permission of the node will be checked.
+	 *
+	 * @param gc
+	 * @param node
+	 * @param languageTags
+	 * @return
+	 */
+	public static CompletableFuture<NodeContent> load(GraphQLContext gc, Node node, List<String> languageTags) {
+		DataLoader<Key, NodeContent> loader = gc.getDataLoaderRegistry().getDataLoader(CONTENT_LOADER_KEY);
+		return loader.load(new Key(node, languageTags, true));
+	}
+
+	/**
+	 * Load the contents of the nodes in the given languages. No permissions will be checked since the nodes were already loaded from a source which
+	 * respects or does not require permissions (e.g. node list fields or the breadcrumb).
+	 *
+	 * @param gc
+	 * @param nodes
+	 * @param languageTags
+	 * @return
+	 */
+	public static CompletableFuture<List<NodeContent>> loadMany(GraphQLContext gc, List<? extends Node> nodes, List<String> languageTags) {
+		DataLoader<Key, NodeContent> loader = gc.getDataLoaderRegistry().getDataLoader(CONTENT_LOADER_KEY);
+		List<Key> keys = new ArrayList<>(nodes.size());
+		for (Node node : nodes) {
+			keys.add(new Key(node, languageTags, false));
+		}
+		return loader.loadMany(keys);
+	}
+
+	/**
+	 * Batch function which loads the contents for all given keys. The permissions of all nodes are checked at once. Keys which reference nodes that
+	 * can't be read will be completed with the permission error. The permission checks are memorized by the context and thus only executed once per
+	 * node.
+	 *
+	 * @param gc
+	 * @param keys
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static List<NodeContent> loadContents(GraphQLContext gc, List<Key> keys) {
+		List<Node> checkedNodes = keys.stream()
+			.filter(key -> key.checkPerm)
+			.map(key -> key.node)
+			.collect(Collectors.toList());
+		Set<Object> readable = gc.filterPermitted(checkedNodes, READ_PERM, READ_PUBLISHED_PERM);
+
+		List results = new ArrayList<>(keys.size());
+		for (Key key : keys) {
+			Node node = key.node;
+			if (key.checkPerm && !readable.contains(key.nodeId)) {
+				try {
+					// The denied permission has already been memorized. This will just create the error.
+					gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
+				} catch (RuntimeException e) {
+					// The data loader will complete the future of the key exceptionally
+					results.add(e);
+					continue;
+				}
+			}
+			NodeGraphFieldContainer container = node.findVersion(gc, key.languageTags);
+			results.add(new NodeContent(node, container, key.languageTags));
+		}
+		return results;
+	}
+
+	/**
+	 * Key of the content loader. Keys are equal if they reference the same node vertex, language list and permission handling.
+	 */
+	public static class Key {
+
+		private final Node node;
+
+		private final Object nodeId;
+
+		private final List<String> languageTags;
+
+		private final boolean checkPerm;
+
+		public Key(Node node, List<String> languageTags, boolean checkPerm) {
+			this.node = node;
+			this.nodeId = node.id();
+			this.languageTags = languageTags;
+			this.checkPerm = checkPerm;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return checkPerm == other.checkPerm && Objects.equals(nodeId, other.nodeId) && Objects.equals(languageTags, other.languageTags);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(nodeId, languageTags, checkPerm);
+		}
+	}
+}
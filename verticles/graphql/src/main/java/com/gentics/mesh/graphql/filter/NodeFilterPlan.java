@@ -0,0 +1,203 @@
+package com.gentics.mesh.graphql.filter;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.root.NodeRoot;
+import com.gentics.mesh.core.data.root.SchemaContainerRoot;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+/**
+ * Plan which determines how the candidate nodes of a {@link NodeFilter} can be loaded. The conditions of the filter which must always be met (top level
+ * fields and <code>and</code> combinations) are inspected and the node uuid and schema conditions are resolved via the graph indices. All other
+ * conditions can't be resolved by an index. The filter predicate must still be applied to the loaded candidates since the plan only narrows the set
+ * of loaded nodes.
+ */
+public class NodeFilterPlan {
+
+	private Set<String> uuids;
+
+	private Set<String> schemaUuids;
+
+	private Set<String> schemaNames;
+
+	private NodeFilterPlan() {
+	}
+
+	/**
+	 * Create the plan for the given filter argument.
+	 *
+	 * @param filter
+	 *            Filter argument or null if no filter was specified
+	 * @return
+	 */
+	public static NodeFilterPlan plan(Map<String, ?> filter) {
+		NodeFilterPlan plan = new NodeFilterPlan();
+		if (filter != null) {
+			plan.addNodeConditions(filter);
+		}
+		return plan;
+	}
+
+	/**
+	 * Check whether the plan can't use an index and all nodes of the project need to be loaded.
+	 *
+	 * @return
+	 */
+	public boolean isFullScan() {
+		return uuids == null && schemaUuids == null && schemaNames == null;
+	}
+
+	/**
+	 * Load the candidate nodes of the project. Only nodes of the branch which are visible to the user will be returned.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public Stream<? extends Node> findNodes(GraphQLContext gc) {
+		NodeRoot nodeRoot = gc.getProject().getNodeRoot();
+		if (uuids != null) {
+			return nodeRoot.findAllByUuidsStream(gc, READ_PUBLISHED_PERM, uuids);
+		}
+		if (schemaUuids != null || schemaNames != null) {
+			return findSchemas(gc).stream()
+				.flatMap(schema -> nodeRoot.findAllBySchemaStream(gc, READ_PUBLISHED_PERM, schema));
+		}
+		return nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM);
+	}
+
+	/**
+	 * Resolve the schemas of the project which match the schema conditions.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	private List<? extends SchemaContainer> findSchemas(GraphQLContext gc) {
+		SchemaContainerRoot schemaRoot = gc.getProject().getSchemaContainerRoot();
+		Stream<? extends SchemaContainer> schemas;
+		if (schemaUuids != null) {
+			schemas = schemaUuids.stream().map(schemaRoot::findByUuid);
+		} else {
+			schemas = schemaNames.stream().map(schemaRoot::findByName);
+		}
+		return schemas
+			.filter(Objects::nonNull)
+			.filter(schema -> schemaNames == null || schemaNames.contains(schema.getName()))
+			.collect(Collectors.toList());
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addNodeConditions(Map<String, ?> filter) {
+		for (Map.Entry<String, ?> entry : filter.entrySet()) {
+			Object value = entry.getValue();
+			switch (entry.getKey()) {
+			case "uuid":
+				uuids = intersect(uuids, stringValues(value));
+				break;
+			case "schema":
+				if (value instanceof Map) {
+					addSchemaConditions((Map<String, ?>) value);
+				}
+				break;
+			case "and":
+				if (value instanceof Collection) {
+					for (Object element : (Collection<?>) value) {
+						if (element instanceof Map) {
+							addNodeConditions((Map<String, ?>) element);
+						}
+					}
+				}
+				break;
+			default:
+				// Other conditions can't be resolved by an index
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addSchemaConditions(Map<String, ?> filter) {
+		for (Map.Entry<String, ?> entry : filter.entrySet()) {
+			Object value = entry.getValue();
+			switch (entry.getKey()) {
+			case "is":
+				if (value instanceof String) {
+					schemaUuids = intersect(schemaUuids, Collections.singleton((String) value));
+				}
+				break;
+			case "uuid":
+				schemaUuids = intersect(schemaUuids, stringValues(value));
+				break;
+			case "name":
+				schemaNames = intersect(schemaNames, stringValues(value));
+				break;
+			case "and":
+				if (value instanceof Collection) {
+					for (Object element : (Collection<?>) value) {
+						if (element instanceof Map) {
+							addSchemaConditions((Map<String, ?>) element);
+						}
+					}
+				}
+				break;
+			default:
+				// Other conditions can't be resolved by an index
+			}
+		}
+	}
+
+	/**
+	 * Return the values which are accepted by the given string filter.
+	 *
+	 * @param filter
+	 * @return Accepted values or null if the filter does not restrict the values to a fixed set
+	 */
+	private static Set<String> stringValues(Object filter) {
+		if (!(filter instanceof Map)) {
+			return null;
+		}
+		Map<?, ?> map = (Map<?, ?>) filter;
+		Set<String> values = null;
+		Object equals = map.get("equals");
+		if (equals instanceof String) {
+			values = intersect(values, Collections.singleton((String) equals));
+		}
+		Object oneOf = map.get("oneOf");
+		if (oneOf instanceof Collection) {
+			Set<String> oneOfValues = ((Collection<?>) oneOf).stream()
+				.filter(String.class::isInstance)
+				.map(String.class::cast)
+				.collect(Collectors.toSet());
+			values = intersect(values, oneOfValues);
+		}
+		return values;
+	}
+
+	/**
+	 * Intersect the current restriction with the values. A null value represents an unrestricted set.
+	 *
+	 * @param current
+	 * @param values
+	 * @return
+	 */
+	private static Set<String> intersect(Set<String> current, Set<String> values) {
+		if (values == null) {
+			return current;
+		}
+		if (current == null) {
+			return new HashSet<>(values);
+		}
+		current.retainAll(values);
+		return current;
+	}
+}
@@ -0,0 +1,183 @@
+package com.gentics.mesh.graphql.instrumentation;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+
+import graphql.ExecutionResult;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+
+/**
+ * Instrumentation which determines the cost of the executed operation before any data is fetched. The depth of a query is the maximum nesting level
+ * of its fields and the complexity is the total amount of selected fields. Fields of fragments are counted for each usage of the fragment. The cost of each fragment is only determined once. Operations
+ * which exceed the configured limits will be aborted.
+ */
+public class QueryCostInstrumentation extends SimpleInstrumentation {
+
+	private final int maxDepth;
+
+	private final int maxComplexity;
+
+	private final Histogram depthHistogram;
+
+	private final Histogram complexityHistogram;
+
+	private final Meter rejectedMeter;
+
+	/**
+	 * Create a new instrumentation.
+	 *
+	 * @param maxDepth
+	 *            Maximum depth of the query. A value of 0 will disable the check.
+	 * @param maxComplexity
+	 *            Maximum complexity of the query. A value of 0 will disable the check.
+	 * @param depthHistogram
+	 *            Histogram which records the depth or null if no metrics should be recorded
+	 * @param complexityHistogram
+	 *            Histogram which records the complexity or null if no metrics should be recorded
+	 * @param rejectedMeter
+	 *            Meter which records the rejected queries or null if no metrics should be recorded
+	 */
+	public QueryCostInstrumentation(int maxDepth, int maxComplexity, Histogram depthHistogram, Histogram complexityHistogram, Meter rejectedMeter) {
+		this.maxDepth = maxDepth;
+		this.maxComplexity = maxComplexity;
+		this.depthHistogram = depthHistogram;
+		this.complexityHistogram = complexityHistogram;
+		this.rejectedMeter = rejectedMeter;
+	}
+
+	@Override
+	public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters) {
+		ExecutionContext executionContext = parameters.getExecutionContext();
+		QueryCost cost = QueryCost.of(executionContext.getOperationDefinition().getSelectionSet(), executionContext.getFragmentsByName());
+
+		if (depthHistogram != null) {
+			depthHistogram.update(cost.depth);
+		}
+		if (complexityHistogram != null) {
+			complexityHistogram.update(cost.complexity);
+		}
+
+		if (maxDepth > 0 && cost.depth > maxDepth) {
+			reject("Query depth of {" + cost.depth + "} exceeds the maximum depth of {" + maxDepth + "}");
+		}
+		if (maxComplexity > 0 && cost.complexity > maxComplexity) {
+			reject("Query complexity of {" + cost.complexity + "} exceeds the maximum complexity of {" + maxComplexity + "}");
+		}
+		return super.beginExecuteOperation(parameters);
+	}
+
+	private void reject(String message) {
+		if (rejectedMeter != null) {
+			rejectedMeter.mark();
+		}
+		throw new AbortExecutionException(message);
+	}
+
+	/**
+	 * Cost of a selection set. The depth is relative to the level of the selection set. The cost of a fragment is thus the same for every level on which
+	 * the fragment is used and only needs to be determined once per operation.
+	 */
+	private static class QueryCost {
+
+		private static final QueryCost EMPTY = new QueryCost(0, 0);
+
+		private final int depth;
+
+		private final long complexity;
+
+		private QueryCost(int depth, long complexity) {
+			this.depth = depth;
+			this.complexity = complexity;
+		}
+
+		/**
+		 * Determine the cost of the operation.
+		 *
+		 * @param selectionSet
+		 * @param fragments
+		 *            Fragment definitions of the document
+		 * @return
+		 */
+		private static QueryCost of(SelectionSet selectionSet, Map<String, FragmentDefinition> fragments) {
+			return of(selectionSet, fragments, new HashMap<>(), new HashSet<>());
+		}
+
+		/**
+		 * Determine the cost of the selection set.
+		 *
+		 * @param selectionSet
+		 * @param fragments
+		 *            Fragment definitions of the document
+		 * @param fragmentCosts
+		 *            Already determined costs of the fragments
+		 * @param visiting
+		 *            Names of the fragments which are currently visited. Used to prevent endless recursion for invalid cyclic fragments.
+		 * @return
+		 */
+		private static QueryCost of(SelectionSet selectionSet, Map<String, FragmentDefinition> fragments, Map<String, QueryCost> fragmentCosts,
+			Set<String> visiting) {
+			if (selectionSet == null) {
+				return EMPTY;
+			}
+			int depth = 0;
+			long complexity = 0;
+			for (Selection selection : selectionSet.getSelections()) {
+				QueryCost cost = EMPTY;
+				int levels = 0;
+				if (selection instanceof Field) {
+					cost = of(((Field) selection).getSelectionSet(), fragments, fragmentCosts, visiting);
+					levels = 1;
+					complexity = add(complexity, 1);
+				} else if (selection instanceof InlineFragment) {
+					cost = of(((InlineFragment) selection).getSelectionSet(), fragments, fragmentCosts, visiting);
+				} else if (selection instanceof FragmentSpread) {
+					cost = fragmentCost(((FragmentSpread) selection).getName(), fragments, fragmentCosts, visiting);
+				}
+				depth = Math.max(depth, cost.depth + levels);
+				complexity = add(complexity, cost.complexity);
+			}
+			return new QueryCost(depth, complexity);
+		}
+
+		private static QueryCost fragmentCost(String name, Map<String, FragmentDefinition> fragments, Map<String, QueryCost> fragmentCosts,
+			Set<String> visiting) {
+			QueryCost cost = fragmentCosts.get(name);
+			if (cost != null) {
+				return cost;
+			}
+			FragmentDefinition fragment = fragments.get(name);
+			if (fragment == null || !visiting.add(name)) {
+				return EMPTY;
+			}
+			cost = of(fragment.getSelectionSet(), fragments, fragmentCosts, visiting);
+			visiting.remove(name);
+			fragmentCosts.put(name, cost);
+			return cost;
+		}
+
+		/**
+		 * Add the complexities. Fragments which are used multiple times on each level may cause huge complexities, so the result is capped instead of
+		 * overflowing.
+		 */
+		private static long add(long a, long b) {
+			long sum = a + b;
+			return sum < 0 ? Long.MAX_VALUE : sum;
+		}
+	}
+
+}
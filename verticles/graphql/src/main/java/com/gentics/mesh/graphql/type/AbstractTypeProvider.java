@@ -1,7 +1,6 @@
 package com.gentics.mesh.graphql.type;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static graphql.Scalars.GraphQLLong;
 import static graphql.Scalars.GraphQLString;
 import static graphql.schema.GraphQLArgument.newArgument;
@@ -15,6 +14,7 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -27,7 +27,6 @@ import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
-import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -35,6 +34,7 @@ import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.filter.NodeFilter;
+import com.gentics.mesh.graphql.filter.NodeFilterPlan;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -79,6 +79,11 @@ public abstract class AbstractTypeProvider {
 
 		// #perPage
 		arguments.add(newArgument().name("perPage").description("Max count of elements per page").type(GraphQLLong).build());
+
+		// #after
+		arguments.add(newArgument().name("after")
+			.description("Cursor of the element after which the page should start. The page argument will be ignored when a cursor is specified. The totalCount and pageCount of the page will be -1 since the elements before the cursor are not counted.")
+			.type(GraphQLString).build());
 		return arguments;
 	}
 
@@ -438,12 +443,17 @@ public abstract class AbstractTypeProvider {
 		if (perPage != null) {
 			parameters.setPerPage(perPage);
 		}
+		String after = env.getArgument("after");
+		if (after != null) {
+			parameters.setAfter(after);
+		}
 		parameters.validate();
 		return parameters;
 	}
 
 	/**
-	 * Fetches nodes and applies filters
+	 * Fetches nodes and applies filters. Uuid and schema conditions of the filter are used to load only the matching nodes via the graph indices. The
+	 * filter predicate will be applied to the loaded nodes afterwards.
 	 *
 	 * @param env
 	 *            the environment of the request
@@ -451,11 +461,11 @@ public abstract class AbstractTypeProvider {
 	 */
 	protected DynamicStreamPageImpl<NodeContent> fetchFilteredNodes(DataFetchingEnvironment env) {
 		GraphQLContext gc = env.getContext();
-		NodeRoot nodeRoot = gc.getProject().getNodeRoot();
+		Map<String, ?> filterArgument = env.getArgument("filter");
 
 		List<String> languageTags = getLanguageArgument(env);
 
-		Stream<NodeContent> contents = nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM)
+		Stream<NodeContent> contents = NodeFilterPlan.plan(filterArgument).findNodes(gc)
 			// Now lets try to load the containers for those found nodes - apply the language fallback
 			.map(node -> new NodeContent(node, node.findVersion(gc, languageTags), languageTags))
 			// Filter nodes without a container
@@ -469,10 +479,7 @@ public abstract class AbstractTypeProvider {
 		PagingParameters pagingInfo = getPagingInfo(env);
 		GraphQLContext gc = env.getContext();
 
-		if (filterArgument != null) {
-			return new DynamicStreamPageImpl<>(stream, pagingInfo, NodeFilter.filter(gc).createPredicate(filterArgument));
-		} else {
-			return new DynamicStreamPageImpl<>(stream, pagingInfo);
-		}
+		Predicate<NodeContent> filter = filterArgument == null ? null : NodeFilter.filter(gc).createPredicate(filterArgument);
+		return new DynamicStreamPageImpl<>(stream, pagingInfo, filter, content -> content.getNode().id());
 	}
 }
@@ -77,6 +77,7 @@ import static com.gentics.mesh.graphql.type.UserTypeProvider.USER_PAGE_TYPE_NAME
 import static com.gentics.mesh.graphql.type.UserTypeProvider.USER_TYPE_NAME;
 import static graphql.Scalars.GraphQLBoolean;
 import static graphql.Scalars.GraphQLLong;
+import static graphql.Scalars.GraphQLString;
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 import static graphql.schema.GraphQLObjectType.newObject;
 
@@ -472,7 +473,7 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 			return env.getSource();
 		}));
 
-		type.field(newFieldDefinition().name("totalCount").description("Return the total item count which the resource could provide.")
+		type.field(newFieldDefinition().name("totalCount").description("Return the total item count which the resource could provide. The count is -1 if the page was loaded using a cursor.")
 			.dataFetcher(env -> {
 				Page<?> page = env.getSource();
 				return page.getTotalElements();
@@ -483,7 +484,7 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 			return page.getNumber();
 		}).type(GraphQLLong));
 
-		type.field(newFieldDefinition().name("pageCount").description("Return the total amount of pages which the resource can provide.")
+		type.field(newFieldDefinition().name("pageCount").description("Return the total amount of pages which the resource can provide. The count is -1 if the page was loaded using a cursor.")
 			.dataFetcher(env -> {
 				Page<?> page = env.getSource();
 				return page.getPageCount();
@@ -508,6 +509,13 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 				return page.hasNextPage();
 			}));
 
+		type.field(newFieldDefinition().name("nextCursor")
+			.description("Return the cursor which can be used to load the next page via the after argument. The cursor is null if no next page exists.")
+			.type(GraphQLString).dataFetcher(env -> {
+				Page<?> page = env.getSource();
+				return page.getNextCursor();
+			}));
+
 		type.field(newFieldDefinition().name("hasPreviousPage").description("Check whether the current page has a previous page.")
 			.type(GraphQLBoolean).dataFetcher(env -> {
 				Page<?> page = env.getSource();